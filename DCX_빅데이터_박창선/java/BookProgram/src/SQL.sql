@@ -2,11 +2,12 @@ CREATE TABLE BOOK(
 	BOOK_NUM NUMBER PRIMARY KEY,
 	BOOK_NAME VARCHAR(50),
 	BOOK_WRITER VARCHAR(50),
-	BOOK_PRICE VARCHAR(100),
+	BOOK_PRICE NUMBER(10) DEFAULT 0,
 	
 );
 ALTER TABLE BOOK ADD is_rented CHAR(1) DEFAULT 'Y';
-
+-- 낙관적 잠금용 버전 (대여/반납할 때마다 1씩 증가)
+ALTER TABLE BOOK ADD VERSION NUMBER DEFAULT 0 NOT NULL;
 
 BEGIN
     EXECUTE IMMEDIATE 'CREATE SEQUENCE NUM_SEQ INCREMENT BY 1 START WITH 1';
@@ -22,20 +23,34 @@ INCREMENT BY 1
 START WITH 1;
 
 -- TEST 데이터 넣기 
-INSERT INTO BOOK VALUES(NUM_SEQ.NEXTVAL, 'TEST1', 'TEST1','TEST1');
-INSERT INTO BOOK VALUES(NUM_SEQ.NEXTVAL, 'TEST2', 'TEST2','TEST2');
-INSERT INTO BOOK VALUES(NUM_SEQ.NEXTVAL, 'TEST3', 'TEST3','TEST3');
+-- (is_rented, VERSION 은 기본값)
+INSERT INTO BOOK(BOOK_NUM, BOOK_NAME, BOOK_WRITER, BOOK_PRICE) VALUES(NUM_SEQ.NEXTVAL, 'TEST1', 'TEST1', 0);
+INSERT INTO BOOK(BOOK_NUM, BOOK_NAME, BOOK_WRITER, BOOK_PRICE) VALUES(NUM_SEQ.NEXTVAL, 'TEST2', 'TEST2', 0);
+INSERT INTO BOOK(BOOK_NUM, BOOK_NAME, BOOK_WRITER, BOOK_PRICE) VALUES(NUM_SEQ.NEXTVAL, 'TEST3', 'TEST3', 0);
 
-insert into BOOK values(num_seq.nextval, '소년이 온다', '한강', '13,500');
-insert into BOOK values(num_seq.nextval, '트렌드 코리아 2025', '김난도', '18,000');
-insert into BOOK values(num_seq.nextval, '일의 감각', '조수용', '19,000');
-insert into BOOK values(num_seq.nextval, '넥서스', '유발 하리라', '25,050');
+insert into BOOK(book_num, book_name, book_writer, book_price) values(num_seq.nextval, '소년이 온다', '한강', 13500);
+insert into BOOK(book_num, book_name, book_writer, book_price) values(num_seq.nextval, '트렌드 코리아 2025', '김난도', 18000);
+insert into BOOK(book_num, book_name, book_writer, book_price) values(num_seq.nextval, '일의 감각', '조수용', 19000);
+insert into BOOK(book_num, book_name, book_writer, book_price) values(num_seq.nextval, '넥서스', '유발 하리라', 25050);
 
 -- MEMBER 테이블에 BOOK_NAME 컬럼 추가하기 
 ALTER TABLE MEMBER ADD BOOK_NAME VARCHAR(50) DEFAULT '-';
 
 SELECT * FROM BOOK;
 
+-- ============================================================
+-- [기존 DB 전용] BOOK_PRICE 가 VARCHAR 인 예전 테이블을 숫자(원)로 바꾸기
+-- 위 CREATE TABLE 로 새로 만든 테이블에는 실행하지 않는다 (이미 NUMBER)
+-- 필요할 때만 주석을 풀고 이 블록만 실행 ('13,500' -> 13500, 숫자가 아니면 0)
+-- 컬럼 순서가 바뀌므로 (BOOK_PRICE 가 맨 뒤로) INSERT 는 컬럼 이름을 적어서 쓴다
+-- ============================================================
+-- ALTER TABLE BOOK ADD BOOK_PRICE_NUM NUMBER(10) DEFAULT 0 NOT NULL;
+-- UPDATE BOOK SET BOOK_PRICE_NUM = CASE WHEN REGEXP_LIKE(REPLACE(BOOK_PRICE, ',', ''), '^[0-9]+$')
+-- 	THEN TO_NUMBER(REPLACE(BOOK_PRICE, ',', '')) ELSE 0 END;
+-- ALTER TABLE BOOK DROP COLUMN BOOK_PRICE;
+-- ALTER TABLE BOOK RENAME COLUMN BOOK_PRICE_NUM TO BOOK_PRICE;
+-- COMMIT;
+
 
 
 
@@ -0,0 +1,124 @@
+package bench;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import db.DBManager;
+import model.BookDAO;
+import model.BookDTO;
+import model.BookRepository;
+import model.MemoryBookRepository;
+
+// 대여/반납 경합 테스트 : 적은 수의 책을 1 / 8 / 64 스레드가 동시에 빌리고 반납한다
+// - state   : rentBook(num) / returnBook(num) (상태 조건부 UPDATE)
+// - version : findBook 으로 버전을 읽고 rentBook(num, version) / returnBook(num, version+1)
+// 빌리는 데 성공한 스레드가 holder[책] 을 0 -> 1 로 바꾸지 못하면 같은 책이 두 번 대여된 것 (double)
+// 끝나면 모든 책이 반납 상태인지도 확인한다
+// 실행 : java bench.RentContentionBench [책 수] [측정초]
+//   -Ddb.engine=memory : 메모리 저장소 (기본은 오라클, 책 번호 900001 부터 넣고 끝나면 지운다)
+public class RentContentionBench {
+
+	private static final int FIRST_BOOK = 900001;
+
+	public static void main(String[] args) throws Exception {
+		int books = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+		int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+		boolean ok = true;
+		for (String mode : new String[] { "state", "version" }) {
+			for (int threads : new int[] { 1, 8, 64 }) {
+				ok &= run(mode, threads, books, seconds);
+			}
+		}
+		System.out.println(ok ? "OK" : "FAIL");
+		if (!ok) {
+			System.exit(1);
+		}
+	}
+
+	static boolean run(String mode, int threads, int books, int seconds) throws Exception {
+		BookRepository repo = open(books);
+		AtomicIntegerArray holder = new AtomicIntegerArray(books);
+		LongAdder rented = new LongAdder();
+		LongAdder conflicts = new LongAdder();
+		LongAdder doubles = new LongAdder();
+		LongAdder lostReturns = new LongAdder();
+		boolean versioned = mode.equals("version");
+
+		System.out.println();
+		System.out.printf("== %s, 책 %d권 ==%n", mode, books);
+		new LoadHarness(threads, 1, seconds).add("rent+return", 1, (t, seq) -> {
+			int i = ThreadLocalRandom.current().nextInt(books);
+			int num = FIRST_BOOK + i;
+			boolean ok;
+			int version = -1;
+			if (versioned) {
+				BookDTO dto = repo.findBook(num);
+				version = dto.getVersion();
+				ok = "N".equals(dto.getIs_rented()) && repo.rentBook(num, version);
+			} else {
+				ok = repo.rentBook(num);
+			}
+			if (!ok) {
+				conflicts.increment();
+				return;
+			}
+			rented.increment();
+			if (!holder.compareAndSet(i, 0, 1)) {
+				doubles.increment();
+			}
+			// 반납하기 전에 비워야 다음 사람이 빌렸을 때 0 -> 1 이 된다 (대여 중에는 아무도 못 빌린다)
+			holder.set(i, 0);
+			boolean back = versioned ? repo.returnBook(num, version + 1) : repo.returnBook(num);
+			if (!back) {
+				lostReturns.increment();
+			}
+		}).run();
+
+		int stillRented = 0;
+		for (int i = 0; i < books; i++) {
+			if (!"N".equals(repo.findBook(FIRST_BOOK + i).getIs_rented())) {
+				stillRented++;
+			}
+		}
+		System.out.printf("대여 성공 %,d / 경합 실패 %,d / 중복 대여 %d / 반납 실패 %d / 끝난 뒤 대여 중 %d%n",
+				rented.sum(), conflicts.sum(), doubles.sum(), lostReturns.sum(), stillRented);
+		close(repo, books);
+		return doubles.sum() == 0 && lostReturns.sum() == 0 && stillRented == 0;
+	}
+
+	static BookRepository open(int books) throws SQLException {
+		if (DBManager.isMemoryEngine()) {
+			MemoryBookRepository repo = new MemoryBookRepository();
+			for (int i = 0; i < books; i++) {
+				repo.addBook(FIRST_BOOK + i, "bench", "bench", 0);
+			}
+			return repo;
+		}
+		jdbc(books, "DELETE FROM BOOK WHERE BOOK_NUM = ?");
+		jdbc(books, "INSERT INTO BOOK(BOOK_NUM, BOOK_NAME, BOOK_WRITER, BOOK_PRICE, IS_RENTED, VERSION) "
+				+ "VALUES(?, 'bench', 'bench', 0, 'N', 0)");
+		return new BookDAO();
+	}
+
+	static void close(BookRepository repo, int books) throws SQLException {
+		if (repo instanceof BookDAO) {
+			jdbc(books, "DELETE FROM BOOK WHERE BOOK_NUM = ?");
+		}
+	}
+
+	// 벤치용 책 번호마다 sql 한 번씩
+	private static void jdbc(int books, String sql) throws SQLException {
+		try (Connection conn = DBManager.getConnection(); PreparedStatement psmt = conn.prepareStatement(sql)) {
+			for (int i = 0; i < books; i++) {
+				psmt.setInt(1, FIRST_BOOK + i);
+				psmt.executeUpdate();
+			}
+		}
+	}
+
+}
@@ -1,13 +1,13 @@
 package controller;
 
-import model.BookDAO;
+import model.BookRepository;
 
 public class bookcon {
-    private BookDAO dao;
+    private BookRepository dao;
 
     // 생성자: DAO 초기화
     public bookcon() {
-        dao = new BookDAO();
+        dao = BookRepository.open();
     }
 
     // 책 목록 보기
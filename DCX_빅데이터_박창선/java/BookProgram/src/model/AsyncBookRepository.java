@@ -0,0 +1,49 @@
+package model;
+
+import java.util.concurrent.CompletableFuture;
+
+import db.DBExecutor;
+
+// BookRepository 의 비동기 버전
+// 메소드는 바로 CompletableFuture 를 돌려주고, 실제 DB 작업은 DBExecutor 에서 돈다
+// (동시에 도는 작업 수는 커넥션 풀 크기로 제한)
+// 사용법 : async.rentBook(num).thenAccept(ok -> ...);
+public class AsyncBookRepository {
+
+	private final BookRepository repo;
+	private final DBExecutor executor;
+
+	public AsyncBookRepository(BookRepository repo) {
+		this(repo, DBExecutor.shared());
+	}
+
+	public AsyncBookRepository(BookRepository repo, DBExecutor executor) {
+		this.repo = repo;
+		this.executor = executor;
+	}
+
+	public CompletableFuture<BookDTO> findBook(int book_num) {
+		return executor.submit(() -> repo.findBook(book_num));
+	}
+
+	public CompletableFuture<Boolean> rentBook(int book_num) {
+		return executor.submit(() -> repo.rentBook(book_num));
+	}
+
+	public CompletableFuture<Boolean> returnBook(int book_num) {
+		return executor.submit(() -> repo.returnBook(book_num));
+	}
+
+	public CompletableFuture<Boolean> rentBook(int book_num, int version) {
+		return executor.submit(() -> repo.rentBook(book_num, version));
+	}
+
+	public CompletableFuture<Boolean> returnBook(int book_num, int version) {
+		return executor.submit(() -> repo.returnBook(book_num, version));
+	}
+
+	public BookRepository getRepository() {
+		return repo;
+	}
+
+}
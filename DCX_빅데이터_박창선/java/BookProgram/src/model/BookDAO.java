@@ -1,169 +1,123 @@
 package model;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
-public class BookDAO {
-		
-		
-	Connection conn = null;
-	PreparedStatement psmt = null;
-	ResultSet rs = null;
+import db.DBManager;
+import db.RowMapper;
 
+// 대여/반납은 조건을 건 UPDATE 한 번으로 끝낸다 (먼저 SELECT 하고 UPDATE 하면 그 사이에 다른 사람이 빌릴 수 있다)
+//   UPDATE ... WHERE BOOK_NUM=? AND IS_RENTED='N'  -> 바뀐 행이 1이면 성공, 0이면 이미 대여 중이거나 없는 책
+// 바꿀 때마다 VERSION 을 1 올리므로, 읽은 버전을 조건에 넣으면(rentBook(num, version)) 낙관적 잠금이 된다
+// 실패했을 때만 이유를 알려주려고 한 번 더 읽는다
+public class BookDAO implements BookRepository {
+
+	// BOOK 행 -> BookDTO (컬럼 인덱스는 ResultSet 마다 한 번만 찾는다)
+	private static final RowMapper<BookDTO> BOOK = RowMapper.of(
+			(rs, c) -> new BookDTO(rs.getInt(c[0]), rs.getString(c[1]), rs.getString(c[2]), rs.getInt(c[3]),
+					rs.getString(c[4]), rs.getInt(c[5])),
+			"BOOK_NUM", "BOOK_NAME", "BOOK_WRITER", "BOOK_PRICE", "IS_RENTED", "VERSION");
+
+	private static final String RENT_SQL = "UPDATE BOOK SET IS_RENTED = 'Y', VERSION = VERSION + 1 "
+			+ "WHERE BOOK_NUM = ? AND IS_RENTED = 'N'";
+	private static final String RETURN_SQL = "UPDATE BOOK SET IS_RENTED = 'N', VERSION = VERSION + 1 "
+			+ "WHERE BOOK_NUM = ? AND IS_RENTED = 'Y'";
+
+	@Override
 	public void bookList() {
-		
-		connect();
-		
-		try {
-			
-			String sql = "SELECT * FROM BOOK";
-			psmt = conn.prepareStatement(sql);
-			
-			rs = psmt.executeQuery();
-			
-			while(rs.next()) {
-				
-				int book_num = rs.getInt(1);
-				String book_name = rs.getString(2);
-				String book_writer = rs.getString(3);
-				String book_price = rs.getString(4);
-				String is_rented = rs.getString(5);
-				
-				System.out.printf("%d\t%s\t%s\t%s\t%s\n", book_num, book_name ,book_writer, book_price, is_rented);
-				
-				
+
+		String sql = "SELECT " + BOOK.columns() + " FROM BOOK";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql);
+				ResultSet rs = psmt.executeQuery()) {
+
+			BOOK.forEach(rs, dto -> System.out.printf("%d\t%s\t%s\t%,d\t%s\n", dto.getBook_num(),
+					dto.getBook_name(), dto.getBook_writer(), dto.getBook_price(), dto.getIs_rented()));
+
+		} catch (SQLException e) {
+			e.printStackTrace();
+		}
+	}
+
+	@Override
+	public BookDTO findBook(int book_num) {
+
+		String sql = "SELECT " + BOOK.columns() + " FROM BOOK WHERE BOOK_NUM = ?";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
+
+			psmt.setInt(1, book_num);
+
+			try (ResultSet rs = psmt.executeQuery()) {
+				return BOOK.one(rs);
 			}
-		
-		
-		}catch (Exception e) {
-			// TODO: handle exception
-		}finally {
-			close();
+
+		} catch (SQLException e) {
+			e.printStackTrace();
 		}
-}
+		return null;
+	}
 
+	@Override
 	public boolean rentBook(int book_num) {
-	    connect();
-	    BookDTO dto = null;
-	    
-	    try {
-	        // 1. 책 상태 확인
-	        String sql = "SELECT is_rented FROM BOOK WHERE book_num = ?";
-	        psmt = conn.prepareStatement(sql);
-	        psmt.setInt(1, book_num);
-	        rs = psmt.executeQuery();
-	        
-	        if (rs.next()) {
-	            String rent = rs.getString(1);
-	            if ("Y".equalsIgnoreCase(rent)) {
-	                System.out.println("이미 대여 중인 책입니다.");
-	                return false;
-	            }
-	        } else {
-	            System.out.println("존재하지 않는 책 번호입니다.");
-	            return false;
-	        }
-
-	        // 2. 대여 처리
-	        String sqlupdate = "UPDATE BOOK SET is_rented = 'Y' WHERE book_num = ?";
-	        psmt = conn.prepareStatement(sqlupdate);
-	        psmt.setInt(1, book_num);
-	        int dayeo = psmt.executeUpdate();
-
-	        if (dayeo > 0) {
-	            System.out.println("책 대여 완료!");
-	            return true;
-	        } else {
-	            System.out.println("책 대여 실패!");
-	            return false;
-	        }
-
-	    } catch (SQLException e) {
-	        e.printStackTrace();
-	        return false;
-	    } finally {
-	        close();
-	    }
+		return change(RENT_SQL, book_num, -1, "책 대여 완료!", "Y", "이미 대여 중인 책입니다.");
 	}
 
+	@Override
 	public boolean returnBook(int book_num) {
-	    connect();
-	    try {
-	        // 1. 책 상태 확인
-	        String sql = "SELECT is_rented FROM BOOK WHERE book_num = ?";
-	        psmt = conn.prepareStatement(sql);
-	        psmt.setInt(1, book_num);
-	        rs = psmt.executeQuery();
-	        
-	        if (rs.next()) {
-	            String rent = rs.getString(1);
-	            if ("N".equalsIgnoreCase(rent)) {
-	                System.out.println("이미 반납된 책입니다.");
-	                return false;
-	            }
-	        } else {
-	            System.out.println("존재하지 않는 책 번호입니다.");
-	            return false;
-	        }
-
-	        // 2. 반납 처리
-	        String returnSql = "UPDATE BOOK SET is_rented = 'N' WHERE book_num = ?";
-	        psmt = conn.prepareStatement(returnSql);
-	        psmt.setInt(1, book_num);
-	        int bannap = psmt.executeUpdate();
-
-	        if (bannap > 0) {
-	            System.out.println("책 반납 완료!");
-	            return true;
-	        } else {
-	            System.out.println("책 반납 실패!");
-	            return false;
-	        }
-
-	    } catch (SQLException e) {
-	        e.printStackTrace();
-	        return false;
-	    } finally {
-	        close();
-	    }
+		return change(RETURN_SQL, book_num, -1, "책 반납 완료!", "N", "이미 반납된 책입니다.");
 	}
 
-	
-	
-	private void close() {
-		try {
-			if(rs != null) {
-				rs.close();				
-			}
-			psmt.close();
-			conn.close();
-			
-		}catch (Exception e2) {
-			// TODO: handle exception
-		}
+	@Override
+	public boolean rentBook(int book_num, int version) {
+		return change(RENT_SQL + " AND VERSION = ?", book_num, version, "책 대여 완료!", "Y", "이미 대여 중인 책입니다.");
 	}
 
-	private void connect() {
-		try {
-			Class.forName("oracle.jdbc.OracleDriver");
-		
-			String url = "jdbc:oracle:thin:@localhost:1521:xe";
-			String db_id = "hr";
-			String db_pw = "12345";
-			
-			conn = DriverManager.getConnection(url, db_id, db_pw); 
-			
-	}catch (ClassNotFoundException e) {
-		System.out.println("클래스 못찾음..");
-	} catch (SQLException e) {
-		System.out.println("DB연결 실패..");
+	@Override
+	public boolean returnBook(int book_num, int version) {
+		return change(RETURN_SQL + " AND VERSION = ?", book_num, version, "책 반납 완료!", "N", "이미 반납된 책입니다.");
 	}
+
+	// 조건부 UPDATE 한 번 (version 이 0 이상이면 버전도 조건에 넣는다)
+	// already : 실패했을 때 IS_RENTED 가 이 값이면 already 안내
+	private boolean change(String sql, int book_num, int version, String ok, String alreadyState, String already) {
+
+		try (Connection conn = DBManager.getConnection()) {
+
+			try (PreparedStatement psmt = conn.prepareStatement(sql)) {
+				psmt.setInt(1, book_num);
+				if (version >= 0) {
+					psmt.setInt(2, version);
+				}
+				if (psmt.executeUpdate() == 1) {
+					System.out.println(ok);
+					return true;
+				}
+			}
+
+			// 실패한 경우에만 : 왜 안 됐는지 확인
+			try (PreparedStatement psmt = conn
+					.prepareStatement("SELECT IS_RENTED FROM BOOK WHERE BOOK_NUM = ?")) {
+				psmt.setInt(1, book_num);
+				try (ResultSet rs = psmt.executeQuery()) {
+					if (!rs.next()) {
+						System.out.println("존재하지 않는 책 번호입니다.");
+					} else if (alreadyState.equalsIgnoreCase(rs.getString(1))) {
+						System.out.println(already);
+					} else {
+						System.out.println("다른 사용자가 먼저 변경했습니다. 다시 시도해주세요.");
+					}
+				}
+			}
+
+		} catch (SQLException e) {
+			e.printStackTrace();
+		}
+		return false;
 	}
-		
-	}
-	
-     
-     
+
+}
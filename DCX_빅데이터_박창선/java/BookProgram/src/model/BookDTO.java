@@ -5,17 +5,26 @@ public class BookDTO {
 	private int book_num;
 	private String book_name;
 	private String book_writer;
-	private String book_price;
+	// 가격(원) : 예전에는 '13,500' 같은 문자열이었다
+	private int book_price;
 	private String is_rented;
+	// 낙관적 잠금용 버전 (대여/반납할 때마다 1씩 증가)
+	private int version;
 	
 	
-	public BookDTO(int book_num, String book_name, String book_writer, String book_price, String is_rented) {
+	public BookDTO(int book_num, String book_name, String book_writer, int book_price, String is_rented) {
+		this(book_num, book_name, book_writer, book_price, is_rented, 0);
+	}
+
+	public BookDTO(int book_num, String book_name, String book_writer, int book_price, String is_rented,
+			int version) {
 		super();
 		this.book_num = book_num;
 		this.book_name = book_name;
 		this.book_writer = book_writer;
 		this.book_price = book_price;
 		this.is_rented = is_rented;
+		this.version = version;
 	}
 
 
@@ -34,7 +43,7 @@ public class BookDTO {
 	}
 
 
-	public String getBook_price() {
+	public int getBook_price() {
 		return book_price;
 	}
 
@@ -42,6 +51,11 @@ public class BookDTO {
 	public String getIs_rented() {
 		return is_rented;
 	}
+
+
+	public int getVersion() {
+		return version;
+	}
 	
 	
 	
@@ -0,0 +1,39 @@
+package model;
+
+import db.DBManager;
+
+// BOOK 대여/반납 저장소
+// 구현 : BookDAO(오라클, JDBC), MemoryBookRepository(메모리)
+// open() 은 -Ddb.engine=memory 이면 메모리, 아니면 오라클 저장소를 돌려준다
+public interface BookRepository {
+
+	// 전체 책 목록 출력
+	void bookList();
+
+	// 책 번호로 한 권 조회 (없으면 null)
+	BookDTO findBook(int book_num);
+
+	// 대여 : 빌려가지 않은 책이면 대여 중으로 바꾸고 true
+	boolean rentBook(int book_num);
+
+	// 반납 : 대여 중인 책이면 반납으로 바꾸고 true
+	boolean returnBook(int book_num);
+
+	// 버전 비교 대여 : findBook 으로 읽은 version 그대로일 때만 바꾼다 (그 사이 누가 바꿨으면 false)
+	boolean rentBook(int book_num, int version);
+
+	// 버전 비교 반납
+	boolean returnBook(int book_num, int version);
+
+	static BookRepository open() {
+		if (DBManager.isMemoryEngine()) {
+			MemoryBookRepository repo = new MemoryBookRepository(DBManager.getSnapshotDir());
+			if (DBManager.getSnapshotDir() != null) {
+				DBManager.closeOnExit(repo);
+			}
+			return repo;
+		}
+		return new BookDAO();
+	}
+
+}
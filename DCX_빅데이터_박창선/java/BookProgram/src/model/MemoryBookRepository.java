@@ -0,0 +1,138 @@
+package model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import db.MemTable;
+import db.RowCodec;
+
+// 오라클 없이 쓰는 메모리 저장소 (BOOK)
+// 대여/반납은 MemTable.update 안에서 상태(와 버전)를 확인하고 바꾸므로 BookDAO 의 조건부 UPDATE 와 같다
+// snapshotDir 을 주면 시작할 때 book.snap 을 읽고 close() 때 저장한다
+// 스냅샷이 없으면 SQL.sql 의 책 7권(대여 가능)으로 시작한다
+public class MemoryBookRepository implements BookRepository, AutoCloseable {
+
+	private static final RowCodec<BookDTO> CODEC = new RowCodec<BookDTO>() {
+		@Override
+		public void write(DataOutputStream out, BookDTO row) throws IOException {
+			out.writeInt(row.getBook_num());
+			RowCodec.writeString(out, row.getBook_name());
+			RowCodec.writeString(out, row.getBook_writer());
+			out.writeInt(row.getBook_price());
+			RowCodec.writeString(out, row.getIs_rented());
+			out.writeInt(row.getVersion());
+		}
+
+		@Override
+		public BookDTO read(DataInputStream in) throws IOException {
+			return new BookDTO(in.readInt(), RowCodec.readString(in), RowCodec.readString(in), in.readInt(),
+					RowCodec.readString(in), in.readInt());
+		}
+	};
+
+	private final MemTable<Integer, BookDTO> books = new MemTable<>(BookDTO::getBook_num);
+	private final Path snapshotDir;
+
+	public MemoryBookRepository() {
+		this(null);
+	}
+
+	public MemoryBookRepository(Path snapshotDir) {
+		this.snapshotDir = snapshotDir;
+		boolean loaded = false;
+		if (snapshotDir != null) {
+			try {
+				loaded = books.load(snapshotDir.resolve("book.snap"), CODEC);
+			} catch (IOException e) {
+				System.out.println("스냅샷 읽기 실패 : " + e.getMessage());
+			}
+		}
+		if (!loaded) {
+			addBook(1, "TEST1", "TEST1", 0);
+			addBook(2, "TEST2", "TEST2", 0);
+			addBook(3, "TEST3", "TEST3", 0);
+			addBook(4, "소년이 온다", "한강", 13500);
+			addBook(5, "트렌드 코리아 2025", "김난도", 18000);
+			addBook(6, "일의 감각", "조수용", 19000);
+			addBook(7, "넥서스", "유발 하리라", 25050);
+		}
+	}
+
+	@Override
+	public void bookList() {
+		for (BookDTO dto : books.values()) {
+			System.out.printf("%d\t%s\t%s\t%,d\t%s\n", dto.getBook_num(), dto.getBook_name(), dto.getBook_writer(),
+					dto.getBook_price(), dto.getIs_rented());
+		}
+	}
+
+	@Override
+	public BookDTO findBook(int book_num) {
+		return books.get(book_num);
+	}
+
+	@Override
+	public boolean rentBook(int book_num) {
+		return change(book_num, -1, "N", "Y", "책 대여 완료!", "이미 대여 중인 책입니다.");
+	}
+
+	@Override
+	public boolean returnBook(int book_num) {
+		return change(book_num, -1, "Y", "N", "책 반납 완료!", "이미 반납된 책입니다.");
+	}
+
+	@Override
+	public boolean rentBook(int book_num, int version) {
+		return change(book_num, version, "N", "Y", "책 대여 완료!", "이미 대여 중인 책입니다.");
+	}
+
+	@Override
+	public boolean returnBook(int book_num, int version) {
+		return change(book_num, version, "Y", "N", "책 반납 완료!", "이미 반납된 책입니다.");
+	}
+
+	// 책 추가 (대여 가능 상태, 이미 있으면 false)
+	public boolean addBook(int book_num, String book_name, String book_writer, int book_price) {
+		return books.insert(new BookDTO(book_num, book_name, book_writer, book_price, "N", 0));
+	}
+
+	public void snapshot() throws IOException {
+		if (snapshotDir != null) {
+			books.save(snapshotDir.resolve("book.snap"), CODEC);
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			snapshot();
+		} catch (IOException e) {
+			System.out.println("스냅샷 저장 실패 : " + e.getMessage());
+		}
+	}
+
+	// from 상태(와 version)일 때만 to 로 바꾸고 버전 +1 (BookDTO 는 setter 가 없어서 그대로 내줘도 된다)
+	private boolean change(int book_num, int version, String from, String to, String ok, String already) {
+		BookDTO updated = books.update(book_num, b -> from.equals(b.getIs_rented())
+				&& (version < 0 || b.getVersion() == version)
+						? new BookDTO(b.getBook_num(), b.getBook_name(), b.getBook_writer(), b.getBook_price(), to,
+								b.getVersion() + 1)
+						: null);
+		if (updated != null) {
+			System.out.println(ok);
+			return true;
+		}
+		BookDTO now = books.get(book_num);
+		if (now == null) {
+			System.out.println("존재하지 않는 책 번호입니다.");
+		} else if (to.equals(now.getIs_rented())) {
+			System.out.println(already);
+		} else {
+			System.out.println("다른 사용자가 먼저 변경했습니다. 다시 시도해주세요.");
+		}
+		return false;
+	}
+
+}
@@ -2,7 +2,7 @@ create table book(
 	book_num number,
 	book_name varchar(50),
 	book_writer varchar(50),
-	book_price varchar(100),
+	book_price number(10) default 0,
 	primary key(book_num)
 );
 
@@ -10,10 +10,10 @@ create sequence num_seq
 increment by 1
 start with 1;
 
-insert into BOOK values(num_seq.nextval, '소년이 온다', '한강', '13,500');
-insert into BOOK values(num_seq.nextval, '트렌드 코리아 2025', '김난도', '18,000');
-insert into BOOK values(num_seq.nextval, '일의 감각', '조수용', '19,000');
-insert into BOOK values(num_seq.nextval, '넥서스', '유발 하리라', '25,050');
+insert into BOOK(book_num, book_name, book_writer, book_price) values(num_seq.nextval, '소년이 온다', '한강', 13500);
+insert into BOOK(book_num, book_name, book_writer, book_price) values(num_seq.nextval, '트렌드 코리아 2025', '김난도', 18000);
+insert into BOOK(book_num, book_name, book_writer, book_price) values(num_seq.nextval, '일의 감각', '조수용', 19000);
+insert into BOOK(book_num, book_name, book_writer, book_price) values(num_seq.nextval, '넥서스', '유발 하리라', 25050);
 
 INSERT INTO MEMBER(BOOK_NAME) VALUES(?) WHERE ID=?
 
@@ -26,4 +26,17 @@ ALTER TABLE member ADD book_name VARCHAR(50) DEFAULT '-';
 select * from member;
 
 drop table book;
-drop sequence num_seq;
\ No newline at end of file
+drop sequence num_seq;
+
+-- ============================================================
+-- [기존 DB 전용] BOOK_PRICE 가 VARCHAR 인 예전 테이블을 숫자(원)로 바꾸기
+-- 위 CREATE TABLE 로 새로 만든 테이블에는 실행하지 않는다 (이미 NUMBER)
+-- 필요할 때만 주석을 풀고 이 블록만 실행 ('13,500' -> 13500, 숫자가 아니면 0)
+-- 컬럼 순서가 바뀌므로 (BOOK_PRICE 가 맨 뒤로) INSERT 는 컬럼 이름을 적어서 쓴다
+-- ============================================================
+-- ALTER TABLE BOOK ADD BOOK_PRICE_NUM NUMBER(10) DEFAULT 0 NOT NULL;
+-- UPDATE BOOK SET BOOK_PRICE_NUM = CASE WHEN REGEXP_LIKE(REPLACE(BOOK_PRICE, ',', ''), '^[0-9]+$')
+-- 	THEN TO_NUMBER(REPLACE(BOOK_PRICE, ',', '')) ELSE 0 END;
+-- ALTER TABLE BOOK DROP COLUMN BOOK_PRICE;
+-- ALTER TABLE BOOK RENAME COLUMN BOOK_PRICE_NUM TO BOOK_PRICE;
+-- COMMIT;
\ No newline at end of file
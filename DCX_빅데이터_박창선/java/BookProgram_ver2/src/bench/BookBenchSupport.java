@@ -0,0 +1,56 @@
+package bench;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import db.DBManager;
+import model.BookDAO;
+import model.BookRepository;
+import model.MemoryBookRepository;
+
+// 책 벤치마크 공통 준비 작업
+// -Ddb.engine=memory 이면 메모리 저장소, 아니면 BookDAO(캐시 없음)로 측정한다
+class BookBenchSupport {
+
+	static BookRepository open() {
+		if (DBManager.isMemoryEngine()) {
+			System.out.println("메모리 저장소 사용");
+			return new MemoryBookRepository();
+		}
+		StubConnectionFactory.installIfRequested();
+		return new BookDAO();
+	}
+
+	// 대여자 회원 lt_user0 ~ lt_user(n-1) 이 없으면 만든다
+	static void ensureMembers(BookRepository repo, int n) throws SQLException {
+		if (repo instanceof MemoryBookRepository) {
+			for (int i = 0; i < n; i++) {
+				((MemoryBookRepository) repo).addMember("lt_user" + i, "load");
+			}
+			return;
+		}
+		String sql = "INSERT INTO MEMBER(ID, PW, NAME, AGE) SELECT ?, 'pw', 'load', 20 FROM DUAL "
+				+ "WHERE NOT EXISTS (SELECT 1 FROM MEMBER WHERE ID=?)";
+		try (Connection conn = DBManager.getConnection(); PreparedStatement psmt = conn.prepareStatement(sql)) {
+			for (int i = 0; i < n; i++) {
+				psmt.setString(1, "lt_user" + i);
+				psmt.setString(2, "lt_user" + i);
+				psmt.executeUpdate();
+			}
+		}
+	}
+
+	static void deleteBook(BookRepository repo, int book_num) throws SQLException {
+		if (repo instanceof MemoryBookRepository) {
+			((MemoryBookRepository) repo).deleteBook(book_num);
+			return;
+		}
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement("DELETE FROM BOOK WHERE BOOK_NUM=?")) {
+			psmt.setInt(1, book_num);
+			psmt.executeUpdate();
+		}
+	}
+
+}
@@ -0,0 +1,76 @@
+package bench;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import db.DBManager;
+import model.BookDAO;
+import model.BookDTO;
+import model.BookImporter;
+
+// 한 권씩 returnBook 으로 넣기 vs BookImporter 배치 입력 속도 비교
+// 실행 : java bench.BookImportBench [행수] [배치크기] [쓰기스레드수]
+//   -Dbench.baseNum=1000000 : 테스트 책 번호 시작값 (끝나면 이 범위는 삭제된다)
+//   -Dbench.perRowLimit=5000 : 한 권씩 넣는 쪽은 이 행수까지만 측정
+//   -Dbench.stub=true       : 오라클 대신 가짜 DB 사용
+public class BookImportBench {
+
+	public static void main(String[] args) throws Exception {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		int batchSize = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+		int writers = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+		int base = Integer.getInteger("bench.baseNum", 1000000);
+		int perRowLimit = Math.min(rows, Integer.getInteger("bench.perRowLimit", 5000));
+
+		StubConnectionFactory.installIfRequested();
+
+		Path csv = Files.createTempFile("books", ".csv");
+		try {
+			writeCsv(csv, base, rows);
+			deleteRange(base, rows);
+
+			// 1) 기존 방식 : 한 권마다 커넥션 + INSERT 1번
+			BookDAO dao = new BookDAO();
+			long start = System.nanoTime();
+			for (int i = 0; i < perRowLimit; i++) {
+				dao.returnBook(new BookDTO(base + i, "책" + i, "저자" + (i % 100), 10000));
+			}
+			double perRow = perRowLimit * 1e9 / (System.nanoTime() - start);
+			System.out.printf("returnBook 한 권씩 : %d권, %,.0f rows/sec%n", perRowLimit, perRow);
+			deleteRange(base, rows);
+
+			// 2) 배치 입력
+			BookImporter importer = new BookImporter(batchSize, writers);
+			BookImporter.Result result = importer.importFile(csv);
+			System.out.printf("BookImporter (batch=%d, writers=%d) : %s%n", batchSize, writers, result);
+			System.out.printf("배치 입력이 %.1f배 빠름%n", result.getRowsPerSec() / perRow);
+		} finally {
+			deleteRange(base, rows);
+			Files.deleteIfExists(csv);
+		}
+	}
+
+	private static void writeCsv(Path csv, int base, int rows) throws Exception {
+		try (BufferedWriter bw = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+			bw.write("book_num,book_name,book_writer,book_price\n");
+			for (int i = 0; i < rows; i++) {
+				bw.write((base + i) + ",책" + i + ",저자" + (i % 100) + ",\"10,000\"\n");
+			}
+		}
+	}
+
+	private static void deleteRange(int base, int rows) throws SQLException {
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement("DELETE FROM BOOK WHERE BOOK_NUM >= ? AND BOOK_NUM < ?")) {
+			psmt.setInt(1, base);
+			psmt.setInt(2, base + rows);
+			psmt.executeUpdate();
+		}
+	}
+
+}
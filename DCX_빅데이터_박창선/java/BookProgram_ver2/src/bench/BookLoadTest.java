@@ -0,0 +1,33 @@
+package bench;
+
+import model.BookDTO;
+import model.BookRepository;
+
+// 저장소 하나를 여러 스레드가 같이 쓰면서 bookList / borrowBook 부하 테스트
+// 실행 : java bench.BookLoadTest [스레드수] [측정초]
+//   -Dbench.books=4     : 대여할 책 번호 범위 (1 ~ N)
+//   -Dbench.stub=true   : 오라클 대신 가짜 DB 사용
+//   -Ddb.engine=memory  : 오라클 대신 메모리 저장소 사용
+public class BookLoadTest {
+
+	public static void main(String[] args) throws Exception {
+		int threads = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+		int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+		int books = Integer.getInteger("bench.books", 4);
+
+		BookRepository dao = BookBenchSupport.open();
+		BookBenchSupport.ensureMembers(dao, threads);
+
+		new LoadHarness(threads, 2, seconds)
+				.add("bookList", 8, (t, seq) -> dao.bookList())
+				.add("borrowBook", 2, (t, seq) -> {
+					BookDTO dto = dao.borrowBook("lt_user" + t, 1 + (int) (seq % books));
+					// 다음 반복에서도 빌릴 수 있도록 바로 반납
+					if (dto != null) {
+						dao.returnBook(dto);
+					}
+				})
+				.run();
+	}
+
+}
@@ -0,0 +1,91 @@
+package bench;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import db.LatencyHistogram;
+import model.BookDTO;
+import model.BookRepository;
+
+// 같은 책 한 권을 N개 스레드가 동시에 빌리는 경합 테스트
+// 오라클(실제 DB) 또는 -Ddb.engine=memory 로 메모리 저장소에서 돌린다
+// 매 라운드마다 책을 다시 넣고 모든 스레드가 동시에 borrowBook 을 호출한다
+// 라운드마다 정확히 한 명만 성공해야 한다 (2명 이상 = 중복 대여)
+// 실행 : java bench.BorrowContentionBench [스레드수] [측정초]
+//   -Dbench.hotBook=9999 : 테스트에 쓸 책 번호 (끝나면 삭제된다)
+public class BorrowContentionBench {
+
+	public static void main(String[] args) throws Exception {
+		int threads = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+		int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+		int hotBook = Integer.getInteger("bench.hotBook", 9999);
+
+		BookRepository dao = BookBenchSupport.open();
+		BookDTO book = new BookDTO(hotBook, "경합 테스트", "bench", 10000);
+		BookBenchSupport.ensureMembers(dao, threads);
+		BookBenchSupport.deleteBook(dao, hotBook);
+
+		AtomicInteger winners = new AtomicInteger();
+		AtomicInteger rounds = new AtomicInteger();
+		AtomicInteger doubleBorrow = new AtomicInteger();
+		AtomicInteger noWinner = new AtomicInteger();
+		LatencyHistogram latency = new LatencyHistogram();
+		long end = System.nanoTime() + seconds * 1_000_000_000L;
+		boolean[] stop = { false };
+
+		// 모든 스레드가 도착하면 : 지난 라운드 결과 확인 -> 책 다시 넣기
+		CyclicBarrier barrier = new CyclicBarrier(threads, () -> {
+			if (rounds.get() > 0) {
+				int w = winners.getAndSet(0);
+				if (w > 1) {
+					doubleBorrow.incrementAndGet();
+				} else if (w == 0) {
+					noWinner.incrementAndGet();
+				}
+			}
+			if (System.nanoTime() - end >= 0) {
+				stop[0] = true;
+				return;
+			}
+			rounds.incrementAndGet();
+			dao.returnBook(book);
+		});
+
+		Thread[] workers = new Thread[threads];
+		for (int t = 0; t < threads; t++) {
+			String id = "lt_user" + t;
+			workers[t] = new Thread(() -> {
+				try {
+					while (true) {
+						barrier.await();
+						if (stop[0]) {
+							break;
+						}
+						long start = System.nanoTime();
+						BookDTO dto = dao.borrowBook(id, hotBook);
+						latency.record(System.nanoTime() - start);
+						if (dto != null) {
+							winners.incrementAndGet();
+						}
+					}
+				} catch (InterruptedException | BrokenBarrierException e) {
+					e.printStackTrace();
+				}
+			});
+			workers[t].start();
+		}
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		BookBenchSupport.deleteBook(dao, hotBook);
+
+		int r = rounds.get();
+		System.out.printf("threads=%d, %d초, 라운드 %d회 (%.1f rounds/sec, %,.0f borrow/sec)%n", threads, seconds, r,
+				r / (double) seconds, latency.getCount() / (double) seconds);
+		System.out.println("borrowBook : " + latency);
+		System.out.println("중복 대여 라운드 : " + doubleBorrow.get() + ", 아무도 못 빌린 라운드 : " + noWinner.get());
+		System.out.println(doubleBorrow.get() == 0 && noWinner.get() == 0 ? "OK" : "FAIL");
+	}
+
+}
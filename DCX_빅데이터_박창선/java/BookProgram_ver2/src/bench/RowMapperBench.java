@@ -0,0 +1,217 @@
+package bench;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import db.RowMapper;
+import model.BookDTO;
+
+// ResultSet -> DTO 변환 방식 비교 (BOOK 100만 행)
+//   label     : 예전 방식, rs.getString("BOOK_NAME") 처럼 행마다 이름으로 찾고 가격은 문자열('13,500')
+//   index     : 예전 BookDAO.toDTO, 번호로 읽지만 가격은 문자열
+//   RowMapper : BookDAO.BOOK 과 같은 매퍼, 번호는 ResultSet 마다 한 번만 찾고 가격은 getInt
+// DB 없이 메모리에서 행을 만들어 주는 가짜 ResultSet 을 쓴다
+//   - 값은 드라이버처럼 바이트로 들고 있다가 getString 때 String 을 새로 만들고, getInt 는 바이트에서 바로 숫자로 바꾼다
+//   - 이름으로 찾으면 드라이버처럼 컬럼 이름을 대소문자 무시하고 앞에서부터 비교한다
+//   - 호출마다 Proxy 를 거치는 비용은 세 방식이 같다
+// 방식마다 여러 번 돌려 가장 빠른 값, 행당 할당 바이트(스레드 기준)를 출력한다
+// (JMH 가 없는 프로젝트라 main 으로 돌리는 측정이다. 시작 전에 충분히 데워서 JIT 영향을 줄인다)
+// 실행 : java bench.RowMapperBench [행 수] [반복]
+public class RowMapperBench {
+
+	private static final String[] COLUMNS = { "BOOK_NUM", "BOOK_NAME", "BOOK_WRITER", "BOOK_PRICE" };
+
+	// BookDAO.BOOK 과 같은 매퍼
+	private static final RowMapper<BookDTO> BOOK = RowMapper.of(
+			(rs, c) -> new BookDTO(rs.getInt(c[0]), rs.getString(c[1]), rs.getString(c[2]), rs.getInt(c[3])),
+			COLUMNS);
+
+	// 만든 DTO 를 여기에 넣어 둔다 (DAO 가 List 에 담는 것처럼 밖으로 나가야 JIT 가 객체 생성을 지우지 못한다)
+	private static final Object[] SINK = new Object[1024];
+
+	interface Mapping {
+		long run(ResultSet rs) throws SQLException;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+		String[] names = { "label", "index", "RowMapper" };
+		boolean[] legacyPrice = { true, true, false };
+		Mapping[] mappings = { RowMapperBench::byLabel, RowMapperBench::byIndex, RowMapperBench::byMapper };
+
+		// 데우기
+		for (int i = 0; i < mappings.length; i++) {
+			for (int r = 0; r < 3; r++) {
+				mappings[i].run(resultSet(rows / 5, legacyPrice[i]));
+			}
+		}
+
+		System.out.printf("BOOK %,d행, %d회 중 가장 빠른 값%n", rows, rounds);
+		double base = 0;
+		for (int i = 0; i < mappings.length; i++) {
+			long best = Long.MAX_VALUE;
+			long bytes = 0;
+			long check = 0;
+			for (int r = 0; r < rounds; r++) {
+				ResultSet rs = resultSet(rows, legacyPrice[i]);
+				long alloc0 = allocatedBytes();
+				long start = System.nanoTime();
+				check = mappings[i].run(rs);
+				best = Math.min(best, System.nanoTime() - start);
+				bytes = allocatedBytes() - alloc0;
+			}
+			double perRow = best / (double) rows;
+			if (i == 0) {
+				base = perRow;
+			}
+			System.out.printf("%-10s %7.1f ns/행 %,12.0f rows/sec  %6.1f bytes/행  (label 대비 %.2f배)  check=%d%n",
+					names[i], perRow, 1e9 / perRow, bytes / (double) rows, base / perRow, check);
+		}
+	}
+
+	// 예전 방식 : 이름으로 찾고 가격은 문자열
+	private static long byLabel(ResultSet rs) throws SQLException {
+		long check = 0;
+		while (rs.next()) {
+			OldBook b = new OldBook(rs.getInt("BOOK_NUM"), rs.getString("BOOK_NAME"), rs.getString("BOOK_WRITER"),
+					rs.getString("BOOK_PRICE"));
+			SINK[b.book_num & (SINK.length - 1)] = b;
+			check += b.book_num + b.book_price.length();
+		}
+		return check;
+	}
+
+	// 예전 BookDAO.toDTO : 번호로 읽고 가격은 문자열
+	private static long byIndex(ResultSet rs) throws SQLException {
+		long check = 0;
+		while (rs.next()) {
+			OldBook b = new OldBook(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4));
+			SINK[b.book_num & (SINK.length - 1)] = b;
+			check += b.book_num + b.book_price.length();
+		}
+		return check;
+	}
+
+	private static long byMapper(ResultSet rs) throws SQLException {
+		long[] check = { 0 };
+		BOOK.forEach(rs, b -> {
+			SINK[b.getBook_num() & (SINK.length - 1)] = b;
+			check[0] += b.getBook_num() + b.getBook_price() % 7;
+		});
+		return check[0];
+	}
+
+	// 가격이 문자열이던 때의 BookDTO
+	private static class OldBook {
+		final int book_num;
+		final String book_name;
+		final String book_writer;
+		final String book_price;
+
+		OldBook(int book_num, String book_name, String book_writer, String book_price) {
+			this.book_num = book_num;
+			this.book_name = book_name;
+			this.book_writer = book_writer;
+			this.book_price = book_price;
+		}
+	}
+
+	// 현재 스레드가 지금까지 할당한 바이트 (지원 안 하면 0)
+	private static long allocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return 0;
+	}
+
+	// rows 행짜리 가짜 ResultSet (legacyPrice 면 가격이 '13,500' 같은 문자열)
+	private static ResultSet resultSet(int rows, boolean legacyPrice) {
+		byte[][] bookNames = new byte[1000][];
+		byte[][] writers = new byte[100][];
+		byte[][] prices = new byte[100][];
+		for (int i = 0; i < bookNames.length; i++) {
+			bookNames[i] = ("책 제목 " + i).getBytes(StandardCharsets.UTF_8);
+		}
+		for (int i = 0; i < writers.length; i++) {
+			writers[i] = ("저자" + i).getBytes(StandardCharsets.UTF_8);
+		}
+		for (int i = 0; i < prices.length; i++) {
+			int price = 5000 + i * 250;
+			prices[i] = (legacyPrice ? String.format("%,d", price) : Integer.toString(price))
+					.getBytes(StandardCharsets.UTF_8);
+		}
+		int[] row = { -1 };
+		return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+				(proxy, method, args) -> {
+					String name = method.getName();
+					if (name.equals("next")) {
+						return ++row[0] < rows;
+					}
+					int r = row[0];
+					switch (name) {
+					case "getInt": {
+						int column = columnOf(args[0]);
+						return column == 1 ? r : parseInt(value(column, r, bookNames, writers, prices));
+					}
+					case "getString": {
+						int column = columnOf(args[0]);
+						return column == 1 ? Integer.toString(r)
+								: new String(value(column, r, bookNames, writers, prices), StandardCharsets.UTF_8);
+					}
+					case "findColumn":
+						return findColumn((String) args[0]);
+					case "close":
+						return null;
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == args[0];
+					default:
+						throw new UnsupportedOperationException(name);
+					}
+				});
+	}
+
+	private static int columnOf(Object arg) throws SQLException {
+		return arg instanceof Integer ? (Integer) arg : findColumn((String) arg);
+	}
+
+	private static int findColumn(String label) throws SQLException {
+		for (int i = 0; i < COLUMNS.length; i++) {
+			if (COLUMNS[i].equalsIgnoreCase(label)) {
+				return i + 1;
+			}
+		}
+		throw new SQLException("없는 컬럼 : " + label);
+	}
+
+	// BOOK_NUM(1) 은 행 번호 그대로라 따로 처리한다
+	private static byte[] value(int column, int r, byte[][] bookNames, byte[][] writers, byte[][] prices) {
+		switch (column) {
+		case 2:
+			return bookNames[r % bookNames.length];
+		case 3:
+			return writers[r % writers.length];
+		default:
+			return prices[r % prices.length];
+		}
+	}
+
+	// 숫자 컬럼 바이트 -> int (쉼표는 건너뛴다)
+	private static int parseInt(byte[] v) {
+		int n = 0;
+		for (byte b : v) {
+			if (b != ',') {
+				n = n * 10 + (b - '0');
+			}
+		}
+		return n;
+	}
+
+}
@@ -0,0 +1,54 @@
+package bench;
+
+import db.ConnectionPool;
+import db.DBManager;
+import model.BookDAO;
+import model.BookDAO1;
+import model.BookDTO;
+
+// PreparedStatement 캐시 끔(0) / 켬 비교
+// 가짜 DB 에서 prepare(SQL 파싱) 한 번에 prepareµs 가 걸린다고 보고
+// BookDAO / BookDAO1 의 자주 쓰는 메소드를 섞어서 돌린다
+// 실행 : java bench.StatementCacheBench [스레드수] [측정초] [prepareµs] [쿼리µs] [캐시크기]
+public class StatementCacheBench {
+
+	public static void main(String[] args) throws Exception {
+		int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+		int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		long prepareMicros = args.length > 2 ? Long.parseLong(args[2]) : 50;
+		long queryMicros = args.length > 3 ? Long.parseLong(args[3]) : 50;
+		int cacheSize = args.length > 4 ? Integer.parseInt(args[4]) : 32;
+
+		System.out.printf("threads=%d, %d초, prepare %dus, 쿼리 %dus%n", threads, seconds, prepareMicros,
+				queryMicros);
+		for (int size : new int[] { 0, cacheSize }) {
+			StubConnectionFactory factory = new StubConnectionFactory(2000, queryMicros, prepareMicros);
+			ConnectionPool pool = new ConnectionPool(factory, threads);
+			pool.setStatementCacheSize(size);
+			DBManager.setPool(pool);
+
+			System.out.println();
+			System.out.println("== statement cache " + size + " ==");
+			run(threads, seconds);
+			long calls = pool.getStats().getBorrowCount();
+			System.out.printf("prepare %,d회 / DAO 호출 %,d회 (%.3f회/호출)%n", factory.getPrepared(), calls,
+					factory.getPrepared() / (double) Math.max(1, calls));
+			System.out.println("pool : " + pool.getStats());
+		}
+		DBManager.getPool().shutdown();
+	}
+
+	static void run(int threads, int seconds) throws InterruptedException {
+		BookDAO dao = new BookDAO();
+		BookDAO1 dao1 = new BookDAO1();
+		BookDTO book = new BookDTO(900001, "bench", "bench", 0);
+		new LoadHarness(threads, 1, seconds)
+				.add("findBook", 5, (t, seq) -> dao.findBook((int) (seq % 1000)))
+				.add("bookPage", 2, (t, seq) -> dao.bookPage((int) (seq % 1000), 20))
+				.add("memberBookInfo", 2, (t, seq) -> dao.memberBookInfo("lt_user" + t))
+				.add("returnBook", 1, (t, seq) -> dao.returnBook(book))
+				.add("dao1.memberBook", 1, (t, seq) -> dao1.memberBook("lt_user" + t))
+				.run();
+	}
+
+}
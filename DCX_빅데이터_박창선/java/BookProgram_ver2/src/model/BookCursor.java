@@ -0,0 +1,94 @@
+package model;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import db.RowMapper;
+
+// BookDAO.streamBooks() 가 돌려주는 커서
+// 한 번에 한 행씩 BookDTO 로 바꿔서 돌려준다 (모든 행을 List 에 담지 않음)
+// 컬럼 인덱스는 열 때 한 번만 찾는다
+// 읽는 도중 DB 오류가 나면 IllegalStateException 으로 감싸서 던진다
+public class BookCursor implements Iterator<BookDTO>, AutoCloseable {
+
+	private final Connection conn;
+	private final PreparedStatement psmt;
+	private final ResultSet rs;
+	private final RowMapper.Bound<BookDTO> mapper;
+
+	private BookDTO next = null;
+	private boolean done = false;
+
+	BookCursor(Connection conn, PreparedStatement psmt) throws SQLException {
+		this.conn = conn;
+		this.psmt = psmt;
+		this.rs = psmt.executeQuery();
+		try {
+			this.mapper = BookDAO.BOOK.bind(rs);
+		} catch (SQLException | RuntimeException e) {
+			// 커넥션은 streamBooks 가 닫는다
+			try {
+				rs.close();
+				psmt.close();
+			} catch (SQLException ce) {
+				e.addSuppressed(ce);
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next == null && !done) {
+			try {
+				if (rs.next()) {
+					next = mapper.map(rs);
+				} else {
+					done = true;
+					close();
+				}
+			} catch (SQLException e) {
+				done = true;
+				close();
+				throw new IllegalStateException("책 목록 읽기 실패", e);
+			}
+		}
+		return next != null;
+	}
+
+	@Override
+	public BookDTO next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		BookDTO dto = next;
+		next = null;
+		return dto;
+	}
+
+	// 여러 번 불러도 된다
+	@Override
+	public void close() {
+		done = true;
+		try {
+			rs.close();
+		} catch (SQLException e) {
+			// 이미 닫힘
+		}
+		try {
+			psmt.close();
+		} catch (SQLException e) {
+			// 이미 닫힘
+		}
+		try {
+			conn.close();
+		} catch (SQLException e) {
+			// 이미 반납됨
+		}
+	}
+
+}
@@ -1,187 +1,256 @@
 package model;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import db.DBManager;
+import db.RowMapper;
 
 // DAO : Data Access Object
-public class BookDAO {
+// Connection / PreparedStatement / ResultSet 은 메소드 안에서만 쓰고 닫는다
+// -> 필드에 상태가 없으므로 DAO 하나를 여러 스레드가 같이 써도 된다
+public class BookDAO implements BookRepository {
+
+	// BOOK 행 -> BookDTO (컬럼 인덱스는 ResultSet 마다 한 번만 찾는다)
+	static final RowMapper<BookDTO> BOOK = RowMapper.of(
+			(rs, c) -> new BookDTO(rs.getInt(c[0]), rs.getString(c[1]), rs.getString(c[2]), rs.getInt(c[3])),
+			"BOOK_NUM", "BOOK_NAME", "BOOK_WRITER", "BOOK_PRICE");
+
+	// SELECT * 대신 필요한 컬럼만 가져온다
+	static final String BOOK_COLUMNS = BOOK.columns();
 
-	Connection conn = null;
-	PreparedStatement psmt = null;
-	ResultSet rs = null;
+	// 한 번의 네트워크 왕복으로 가져올 행 수 (오라클 기본값은 10)
+	private volatile int fetchSize = 100;
 
+	public void setFetchSize(int fetchSize) {
+		if (fetchSize <= 0) {
+			throw new IllegalArgumentException("fetchSize는 1 이상이어야 합니다 : " + fetchSize);
+		}
+		this.fetchSize = fetchSize;
+	}
 
+	// 전체 책 목록 출력 (커서로 읽으므로 책이 많아도 메모리는 일정)
+	@Override
 	public void bookList() {
-		connect();
-		
-		try {
-			
-			String sql = "SELECT * FROM BOOK";
-			psmt = conn.prepareStatement(sql);
-			rs = psmt.executeQuery();
-			
-			while(rs.next()) {
-				int book_num = rs.getInt(1);
-				String book_name = rs.getString(2);
-				String book_writer = rs.getString(3);
-				String book_price = rs.getString(4);
-				
-				System.out.printf("%d\t%s\t%s\t%s\n", book_num, book_name, book_writer, book_price);
+
+		try (BookCursor cursor = streamBooks(0)) {
+
+			while (cursor.hasNext()) {
+				BookDTO dto = cursor.next();
+				System.out.printf("%d\t%s\t%s\t%,d\n", dto.getBook_num(), dto.getBook_name(), dto.getBook_writer(),
+						dto.getBook_price());
 			}
-			
-		} catch (Exception e) {
+
+		} catch (SQLException | IllegalStateException e) {
 			e.printStackTrace();
-		}finally {
-			close();
 		}
-		
+
 	}
-	
-	public BookDTO borrowBook(String id, int book_num) {
 
-		connect();
-		BookDTO dto = null;
+	// 책 목록 한 페이지 (키셋 페이징)
+	// afterBookNum 보다 큰 책 번호를 순서대로 최대 pageSize 권
+	// 다음 페이지는 이번 페이지 마지막 책 번호를 afterBookNum 으로 넘기면 된다 (첫 페이지는 0)
+	// OFFSET 과 달리 몇 번째 페이지든 PK 인덱스로 바로 찾아가므로 뒤쪽 페이지도 느려지지 않는다
+	@Override
+	public List<BookDTO> bookPage(int afterBookNum, int pageSize) {
 		try {
-			
-			String sql1 = "SELECT * FROM BOOK WHERE BOOK_NUM=?"; 
-			psmt = conn.prepareStatement(sql1);
-			psmt.setInt(1, book_num);
-			rs = psmt.executeQuery();
-			
-			if(rs.next()) {
-				String book_name = rs.getString(2);
-				String book_writer = rs.getString(3);
-				String book_price = rs.getString(4);
-				
-				dto = new BookDTO(book_num, book_name, book_writer, book_price);
-//				System.out.println(dto.getBook_num() + dto.getBook_name() + dto.getBook_writer() + dto.getBook_price());
-				
-				String sql3 = "UPDATE MEMBER SET BOOK_NAME=? WHERE ID=?";
-				psmt = conn.prepareStatement(sql3);
-				
-				psmt.setString(1, book_name);
-				psmt.setString(2, id);
-				psmt.executeUpdate();
-				
-				String sql2 = "DELETE FROM BOOK WHERE BOOK_NUM=?";
-				psmt = conn.prepareStatement(sql2);
-				psmt.setInt(1, book_num);
-				psmt.executeUpdate();
-				
-			}
-			
-			
-			
-		} catch (Exception e) {
+			return selectPage(afterBookNum, pageSize);
+		} catch (SQLException e) {
 			e.printStackTrace();
-		}finally {
-			close();
+			return new ArrayList<>();
 		}
-		
-		return dto;
 	}
-	
-	public void returnBook(BookDTO dto) {
 
-		connect();
-		
+	List<BookDTO> selectPage(int afterBookNum, int pageSize) throws SQLException {
+
+		List<BookDTO> page = new ArrayList<>(pageSize);
+		String sql = "SELECT * FROM (SELECT " + BOOK_COLUMNS + " FROM BOOK WHERE BOOK_NUM > ? ORDER BY BOOK_NUM) "
+				+ "WHERE ROWNUM <= ?";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
+
+			psmt.setInt(1, afterBookNum);
+			psmt.setInt(2, pageSize);
+			psmt.setFetchSize(Math.min(pageSize, fetchSize));
+
+			try (ResultSet rs = psmt.executeQuery()) {
+				BOOK.forEach(rs, page::add);
+			}
+		}
+
+		return page;
+	}
+
+	// 책 번호로 한 권 조회 (없으면 null)
+	@Override
+	public BookDTO findBook(int book_num) {
 		try {
-			String sql = "INSERT INTO BOOK VALUES(?, ?, ?, ?)";
-			psmt = conn.prepareStatement(sql);
-			
-			psmt.setInt(1, dto.getBook_num());
-			psmt.setString(2, dto.getBook_name());
-			psmt.setString(3, dto.getBook_writer());
-			psmt.setString(4, dto.getBook_price());
-			
-			psmt.executeUpdate();
-		} catch (Exception e) {
+			return selectBook(book_num);
+		} catch (SQLException e) {
 			e.printStackTrace();
-		}finally {
-			close();
+			return null;
 		}
-		
 	}
-	
-	public void memberBook(String id) {
 
-		connect();
-		
-		try {
+	BookDTO selectBook(int book_num) throws SQLException {
 
-			String sql = "SELECT * FROM MEMBER WHERE ID=?";
-			psmt = conn.prepareStatement(sql);
-			psmt.setString(1, id);
-			rs = psmt.executeQuery();
-			
-			if(rs.next()) {
-				String name = rs.getString(3);
-				String book_name = rs.getString(5);
-				System.out.println(name + "님이 빌린 책 : " + book_name);
+		String sql = "SELECT " + BOOK_COLUMNS + " FROM BOOK WHERE BOOK_NUM=?";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
+
+			psmt.setInt(1, book_num);
+			try (ResultSet rs = psmt.executeQuery()) {
+				return BOOK.one(rs);
 			}
-			
-		} catch (Exception e) {
-			e.printStackTrace();
-		}finally {
-			close();
 		}
-		
-		
 	}
-	
-	
-	
-	
-	
-	private void close() {
+
+	// afterBookNum 다음 책부터 끝까지 한 권씩 읽는 커서
+	// fetchSize 만큼씩만 메모리에 올라오므로 테이블 크기와 상관없이 메모리가 일정하다
+	// 다 쓰면 반드시 close() (try-with-resources 권장) 해야 커넥션이 풀에 반납된다
+	public BookCursor streamBooks(int afterBookNum) throws SQLException {
+
+		String sql = "SELECT " + BOOK_COLUMNS + " FROM BOOK WHERE BOOK_NUM > ? ORDER BY BOOK_NUM";
+
+		Connection conn = DBManager.getConnection();
+		PreparedStatement psmt = null;
 		try {
-			if (rs != null) {
-				rs.close();
+			psmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			psmt.setInt(1, afterBookNum);
+			psmt.setFetchSize(fetchSize);
+			return new BookCursor(conn, psmt);
+		} catch (SQLException | RuntimeException e) {
+			// 커서를 못 만들었으면 여기서 닫는다 (RuntimeException 도 : 커넥션이 풀로 안 돌아가면 풀이 마른다)
+			if (psmt != null) {
+				try {
+					psmt.close();
+				} catch (SQLException ce) {
+					e.addSuppressed(ce);
+				}
 			}
-			psmt.close();
 			conn.close();
-		} catch (Exception e2) {
-			// TODO: handle exception
+			throw e;
 		}
 	}
 
-	private void connect() {
-		try {
-			Class.forName("oracle.jdbc.OracleDriver");
+	// 책 빌리기
+	// SELECT ... FOR UPDATE 로 책 행을 잠근 뒤 MEMBER 수정 + BOOK 삭제를 한 트랜잭션으로 처리한다
+	// 같은 책을 동시에 빌리려 하면 한 명만 성공하고 나머지는 잠금이 풀린 뒤 책이 없어서 null
+	// 대여자 아이디가 없으면 책을 지우지 않고 되돌린다(null)
+	@Override
+	public BookDTO borrowBook(String id, int book_num) {
 
-			String url = "jdbc:oracle:thin:@localhost:1521:xe";
-			String db_id = "hr";
-			String db_pw = "12345";
+		BookDTO dto = null;
 
-			conn = DriverManager.getConnection(url, db_id, db_pw);
+		try (Connection conn = DBManager.getConnection()) {
+			conn.setAutoCommit(false);
+			try {
+				dto = takeBook(conn, id, book_num);
+				if (dto != null) {
+					conn.commit();
+				} else {
+					conn.rollback();
+				}
+			} catch (SQLException e) {
+				conn.rollback();
+				throw e;
+			} finally {
+				conn.setAutoCommit(true);
+			}
 
-		} catch (ClassNotFoundException e) {
-			System.out.println("클래스 못찾음..");
 		} catch (SQLException e) {
-			System.out.println("DB연결 실패..");
+			e.printStackTrace();
+			dto = null;
 		}
+
+		return dto;
 	}
 
-	
+	// borrowBook 트랜잭션 본문 (커밋/롤백은 호출한 쪽에서)
+	private BookDTO takeBook(Connection conn, String id, int book_num) throws SQLException {
+
+		String sql1 = "SELECT " + BOOK_COLUMNS + " FROM BOOK WHERE BOOK_NUM=? FOR UPDATE";
+		String sql3 = "UPDATE MEMBER SET BOOK_NAME=? WHERE ID=?";
+		String sql2 = "DELETE FROM BOOK WHERE BOOK_NUM=?";
+
+		BookDTO dto;
+		try (PreparedStatement psmt = conn.prepareStatement(sql1)) {
+			psmt.setInt(1, book_num);
+			try (ResultSet rs = psmt.executeQuery()) {
+				dto = BOOK.one(rs);
+			}
+		}
+		if (dto == null) {
+			return null;
+		}
+
+		try (PreparedStatement psmt = conn.prepareStatement(sql3)) {
+			psmt.setString(1, dto.getBook_name());
+			psmt.setString(2, id);
+			if (psmt.executeUpdate() != 1) {
+				return null;
+			}
+		}
+
+		try (PreparedStatement psmt = conn.prepareStatement(sql2)) {
+			psmt.setInt(1, book_num);
+			if (psmt.executeUpdate() != 1) {
+				return null;
+			}
+		}
 
-	
+		return dto;
+	}
 
+	@Override
+	public void returnBook(BookDTO dto) {
 
+		String sql = "INSERT INTO BOOK(" + BOOK_COLUMNS + ") VALUES(?, ?, ?, ?)";
 
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
 
+			psmt.setInt(1, dto.getBook_num());
+			psmt.setString(2, dto.getBook_name());
+			psmt.setString(3, dto.getBook_writer());
+			psmt.setInt(4, dto.getBook_price());
 
+			psmt.executeUpdate();
+		} catch (SQLException e) {
+			e.printStackTrace();
+		}
 
+	}
 
+	// 회원이 빌린 책 (없는 회원이면 null)
+	@Override
+	public MemberBookDTO memberBookInfo(String id) {
+		try {
+			return selectMemberBook(id);
+		} catch (SQLException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
 
+	MemberBookDTO selectMemberBook(String id) throws SQLException {
 
-	
+		String sql = "SELECT NAME, BOOK_NAME FROM MEMBER WHERE ID=?";
 
-	
-	
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
 
-	
+			psmt.setString(1, id);
+			try (ResultSet rs = psmt.executeQuery()) {
+				return rs.next() ? new MemberBookDTO(id, rs.getString(1), rs.getString(2)) : null;
+			}
+		}
+	}
 
 }
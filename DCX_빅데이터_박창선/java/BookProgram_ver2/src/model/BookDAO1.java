@@ -1,185 +1,114 @@
 package model;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import db.DBManager;
+import db.RowMapper;
 
+// Main1 용 DAO
+// BookDAO 와 같이 커넥션은 DBManager 풀에서 빌리고, 메소드 안에서만 쓰고 닫는다
+// (같은 SQL 의 PreparedStatement 는 풀의 커넥션별 캐시에서 다시 쓴다)
 public class BookDAO1 {
-	
-	Connection conn = null;
-	PreparedStatement psmt = null;
-	ResultSet rs = null;
-	
+
+	// BOOK 행 -> BookDTO1
+	private static final RowMapper<BookDTO1> BOOK = RowMapper.of(
+			(rs, c) -> new BookDTO1(rs.getInt(c[0]), rs.getString(c[1]), rs.getString(c[2]), rs.getInt(c[3])),
+			"BOOK_NUM", "BOOK_NAME", "BOOK_WRITER", "BOOK_PRICE");
+
 	public void bookList() {
-		connect();
-		
-		try {
-			
-			String sql = "SELECT * FROM BOOK";
-			psmt = conn.prepareStatement(sql);
-			rs = psmt.executeQuery();
-			
-			while(rs.next()) {
-				int book_num = rs.getInt(1);
-				String book_name = rs.getString(2);
-				String book_writer = rs.getString(3);
-				String book_price = rs.getString(4);
-				
-				System.out.printf("%d\t%s\t%s\t%s\n", book_num, book_name, book_writer, book_price);
-			}
-			
-			
-		}catch (Exception e) {
+
+		String sql = "SELECT " + BOOK.columns() + " FROM BOOK";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql);
+				ResultSet rs = psmt.executeQuery()) {
+
+			BOOK.forEach(rs, dto -> System.out.printf("%d\t%s\t%s\t%,d\n", dto.getBook_num(), dto.getBook_name(),
+					dto.getBook_writer(), dto.getBook_price()));
+
+		} catch (SQLException e) {
 			e.printStackTrace();
-		}finally {
-			close();
 		}
 	}
-	
+
 	public BookDTO1 borrowBook(String id, int book_num) {
-		
-		connect();
-		BookDTO dto = null;
-		try {
-			
-			String sql1 = "SELECT * FROM BOOK WHERE BOOK_NUM=?";
-			psmt = conn.prepareStatement(sql1);
-			psmt.setInt(1, book_num);
-			rs = psmt.executeQuery();
-			
-			if(rs.next()) {
-				String book_name = rs.getString(2);
-				String book_writer = rs.getString(3);
-				String book_price = rs.getString(4);
-				
-				dto = new BookDTO(book_num, book_name, book_writer, book_price);
-//				System.out.println(dto.getBook_num() + dto.getBook_name() + dto.getBook_writer() + dto.getBook_price());
-				
-				String sql3 = "UPDATE MEMBER SET BOOK_NAME=? WHERE ID=?";
-				psmt = conn.prepareStatement(sql3);
-				
-				psmt.setString(1, book_name);
-				psmt.setString(2, id);
-				psmt.executeUpdate();
-				
-				String sql2 = "DELETE FROM BOOK WHERE BOOK_NUM=?";
-				psmt = conn.prepareStatement(sql2);
+
+		BookDTO1 dto = null;
+		String sql1 = "SELECT " + BOOK.columns() + " FROM BOOK WHERE BOOK_NUM=?";
+		String sql2 = "DELETE FROM BOOK WHERE BOOK_NUM=?";
+		String sql3 = "UPDATE MEMBER SET BOOK_NAME=? WHERE ID=?";
+
+		try (Connection conn = DBManager.getConnection()) {
+
+			try (PreparedStatement psmt = conn.prepareStatement(sql1)) {
 				psmt.setInt(1, book_num);
-				psmt.executeUpdate();
+				try (ResultSet rs = psmt.executeQuery()) {
+					dto = BOOK.one(rs);
+				}
 			}
-			
-			
-		}catch (Exception e) {
+
+			if (dto != null) {
+				try (PreparedStatement psmt = conn.prepareStatement(sql3)) {
+					psmt.setString(1, dto.getBook_name());
+					psmt.setString(2, id);
+					psmt.executeUpdate();
+				}
+
+				try (PreparedStatement psmt = conn.prepareStatement(sql2)) {
+					psmt.setInt(1, book_num);
+					psmt.executeUpdate();
+				}
+			}
+
+		} catch (SQLException e) {
 			e.printStackTrace();
-		}finally {
-			close();
 		}
-		
+
 		return dto;
 	}
-	
+
 	public void returnBook(BookDTO dto) {
 
-		connect();
-		
-		try {
-			String sql = "INSERT INTO BOOK VALUES(?, ?, ?, ?)";
-			psmt = conn.prepareStatement(sql);
-			
+		String sql = "INSERT INTO BOOK(" + BOOK.columns() + ") VALUES(?, ?, ?, ?)";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
+
 			psmt.setInt(1, dto.getBook_num());
 			psmt.setString(2, dto.getBook_name());
 			psmt.setString(3, dto.getBook_writer());
-			psmt.setString(4, dto.getBook_price());
-			
+			psmt.setInt(4, dto.getBook_price());
+
 			psmt.executeUpdate();
-		} catch (Exception e) {
+
+		} catch (SQLException e) {
 			e.printStackTrace();
-		}finally {
-			close();
 		}
-		
 	}
-	
-	public void memberBook(String id) {
 
-		connect();
-		
-		try {
+	public void memberBook(String id) {
 
-			String sql = "SELECT * FROM MEMBER WHERE ID=?";
-			psmt = conn.prepareStatement(sql);
-			psmt.setString(1, id);
-			rs = psmt.executeQuery();
-			
-			if(rs.next()) {
-				String name = rs.getString(3);
-				String book_name = rs.getString(5);
-				System.out.println(name + "님이 빌린 책 : " + book_name);
-			}
-			
-		} catch (Exception e) {
-			e.printStackTrace();
-		}finally {
-			close();
-		}
-		
-		
-	}
-	
-	
-	
-	
-	
-	private void close() {
-		try {
-			if (rs != null) {
-				rs.close();
-			}
-			psmt.close();
-			conn.close();
-		} catch (Exception e2) {
-			// TODO: handle exception
-		}
-	}
+		String sql = "SELECT NAME, BOOK_NAME FROM MEMBER WHERE ID=?";
 
-	private void connect() {
-		try {
-			Class.forName("oracle.jdbc.OracleDriver");
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
 
-			String url = "jdbc:oracle:thin:@localhost:1521:xe";
-			String db_id = "hr";
-			String db_pw = "12345";
+			psmt.setString(1, id);
 
-			conn = DriverManager.getConnection(url, db_id, db_pw);
+			try (ResultSet rs = psmt.executeQuery()) {
+				if (rs.next()) {
+					String name = rs.getString(1);
+					String book_name = rs.getString(2);
+					System.out.println(name + "님이 빌린 책 : " + book_name);
+				}
+			}
 
-		} catch (ClassNotFoundException e) {
-			System.out.println("클래스 못찾음..");
 		} catch (SQLException e) {
-			System.out.println("DB연결 실패..");
+			e.printStackTrace();
 		}
 	}
 
-	
-
-	
-
-
-
-
-
-
-
-
-
-	
-
-	
-	
-
-	
-
 }
-
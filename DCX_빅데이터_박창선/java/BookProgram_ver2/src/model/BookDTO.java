@@ -7,10 +7,11 @@ public class BookDTO {
 	private int book_num;
 	private String book_name;
 	private String book_writer;
-	private String book_price;
+	// 가격(원) : 예전에는 '13,500' 같은 문자열이었다
+	private int book_price;
 	
 	
-	public BookDTO(int book_num, String book_name, String book_writer, String book_price) {
+	public BookDTO(int book_num, String book_name, String book_writer, int book_price) {
 		super();
 		this.book_num = book_num;
 		this.book_name = book_name;
@@ -49,12 +50,12 @@ public class BookDTO {
 	}
 
 
-	public String getBook_price() {
+	public int getBook_price() {
 		return book_price;
 	}
 
 
-	public void setBook_price(String book_price) {
+	public void setBook_price(int book_price) {
 		this.book_price = book_price;
 	}
 
@@ -7,9 +7,9 @@ public class BookDTO1 {
 	private int book_num;
 	private String book_name;
 	private String book_writer;
-	private String book_price;
+	private int book_price;
 	
-	public BookDTO1(int book_num, String book_name, String book_writer, String book_price) {
+	public BookDTO1(int book_num, String book_name, String book_writer, int book_price) {
 		super();
 		this.book_num = book_num;
 		this.book_name = book_name;
@@ -29,7 +29,7 @@ public class BookDTO1 {
 		return book_writer;
 	}
 
-	public String getBook_price() {
+	public int getBook_price() {
 		return book_price;
 	}
 	
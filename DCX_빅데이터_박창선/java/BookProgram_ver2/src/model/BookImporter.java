@@ -0,0 +1,259 @@
+package model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import db.DBManager;
+
+// CSV / TSV 파일의 책을 BOOK 테이블에 한꺼번에 넣는다
+// 파일 형식 : 책번호, 책이름, 저자, 가격 (한 줄에 한 권, 첫 줄이 헤더면 건너뜀)
+//   CSV 는 "13,500" 처럼 쉼표가 들어간 값을 큰따옴표로 감쌀 수 있다 (가격의 쉼표는 빼고 숫자로 저장)
+// 읽는 스레드 1개가 batchSize 권씩 묶어서 큐에 넣고
+// 쓰는 스레드 writers 개가 각자 커넥션으로 addBatch / executeBatch 후 배치마다 커밋한다
+// 실패한 배치는 그 배치만 롤백하고 다음 배치를 계속 넣는다
+public class BookImporter {
+
+	private static final List<BookDTO> END = new ArrayList<>();
+
+	private final int batchSize;
+	private final int writers;
+
+	public BookImporter(int batchSize, int writers) {
+		if (batchSize <= 0 || writers <= 0) {
+			throw new IllegalArgumentException("batchSize, writers는 1 이상이어야 합니다");
+		}
+		this.batchSize = batchSize;
+		this.writers = writers;
+	}
+
+	// 확장자가 .tsv 면 탭, 나머지는 쉼표로 구분
+	public Result importFile(Path file) throws IOException, InterruptedException {
+		char delimiter = file.getFileName().toString().toLowerCase().endsWith(".tsv") ? '\t' : ',';
+		return importFile(file, delimiter);
+	}
+
+	public Result importFile(Path file, char delimiter) throws IOException, InterruptedException {
+
+		// 쓰는 쪽이 느리면 읽는 쪽이 기다리도록 큐 크기를 제한
+		BlockingQueue<List<BookDTO>> queue = new ArrayBlockingQueue<>(writers * 2);
+		LongAdder inserted = new LongAdder();
+		LongAdder failedRows = new LongAdder();
+		LongAdder failedBatches = new LongAdder();
+		long start = System.nanoTime();
+
+		Thread[] workers = new Thread[writers];
+		for (int i = 0; i < writers; i++) {
+			workers[i] = new Thread(() -> write(queue, inserted, failedRows, failedBatches), "book-import-" + i);
+			workers[i].start();
+		}
+
+		long read = 0;
+		long badLines = 0;
+		try (BufferedReader br = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			List<BookDTO> batch = new ArrayList<>(batchSize);
+			String line;
+			boolean first = true;
+			while ((line = br.readLine()) != null) {
+				if (line.isBlank()) {
+					continue;
+				}
+				BookDTO dto = parse(line, delimiter);
+				if (dto == null) {
+					// 첫 줄이 헤더인 경우는 오류로 세지 않는다
+					if (!first) {
+						badLines++;
+					}
+					first = false;
+					continue;
+				}
+				first = false;
+				read++;
+				batch.add(dto);
+				if (batch.size() == batchSize) {
+					queue.put(batch);
+					batch = new ArrayList<>(batchSize);
+				}
+			}
+			if (!batch.isEmpty()) {
+				queue.put(batch);
+			}
+		} finally {
+			for (int i = 0; i < writers; i++) {
+				queue.put(END);
+			}
+			for (Thread worker : workers) {
+				worker.join();
+			}
+		}
+
+		return new Result(read, inserted.sum(), failedRows.sum() + badLines, failedBatches.sum(),
+				System.nanoTime() - start);
+	}
+
+	private void write(BlockingQueue<List<BookDTO>> queue, LongAdder inserted, LongAdder failedRows,
+			LongAdder failedBatches) {
+
+		String sql = "INSERT INTO BOOK(" + BookDAO.BOOK_COLUMNS + ") VALUES(?, ?, ?, ?)";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
+			conn.setAutoCommit(false);
+			while (true) {
+				List<BookDTO> batch = queue.take();
+				if (batch == END) {
+					break;
+				}
+				try {
+					for (BookDTO dto : batch) {
+						psmt.setInt(1, dto.getBook_num());
+						psmt.setString(2, dto.getBook_name());
+						psmt.setString(3, dto.getBook_writer());
+						psmt.setInt(4, dto.getBook_price());
+						psmt.addBatch();
+					}
+					psmt.executeBatch();
+					conn.commit();
+					inserted.add(batch.size());
+				} catch (SQLException e) {
+					System.out.println("배치 실패(" + batch.size() + "권) : " + e.getMessage());
+					psmt.clearBatch();
+					conn.rollback();
+					failedRows.add(batch.size());
+					failedBatches.increment();
+				}
+			}
+			conn.setAutoCommit(true);
+		} catch (SQLException e) {
+			e.printStackTrace();
+			// 커넥션이 죽으면 남은 배치는 실패로 처리하고 큐를 비운다
+			drain(queue, failedRows, failedBatches);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void drain(BlockingQueue<List<BookDTO>> queue, LongAdder failedRows, LongAdder failedBatches) {
+		try {
+			while (true) {
+				List<BookDTO> batch = queue.take();
+				if (batch == END) {
+					return;
+				}
+				failedRows.add(batch.size());
+				failedBatches.increment();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	// 한 줄 -> BookDTO (필드 수가 모자라거나 책번호 / 가격이 숫자가 아니면 null)
+	static BookDTO parse(String line, char delimiter) {
+		List<String> fields = split(line, delimiter);
+		if (fields.size() < 4) {
+			return null;
+		}
+		try {
+			int book_num = Integer.parseInt(fields.get(0).trim());
+			return new BookDTO(book_num, fields.get(1).trim(), fields.get(2).trim(), parsePrice(fields.get(3)));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	// "13,500" / "13500" -> 13500 (빈 값은 0)
+	static int parsePrice(String value) {
+		String digits = value.replace(",", "").trim();
+		return digits.isEmpty() ? 0 : Integer.parseInt(digits);
+	}
+
+	// 큰따옴표로 감싼 값 안의 구분자는 나누지 않는다 ("" 는 " 하나)
+	static List<String> split(String line, char delimiter) {
+		List<String> fields = new ArrayList<>(4);
+		StringBuilder sb = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"') {
+					if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+						sb.append('"');
+						i++;
+					} else {
+						quoted = false;
+					}
+				} else {
+					sb.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == delimiter) {
+				fields.add(sb.toString());
+				sb.setLength(0);
+			} else {
+				sb.append(c);
+			}
+		}
+		fields.add(sb.toString());
+		return fields;
+	}
+
+	// 가져오기 결과
+	public static class Result {
+		private final long read;
+		private final long inserted;
+		private final long failed;
+		private final long failedBatches;
+		private final long elapsedNanos;
+
+		Result(long read, long inserted, long failed, long failedBatches, long elapsedNanos) {
+			this.read = read;
+			this.inserted = inserted;
+			this.failed = failed;
+			this.failedBatches = failedBatches;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		public long getRead() {
+			return read;
+		}
+
+		public long getInserted() {
+			return inserted;
+		}
+
+		public long getFailed() {
+			return failed;
+		}
+
+		public long getFailedBatches() {
+			return failedBatches;
+		}
+
+		public long getElapsedNanos() {
+			return elapsedNanos;
+		}
+
+		public double getRowsPerSec() {
+			return elapsedNanos == 0 ? 0 : inserted * 1e9 / elapsedNanos;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("읽음 %d, 입력 %d, 실패 %d(배치 %d), %.2f초, %,.0f rows/sec", read, inserted, failed,
+					failedBatches, elapsedNanos / 1e9, getRowsPerSec());
+		}
+	}
+
+}
@@ -0,0 +1,71 @@
+package model;
+
+import java.util.List;
+
+import db.DBManager;
+
+// BOOK / MEMBER 저장소
+// 구현 : BookDAO(오라클, JDBC), CachedBookDAO(BookDAO + 캐시), MemoryBookRepository(메모리)
+// open() 은 -Ddb.engine=memory 이면 메모리, 아니면 오라클 저장소를 돌려준다
+public interface BookRepository {
+
+	// afterBookNum 보다 큰 책 번호를 순서대로 최대 pageSize 권
+	List<BookDTO> bookPage(int afterBookNum, int pageSize);
+
+	// 책 번호로 한 권 조회 (없으면 null)
+	BookDTO findBook(int book_num);
+
+	// 책 빌리기 : 회원의 BOOK_NAME 을 바꾸고 책을 BOOK 에서 뺀다 (못 빌리면 null)
+	BookDTO borrowBook(String id, int book_num);
+
+	// 책 반납 : 책을 BOOK 에 다시 넣는다
+	void returnBook(BookDTO dto);
+
+	// 회원이 빌린 책 (없는 회원이면 null)
+	MemberBookDTO memberBookInfo(String id);
+
+	// bookList 가 한 번에 가져오는 책 수
+	int LIST_PAGE_SIZE = 100;
+
+	// 전체 책 목록 출력
+	default void bookList() {
+		printPages(this);
+	}
+
+	// bookList 기본 구현 : bookPage 로 LIST_PAGE_SIZE 권씩 읽어서 출력
+	// BookDAO 가 bookList 를 덮어쓰므로 그 하위 클래스(CachedBookDAO)가 이 구현을 쓰려면 여기를 부른다
+	static void printPages(BookRepository repo) {
+		int after = 0;
+		while (true) {
+			List<BookDTO> page = repo.bookPage(after, LIST_PAGE_SIZE);
+			for (BookDTO dto : page) {
+				System.out.printf("%d\t%s\t%s\t%,d\n", dto.getBook_num(), dto.getBook_name(), dto.getBook_writer(),
+						dto.getBook_price());
+			}
+			if (page.size() < LIST_PAGE_SIZE) {
+				break;
+			}
+			after = page.get(page.size() - 1).getBook_num();
+		}
+	}
+
+	// 회원이 빌린 책 출력
+	default void memberBook(String id) {
+		MemberBookDTO info = memberBookInfo(id);
+		if (info != null) {
+			System.out.println(info.getName() + "님이 빌린 책 : " + info.getBook_name());
+		}
+	}
+
+	static BookRepository open() {
+		if (DBManager.isMemoryEngine()) {
+			MemoryBookRepository repo = new MemoryBookRepository(DBManager.getSnapshotDir());
+			if (DBManager.getSnapshotDir() != null) {
+				DBManager.closeOnExit(repo);
+			}
+			return repo;
+		}
+		return new CachedBookDAO();
+	}
+
+}
@@ -0,0 +1,124 @@
+package model;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import db.LruCache;
+
+// 캐시를 붙인 BookDAO
+// - 책 번호 -> 책, 회원 아이디 -> 빌린 책, 목록 페이지 를 각각 LRU + TTL 캐시에 담는다
+// - borrowBook / returnBook 이 성공하면 바뀐 항목을 그 자리에서 바로 지운다
+//   (다른 프로그램이 DB를 직접 바꾼 경우는 TTL 이 지나야 반영된다)
+// - DB 오류는 캐시하지 않는다
+// 사용법 : BookDAO dao = new CachedBookDAO();
+public class CachedBookDAO extends BookDAO {
+
+	private final LruCache<Integer, BookDTO> books;
+	private final LruCache<String, MemberBookDTO> members;
+	private final LruCache<Long, List<BookDTO>> pages;
+
+	public CachedBookDAO() {
+		this(10000, 60000);
+	}
+
+	// maxSize : 캐시별 최대 항목 수, ttlMillis : 항목 유효시간
+	public CachedBookDAO(int maxSize, long ttlMillis) {
+		books = new LruCache<>(maxSize, ttlMillis);
+		members = new LruCache<>(maxSize, ttlMillis);
+		pages = new LruCache<>(Math.max(1, maxSize / LIST_PAGE_SIZE), ttlMillis);
+	}
+
+	// BookDAO 의 커서 대신 BookRepository 기본 구현 (캐시된 페이지로 출력)
+	@Override
+	public void bookList() {
+		BookRepository.printPages(this);
+	}
+
+	// 돌려주는 List 는 여러 호출자가 같이 보므로 수정할 수 없다
+	@Override
+	public List<BookDTO> bookPage(int afterBookNum, int pageSize) {
+		long key = ((long) afterBookNum << 32) | (pageSize & 0xffffffffL);
+		try {
+			return pages.get(key, k -> {
+				try {
+					return Collections.unmodifiableList(selectPage(afterBookNum, pageSize));
+				} catch (SQLException e) {
+					throw new IllegalStateException(e);
+				}
+			});
+		} catch (IllegalStateException e) {
+			e.printStackTrace();
+			return Collections.emptyList();
+		}
+	}
+
+	@Override
+	public BookDTO findBook(int book_num) {
+		try {
+			return books.get(book_num, k -> {
+				try {
+					return selectBook(k);
+				} catch (SQLException e) {
+					throw new IllegalStateException(e);
+				}
+			});
+		} catch (IllegalStateException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	@Override
+	public MemberBookDTO memberBookInfo(String id) {
+		try {
+			return members.get(id, k -> {
+				try {
+					return selectMemberBook(k);
+				} catch (SQLException e) {
+					throw new IllegalStateException(e);
+				}
+			});
+		} catch (IllegalStateException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	@Override
+	public BookDTO borrowBook(String id, int book_num) {
+		BookDTO dto = super.borrowBook(id, book_num);
+		if (dto != null) {
+			books.invalidate(book_num);
+			members.invalidate(id);
+			pages.invalidateAll();
+		}
+		return dto;
+	}
+
+	@Override
+	public void returnBook(BookDTO dto) {
+		super.returnBook(dto);
+		books.invalidate(dto.getBook_num());
+		pages.invalidateAll();
+	}
+
+	public LruCache<Integer, BookDTO> getBookCache() {
+		return books;
+	}
+
+	public LruCache<String, MemberBookDTO> getMemberCache() {
+		return members;
+	}
+
+	public LruCache<Long, List<BookDTO>> getPageCache() {
+		return pages;
+	}
+
+	public void printCacheStats() {
+		System.out.println("book   : " + books.getStats());
+		System.out.println("member : " + members.getStats());
+		System.out.println("page   : " + pages.getStats());
+	}
+
+}
@@ -0,0 +1,29 @@
+package model;
+
+// 회원이 빌린 책 정보 (MEMBER 테이블의 ID, NAME, BOOK_NAME)
+public class MemberBookDTO {
+
+	private String id;
+	private String name;
+	private String book_name;
+
+	public MemberBookDTO(String id, String name, String book_name) {
+		super();
+		this.id = id;
+		this.name = name;
+		this.book_name = book_name;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getBook_name() {
+		return book_name;
+	}
+
+}
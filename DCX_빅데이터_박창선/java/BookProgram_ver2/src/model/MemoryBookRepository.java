@@ -0,0 +1,161 @@
+package model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import db.MemTable;
+import db.RowCodec;
+
+// 오라클 없이 쓰는 메모리 저장소 (BOOK, MEMBER)
+// snapshotDir 을 주면 시작할 때 book.snap / member.snap 을 읽고 close() 때 저장한다
+// 스냅샷이 없으면 SQL.sql 의 책 4권, MEMBER 테이블의 테스트 회원 2명(TEST1, TEST2)으로 시작한다 (회원은 addMember 로 더 추가)
+public class MemoryBookRepository implements BookRepository, AutoCloseable {
+
+	private static final RowCodec<BookDTO> BOOK_CODEC = new RowCodec<BookDTO>() {
+		@Override
+		public void write(DataOutputStream out, BookDTO row) throws IOException {
+			out.writeInt(row.getBook_num());
+			RowCodec.writeString(out, row.getBook_name());
+			RowCodec.writeString(out, row.getBook_writer());
+			out.writeInt(row.getBook_price());
+		}
+
+		@Override
+		public BookDTO read(DataInputStream in) throws IOException {
+			return new BookDTO(in.readInt(), RowCodec.readString(in), RowCodec.readString(in), in.readInt());
+		}
+	};
+
+	private static final RowCodec<MemberBookDTO> MEMBER_CODEC = new RowCodec<MemberBookDTO>() {
+		@Override
+		public void write(DataOutputStream out, MemberBookDTO row) throws IOException {
+			out.writeUTF(row.getId());
+			RowCodec.writeString(out, row.getName());
+			RowCodec.writeString(out, row.getBook_name());
+		}
+
+		@Override
+		public MemberBookDTO read(DataInputStream in) throws IOException {
+			return new MemberBookDTO(in.readUTF(), RowCodec.readString(in), RowCodec.readString(in));
+		}
+	};
+
+	private final MemTable<Integer, BookDTO> books = new MemTable<>(BookDTO::getBook_num);
+	private final MemTable<String, MemberBookDTO> members = new MemTable<>(MemberBookDTO::getId);
+	private final Path snapshotDir;
+
+	public MemoryBookRepository() {
+		this(null);
+	}
+
+	public MemoryBookRepository(Path snapshotDir) {
+		this.snapshotDir = snapshotDir;
+		boolean loaded = false;
+		boolean membersLoaded = false;
+		if (snapshotDir != null) {
+			try {
+				loaded = books.load(snapshotDir.resolve("book.snap"), BOOK_CODEC);
+				membersLoaded = members.load(snapshotDir.resolve("member.snap"), MEMBER_CODEC);
+			} catch (IOException e) {
+				System.out.println("스냅샷 읽기 실패 : " + e.getMessage());
+			}
+		}
+		if (!loaded) {
+			books.insert(new BookDTO(1, "소년이 온다", "한강", 13500));
+			books.insert(new BookDTO(2, "트렌드 코리아 2025", "김난도", 18000));
+			books.insert(new BookDTO(3, "일의 감각", "조수용", 19000));
+			books.insert(new BookDTO(4, "넥서스", "유발 하리라", 25050));
+		}
+		if (!membersLoaded) {
+			// 회원이 없으면 view.Main 에서 아무도 책을 빌릴 수 없다
+			addMember("TEST1", "테스트1");
+			addMember("TEST2", "테스트2");
+		}
+	}
+
+	@Override
+	public List<BookDTO> bookPage(int afterBookNum, int pageSize) {
+		List<BookDTO> page = new ArrayList<>();
+		for (BookDTO dto : books.range(afterBookNum, pageSize)) {
+			page.add(copy(dto));
+		}
+		return page;
+	}
+
+	@Override
+	public BookDTO findBook(int book_num) {
+		BookDTO dto = books.get(book_num);
+		return dto == null ? null : copy(dto);
+	}
+
+	// 책을 먼저 빼고(delete 는 한 스레드만 성공) 회원 정보를 바꾼다
+	// 그 사이 회원이 없어졌으면 책을 다시 넣고 null
+	@Override
+	public BookDTO borrowBook(String id, int book_num) {
+		if (members.get(id) == null) {
+			return null;
+		}
+		BookDTO dto = books.delete(book_num);
+		if (dto == null) {
+			return null;
+		}
+		MemberBookDTO updated = members.update(id, m -> new MemberBookDTO(id, m.getName(), dto.getBook_name()));
+		if (updated == null) {
+			books.insert(dto);
+			return null;
+		}
+		return copy(dto);
+	}
+
+	@Override
+	public void returnBook(BookDTO dto) {
+		if (!books.insert(copy(dto))) {
+			System.out.println("이미 있는 책 번호입니다 : " + dto.getBook_num());
+		}
+	}
+
+	@Override
+	public MemberBookDTO memberBookInfo(String id) {
+		return members.get(id);
+	}
+
+	// 회원 추가 (이미 있으면 false)
+	public boolean addMember(String id, String name) {
+		return members.insert(new MemberBookDTO(id, name, "-"));
+	}
+
+	// 책 삭제 (지운 책 반환, 없으면 null)
+	public BookDTO deleteBook(int book_num) {
+		return books.delete(book_num);
+	}
+
+	public int bookCount() {
+		return books.size();
+	}
+
+	public void snapshot() throws IOException {
+		if (snapshotDir != null) {
+			books.save(snapshotDir.resolve("book.snap"), BOOK_CODEC);
+			members.save(snapshotDir.resolve("member.snap"), MEMBER_CODEC);
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			snapshot();
+		} catch (IOException e) {
+			System.out.println("스냅샷 저장 실패 : " + e.getMessage());
+		}
+	}
+
+	// BookDTO 는 setter 가 있으므로 저장소 안의 객체를 밖에 그대로 주지 않는다
+	private static BookDTO copy(BookDTO dto) {
+		return new BookDTO(dto.getBook_num(), dto.getBook_name(), dto.getBook_writer(), dto.getBook_price());
+	}
+
+}
@@ -2,8 +2,8 @@ package view;
 
 import java.util.Scanner;
 
-import model.BookDAO;
 import model.BookDTO;
+import model.BookRepository;
 
 public class Main {
 
@@ -13,7 +13,8 @@ public class Main {
 		
 		Scanner sc = new Scanner(System.in);
 //		BookCon mc = new BookCon();
-		BookDAO dao = new BookDAO();
+		// 오라클(캐시 사용) 또는 -Ddb.engine=memory 이면 메모리 저장소
+		BookRepository dao = BookRepository.open();
 		
 		while(true) {
 			System.out.print("[1]책 목록보기 [2]책 빌리기 [3]종료 >> ");
@@ -0,0 +1,168 @@
+package auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.SQLException;
+
+import db.LatencyHistogram;
+import db.LruCache;
+
+// 로그인 처리 (DAO 의 login 이 이 클래스를 부른다)
+// 1) 세션 캐시 : 최근에 성공한 (아이디, 비밀번호) 는 DB 도 해시 계산도 없이 바로 통과
+//    캐시에는 비밀번호가 아니라 프로세스마다 다른 키를 섞은 SHA-256 값만 둔다
+// 2) 비밀번호 캐시 : 아이디로 PW 컬럼 하나만 읽고, 없는 아이디는 null 로 캐시한다 (없는 아이디로 DB 를 계속 두드리지 않도록)
+// 3) 저장된 해시와 PasswordHasher.verify 로 비교, 예전 평문이면 성공 시 해시로 바꿔 저장
+// 없는 아이디는 해시 계산 없이 바로 실패하므로 응답 시간으로 아이디 존재 여부를 짐작할 수 있다
+// (로그인 폭주 때 DB/CPU 를 아끼는 쪽을 택함)
+// 탈퇴 / 비밀번호 변경 뒤에는 invalidate(id), 회원가입 뒤에는 invalidateCredential(id) 를 불러야 한다
+public class AuthService {
+
+	private static final byte[] PEPPER = new byte[32];
+
+	static {
+		new SecureRandom().nextBytes(PEPPER);
+	}
+
+	private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	private final CredentialStore store;
+	private final LruCache<String, byte[]> sessions;
+	private final LruCache<String, String> credentials;
+
+	private final LatencyHistogram all = new LatencyHistogram();
+	private final LatencyHistogram sessionHit = new LatencyHistogram();
+	private final LatencyHistogram verified = new LatencyHistogram();
+	private final LatencyHistogram rejected = new LatencyHistogram();
+	private final LatencyHistogram unknown = new LatencyHistogram();
+
+	// 세션 10000개 5분, 비밀번호(없는 아이디 포함) 10000개 30초
+	public AuthService(CredentialStore store) {
+		this(store, 10000, 5 * 60 * 1000, 10000, 30 * 1000);
+	}
+
+	public AuthService(CredentialStore store, int sessionMax, long sessionTtlMillis, int credentialMax,
+			long credentialTtlMillis) {
+		this.store = store;
+		this.sessions = new LruCache<>(sessionMax, sessionTtlMillis);
+		this.credentials = new LruCache<>(credentialMax, credentialTtlMillis);
+	}
+
+	public boolean login(String id, String pw) {
+		if (id == null || pw == null) {
+			return false;
+		}
+		long start = System.nanoTime();
+		byte[] token = token(id, pw);
+		byte[] cached = sessions.peek(id);
+		if (cached != null && MessageDigest.isEqual(cached, token)) {
+			record(sessionHit, start);
+			return true;
+		}
+
+		long gen = sessions.generation();
+		String stored;
+		try {
+			stored = credentials.get(id, this::load);
+		} catch (IllegalStateException e) {
+			e.printStackTrace();
+			record(rejected, start);
+			return false;
+		}
+		if (stored == null) {
+			record(unknown, start);
+			return false;
+		}
+		if (!PasswordHasher.verify(pw, stored)) {
+			record(rejected, start);
+			return false;
+		}
+
+		if (PasswordHasher.needsRehash(stored)) {
+			try {
+				store.updateCredential(id, PasswordHasher.hash(pw));
+				credentials.invalidate(id);
+			} catch (SQLException e) {
+				// 바꿔 저장하지 못해도 로그인은 성공 (다음 로그인 때 다시 시도)
+				e.printStackTrace();
+			}
+		}
+		// 검증하는 동안 invalidate 가 있었으면 세션을 남기지 않는다
+		sessions.put(id, token, gen);
+		record(verified, start);
+		return true;
+	}
+
+	// 탈퇴 / 비밀번호 변경 뒤에 호출
+	public void invalidate(String id) {
+		sessions.invalidate(id);
+		credentials.invalidate(id);
+	}
+
+	// 회원가입 뒤에 호출 : "없는 아이디" 캐시만 지운다
+	// (세션 캐시는 건드리지 않아서 다른 회원의 세션 저장을 막지 않는다)
+	public void invalidateCredential(String id) {
+		credentials.invalidate(id);
+	}
+
+	public void invalidateAll() {
+		sessions.invalidateAll();
+		credentials.invalidateAll();
+	}
+
+	public LatencyHistogram getLatency() {
+		return all;
+	}
+
+	public void resetStats() {
+		all.reset();
+		sessionHit.reset();
+		verified.reset();
+		rejected.reset();
+		unknown.reset();
+	}
+
+	public String getStats() {
+		long n = all.getCount();
+		return "login      : " + all + "\n"
+				+ "  세션 캐시 : " + sessionHit + "\n"
+				+ "  해시 검증 : " + verified + "\n"
+				+ "  비번 틀림 : " + rejected + "\n"
+				+ "  없는 ID   : " + unknown + "\n"
+				+ String.format("세션 캐시   : size=%d hitRate=%.1f%%\n", sessions.size(),
+						n == 0 ? 0 : sessionHit.getCount() * 100.0 / n)
+				+ "PW 캐시     : " + credentials.getStats();
+	}
+
+	private String load(String id) {
+		try {
+			return store.findCredential(id);
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void record(LatencyHistogram h, long start) {
+		long elapsed = System.nanoTime() - start;
+		h.record(elapsed);
+		all.record(elapsed);
+	}
+
+	private static byte[] token(String id, String pw) {
+		MessageDigest md = SHA256.get();
+		md.reset();
+		md.update(PEPPER);
+		md.update(id.getBytes(StandardCharsets.UTF_8));
+		md.update((byte) 0);
+		md.update(pw.getBytes(StandardCharsets.UTF_8));
+		return md.digest();
+	}
+
+}
@@ -0,0 +1,14 @@
+package auth;
+
+import java.sql.SQLException;
+
+// AuthService 가 비밀번호를 읽고 쓰는 곳 (MEMBER.PW, PLAYER.PW, 메모리 테이블 ...)
+public interface CredentialStore {
+
+	// 아이디의 저장된 비밀번호 (해시 또는 예전 평문), 없는 아이디면 null
+	String findCredential(String id) throws SQLException;
+
+	// 평문 -> 해시 변환처럼 저장된 값을 바꿀 때
+	void updateCredential(String id, String credential) throws SQLException;
+
+}
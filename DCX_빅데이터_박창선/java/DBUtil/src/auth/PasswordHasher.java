@@ -0,0 +1,93 @@
+package auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+// 비밀번호 해시 (PBKDF2-HMAC-SHA256 + 회원마다 다른 salt)
+// 저장 형식 : "반복횟수:salt:hash" (Base64, 패딩 없음)
+//   salt 12바이트(16자) + hash 18바이트(24자) 라서 100000회 기준 48자 -> PW VARCHAR(50) 에 들어간다
+// 형식에 맞지 않는 값은 예전 평문 비밀번호로 보고 비교한다 (로그인 성공 시 AuthService 가 해시로 바꿔 저장)
+// 반복횟수 : -Dauth.iterations (기본 100000)
+public final class PasswordHasher {
+
+	public static final int ITERATIONS = Integer.getInteger("auth.iterations", 100000);
+
+	private static final int SALT_BYTES = 12;
+	private static final int HASH_BYTES = 18;
+	private static final SecureRandom RANDOM = new SecureRandom();
+	private static final Base64.Encoder ENC = Base64.getEncoder().withoutPadding();
+	private static final Base64.Decoder DEC = Base64.getDecoder();
+
+	private PasswordHasher() {
+	}
+
+	public static String hash(String pw) {
+		return hash(pw, ITERATIONS);
+	}
+
+	public static String hash(String pw, int iterations) {
+		byte[] salt = new byte[SALT_BYTES];
+		RANDOM.nextBytes(salt);
+		return iterations + ":" + ENC.encodeToString(salt) + ":" + ENC.encodeToString(pbkdf2(pw, salt, iterations));
+	}
+
+	// stored 가 해시면 같은 salt 로 다시 계산해서, 평문이면 그대로 비교 (둘 다 비교 시간은 일정)
+	public static boolean verify(String pw, String stored) {
+		if (pw == null || stored == null) {
+			return false;
+		}
+		String[] part = parse(stored);
+		if (part == null) {
+			return MessageDigest.isEqual(pw.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+		}
+		byte[] salt = DEC.decode(part[1]);
+		byte[] expected = DEC.decode(part[2]);
+		return MessageDigest.isEqual(expected, pbkdf2(pw, salt, Integer.parseInt(part[0])));
+	}
+
+	public static boolean isHashed(String stored) {
+		return stored != null && parse(stored) != null;
+	}
+
+	// 평문이거나 지금 설정보다 반복횟수가 적으면 다시 해시해서 저장할 대상
+	public static boolean needsRehash(String stored) {
+		String[] part = stored == null ? null : parse(stored);
+		return part == null || Integer.parseInt(part[0]) < ITERATIONS;
+	}
+
+	// 해시 형식이면 [반복횟수, salt, hash], 아니면 null
+	private static String[] parse(String stored) {
+		String[] part = stored.split(":", -1);
+		if (part.length != 3 || part[1].length() != 16 || part[2].length() != 24) {
+			return null;
+		}
+		if (part[0].isEmpty() || part[0].length() > 9 || !part[0].chars().allMatch(Character::isDigit)) {
+			return null;
+		}
+		try {
+			DEC.decode(part[1]);
+			DEC.decode(part[2]);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+		return part;
+	}
+
+	private static byte[] pbkdf2(String pw, byte[] salt, int iterations) {
+		PBEKeySpec spec = new PBEKeySpec(pw.toCharArray(), salt, iterations, HASH_BYTES * 8);
+		try {
+			return SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).getEncoded();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		} finally {
+			spec.clearPassword();
+		}
+	}
+
+}
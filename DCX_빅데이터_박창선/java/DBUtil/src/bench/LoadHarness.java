@@ -0,0 +1,139 @@
+package bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import db.LatencyHistogram;
+
+// 멀티스레드 부하 테스트
+// add()로 등록한 작업들을 가중치 비율대로 N개 스레드에서 돌리고
+// 작업별 처리량(ops/sec)과 p50/p99 지연시간을 출력한다
+public class LoadHarness {
+
+	public interface Op {
+		// threadNo : 0 ~ threads-1, seq : 스레드 안에서의 실행 순번
+		void run(int threadNo, long seq) throws Exception;
+	}
+
+	private final int threads;
+	private final int warmupSeconds;
+	private final int seconds;
+	private final List<Task> tasks = new ArrayList<>();
+	private int totalWeight = 0;
+	private boolean quiet = true;
+
+	public LoadHarness(int threads, int warmupSeconds, int seconds) {
+		this.threads = threads;
+		this.warmupSeconds = warmupSeconds;
+		this.seconds = seconds;
+	}
+
+	public LoadHarness add(String name, int weight, Op op) {
+		tasks.add(new Task(name, weight, op));
+		totalWeight += weight;
+		return this;
+	}
+
+	// true(기본) 이면 실행 중 DAO가 찍는 System.out 출력을 버린다
+	public LoadHarness quiet(boolean quiet) {
+		this.quiet = quiet;
+		return this;
+	}
+
+	public void run() throws InterruptedException {
+		PrintStream out = System.out;
+		if (quiet) {
+			System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+		}
+
+		long start = System.nanoTime();
+		long measureStart = start + warmupSeconds * 1_000_000_000L;
+		long end = measureStart + seconds * 1_000_000_000L;
+		CountDownLatch done = new CountDownLatch(threads);
+
+		try {
+			for (int t = 0; t < threads; t++) {
+				int threadNo = t;
+				Thread worker = new Thread(() -> {
+					try {
+						long seq = 0;
+						while (true) {
+							long now = System.nanoTime();
+							if (now - end >= 0) {
+								break;
+							}
+							Task task = pick();
+							boolean measured = now - measureStart >= 0;
+							try {
+								task.op.run(threadNo, seq++);
+								if (measured) {
+									task.latency.record(System.nanoTime() - now);
+								}
+							} catch (Exception e) {
+								if (measured) {
+									task.errors.increment();
+								}
+							}
+						}
+					} finally {
+						done.countDown();
+					}
+				}, "load-" + t);
+				worker.start();
+			}
+			done.await();
+		} finally {
+			System.setOut(out);
+		}
+
+		report(out);
+	}
+
+	private Task pick() {
+		if (tasks.size() == 1) {
+			return tasks.get(0);
+		}
+		int r = ThreadLocalRandom.current().nextInt(totalWeight);
+		for (Task task : tasks) {
+			r -= task.weight;
+			if (r < 0) {
+				return task;
+			}
+		}
+		return tasks.get(tasks.size() - 1);
+	}
+
+	private void report(PrintStream out) {
+		out.printf("threads=%d, 측정 %d초%n", threads, seconds);
+		out.printf("%-14s %12s %10s %10s %10s %8s%n", "op", "ops/sec", "p50(us)", "p99(us)", "max(us)", "errors");
+		long total = 0;
+		for (Task task : tasks) {
+			LatencyHistogram h = task.latency;
+			total += h.getCount();
+			out.printf("%-14s %,12.0f %10.1f %10.1f %10.1f %8d%n", task.name, h.getCount() / (double) seconds,
+					h.getPercentile(50) / 1000.0, h.getPercentile(99) / 1000.0, h.getMax() / 1000.0,
+					task.errors.sum());
+		}
+		out.printf("%-14s %,12.0f%n", "total", total / (double) seconds);
+	}
+
+	private static class Task {
+		final String name;
+		final int weight;
+		final Op op;
+		final LatencyHistogram latency = new LatencyHistogram();
+		final LongAdder errors = new LongAdder();
+
+		Task(String name, int weight, Op op) {
+			this.name = name;
+			this.weight = weight;
+			this.op = op;
+		}
+	}
+
+}
@@ -0,0 +1,86 @@
+package bench;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+import db.ConnectionPool;
+
+// 매 호출마다 접속하는 기존 방식 vs 커넥션 풀 처리량 비교
+// 실행 : java bench.PoolBench [스레드수] [측정초] [접속µs] [쿼리µs]
+public class PoolBench {
+
+	interface Source {
+		Connection get() throws SQLException;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+		int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+		long connectMicros = args.length > 2 ? Long.parseLong(args[2]) : 2000;
+		long queryMicros = args.length > 3 ? Long.parseLong(args[3]) : 100;
+
+		System.out.printf("threads=%d, %d초, 접속 %dus, 쿼리 %dus%n", threads, seconds, connectMicros, queryMicros);
+
+		StubConnectionFactory direct = new StubConnectionFactory(connectMicros, queryMicros);
+		double perCall = run("connect-per-call", direct::create, threads, seconds);
+
+		StubConnectionFactory pooledFactory = new StubConnectionFactory(connectMicros, queryMicros);
+		ConnectionPool pool = new ConnectionPool(pooledFactory, threads);
+		double pooled = run("pooled", pool::getConnection, threads, seconds);
+		System.out.println("  pool : " + pool.getStats() + ", 물리 커넥션 " + pooledFactory.getOpened() + "개");
+		pool.shutdown();
+
+		System.out.printf("풀 사용 시 %.1f배%n", pooled / perCall);
+	}
+
+	// DAO 메소드 하나(접속 -> SELECT 1건 -> 종료)를 반복 실행하고 ops/sec 반환
+	static double run(String name, Source source, int threads, int seconds) throws InterruptedException {
+		LongAdder ops = new LongAdder();
+		CountDownLatch done = new CountDownLatch(threads);
+		long warmupEnd = System.nanoTime() + 1_000_000_000L;
+		long end = warmupEnd + seconds * 1_000_000_000L;
+
+		for (int i = 0; i < threads; i++) {
+			new Thread(() -> {
+				try {
+					while (true) {
+						long now = System.nanoTime();
+						if (now - end >= 0) {
+							break;
+						}
+						daoCall(source);
+						if (now - warmupEnd >= 0) {
+							ops.increment();
+						}
+					}
+				} catch (SQLException e) {
+					e.printStackTrace();
+				} finally {
+					done.countDown();
+				}
+			}).start();
+		}
+		done.await();
+
+		double perSec = ops.sum() / (double) seconds;
+		System.out.printf("%-18s %,12.0f ops/sec%n", name, perSec);
+		return perSec;
+	}
+
+	static void daoCall(Source source) throws SQLException {
+		try (Connection conn = source.get();
+				PreparedStatement psmt = conn.prepareStatement("SELECT * FROM BOOK WHERE BOOK_NUM=?")) {
+			psmt.setInt(1, 1);
+			try (ResultSet rs = psmt.executeQuery()) {
+				while (rs.next()) {
+					rs.getString(2);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+package bench;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import db.ConnectionPool;
+import db.QueryMetrics;
+
+// QueryMetrics 를 붙였을 때 DAO 호출 한 번에 더해지는 시간 측정
+// 지연이 0 인 가짜 DB 로 DAO 한 번과 같은 일(커넥션 빌림 -> prepare -> 실행 -> next -> close)을 반복하고
+// 지표 끔 / 켬 을 번갈아 여러 번 재서 가장 빠른 값끼리 비교한다
+// 끝나면 지표를 텍스트, JSON 으로 출력하고 dump() 파일도 써 본다
+// 실행 : java bench.QueryMetricsBench [반복수]
+public class QueryMetricsBench {
+
+	private static final String SELECT_SQL = "SELECT ID, PW, NAME, AGE FROM MEMBER WHERE ID=?";
+	private static final String UPDATE_SQL = "UPDATE MEMBER SET NAME = ?, AGE = ? WHERE ID = ?";
+
+	public static void main(String[] args) throws Exception {
+		int calls = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+		ConnectionPool pool = new ConnectionPool(new StubConnectionFactory(0, 0), 1, 0);
+		QueryMetrics metrics = new QueryMetrics();
+
+		double bestOff = Double.MAX_VALUE;
+		double bestOn = Double.MAX_VALUE;
+		for (int round = 0; round < 5; round++) {
+			pool.setMetrics(null);
+			bestOff = Math.min(bestOff, run(pool, calls));
+			pool.setMetrics(metrics);
+			bestOn = Math.min(bestOn, run(pool, calls));
+		}
+		System.out.printf("호출 %,d번 (select 1 + update 1 = 2번씩)%n", calls);
+		System.out.printf("지표 끔  %,8.0f ns/호출%n", bestOff);
+		System.out.printf("지표 켬  %,8.0f ns/호출%n", bestOn);
+		System.out.printf("추가 시간 %,7.0f ns/호출%n", bestOn - bestOff);
+		System.out.println();
+		System.out.print(metrics.toText());
+		System.out.println(metrics.toJson());
+
+		Path file = Files.createTempFile("db-metrics", ".json");
+		metrics.dump(file);
+		System.out.printf("dump : %s (%,d bytes)%n", file, Files.size(file));
+		Files.delete(file);
+		pool.shutdown();
+	}
+
+	// DAO 호출 한 번 평균 시간(ns)
+	private static double run(ConnectionPool pool, int calls) throws SQLException {
+		long start = System.nanoTime();
+		for (int i = 0; i < calls; i++) {
+			try (Connection conn = pool.getConnection(); PreparedStatement psmt = conn.prepareStatement(SELECT_SQL)) {
+				psmt.setString(1, "user");
+				try (ResultSet rs = psmt.executeQuery()) {
+					while (rs.next()) {
+					}
+				}
+			}
+			try (Connection conn = pool.getConnection(); PreparedStatement psmt = conn.prepareStatement(UPDATE_SQL)) {
+				psmt.setString(1, "name");
+				psmt.setInt(2, 20);
+				psmt.setString(3, "user");
+				psmt.executeUpdate();
+			}
+		}
+		return (System.nanoTime() - start) / (calls * 2.0);
+	}
+
+}
@@ -0,0 +1,178 @@
+package bench;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import db.ConnectionFactory;
+import db.ConnectionPool;
+import db.DBManager;
+
+// 오라클 대신 쓰는 가짜 JDBC 커넥션
+// 접속(TCP + 인증), prepare(SQL 파싱), 쿼리 1회에 드는 시간을 parkNanos 로 흉내낸다
+// executeQuery 는 빈 ResultSet, executeUpdate 는 1을 돌려준다
+// executeBatch 는 한 번의 왕복으로 치고 addBatch 한 행마다 1, commit/rollback 도 왕복 한 번
+public class StubConnectionFactory implements ConnectionFactory {
+
+	private final long connectNanos;
+	private final long queryNanos;
+	private final long prepareNanos;
+	private final AtomicInteger opened = new AtomicInteger();
+	private final LongAdder prepared = new LongAdder();
+	private final LongAdder roundTrips = new LongAdder();
+
+	public StubConnectionFactory(long connectMicros, long queryMicros) {
+		this(connectMicros, queryMicros, 0);
+	}
+
+	public StubConnectionFactory(long connectMicros, long queryMicros, long prepareMicros) {
+		this.connectNanos = TimeUnit.MICROSECONDS.toNanos(connectMicros);
+		this.queryNanos = TimeUnit.MICROSECONDS.toNanos(queryMicros);
+		this.prepareNanos = TimeUnit.MICROSECONDS.toNanos(prepareMicros);
+	}
+
+	@Override
+	public Connection create() throws SQLException {
+		pause(connectNanos);
+		opened.incrementAndGet();
+		boolean[] closed = { false };
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "prepareStatement":
+						pause(prepareNanos);
+						prepared.increment();
+						return statement();
+					case "commit":
+					case "rollback":
+						pause(queryNanos);
+						roundTrips.increment();
+						return null;
+					case "close":
+						closed[0] = true;
+						return null;
+					case "isClosed":
+						return closed[0];
+					case "isValid":
+						return !closed[0];
+					case "getAutoCommit":
+						return true;
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == args[0];
+					case "toString":
+						return "StubConnection";
+					default:
+						return null;
+					}
+				});
+	}
+
+	// -Dbench.stub=true 로 실행하면 DBManager 의 풀을 가짜 DB 풀로 바꾼다
+	// (-Dbench.stub.connect=접속µs, -Dbench.stub.query=쿼리µs, -Dbench.stub.prepare=prepareµs)
+	// 바꿨으면 가짜 DB 를, 아니면 null 을 돌려준다
+	public static StubConnectionFactory installIfRequested() {
+		if (Boolean.getBoolean("bench.stub")) {
+			StubConnectionFactory factory = new StubConnectionFactory(Long.getLong("bench.stub.connect", 2000),
+					Long.getLong("bench.stub.query", 100), Long.getLong("bench.stub.prepare", 50));
+			ConnectionPool pool = new ConnectionPool(factory, DBManager.POOL_MAX);
+			pool.setStatementCacheSize(DBManager.STATEMENT_CACHE);
+			DBManager.instrument(pool);
+			DBManager.setPool(pool);
+			System.out.println("가짜 DB(stub) 사용");
+			return factory;
+		}
+		return null;
+	}
+
+	// 지금까지 만든 물리 커넥션 수
+	public int getOpened() {
+		return opened.get();
+	}
+
+	// 지금까지 DB 로 보낸 prepare 수
+	public long getPrepared() {
+		return prepared.sum();
+	}
+
+	// 지금까지 DB 와 주고받은 왕복 수 (쿼리, 배치, 커밋)
+	public long getRoundTrips() {
+		return roundTrips.sum();
+	}
+
+	private PreparedStatement statement() {
+		int[] batched = { 0 };
+		return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+				new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "executeQuery":
+						pause(queryNanos);
+						roundTrips.increment();
+						return emptyResultSet();
+					case "executeUpdate":
+						pause(queryNanos);
+						roundTrips.increment();
+						return 1;
+					case "addBatch":
+						batched[0]++;
+						return null;
+					case "clearBatch":
+						batched[0] = 0;
+						return null;
+					case "executeBatch":
+						pause(queryNanos);
+						roundTrips.increment();
+						int[] counts = new int[batched[0]];
+						Arrays.fill(counts, 1);
+						batched[0] = 0;
+						return counts;
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == args[0];
+					default:
+						return method.getReturnType() == boolean.class ? false
+								: method.getReturnType() == int.class ? 0 : null;
+					}
+				});
+	}
+
+	// 행이 없는 ResultSet
+	// findColumn 은 처음 본 이름부터 1, 2, 3 ... 을 준다 (RowMapper.bind 가 쓴다)
+	private ResultSet emptyResultSet() {
+		Map<String, Integer> columns = new HashMap<>();
+		return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+				new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "next":
+						return false;
+					case "findColumn":
+						return columns.computeIfAbsent(((String) args[0]).toUpperCase(), k -> columns.size() + 1);
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == args[0];
+					default:
+						return method.getReturnType() == boolean.class ? false
+								: method.getReturnType() == int.class ? 0 : null;
+					}
+				});
+	}
+
+	private static void pause(long nanos) {
+		if (nanos > 0) {
+			LockSupport.parkNanos(nanos);
+		}
+	}
+
+}
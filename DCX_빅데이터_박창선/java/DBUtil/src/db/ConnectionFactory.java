@@ -0,0 +1,12 @@
+package db;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// 실제 물리 커넥션을 만드는 방법
+// 기본은 DriverManager, 벤치마크에서는 가짜(stub) 커넥션으로 바꿔 끼운다
+public interface ConnectionFactory {
+
+	Connection create() throws SQLException;
+
+}
@@ -0,0 +1,378 @@
+package db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 커넥션 풀
+// - 최대 maxSize개까지만 물리 커넥션을 만든다 (Semaphore로 제한)
+// - 빈 커넥션이 없으면 maxWaitMillis 동안 기다리고, 넘으면 SQLException
+// - 오래 놀고 있던 커넥션은 빌려주기 전에 isValid()로 검사
+// - idleTimeoutMillis 넘게 놀고 있는 커넥션은 백그라운드에서 정리(minIdle개는 남김)
+// getConnection()이 돌려주는 커넥션의 close()는 실제로 닫지 않고 풀에 반납한다
+// 커넥션마다 PreparedStatement 캐시(StatementCache)가 붙어 있어서
+// prepareStatement(sql) 은 같은 SQL 이면 파싱된 것을 다시 쓴다 (statementCacheSize 개까지, 0 이면 끔)
+// setMetrics() 로 QueryMetrics 를 붙이면 커넥션 얻기와 SQL 문장별 prepare / execute / fetch 시간을 기록한다
+public class ConnectionPool {
+
+	private final ConnectionFactory factory;
+	private final int maxSize;
+	private final Semaphore permits;
+
+	// 반납된 커넥션 (가장 최근에 쓴 것부터 다시 빌려준다)
+	private final ArrayDeque<Entry> idle = new ArrayDeque<>();
+
+	private volatile long maxWaitMillis = 3000;
+	private volatile long idleTimeoutMillis = 60000;
+	private volatile long validateAfterIdleMillis = 500;
+	private volatile int validationTimeoutSeconds = 2;
+	private volatile int minIdle = 0;
+	private volatile int statementCacheSize = 32;
+	private volatile QueryMetrics metrics;
+
+	private final AtomicInteger active = new AtomicInteger();
+	private final LongAdder borrowCount = new LongAdder();
+	private final LongAdder timeoutCount = new LongAdder();
+	private final LongAdder createdCount = new LongAdder();
+	private final LongAdder destroyedCount = new LongAdder();
+	private final LongAdder totalWaitNanos = new LongAdder();
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+	private final LongAdder statementHits = new LongAdder();
+	private final LongAdder statementMisses = new LongAdder();
+	private final LongAdder statementEvictions = new LongAdder();
+
+	private final ScheduledExecutorService evictor;
+	private volatile boolean closed = false;
+
+	public ConnectionPool(ConnectionFactory factory, int maxSize) {
+		this(factory, maxSize, 30000);
+	}
+
+	// evictIntervalMillis : 유휴 커넥션 정리 주기 (0 이하이면 정리 안함)
+	public ConnectionPool(ConnectionFactory factory, int maxSize, long evictIntervalMillis) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다 : " + maxSize);
+		}
+		this.factory = factory;
+		this.maxSize = maxSize;
+		this.permits = new Semaphore(maxSize, true);
+
+		if (evictIntervalMillis > 0) {
+			evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread t = new Thread(r, "pool-evictor");
+				t.setDaemon(true);
+				return t;
+			});
+			evictor.scheduleWithFixedDelay(this::evictIdle, evictIntervalMillis, evictIntervalMillis,
+					TimeUnit.MILLISECONDS);
+		} else {
+			evictor = null;
+		}
+	}
+
+	public Connection getConnection() throws SQLException {
+		if (closed) {
+			throw new SQLException("이미 종료된 커넥션 풀입니다.");
+		}
+
+		long start = System.nanoTime();
+		QueryMetrics m = metrics;
+		try {
+			Connection conn = acquire(start);
+			if (m != null) {
+				m.connectionAcquired(System.nanoTime() - start);
+			}
+			return conn;
+		} catch (SQLException | RuntimeException e) {
+			if (m != null) {
+				m.connectionFailed(System.nanoTime() - start);
+			}
+			throw e;
+		}
+	}
+
+	private Connection acquire(long start) throws SQLException {
+		boolean acquired;
+		try {
+			acquired = permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("커넥션 대기 중 인터럽트", e);
+		}
+		long waited = System.nanoTime() - start;
+		totalWaitNanos.add(waited);
+		maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+		if (!acquired) {
+			timeoutCount.increment();
+			throw new SQLException("커넥션 대기시간 초과 (" + maxWaitMillis + "ms)");
+		}
+
+		try {
+			Entry entry = takeValidIdle();
+			if (entry == null) {
+				entry = new Entry(factory.create());
+				createdCount.increment();
+			}
+			active.incrementAndGet();
+			borrowCount.increment();
+			return entry.lease();
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	// 놀고 있는 커넥션 중 쓸 수 있는 것 하나 꺼내기 (없으면 null)
+	private Entry takeValidIdle() {
+		while (true) {
+			Entry entry;
+			synchronized (idle) {
+				entry = idle.pollFirst();
+			}
+			if (entry == null) {
+				return null;
+			}
+			if (System.nanoTime() - entry.lastUsed < TimeUnit.MILLISECONDS.toNanos(validateAfterIdleMillis)
+					|| isValid(entry)) {
+				return entry;
+			}
+			destroy(entry);
+		}
+	}
+
+	private boolean isValid(Entry entry) {
+		try {
+			return entry.physical.isValid(validationTimeoutSeconds);
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	// 프록시 close() 에서 호출
+	private void release(Entry entry) {
+		active.decrementAndGet();
+		boolean reusable = !closed;
+		entry.statements.releaseAll();
+		try {
+			if (reusable && entry.physical.isClosed()) {
+				reusable = false;
+			}
+			// 트랜잭션을 열어둔 채 반납하면 되돌리고 auto-commit 으로 복구
+			if (reusable && !entry.physical.getAutoCommit()) {
+				entry.physical.rollback();
+				entry.physical.setAutoCommit(true);
+			}
+		} catch (SQLException e) {
+			reusable = false;
+		}
+
+		if (reusable) {
+			entry.lastUsed = System.nanoTime();
+			synchronized (idle) {
+				idle.offerFirst(entry);
+			}
+		} else {
+			destroy(entry);
+		}
+		permits.release();
+	}
+
+	// idleTimeout 넘게 놀고 있는 커넥션 정리
+	void evictIdle() {
+		long limit = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+		List<Entry> expired = new ArrayList<>();
+		synchronized (idle) {
+			// 뒤쪽이 가장 오래 놀고 있는 커넥션
+			Iterator<Entry> it = idle.descendingIterator();
+			while (it.hasNext() && idle.size() > minIdle) {
+				Entry entry = it.next();
+				if (entry.lastUsed - limit > 0) {
+					break;
+				}
+				it.remove();
+				expired.add(entry);
+			}
+		}
+		for (Entry entry : expired) {
+			destroy(entry);
+		}
+	}
+
+	private void destroy(Entry entry) {
+		destroyedCount.increment();
+		entry.statements.closeAll();
+		try {
+			entry.physical.close();
+		} catch (SQLException e) {
+			// 이미 끊어진 커넥션 (지표에만 남긴다)
+			closeFailed();
+		}
+	}
+
+	// 풀 종료 : 놀고 있는 커넥션은 바로 닫고, 빌려간 커넥션은 반납될 때 닫힌다
+	public void shutdown() {
+		closed = true;
+		if (evictor != null) {
+			evictor.shutdownNow();
+		}
+		List<Entry> all;
+		synchronized (idle) {
+			all = new ArrayList<>(idle);
+			idle.clear();
+		}
+		for (Entry entry : all) {
+			destroy(entry);
+		}
+	}
+
+	public PoolStats getStats() {
+		int idleSize;
+		synchronized (idle) {
+			idleSize = idle.size();
+		}
+		return new PoolStats(active.get(), idleSize, borrowCount.sum(), timeoutCount.sum(), createdCount.sum(),
+				destroyedCount.sum(), totalWaitNanos.sum(), maxWaitNanos.get(), statementHits.sum(),
+				statementMisses.sum(), statementEvictions.sum());
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public void setMaxWaitMillis(long maxWaitMillis) {
+		this.maxWaitMillis = maxWaitMillis;
+	}
+
+	public void setIdleTimeoutMillis(long idleTimeoutMillis) {
+		this.idleTimeoutMillis = idleTimeoutMillis;
+	}
+
+	// 마지막 사용 후 이 시간 안에 다시 빌려가면 isValid() 검사를 건너뛴다
+	public void setValidateAfterIdleMillis(long validateAfterIdleMillis) {
+		this.validateAfterIdleMillis = validateAfterIdleMillis;
+	}
+
+	public void setValidationTimeoutSeconds(int validationTimeoutSeconds) {
+		this.validationTimeoutSeconds = validationTimeoutSeconds;
+	}
+
+	public void setMinIdle(int minIdle) {
+		this.minIdle = minIdle;
+	}
+
+	public int getStatementCacheSize() {
+		return statementCacheSize;
+	}
+
+	// 커넥션 하나가 캐시해 둘 PreparedStatement 수 (0 이면 캐시 안 함)
+	// 오라클은 커넥션당 열린 커서 수 제한(OPEN_CURSORS, 기본 300)이 있으므로 그보다 충분히 작게
+	public void setStatementCacheSize(int statementCacheSize) {
+		this.statementCacheSize = Math.max(0, statementCacheSize);
+	}
+
+	public QueryMetrics getMetrics() {
+		return metrics;
+	}
+
+	// null 이면 기록 안 함
+	public void setMetrics(QueryMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	void closeFailed() {
+		QueryMetrics m = metrics;
+		if (m != null) {
+			m.closeFailed();
+		}
+	}
+
+	void statementHit() {
+		statementHits.increment();
+	}
+
+	void statementMiss() {
+		statementMisses.increment();
+	}
+
+	void statementEvicted() {
+		statementEvictions.increment();
+	}
+
+	// 물리 커넥션 하나
+	private class Entry {
+		final Connection physical;
+		final StatementCache statements;
+		volatile long lastUsed = System.nanoTime();
+
+		Entry(Connection physical) {
+			this.physical = physical;
+			this.statements = new StatementCache(physical, ConnectionPool.this);
+		}
+
+		Connection lease() {
+			return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+					new Class<?>[] { Connection.class }, new Lease(this));
+		}
+	}
+
+	// 빌려준 커넥션 : close() 는 반납, 반납 후에는 사용 불가
+	private class Lease implements InvocationHandler {
+		private final Entry entry;
+		private final AtomicBoolean returned = new AtomicBoolean(false);
+
+		Lease(Entry entry) {
+			this.entry = entry;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (name.equals("close")) {
+				if (returned.compareAndSet(false, true)) {
+					release(entry);
+				}
+				return null;
+			}
+			if (name.equals("isClosed")) {
+				return returned.get() || entry.physical.isClosed();
+			}
+			if (name.equals("equals")) {
+				return proxy == args[0];
+			}
+			if (name.equals("hashCode")) {
+				return System.identityHashCode(proxy);
+			}
+			if (name.equals("toString")) {
+				return "Pooled" + entry.physical;
+			}
+			if (returned.get()) {
+				throw new SQLException("이미 반납된 커넥션입니다.");
+			}
+			if (name.equals("prepareStatement") && args.length == 1) {
+				return entry.statements.prepare((String) args[0], (Connection) proxy);
+			}
+			try {
+				return method.invoke(entry.physical, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+}
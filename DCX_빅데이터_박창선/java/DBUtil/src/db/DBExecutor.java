@@ -0,0 +1,170 @@
+package db;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// DB 작업을 비동기로 돌리는 실행기 (Async*Repository 가 사용)
+// - submit() 은 바로 CompletableFuture 를 돌려주고, 작업은 대기열에 들어간다
+// - 동시에 실행되는 작업은 maxConcurrency 개까지 (Semaphore, 보통 커넥션 풀 크기)
+//   허가를 못 받은 작업은 스레드를 잡지 않고 대기열에서 기다리므로 수천 개를 걸어 둬도 스레드는 늘지 않는다
+// - 대기열이 maxPending 을 넘으면 RejectedExecutionException 으로 실패한 future 를 돌려준다
+// - 자바 21 이상이면 작업마다 가상 스레드, 17 에서는 데몬 스레드 풀(최대 maxConcurrency 개 사용)
+public class DBExecutor {
+
+	private static volatile DBExecutor shared;
+
+	private final int maxConcurrency;
+	private final int maxPending;
+	private final Semaphore permits;
+	private final ConcurrentLinkedQueue<Runnable> pending = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	private final ExecutorService workers;
+	private final boolean virtual;
+
+	private final LongAdder submitted = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	public DBExecutor(int maxConcurrency) {
+		this(maxConcurrency, 100000);
+	}
+
+	public DBExecutor(int maxConcurrency, int maxPending) {
+		if (maxConcurrency <= 0 || maxPending <= 0) {
+			throw new IllegalArgumentException("maxConcurrency, maxPending는 1 이상이어야 합니다");
+		}
+		this.maxConcurrency = maxConcurrency;
+		this.maxPending = maxPending;
+		this.permits = new Semaphore(maxConcurrency);
+		ExecutorService vt = virtualThreadExecutor();
+		this.virtual = vt != null;
+		this.workers = vt != null ? vt : Executors.newCachedThreadPool(r -> {
+			Thread t = new Thread(r, "db-async");
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	// 커넥션 풀 크기만큼 동시에 실행하는 공용 실행기
+	public static DBExecutor shared() {
+		DBExecutor e = shared;
+		if (e == null) {
+			synchronized (DBExecutor.class) {
+				e = shared;
+				if (e == null) {
+					e = new DBExecutor(DBManager.POOL_MAX);
+					shared = e;
+				}
+			}
+		}
+		return e;
+	}
+
+	public <T> CompletableFuture<T> submit(Callable<T> task) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		if (pendingCount.incrementAndGet() > maxPending) {
+			pendingCount.decrementAndGet();
+			rejected.increment();
+			future.completeExceptionally(
+					new RejectedExecutionException("DB 작업 대기열이 가득 찼습니다 (" + maxPending + ")"));
+			return future;
+		}
+		submitted.increment();
+		maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+		pending.add(() -> {
+			// 기다리는 동안 cancel() 된 작업은 건너뛴다
+			if (future.isDone()) {
+				inFlight.decrementAndGet();
+				return;
+			}
+			T result;
+			try {
+				result = task.call();
+			} catch (Throwable t) {
+				inFlight.decrementAndGet();
+				future.completeExceptionally(t);
+				return;
+			}
+			// future 를 기다리던 쪽이 깨어났을 때 getInFlight() 에 이미 빠져 있도록 먼저 줄인다
+			inFlight.decrementAndGet();
+			future.complete(result);
+		});
+		drain();
+		return future;
+	}
+
+	// 허가가 남아 있는 동안 대기열의 작업을 꺼내 실행
+	// 작업이 끝나면 허가를 돌려주고 다시 drain() 하므로 기다리는 스레드가 없다
+	private void drain() {
+		while (!pending.isEmpty() && permits.tryAcquire()) {
+			Runnable job = pending.poll();
+			if (job == null) {
+				permits.release();
+				continue;
+			}
+			pendingCount.decrementAndGet();
+			try {
+				workers.execute(() -> {
+					try {
+						job.run();
+					} finally {
+						permits.release();
+						drain();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				// shutdown() 이후
+				permits.release();
+				job.run();
+			}
+		}
+	}
+
+	// 새 작업은 받지 않고, 이미 받은 작업은 끝까지 실행
+	public void shutdown() {
+		workers.shutdown();
+	}
+
+	public int getMaxConcurrency() {
+		return maxConcurrency;
+	}
+
+	// 지금 대기 중 + 실행 중인 작업 수
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	public int getMaxInFlight() {
+		return maxInFlight.get();
+	}
+
+	public boolean isVirtual() {
+		return virtual;
+	}
+
+	public String getStats() {
+		return String.format("%s, 동시실행 %d, 대기+실행 %d (최대 %d), 제출 %d, 거절 %d",
+				virtual ? "virtual threads" : "platform threads", maxConcurrency, getInFlight(), getMaxInFlight(),
+				submitted.sum(), rejected.sum());
+	}
+
+	// 자바 21 의 Executors.newVirtualThreadPerTaskExecutor() (없으면 null)
+	private static ExecutorService virtualThreadExecutor() {
+		try {
+			Method m = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) m.invoke(null);
+		} catch (ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+}
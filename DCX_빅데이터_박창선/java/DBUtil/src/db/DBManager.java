@@ -0,0 +1,118 @@
+package db;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+// 모든 DAO가 같이 쓰는 커넥션 풀
+// 접속 정보는 시스템 프로퍼티로 바꿀 수 있다
+//   -Ddb.url=... -Ddb.user=... -Ddb.password=... -Ddb.pool.max=10 -Ddb.pool.maxWait=3000
+//   -Ddb.pool.statements=32 (커넥션당 PreparedStatement 캐시 크기, 0 이면 끔)
+//   -Ddb.batch=500 (일괄 수정/삭제를 몇 행씩 묶어 한 트랜잭션으로 보낼지)
+// SQL 지표(QueryMetrics)는 기본으로 켜져 있다 (-Ddb.metrics=false 면 끔)
+//   -Ddb.metrics.dump=파일 -Ddb.metrics.interval=60 : 주기적으로, 그리고 끝날 때 파일에 쓴다 (.json 이면 JSON)
+// 오라클 없이 돌릴 때는 -Ddb.engine=memory (메모리 테이블)
+//   -Ddb.snapshot=폴더 를 주면 시작할 때 스냅샷을 읽고 끝날 때 저장한다
+public class DBManager {
+
+	public static final String URL = System.getProperty("db.url", "jdbc:oracle:thin:@localhost:1521:xe");
+	public static final String USER = System.getProperty("db.user", "hr");
+	public static final String PASSWORD = System.getProperty("db.password", "12345");
+	public static final int POOL_MAX = Integer.getInteger("db.pool.max", 10);
+	public static final int STATEMENT_CACHE = Integer.getInteger("db.pool.statements", 32);
+	public static final int BATCH_SIZE = Integer.getInteger("db.batch", 500);
+	public static final String ENGINE = System.getProperty("db.engine", "jdbc");
+	public static final String SNAPSHOT_DIR = System.getProperty("db.snapshot");
+	public static final boolean METRICS_ENABLED = !"false".equalsIgnoreCase(System.getProperty("db.metrics"));
+	public static final String METRICS_DUMP = System.getProperty("db.metrics.dump");
+
+	private static final QueryMetrics METRICS = new QueryMetrics();
+	private static boolean dumpStarted = false;
+
+	private static volatile ConnectionPool pool;
+
+	private DBManager() {
+	}
+
+	public static boolean isMemoryEngine() {
+		return "memory".equalsIgnoreCase(ENGINE);
+	}
+
+	// 메모리 테이블 스냅샷 폴더 (설정 안 했으면 null)
+	public static Path getSnapshotDir() {
+		return SNAPSHOT_DIR == null ? null : Paths.get(SNAPSHOT_DIR);
+	}
+
+	// 프로그램이 끝날 때 close() (메모리 저장소 스냅샷 저장용)
+	public static void closeOnExit(AutoCloseable resource) {
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			try {
+				resource.close();
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}, "db-close"));
+	}
+
+	// 모든 DAO 가 같이 쓰는 SQL 지표 (METRICS_ENABLED 가 false 면 비어 있다)
+	public static QueryMetrics getMetrics() {
+		return METRICS;
+	}
+
+	// 풀에 공용 지표를 붙이고, db.metrics.dump 가 있으면 파일 저장을 시작한다 (한 번만)
+	public static synchronized void instrument(ConnectionPool p) {
+		if (!METRICS_ENABLED) {
+			return;
+		}
+		p.setMetrics(METRICS);
+		if (METRICS_DUMP != null && !dumpStarted) {
+			dumpStarted = true;
+			Path file = Paths.get(METRICS_DUMP);
+			METRICS.startDump(file, Long.getLong("db.metrics.interval", 60));
+			closeOnExit(() -> METRICS.dump(file));
+		}
+	}
+
+	public static Connection getConnection() throws SQLException {
+		return getPool().getConnection();
+	}
+
+	public static ConnectionPool getPool() {
+		ConnectionPool p = pool;
+		if (p == null) {
+			synchronized (DBManager.class) {
+				p = pool;
+				if (p == null) {
+					p = createDefaultPool();
+					pool = p;
+				}
+			}
+		}
+		return p;
+	}
+
+	// 벤치마크 등에서 다른 풀(가짜 DB 등)로 바꿔 끼울 때 사용
+	public static synchronized void setPool(ConnectionPool newPool) {
+		ConnectionPool old = pool;
+		pool = newPool;
+		if (old != null && old != newPool) {
+			old.shutdown();
+		}
+	}
+
+	private static ConnectionPool createDefaultPool() {
+		try {
+			Class.forName("oracle.jdbc.OracleDriver");
+		} catch (ClassNotFoundException e) {
+			System.out.println("클래스 못찾음..");
+		}
+		ConnectionPool p = new ConnectionPool(() -> DriverManager.getConnection(URL, USER, PASSWORD), POOL_MAX);
+		p.setMaxWaitMillis(Long.getLong("db.pool.maxWait", 3000));
+		p.setStatementCacheSize(STATEMENT_CACHE);
+		instrument(p);
+		return p;
+	}
+
+}
@@ -0,0 +1,179 @@
+package db;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 크기 제한(LRU) + 유효시간(TTL) 캐시
+// - maxSize 를 넘으면 가장 오래 안 쓴 항목부터 버린다
+// - ttlMillis 가 지난 항목은 없는 것으로 보고 다시 읽는다
+// - get(key, loader) : 없으면 loader 로 읽어서 넣는다 (read-through)
+//   loader 가 null 을 돌려주면 "없음" 도 캐시한다 (없는 키로 DB 를 계속 두드리지 않도록)
+// - 읽는 도중 invalidate 가 들어오면 읽어온 값은 캐시에 넣지 않는다 (오래된 값 방지)
+// 히트/미스/제거 횟수는 getStats() 로 확인
+public class LruCache<K, V> {
+
+	private static final Object NULL = new Object();
+
+	private final int maxSize;
+	private final long ttlNanos;
+	private final LinkedHashMap<K, Item> map;
+
+	// invalidate 할 때마다 증가
+	private long generation = 0;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
+
+	public LruCache(int maxSize, long ttlMillis) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다 : " + maxSize);
+		}
+		this.maxSize = maxSize;
+		this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+		this.map = new LinkedHashMap<K, Item>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Item> eldest) {
+				if (size() > LruCache.this.maxSize) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		long gen;
+		synchronized (this) {
+			Item item = map.get(key);
+			if (item != null) {
+				if (System.nanoTime() - item.expireAt < 0) {
+					hits.increment();
+					return unwrap(item.value);
+				}
+				map.remove(key);
+				expirations.increment();
+			}
+			gen = generation;
+		}
+
+		misses.increment();
+		V value = loader.apply(key);
+
+		synchronized (this) {
+			if (gen == generation) {
+				map.put(key, new Item(value == null ? NULL : value, System.nanoTime() + ttlNanos));
+			}
+		}
+		return value;
+	}
+
+	// 캐시에 있으면 값, 없으면 null (loader 호출 없음, 통계에 안 셈)
+	public synchronized V peek(K key) {
+		Item item = map.get(key);
+		if (item == null || System.nanoTime() - item.expireAt >= 0) {
+			return null;
+		}
+		return unwrap(item.value);
+	}
+
+	// loader 없이 직접 넣을 때 쓰는 세대 번호
+	// 값을 만들기 전에 generation() 을 받아 두고 put(key, value, gen) 으로 넣는다
+	public synchronized long generation() {
+		return generation;
+	}
+
+	// gen 이후 invalidate 가 없었을 때만 넣는다 (넣었으면 true)
+	public synchronized boolean put(K key, V value, long gen) {
+		if (gen != generation) {
+			return false;
+		}
+		map.put(key, new Item(value == null ? NULL : value, System.nanoTime() + ttlNanos));
+		return true;
+	}
+
+	public synchronized void invalidate(K key) {
+		generation++;
+		invalidations.increment();
+		map.remove(key);
+	}
+
+	public synchronized void invalidateAll() {
+		generation++;
+		invalidations.increment();
+		map.clear();
+	}
+
+	// 만료된 항목 정리 (get 할 때도 지워지므로 꼭 부를 필요는 없다)
+	public synchronized void cleanUp() {
+		long now = System.nanoTime();
+		Iterator<Item> it = map.values().iterator();
+		while (it.hasNext()) {
+			if (now - it.next().expireAt >= 0) {
+				it.remove();
+				expirations.increment();
+			}
+		}
+	}
+
+	public synchronized int size() {
+		return map.size();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	public long getExpirations() {
+		return expirations.sum();
+	}
+
+	public long getInvalidations() {
+		return invalidations.sum();
+	}
+
+	public double getHitRate() {
+		long h = hits.sum();
+		long total = h + misses.sum();
+		return total == 0 ? 0 : h / (double) total;
+	}
+
+	public String getStats() {
+		return String.format("size=%d/%d hit=%d miss=%d hitRate=%.1f%% evict=%d expire=%d invalidate=%d", size(),
+				maxSize, getHits(), getMisses(), getHitRate() * 100, getEvictions(), getExpirations(),
+				getInvalidations());
+	}
+
+	@SuppressWarnings("unchecked")
+	private V unwrap(Object value) {
+		return value == NULL ? null : (V) value;
+	}
+
+	private static class Item {
+		final Object value;
+		final long expireAt;
+
+		Item(Object value, long expireAt) {
+			this.value = value;
+			this.expireAt = expireAt;
+		}
+	}
+
+}
@@ -0,0 +1,163 @@
+package db;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+// 메모리 테이블 (오라클 없이 DAO 를 돌리기 위한 저장소)
+// - PK 해시 인덱스 (ConcurrentHashMap) : get 은 O(1)
+// - PK 정렬 인덱스 (ConcurrentSkipListMap) : range 는 O(log n + limit)
+// 읽기는 락 없이, 쓰기는 테이블 단위로 하나씩 처리해서 두 인덱스를 맞춘다
+// save / load 로 파일 스냅샷을 남기고 다시 읽을 수 있다
+public class MemTable<K extends Comparable<K>, V> {
+
+	private static final int MAGIC = 0x4D454D54; // "MEMT"
+
+	private final Function<V, K> keyOf;
+	private final ConcurrentHashMap<K, V> hash = new ConcurrentHashMap<>();
+	private final ConcurrentSkipListMap<K, V> sorted = new ConcurrentSkipListMap<>();
+
+	// keyOf : 행에서 PK 를 꺼내는 함수
+	public MemTable(Function<V, K> keyOf) {
+		this.keyOf = keyOf;
+	}
+
+	public V get(K key) {
+		return hash.get(key);
+	}
+
+	// INSERT : PK 가 이미 있으면 false
+	public synchronized boolean insert(V row) {
+		K key = keyOf.apply(row);
+		if (hash.putIfAbsent(key, row) != null) {
+			return false;
+		}
+		sorted.put(key, row);
+		return true;
+	}
+
+	// 있으면 바꾸고 없으면 넣기, 이전 행 반환
+	public synchronized V upsert(V row) {
+		K key = keyOf.apply(row);
+		sorted.put(key, row);
+		return hash.put(key, row);
+	}
+
+	// UPDATE : fn 이 새 행을 돌려주면 바꾸고, null 이면 그대로 둔다
+	// 바뀐 새 행을 반환 (행이 없거나 안 바꿨으면 null)
+	public synchronized V update(K key, UnaryOperator<V> fn) {
+		V old = hash.get(key);
+		if (old == null) {
+			return null;
+		}
+		V row = fn.apply(old);
+		if (row == null) {
+			return null;
+		}
+		if (!key.equals(keyOf.apply(row))) {
+			throw new IllegalArgumentException("PK 는 바꿀 수 없습니다 : " + key);
+		}
+		hash.put(key, row);
+		sorted.put(key, row);
+		return row;
+	}
+
+	// DELETE : 지운 행 반환 (없으면 null)
+	public synchronized V delete(K key) {
+		V old = hash.remove(key);
+		if (old != null) {
+			sorted.remove(key);
+		}
+		return old;
+	}
+
+	// 조건부 DELETE : cond 가 true 일 때만 지운다 (지운 행 반환, 안 지웠으면 null)
+	public synchronized V delete(K key, Predicate<V> cond) {
+		V old = hash.get(key);
+		if (old == null || !cond.test(old)) {
+			return null;
+		}
+		return delete(key);
+	}
+
+	// after 보다 큰 PK 를 순서대로 최대 limit 개 (after 가 null 이면 처음부터)
+	public List<V> range(K after, int limit) {
+		NavigableMap<K, V> tail = after == null ? sorted : sorted.tailMap(after, false);
+		List<V> rows = new ArrayList<>(Math.min(limit, 1024));
+		for (V row : tail.values()) {
+			if (rows.size() >= limit) {
+				break;
+			}
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	// PK 순서로 전체 행 (읽기 전용, 복사하지 않음)
+	public Collection<V> values() {
+		return Collections.unmodifiableCollection(sorted.values());
+	}
+
+	public int size() {
+		return hash.size();
+	}
+
+	public synchronized void clear() {
+		hash.clear();
+		sorted.clear();
+	}
+
+	// 임시 파일에 다 쓴 뒤 한 번에 바꿔치기 하므로 쓰다가 죽어도 이전 스냅샷은 남는다
+	public synchronized void save(Path file, RowCodec<V> codec) throws IOException {
+		Path dir = file.toAbsolutePath().getParent();
+		if (dir != null) {
+			Files.createDirectories(dir);
+		}
+		Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(sorted.size());
+			for (V row : sorted.values()) {
+				codec.write(out, row);
+			}
+		}
+		Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	// 스냅샷을 읽어 지금 내용을 바꾼다 (파일이 없으면 false)
+	public synchronized boolean load(Path file, RowCodec<V> codec) throws IOException {
+		if (!Files.exists(file)) {
+			return false;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("스냅샷 파일이 아닙니다 : " + file);
+			}
+			int n = in.readInt();
+			clear();
+			for (int i = 0; i < n; i++) {
+				V row = codec.read(in);
+				K key = keyOf.apply(row);
+				hash.put(key, row);
+				sorted.put(key, row);
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,98 @@
+package db;
+
+// 커넥션 풀 지표 스냅샷
+public class PoolStats {
+
+	private int active;
+	private int idle;
+	private long borrowCount;
+	private long timeoutCount;
+	private long createdCount;
+	private long destroyedCount;
+	private long totalWaitNanos;
+	private long maxWaitNanos;
+	private long statementHits;
+	private long statementMisses;
+	private long statementEvictions;
+
+	public PoolStats(int active, int idle, long borrowCount, long timeoutCount, long createdCount,
+			long destroyedCount, long totalWaitNanos, long maxWaitNanos, long statementHits, long statementMisses,
+			long statementEvictions) {
+		super();
+		this.active = active;
+		this.idle = idle;
+		this.borrowCount = borrowCount;
+		this.timeoutCount = timeoutCount;
+		this.createdCount = createdCount;
+		this.destroyedCount = destroyedCount;
+		this.totalWaitNanos = totalWaitNanos;
+		this.maxWaitNanos = maxWaitNanos;
+		this.statementHits = statementHits;
+		this.statementMisses = statementMisses;
+		this.statementEvictions = statementEvictions;
+	}
+
+	public int getActive() {
+		return active;
+	}
+
+	public int getIdle() {
+		return idle;
+	}
+
+	public long getBorrowCount() {
+		return borrowCount;
+	}
+
+	public long getTimeoutCount() {
+		return timeoutCount;
+	}
+
+	public long getCreatedCount() {
+		return createdCount;
+	}
+
+	public long getDestroyedCount() {
+		return destroyedCount;
+	}
+
+	public long getTotalWaitNanos() {
+		return totalWaitNanos;
+	}
+
+	public long getMaxWaitNanos() {
+		return maxWaitNanos;
+	}
+
+	public long getStatementHits() {
+		return statementHits;
+	}
+
+	// prepare 를 실제로 DB 에 보낸 횟수
+	public long getStatementMisses() {
+		return statementMisses;
+	}
+
+	public long getStatementEvictions() {
+		return statementEvictions;
+	}
+
+	public double getStatementHitRate() {
+		long total = statementHits + statementMisses;
+		return total == 0 ? 0 : statementHits / (double) total;
+	}
+
+	// 대여 1회당 평균 대기시간(µs)
+	public double getAvgWaitMicros() {
+		return borrowCount == 0 ? 0 : totalWaitNanos / 1000.0 / borrowCount;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("active=%d idle=%d borrow=%d timeout=%d created=%d destroyed=%d avgWait=%.1fus maxWait=%.1fus"
+				+ " stmtHit=%d stmtMiss=%d stmtHitRate=%.1f%% stmtEvict=%d", active, idle, borrowCount, timeoutCount,
+				createdCount, destroyedCount, getAvgWaitMicros(), maxWaitNanos / 1000.0, statementHits,
+				statementMisses, getStatementHitRate() * 100, statementEvictions);
+	}
+
+}
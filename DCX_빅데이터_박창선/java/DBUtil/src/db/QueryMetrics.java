@@ -0,0 +1,219 @@
+package db;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// JDBC 호출 지표 모음
+// ConnectionPool.setMetrics() 로 붙이면 풀을 거치는 모든 DAO 호출이 기록된다 (DBManager 의 기본 풀은 켜져 있음)
+// - 커넥션 얻기 : 풀 대기 + 검사 + 새로 접속까지 걸린 시간, 실패 수
+// - SQL 문장별 : prepare / execute / fetch 지연시간, 실행 수, 행 수, 오류 수 (SqlStats)
+// - close 실패 수 : 풀이 PreparedStatement / 커넥션을 닫다가 난 오류 (예전에는 빈 catch 로 버려지던 것)
+// 기록은 LatencyHistogram / LongAdder 에 더하기만 하므로 락이 없고 호출당 수십 ns 이다
+// toText() / toJson() 으로 꺼내 보고, startDump() 로 주기적으로 파일에 쓴다
+public class QueryMetrics {
+
+	// 값을 SQL 에 이어 붙여 만든 문장은 끝없이 늘어나므로 문장 수를 제한하고 넘치면 한 곳에 모은다
+	private static final int MAX_STATEMENTS = 1000;
+	private static final String OTHER = "(기타 SQL)";
+
+	private final ConcurrentHashMap<String, SqlStats> statements = new ConcurrentHashMap<>();
+	private final LatencyHistogram acquire = new LatencyHistogram();
+	private final LongAdder acquireErrors = new LongAdder();
+	private final LongAdder closeErrors = new LongAdder();
+	private volatile long since = System.currentTimeMillis();
+
+	private ScheduledExecutorService dumper;
+
+	// SQL 문장의 지표 (처음 보면 만든다)
+	public SqlStats statement(String sql) {
+		SqlStats stats = statements.get(sql);
+		if (stats != null) {
+			return stats;
+		}
+		if (statements.size() >= MAX_STATEMENTS) {
+			sql = OTHER;
+		}
+		return statements.computeIfAbsent(sql, SqlStats::new);
+	}
+
+	void connectionAcquired(long nanos) {
+		acquire.record(nanos);
+	}
+
+	void connectionFailed(long nanos) {
+		acquire.record(nanos);
+		acquireErrors.increment();
+	}
+
+	void closeFailed() {
+		closeErrors.increment();
+	}
+
+	public LatencyHistogram getAcquire() {
+		return acquire;
+	}
+
+	public long getAcquireErrors() {
+		return acquireErrors.sum();
+	}
+
+	public long getCloseErrors() {
+		return closeErrors.sum();
+	}
+
+	// 전체 시간이 큰 문장부터
+	public List<SqlStats> getStatements() {
+		List<SqlStats> list = new ArrayList<>(statements.values());
+		list.sort((a, b) -> Long.compare(b.getTotalNanos(), a.getTotalNanos()));
+		return list;
+	}
+
+	// 지표를 0 으로 (문장 목록은 남긴다)
+	public void reset() {
+		for (SqlStats stats : statements.values()) {
+			stats.reset();
+		}
+		acquire.reset();
+		acquireErrors.reset();
+		closeErrors.reset();
+		since = System.currentTimeMillis();
+	}
+
+	public String toText() {
+		long now = System.currentTimeMillis();
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("[db metrics] %s (%.1f초 동안)%n", format(now), (now - since) / 1000.0));
+		sb.append(String.format("connection  %s  errors=%d  closeErrors=%d%n", acquire, getAcquireErrors(),
+				getCloseErrors()));
+		for (SqlStats s : getStatements()) {
+			sb.append(String.format("%,10d exec %,12d rows %5d err  execute p50=%.1fus p99=%.1fus"
+					+ "  fetch p50=%.1fus p99=%.1fus  prepare %d/%d  %s%n", s.getExecutions(), s.getRows(),
+					s.getErrors(), s.getExecute().getPercentile(50) / 1000.0,
+					s.getExecute().getPercentile(99) / 1000.0, s.getFetch().getPercentile(50) / 1000.0,
+					s.getFetch().getPercentile(99) / 1000.0, s.getPrepare().getCount(),
+					s.getPrepare().getCount() + s.getPrepareHits(), oneLine(s.getSql())));
+		}
+		return sb.toString();
+	}
+
+	public String toJson() {
+		long now = System.currentTimeMillis();
+		StringBuilder sb = new StringBuilder();
+		sb.append("{\"time\":");
+		json(sb, format(now));
+		sb.append(",\"seconds\":").append((now - since) / 1000.0);
+		sb.append(",\"acquire\":");
+		json(sb, acquire);
+		sb.append(",\"acquireErrors\":").append(getAcquireErrors());
+		sb.append(",\"closeErrors\":").append(getCloseErrors());
+		sb.append(",\"statements\":[");
+		boolean first = true;
+		for (SqlStats s : getStatements()) {
+			if (!first) {
+				sb.append(',');
+			}
+			first = false;
+			sb.append("{\"sql\":");
+			json(sb, s.getSql());
+			sb.append(",\"executions\":").append(s.getExecutions());
+			sb.append(",\"rows\":").append(s.getRows());
+			sb.append(",\"errors\":").append(s.getErrors());
+			sb.append(",\"prepareHits\":").append(s.getPrepareHits());
+			sb.append(",\"prepare\":");
+			json(sb, s.getPrepare());
+			sb.append(",\"execute\":");
+			json(sb, s.getExecute());
+			sb.append(",\"fetch\":");
+			json(sb, s.getFetch());
+			sb.append('}');
+		}
+		return sb.append("]}").toString();
+	}
+
+	// 파일에 쓰기 (이름이 .json 으로 끝나면 JSON, 아니면 텍스트)
+	// 임시 파일에 쓰고 바꿔 치우므로 읽는 쪽이 반쯤 쓴 파일을 보지 않는다
+	public void dump(Path file) throws IOException {
+		String text = file.getFileName().toString().endsWith(".json") ? toJson() : toText();
+		Path dir = file.toAbsolutePath().getParent();
+		Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+		try {
+			Files.write(tmp, text.getBytes(StandardCharsets.UTF_8));
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	// periodSeconds 마다 dump(file) (이미 돌고 있으면 바꾼다)
+	public synchronized void startDump(Path file, long periodSeconds) {
+		stopDump();
+		dumper = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "db-metrics");
+			t.setDaemon(true);
+			return t;
+		});
+		dumper.scheduleWithFixedDelay(() -> {
+			try {
+				dump(file);
+			} catch (IOException e) {
+				System.out.println("지표 저장 실패 : " + e.getMessage());
+			}
+		}, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+	}
+
+	public synchronized void stopDump() {
+		if (dumper != null) {
+			dumper.shutdownNow();
+			dumper = null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return toText();
+	}
+
+	private static String format(long millis) {
+		return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(millis));
+	}
+
+	// 여러 줄로 쓴 SQL 은 한 줄로
+	private static String oneLine(String sql) {
+		return sql.replaceAll("\\s+", " ").trim();
+	}
+
+	private static void json(StringBuilder sb, LatencyHistogram h) {
+		sb.append(String.format(Locale.ROOT, "{\"n\":%d,\"meanUs\":%.1f,\"p50Us\":%.1f,\"p99Us\":%.1f,\"maxUs\":%.1f}",
+				h.getCount(), h.getMean() / 1000.0, h.getPercentile(50) / 1000.0, h.getPercentile(99) / 1000.0,
+				h.getMax() / 1000.0));
+	}
+
+	private static void json(StringBuilder sb, String value) {
+		sb.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				sb.append('\\').append(c);
+			} else if (c < 0x20) {
+				sb.append(String.format("\\u%04x", (int) c));
+			} else {
+				sb.append(c);
+			}
+		}
+		sb.append('"');
+	}
+
+}
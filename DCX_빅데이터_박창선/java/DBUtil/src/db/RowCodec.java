@@ -0,0 +1,26 @@
+package db;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+// MemTable 스냅샷 파일에 행(DTO) 하나를 쓰고 읽는 방법
+public interface RowCodec<V> {
+
+	void write(DataOutputStream out, V row) throws IOException;
+
+	V read(DataInputStream in) throws IOException;
+
+	// null 을 허용하는 문자열 쓰기/읽기 (DTO 필드용)
+	static void writeString(DataOutputStream out, String s) throws IOException {
+		out.writeBoolean(s != null);
+		if (s != null) {
+			out.writeUTF(s);
+		}
+	}
+
+	static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+}
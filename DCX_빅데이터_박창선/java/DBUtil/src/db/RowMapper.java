@@ -0,0 +1,96 @@
+package db;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// ResultSet 한 행 -> DTO 변환기
+// 컬럼은 이름으로 적어 두고, 이름 -> 인덱스는 ResultSet 마다 한 번만 찾는다
+// (행마다 rs.getString("NAME") 처럼 이름으로 찾으면 드라이버가 행마다 컬럼 이름을 비교한다)
+// 숫자 컬럼은 getInt / getLong 으로 바로 읽어서 중간 String 을 만들지 않는다
+// 사용법 :
+//   static final RowMapper<BookDTO> BOOK = RowMapper.of(
+//           (rs, c) -> new BookDTO(rs.getInt(c[0]), rs.getString(c[1]), rs.getInt(c[2])),
+//           "BOOK_NUM", "BOOK_NAME", "BOOK_PRICE");
+//   String sql = "SELECT " + BOOK.columns() + " FROM BOOK";
+//   List<BookDTO> list = BOOK.list(rs);
+// 커서처럼 한 ResultSet 을 나눠 읽을 때는 bind(rs) 로 한 번 묶은 Bound 를 계속 쓴다
+// 상태가 없으므로 static final 로 두고 여러 스레드가 같이 써도 된다
+public final class RowMapper<T> {
+
+	// c[i] : i 번째 컬럼 이름의 인덱스
+	public interface Row<T> {
+		T map(ResultSet rs, int[] c) throws SQLException;
+	}
+
+	private final Row<T> row;
+	private final String[] names;
+	private final String columns;
+
+	private RowMapper(Row<T> row, String[] names) {
+		this.row = row;
+		this.names = names.clone();
+		this.columns = String.join(", ", names);
+	}
+
+	public static <T> RowMapper<T> of(Row<T> row, String... names) {
+		if (names.length == 0) {
+			throw new IllegalArgumentException("컬럼 이름이 없습니다");
+		}
+		return new RowMapper<>(row, names);
+	}
+
+	// SELECT 절에 넣을 컬럼 목록 ("A, B, C")
+	public String columns() {
+		return columns;
+	}
+
+	// 이 ResultSet 의 컬럼 인덱스를 찾아 묶는다 (없는 컬럼이면 SQLException)
+	public Bound<T> bind(ResultSet rs) throws SQLException {
+		int[] c = new int[names.length];
+		for (int i = 0; i < names.length; i++) {
+			c[i] = rs.findColumn(names[i]);
+		}
+		return new Bound<>(row, c);
+	}
+
+	// 첫 행 (없으면 null)
+	public T one(ResultSet rs) throws SQLException {
+		return rs.next() ? bind(rs).map(rs) : null;
+	}
+
+	public List<T> list(ResultSet rs) throws SQLException {
+		List<T> list = new ArrayList<>();
+		forEach(rs, list::add);
+		return list;
+	}
+
+	public void forEach(ResultSet rs, Consumer<? super T> action) throws SQLException {
+		Bound<T> bound = null;
+		while (rs.next()) {
+			if (bound == null) {
+				bound = bind(rs);
+			}
+			action.accept(bound.map(rs));
+		}
+	}
+
+	// 인덱스를 찾아 둔 변환기 (그 ResultSet 에만 쓴다)
+	public static final class Bound<T> {
+		private final Row<T> row;
+		private final int[] c;
+
+		Bound(Row<T> row, int[] c) {
+			this.row = row;
+			this.c = c;
+		}
+
+		// 지금 커서가 있는 행 -> DTO
+		public T map(ResultSet rs) throws SQLException {
+			return row.map(rs, c);
+		}
+	}
+
+}
@@ -0,0 +1,101 @@
+package db;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// SQL 문장 하나의 누적 지표 (QueryMetrics 가 문장마다 하나씩 만든다)
+// - prepare : 문장 캐시에 없어서 DB 에 파싱을 보낸 시간 (캐시에서 꺼낸 횟수는 prepareHits)
+// - execute : executeQuery / executeUpdate / executeBatch 한 번의 시간
+// - fetch   : 쿼리 한 번의 ResultSet.next() 에 쓴 시간 합 (fetchSize 만큼씩 DB 에서 받아 오는 시간 포함)
+// - rows    : 읽은 행 + 바뀐 행
+// - errors  : prepare / execute / next 에서 난 SQLException 수
+public class SqlStats {
+
+	private final String sql;
+	private final LatencyHistogram prepare = new LatencyHistogram();
+	private final LatencyHistogram execute = new LatencyHistogram();
+	private final LatencyHistogram fetch = new LatencyHistogram();
+	private final LongAdder prepareHits = new LongAdder();
+	private final LongAdder rows = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+
+	SqlStats(String sql) {
+		this.sql = sql;
+	}
+
+	void prepared(long nanos) {
+		prepare.record(nanos);
+	}
+
+	void prepareHit() {
+		prepareHits.increment();
+	}
+
+	void executed(long nanos, long count) {
+		execute.record(nanos);
+		if (count > 0) {
+			rows.add(count);
+		}
+	}
+
+	void fetched(long nanos, long count) {
+		fetch.record(nanos);
+		rows.add(count);
+	}
+
+	void failed() {
+		errors.increment();
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	public LatencyHistogram getPrepare() {
+		return prepare;
+	}
+
+	public LatencyHistogram getExecute() {
+		return execute;
+	}
+
+	public LatencyHistogram getFetch() {
+		return fetch;
+	}
+
+	public long getPrepareHits() {
+		return prepareHits.sum();
+	}
+
+	public long getExecutions() {
+		return execute.getCount();
+	}
+
+	public long getRows() {
+		return rows.sum();
+	}
+
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	// 이 문장에 쓴 전체 시간(ns) : 정렬용
+	public long getTotalNanos() {
+		return prepare.getTotal() + execute.getTotal() + fetch.getTotal();
+	}
+
+	void reset() {
+		prepare.reset();
+		execute.reset();
+		fetch.reset();
+		prepareHits.reset();
+		rows.reset();
+		errors.reset();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("exec %d, rows %d, err %d, execute[%s] fetch[%s] prepare[%s] hits=%d : %s",
+				getExecutions(), getRows(), getErrors(), execute, fetch, prepare, getPrepareHits(), sql);
+	}
+
+}
@@ -0,0 +1,331 @@
+package db;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+// 물리 커넥션 하나에 붙는 PreparedStatement 캐시 (SQL 문자열 -> PreparedStatement)
+// - 같은 SQL 을 다시 prepare 하면 DB 에 파싱을 다시 시키지 않고 캐시에 있던 것을 꺼내 준다
+// - 돌려준 PreparedStatement 의 close() 는 닫지 않고 파라미터를 지운 뒤 캐시에 되돌린다
+//   (setFetchSize / setMaxRows / setQueryTimeout 으로 바꾼 값도 처음 값으로 되돌린다)
+// - 크기는 pool.getStatementCacheSize() 개까지, 넘으면 가장 오래 안 쓴 것부터 진짜로 닫는다
+// - 풀에 QueryMetrics 가 붙어 있으면 SQL 문장별로 prepare / execute / fetch 시간과 행 수, 오류를 기록한다
+// 커넥션은 한 번에 한 스레드만 빌려 쓰므로 락이 없다
+class StatementCache {
+
+	private final Connection physical;
+	private final ConnectionPool pool;
+
+	// 쉬고 있는 PreparedStatement (access-order : 맨 앞이 가장 오래 안 쓴 것)
+	private final LinkedHashMap<String, PreparedStatement> idle = new LinkedHashMap<>(16, 0.75f, true);
+
+	// 빌려 주고 아직 close() 안 된 것 (커넥션 반납 때 대신 돌려받는다)
+	private final List<Cached> inUse = new ArrayList<>();
+
+	StatementCache(Connection physical, ConnectionPool pool) {
+		this.physical = physical;
+		this.pool = pool;
+	}
+
+	PreparedStatement prepare(String sql, Connection owner) throws SQLException {
+		QueryMetrics metrics = pool.getMetrics();
+		SqlStats stats = metrics == null ? null : metrics.statement(sql);
+		PreparedStatement ps = idle.remove(sql);
+		if (ps != null) {
+			pool.statementHit();
+			if (stats != null) {
+				stats.prepareHit();
+			}
+		} else {
+			pool.statementMiss();
+			long start = System.nanoTime();
+			try {
+				ps = physical.prepareStatement(sql);
+			} catch (SQLException e) {
+				if (stats != null) {
+					stats.failed();
+				}
+				throw e;
+			}
+			if (stats != null) {
+				stats.prepared(System.nanoTime() - start);
+			}
+		}
+		Cached cached = new Cached(sql, ps, owner, stats);
+		inUse.add(cached);
+		return cached.proxy;
+	}
+
+	// 커넥션 반납 때 : close() 를 빠뜨린 PreparedStatement 도 돌려받는다
+	void releaseAll() {
+		for (Cached cached : new ArrayList<>(inUse)) {
+			cached.close();
+		}
+	}
+
+	// 물리 커넥션을 닫기 전에
+	void closeAll() {
+		for (Cached cached : inUse) {
+			cached.closed = true;
+			closeQuietly(cached.ps);
+		}
+		inUse.clear();
+		for (PreparedStatement ps : idle.values()) {
+			closeQuietly(ps);
+		}
+		idle.clear();
+	}
+
+	private void giveBack(Cached cached) {
+		inUse.remove(cached);
+		int max = pool.getStatementCacheSize();
+		if (max <= 0 || !cached.reset()) {
+			closeQuietly(cached.ps);
+			return;
+		}
+		// 같은 SQL 을 동시에 두 개 열었던 경우 먼저 들어가 있던 것은 닫는다
+		PreparedStatement old = idle.put(cached.sql, cached.ps);
+		if (old != null && old != cached.ps) {
+			closeQuietly(old);
+		}
+		Iterator<PreparedStatement> it = idle.values().iterator();
+		while (idle.size() > max && it.hasNext()) {
+			closeQuietly(it.next());
+			it.remove();
+			pool.statementEvicted();
+		}
+	}
+
+	private void closeQuietly(PreparedStatement ps) {
+		try {
+			ps.close();
+		} catch (SQLException e) {
+			// 이미 끊어진 커넥션 (지표에만 남긴다)
+			pool.closeFailed();
+		}
+	}
+
+	// execute 결과의 행 수 (executeBatch 는 합, 드라이버가 SUCCESS_NO_INFO 를 주면 1행으로 센다)
+	private static long rowCount(Object result) {
+		if (result instanceof Integer) {
+			return Math.max(0, (Integer) result);
+		}
+		if (result instanceof Long) {
+			return Math.max(0, (Long) result);
+		}
+		long sum = 0;
+		if (result instanceof int[]) {
+			for (int n : (int[]) result) {
+				sum += n == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, n);
+			}
+		} else if (result instanceof long[]) {
+			for (long n : (long[]) result) {
+				sum += n == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, n);
+			}
+		}
+		return sum;
+	}
+
+	// 빌려준 PreparedStatement 하나
+	private class Cached implements InvocationHandler {
+		final String sql;
+		final PreparedStatement ps;
+		final Connection owner;
+		final SqlStats stats;
+		final PreparedStatement proxy;
+		boolean closed = false;
+
+		// 마지막 executeQuery 의 ResultSet (지표를 켰을 때만)
+		Fetch fetch;
+
+		// 바꾸기 전 값 (-1 이면 안 바꿈)
+		int fetchSize = -1;
+		int maxRows = -1;
+		int queryTimeout = -1;
+
+		Cached(String sql, PreparedStatement ps, Connection owner, SqlStats stats) {
+			this.sql = sql;
+			this.ps = ps;
+			this.owner = owner;
+			this.stats = stats;
+			this.proxy = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+					new Class<?>[] { PreparedStatement.class }, this);
+		}
+
+		void close() {
+			if (!closed) {
+				closed = true;
+				finishFetch();
+				giveBack(this);
+			}
+		}
+
+		// 다 읽지 않고 닫은 ResultSet 도 그때까지 읽은 만큼 기록
+		void finishFetch() {
+			if (fetch != null) {
+				fetch.finish();
+				fetch = null;
+			}
+		}
+
+		// execute* 시간을 재고, ResultSet 은 Fetch 로 감싸서 돌려준다
+		Object execute(Method method, Object[] args) throws Throwable {
+			finishFetch();
+			long start = System.nanoTime();
+			Object result;
+			try {
+				result = method.invoke(ps, args);
+			} catch (InvocationTargetException e) {
+				stats.failed();
+				throw e.getCause();
+			}
+			long nanos = System.nanoTime() - start;
+			if (result instanceof ResultSet) {
+				stats.executed(nanos, 0);
+				fetch = new Fetch((ResultSet) result, stats, proxy);
+				return fetch.proxy;
+			}
+			stats.executed(nanos, rowCount(result));
+			return result;
+		}
+
+		// 다음 사용자를 위해 상태를 처음으로 (실패하면 false -> 캐시에 넣지 않는다)
+		boolean reset() {
+			try {
+				ps.clearParameters();
+				ps.clearBatch();
+				if (fetchSize >= 0) {
+					ps.setFetchSize(fetchSize);
+				}
+				if (maxRows >= 0) {
+					ps.setMaxRows(maxRows);
+				}
+				if (queryTimeout >= 0) {
+					ps.setQueryTimeout(queryTimeout);
+				}
+				return true;
+			} catch (SQLException e) {
+				return false;
+			}
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+			case "close":
+				close();
+				return null;
+			case "isClosed":
+				return closed;
+			case "getConnection":
+				return owner;
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return "Cached" + ps;
+			default:
+				break;
+			}
+			if (closed) {
+				throw new SQLException("이미 닫힌 PreparedStatement 입니다.");
+			}
+			if (fetchSize < 0 && method.getName().equals("setFetchSize")) {
+				fetchSize = ps.getFetchSize();
+			} else if (maxRows < 0 && method.getName().equals("setMaxRows")) {
+				maxRows = ps.getMaxRows();
+			} else if (queryTimeout < 0 && method.getName().equals("setQueryTimeout")) {
+				queryTimeout = ps.getQueryTimeout();
+			}
+			if (stats != null && method.getName().startsWith("execute")) {
+				return execute(method, args);
+			}
+			try {
+				return method.invoke(ps, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+	// 지표를 켰을 때 executeQuery 가 돌려주는 ResultSet
+	// next() 에 쓴 시간과 읽은 행 수를 더해 두었다가, 끝까지 읽거나 close() 할 때 한 번 기록한다
+	private static class Fetch implements InvocationHandler {
+		final ResultSet rs;
+		final SqlStats stats;
+		final PreparedStatement statement;
+		final ResultSet proxy;
+		long nanos;
+		long rows;
+		boolean done;
+
+		Fetch(ResultSet rs, SqlStats stats, PreparedStatement statement) {
+			this.rs = rs;
+			this.stats = stats;
+			this.statement = statement;
+			this.proxy = (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+					new Class<?>[] { ResultSet.class }, this);
+		}
+
+		void finish() {
+			if (!done) {
+				done = true;
+				stats.fetched(nanos, rows);
+			}
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+			case "next":
+				long start = System.nanoTime();
+				boolean more;
+				try {
+					more = rs.next();
+				} catch (SQLException e) {
+					stats.failed();
+					finish();
+					throw e;
+				}
+				nanos += System.nanoTime() - start;
+				if (more) {
+					rows++;
+				} else {
+					finish();
+				}
+				return more;
+			case "close":
+				finish();
+				rs.close();
+				return null;
+			case "getStatement":
+				return statement;
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return "Tracked" + rs;
+			default:
+				break;
+			}
+			try {
+				return method.invoke(rs, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+
+}
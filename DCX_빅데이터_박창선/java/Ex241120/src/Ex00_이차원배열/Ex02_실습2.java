@@ -1,5 +1,7 @@
 package Ex00_이차원배열;
 
+import matrix.IntMatrix;
+
 public class Ex02_실습2 {
 
 	public static void main(String[] args) {
@@ -19,14 +21,8 @@ public class Ex02_실습2 {
 	      }
 
 		
-		 // 값을 출력하는 부분
-	      for (int j = 0; j < array.length; j++) {
-	         // 0행
-	         for (int i = 0; i < array[j].length; i++) {
-	            System.out.print(array[j][4-i] + "\t");
-	         }
-	         System.out.println();
-	      }
+		 // 값을 출력하는 부분 (좌우 뒤집기 : array[j][4-i])
+	      System.out.print(IntMatrix.of(array).mirror());
 
 	}
 
@@ -0,0 +1,205 @@
+package bench;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import matrix.DoubleMatrix;
+import matrix.IntMatrix;
+
+// 행렬 비교 (JMH 가 없어서 main 으로 잰다) : n x n, 가장 빠른 값 ms (처음 한 번은 버림)
+//   jagged : 실습 문제처럼 int[][] / double[][] 를 행, 열 순서로 그대로 도는 반복문
+//   flat   : matrix.IntMatrix / DoubleMatrix (배열 하나 + 조각 단위)
+//   par    : parallelMultiply (공용 풀)
+// transpose / mirror / rotate 는 int, 곱셈은 int 와 double
+//   곱셈 jagged 는 c[i][j] += a[i][k] * b[k][j] 의 i-j-k 순서 (b 를 열 방향으로 읽는다)
+// 곱셈은 n^3 이라 기본은 1024 까지 (4096 은 flat 만 해도 수 분)
+// 모든 결과가 jagged 결과와 같은지 확인한다
+// 실행 : java -Xmx1g bench.MatrixBench [최대 n] [곱셈 최대 n]   기본 4096 1024
+public class MatrixBench {
+
+	public static void main(String[] args) {
+		int max = args.length > 0 ? Integer.parseInt(args[0]) : 4096;
+		int mulMax = args.length > 1 ? Integer.parseInt(args[1]) : 1024;
+		System.out.printf("코어 %d, 공용 풀 스레드 %d%n", Runtime.getRuntime().availableProcessors(),
+				ForkJoinPool.commonPool().getParallelism());
+		System.out.printf("%-16s %6s %12s %12s %12s %8s%n", "", "n", "jagged ms", "flat ms", "par ms", "배");
+
+		for (int n = 64; n <= max; n *= 4) {
+			int runs = n >= 1024 ? 2 : 5;
+			int[][] a = ints(n, 1);
+			IntMatrix fa = IntMatrix.of(a);
+
+			int[][][] jr = new int[1][][];
+			IntMatrix[] fr = new IntMatrix[1];
+			String j = ms(runs, () -> jr[0] = jaggedTranspose(a));
+			String f = ms(runs, () -> fr[0] = fa.transpose());
+			print("transpose", n, j, f, null, jr[0], fr[0]);
+
+			j = ms(runs, () -> jr[0] = jaggedMirror(a));
+			f = ms(runs, () -> fr[0] = fa.mirror());
+			print("mirror", n, j, f, null, jr[0], fr[0]);
+
+			j = ms(runs, () -> jr[0] = jaggedRotate(a));
+			f = ms(runs, () -> fr[0] = fa.rotate(1));
+			print("rotate", n, j, f, null, jr[0], fr[0]);
+
+			if (n <= mulMax) {
+				int mulRuns = n >= 1024 ? 1 : 3;
+				int[][] b = ints(n, 2);
+				IntMatrix fb = IntMatrix.of(b);
+				IntMatrix[] pr = new IntMatrix[1];
+				j = ms(mulRuns, () -> jr[0] = jaggedMultiply(a, b));
+				f = ms(mulRuns, () -> fr[0] = fa.multiply(fb));
+				String p = ms(mulRuns, () -> pr[0] = fa.parallelMultiply(fb));
+				if (!pr[0].equals(fr[0])) {
+					throw new IllegalStateException("parallelMultiply 결과가 다릅니다");
+				}
+				print("multiply int", n, j, f, p, jr[0], fr[0]);
+
+				double[][] da = doubles(n, 3);
+				double[][] db = doubles(n, 4);
+				DoubleMatrix fda = DoubleMatrix.of(da);
+				DoubleMatrix fdb = DoubleMatrix.of(db);
+				double[][][] djr = new double[1][][];
+				DoubleMatrix[] dfr = new DoubleMatrix[2];
+				j = ms(mulRuns, () -> djr[0] = jaggedMultiply(da, db));
+				f = ms(mulRuns, () -> dfr[0] = fda.multiply(fdb));
+				p = ms(mulRuns, () -> dfr[1] = fda.parallelMultiply(fdb));
+				// 더하는 순서가 달라 반올림 차이가 있을 수 있다
+				if (maxDiff(djr[0], dfr[0]) > 1e-9 * n || !dfr[0].equals(dfr[1])) {
+					throw new IllegalStateException("double 곱셈 결과가 다릅니다");
+				}
+				System.out.printf("%-16s %,6d %12s %12s %12s %8s%n", "multiply double", n, j, f, p, ratio(j, f));
+			}
+		}
+	}
+
+	interface Task {
+		void run();
+	}
+
+	private static String ms(int runs, Task task) {
+		long best = Long.MAX_VALUE;
+		for (int r = -1; r < runs; r++) {
+			long start = System.nanoTime();
+			task.run();
+			long elapsed = System.nanoTime() - start;
+			if (r >= 0) {
+				best = Math.min(best, elapsed);
+			}
+		}
+		return String.format("%.2f", best / 1e6);
+	}
+
+	private static void print(String name, int n, String jagged, String flat, String par, int[][] expect,
+			IntMatrix actual) {
+		if (!Arrays.deepEquals(expect, actual.toArray())) {
+			throw new IllegalStateException(name + " 결과가 다릅니다");
+		}
+		System.out.printf("%-16s %,6d %12s %12s %12s %8s%n", name, n, jagged, flat, par == null ? "-" : par,
+				ratio(jagged, flat));
+	}
+
+	private static String ratio(String jagged, String flat) {
+		return String.format("%.1f", Double.parseDouble(jagged) / Math.max(0.01, Double.parseDouble(flat)));
+	}
+
+	// ---- int[][] 반복문 (실습처럼 array[j][i] 로) ----
+
+	private static int[][] jaggedTranspose(int[][] a) {
+		int n = a.length;
+		int[][] t = new int[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				t[j][i] = a[i][j];
+			}
+		}
+		return t;
+	}
+
+	private static int[][] jaggedMirror(int[][] a) {
+		int n = a.length;
+		int[][] m = new int[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				m[i][j] = a[i][n - 1 - j];
+			}
+		}
+		return m;
+	}
+
+	private static int[][] jaggedRotate(int[][] a) {
+		int n = a.length;
+		int[][] r = new int[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				r[j][n - 1 - i] = a[i][j];
+			}
+		}
+		return r;
+	}
+
+	private static int[][] jaggedMultiply(int[][] a, int[][] b) {
+		int n = a.length;
+		int[][] c = new int[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				int sum = 0;
+				for (int k = 0; k < n; k++) {
+					sum += a[i][k] * b[k][j];
+				}
+				c[i][j] = sum;
+			}
+		}
+		return c;
+	}
+
+	private static double[][] jaggedMultiply(double[][] a, double[][] b) {
+		int n = a.length;
+		double[][] c = new double[n][n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++) {
+				double sum = 0;
+				for (int k = 0; k < n; k++) {
+					sum += a[i][k] * b[k][j];
+				}
+				c[i][j] = sum;
+			}
+		}
+		return c;
+	}
+
+	private static double maxDiff(double[][] expect, DoubleMatrix actual) {
+		double max = 0;
+		for (int i = 0; i < expect.length; i++) {
+			for (int j = 0; j < expect[i].length; j++) {
+				max = Math.max(max, Math.abs(expect[i][j] - actual.get(i, j)));
+			}
+		}
+		return max;
+	}
+
+	private static int[][] ints(int n, long seed) {
+		SplittableRandom rd = new SplittableRandom(seed);
+		int[][] a = new int[n][n];
+		for (int[] row : a) {
+			for (int j = 0; j < n; j++) {
+				row[j] = rd.nextInt(-100, 100);
+			}
+		}
+		return a;
+	}
+
+	private static double[][] doubles(int n, long seed) {
+		SplittableRandom rd = new SplittableRandom(seed);
+		double[][] a = new double[n][n];
+		for (double[] row : a) {
+			for (int j = 0; j < n; j++) {
+				row[j] = rd.nextDouble(-1, 1);
+			}
+		}
+		return a;
+	}
+
+}
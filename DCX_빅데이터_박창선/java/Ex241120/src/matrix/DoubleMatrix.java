@@ -0,0 +1,301 @@
+package matrix;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// double 행렬 : 값을 배열 하나에 행 순서로(row-major) 담는다. (i, j) 는 data[i * cols + j]
+// int[][] 는 행마다 따로 만든 배열이라 행을 넘어갈 때마다 행 배열 참조를 한 번 더 따라가고 메모리 위치도 흩어진다
+// 여기서는 한 덩어리라 행이 이어져 있고 (i, j) 위치는 곱셈 하나로 나온다
+// - transpose / rotate : 읽기는 행을 따라, 쓰기는 열을 따라가므로 그냥 돌면 쓰기마다 캐시 줄이 바뀐다
+//   BLOCK x BLOCK 조각 단위로 돌아서 조각 안에서 읽고 쓰는 줄들이 캐시에 남아 있게 한다
+// - mirror : 행마다 좌우를 바꾼다 (행 안에서 끝나므로 조각이 필요 없다)
+// - multiply : i-k-j 순서 (안쪽 반복이 b 와 결과의 행을 따라 연속으로 읽고 쓴다)
+//   k, j 를 MUL_BLOCK 씩 잘라 b 의 조각이 캐시에 남아 있는 동안 a 의 모든 행에 쓴다
+// - parallelMultiply : 결과의 행을 나눠 fork-join 으로 (행마다 쓰는 곳이 달라 잠금이 없다)
+// 연산은 모두 새 행렬을 돌려주고 원래 행렬은 그대로 둔다
+public class DoubleMatrix {
+
+	// 조각 한 변 : 한 행 조각이 256 바이트 (캐시 줄 4 개)
+	static final int BLOCK = 32;
+	static final int MUL_BLOCK = 128;
+	static final int PAR_ROWS = 64;
+
+	private final int rows;
+	private final int cols;
+	private final double[] data;
+
+	public DoubleMatrix(int rows, int cols) {
+		this(rows, cols, new double[checkSize(rows, cols)]);
+	}
+
+	// data 를 복사하지 않고 그대로 쓴다 (길이는 rows * cols)
+	public DoubleMatrix(int rows, int cols, double[] data) {
+		if (data.length != checkSize(rows, cols)) {
+			throw new IllegalArgumentException("data 길이가 " + rows + " x " + cols + " 와 다릅니다 : " + data.length);
+		}
+		this.rows = rows;
+		this.cols = cols;
+		this.data = data;
+	}
+
+	static int checkSize(int rows, int cols) {
+		if (rows < 0 || cols < 0) {
+			throw new IllegalArgumentException("크기가 잘못되었습니다 : " + rows + " x " + cols);
+		}
+		long size = (long) rows * cols;
+		if (size > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("너무 큽니다 : " + rows + " x " + cols);
+		}
+		return (int) size;
+	}
+
+	// double[][] 에서 복사 (행 길이가 모두 같아야 한다)
+	public static DoubleMatrix of(double[][] array) {
+		int rows = array.length;
+		int cols = rows == 0 ? 0 : array[0].length;
+		DoubleMatrix m = new DoubleMatrix(rows, cols);
+		for (int i = 0; i < rows; i++) {
+			if (array[i].length != cols) {
+				throw new IllegalArgumentException(i + "행 길이가 다릅니다 : " + array[i].length + " != " + cols);
+			}
+			System.arraycopy(array[i], 0, m.data, i * cols, cols);
+		}
+		return m;
+	}
+
+	public double[][] toArray() {
+		double[][] array = new double[rows][];
+		for (int i = 0; i < rows; i++) {
+			array[i] = Arrays.copyOfRange(data, i * cols, (i + 1) * cols);
+		}
+		return array;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getCols() {
+		return cols;
+	}
+
+	public double get(int i, int j) {
+		return data[index(i, j)];
+	}
+
+	public void set(int i, int j, double value) {
+		data[index(i, j)] = value;
+	}
+
+	// 저장 배열 (복사 아님)
+	public double[] data() {
+		return data;
+	}
+
+	private int index(int i, int j) {
+		if (i < 0 || i >= rows || j < 0 || j >= cols) {
+			throw new IndexOutOfBoundsException("(" + i + ", " + j + ") : " + rows + " x " + cols);
+		}
+		return i * cols + j;
+	}
+
+	public DoubleMatrix copy() {
+		return new DoubleMatrix(rows, cols, data.clone());
+	}
+
+	// 전치 : (i, j) -> (j, i)
+	public DoubleMatrix transpose() {
+		DoubleMatrix t = new DoubleMatrix(cols, rows);
+		double[] src = data;
+		double[] dst = t.data;
+		for (int i0 = 0; i0 < rows; i0 += BLOCK) {
+			int i1 = Math.min(rows, i0 + BLOCK);
+			for (int j0 = 0; j0 < cols; j0 += BLOCK) {
+				int j1 = Math.min(cols, j0 + BLOCK);
+				for (int i = i0; i < i1; i++) {
+					int s = i * cols;
+					for (int j = j0; j < j1; j++) {
+						dst[j * rows + i] = src[s + j];
+					}
+				}
+			}
+		}
+		return t;
+	}
+
+	// 좌우 뒤집기 : (i, j) -> (i, cols - 1 - j)  (실습2 의 array[j][4 - i])
+	public DoubleMatrix mirror() {
+		DoubleMatrix m = new DoubleMatrix(rows, cols);
+		double[] src = data;
+		double[] dst = m.data;
+		for (int i = 0; i < rows; i++) {
+			int s = i * cols;
+			int d = s + cols - 1;
+			for (int j = 0; j < cols; j++) {
+				dst[d - j] = src[s + j];
+			}
+		}
+		return m;
+	}
+
+	// 시계 방향으로 90도씩 quarterTurns 번 (음수면 반시계 방향)
+	public DoubleMatrix rotate(int quarterTurns) {
+		switch (quarterTurns & 3) {
+		case 0:
+			return copy();
+		case 1:
+			return rotate90(true);
+		case 2:
+			// 180도는 배열 전체를 거꾸로
+			double[] dst = new double[data.length];
+			for (int s = 0, d = data.length - 1; d >= 0; s++, d--) {
+				dst[d] = data[s];
+			}
+			return new DoubleMatrix(rows, cols, dst);
+		default:
+			return rotate90(false);
+		}
+	}
+
+	// 시계 : (i, j) -> (j, rows - 1 - i), 반시계 : (i, j) -> (cols - 1 - j, i), 결과는 cols x rows
+	private DoubleMatrix rotate90(boolean clockwise) {
+		DoubleMatrix r = new DoubleMatrix(cols, rows);
+		double[] src = data;
+		double[] dst = r.data;
+		for (int i0 = 0; i0 < rows; i0 += BLOCK) {
+			int i1 = Math.min(rows, i0 + BLOCK);
+			for (int j0 = 0; j0 < cols; j0 += BLOCK) {
+				int j1 = Math.min(cols, j0 + BLOCK);
+				for (int i = i0; i < i1; i++) {
+					int s = i * cols;
+					if (clockwise) {
+						int c = rows - 1 - i;
+						for (int j = j0; j < j1; j++) {
+							dst[j * rows + c] = src[s + j];
+						}
+					} else {
+						for (int j = j0; j < j1; j++) {
+							dst[(cols - 1 - j) * rows + i] = src[s + j];
+						}
+					}
+				}
+			}
+		}
+		return r;
+	}
+
+	// this * b
+	public DoubleMatrix multiply(DoubleMatrix b) {
+		checkMultiply(b);
+		DoubleMatrix c = new DoubleMatrix(rows, b.cols);
+		multiplyRows(this, b, c, 0, rows);
+		return c;
+	}
+
+	public DoubleMatrix parallelMultiply(DoubleMatrix b) {
+		return parallelMultiply(b, ForkJoinPool.commonPool());
+	}
+
+	public DoubleMatrix parallelMultiply(DoubleMatrix b, ForkJoinPool pool) {
+		checkMultiply(b);
+		DoubleMatrix c = new DoubleMatrix(rows, b.cols);
+		if (rows <= PAR_ROWS || pool.getParallelism() == 1) {
+			multiplyRows(this, b, c, 0, rows);
+		} else {
+			pool.invoke(new MultiplyTask(this, b, c, 0, rows));
+		}
+		return c;
+	}
+
+	private void checkMultiply(DoubleMatrix b) {
+		if (cols != b.rows) {
+			throw new IllegalArgumentException("곱할 수 없습니다 : " + rows + " x " + cols + " * " + b.rows + " x " + b.cols);
+		}
+	}
+
+	// c 의 [r0, r1) 행 += a 의 같은 행들 * b
+	static void multiplyRows(DoubleMatrix a, DoubleMatrix b, DoubleMatrix c, int r0, int r1) {
+		int n = a.cols;
+		int m = b.cols;
+		double[] ad = a.data;
+		double[] bd = b.data;
+		double[] cd = c.data;
+		for (int k0 = 0; k0 < n; k0 += MUL_BLOCK) {
+			int k1 = Math.min(n, k0 + MUL_BLOCK);
+			for (int j0 = 0; j0 < m; j0 += MUL_BLOCK) {
+				int j1 = Math.min(m, j0 + MUL_BLOCK);
+				for (int i = r0; i < r1; i++) {
+					int ai = i * n;
+					int ci = i * m;
+					for (int k = k0; k < k1; k++) {
+						double aik = ad[ai + k];
+						int bk = k * m;
+						for (int j = j0; j < j1; j++) {
+							cd[ci + j] += aik * bd[bk + j];
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private static final class MultiplyTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final DoubleMatrix a;
+		private final DoubleMatrix b;
+		private final DoubleMatrix c;
+		private final int r0;
+		private final int r1;
+
+		MultiplyTask(DoubleMatrix a, DoubleMatrix b, DoubleMatrix c, int r0, int r1) {
+			this.a = a;
+			this.b = b;
+			this.c = c;
+			this.r0 = r0;
+			this.r1 = r1;
+		}
+
+		@Override
+		protected void compute() {
+			if (r1 - r0 <= PAR_ROWS) {
+				multiplyRows(a, b, c, r0, r1);
+				return;
+			}
+			int mid = (r0 + r1) >>> 1;
+			invokeAll(new MultiplyTask(a, b, c, r0, mid), new MultiplyTask(a, b, c, mid, r1));
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof DoubleMatrix)) {
+			return false;
+		}
+		DoubleMatrix other = (DoubleMatrix) o;
+		return rows == other.rows && cols == other.cols && Arrays.equals(data, other.data);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * (31 * rows + cols) + Arrays.hashCode(data);
+	}
+
+	// 행마다 한 줄, 값 사이는 탭
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < rows; i++) {
+			for (int j = 0; j < cols; j++) {
+				sb.append(data[i * cols + j]).append('\t');
+			}
+			sb.append('\n');
+		}
+		return sb.toString();
+	}
+
+}
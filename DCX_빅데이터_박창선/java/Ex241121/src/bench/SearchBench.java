@@ -0,0 +1,150 @@
+package bench;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import serch.BatchSearch;
+import serch.BinarySearch;
+import serch.Ex01_sequentialSearch;
+import serch.Ex02_BinarySearch;
+import serch.EytzingerSearch;
+import serch.InterpolationSearch;
+
+// 탐색 비교 (JMH 가 없어서 main 으로 잰다) : 키 하나당 ns (RUNS 번 중 중앙값, 처음 WARMUP 번은 버림)
+// 배열 크기는 L1(4KB) 부터 LLC 보다 훨씬 큰 크기까지 8배씩
+// 값 : uniform 이면 i * 16 + (0~15 난수) 로 고르게, skew 면 제곱으로 치우치게 (보간 탐색이 불리한 경우)
+// 키 : 값 범위 안의 난수 (대략 1/16 만 있는 값), 크기마다 KEYS 개
+//   Ex02     : 고친 예전 이진탐색 (while 조건), Arrays : Arrays.binarySearch
+//   branchless / eytzinger / interp : 한 번에 키 하나
+//   batch    : BatchSearch.lowerBounds (16 개씩 나란히)
+//   sorted   : 키를 Arrays.sort 로 정렬한 뒤 BatchSearch.lowerBoundsSorted (정렬 시간 포함)
+//   Ex01     : 순차탐색, 64K 개까지만 (키도 적게)
+// 모든 방법의 결과가 Arrays.binarySearch 로 구한 위치와 같은지 확인한다
+// 실행 : java -Xmx2g bench.SearchBench [최대 크기] [uniform|skew]   기본 16,777,216 (64MB) uniform
+public class SearchBench {
+
+	private static final int KEYS = 1 << 22;
+	private static final int WARMUP = 2;
+	private static final int RUNS = 5;
+	private static long sink;
+
+	interface Lookup {
+		void run(int[] keys, int[] out);
+	}
+
+	public static void main(String[] args) {
+		int max = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 24;
+		String dist = args.length > 1 ? args[1] : "uniform";
+		System.out.printf("분포 %s, 키 %,d개, 값은 키 하나당 ns (중앙값)%n", dist, KEYS);
+		System.out.printf("%12s %8s %8s %8s %8s %8s %8s %8s %8s %8s%n", "n", "bytes", "Ex01", "Ex02", "Arrays",
+				"branchls", "eytzing", "interp", "batch", "sorted");
+
+		for (int n = 1 << 10; n <= max && n > 0; n <<= 3) {
+			int[] a = values(n, dist);
+			int[] keys = keys(a, KEYS);
+			int[] expect = new int[KEYS];
+			for (int i = 0; i < KEYS; i++) {
+				int r = Arrays.binarySearch(a, keys[i]);
+				// binarySearch 는 같은 값이 여러 개면 아무거나 돌려주므로 맨 앞으로
+				if (r >= 0) {
+					while (r > 0 && a[r - 1] == keys[i]) {
+						r--;
+					}
+				}
+				expect[i] = r >= 0 ? r : -r - 1;
+			}
+			EytzingerSearch eyt = new EytzingerSearch(a);
+			int[] smallKeys = Arrays.copyOf(keys, 1 << 12);
+
+			String seq = n <= 1 << 16 ? time(smallKeys, null, (k, out) -> {
+				for (int i = 0; i < k.length; i++) {
+					out[i] = Ex01_sequentialSearch.search(a, k[i]);
+				}
+			}) : String.format("%8s", "-");
+			System.out.printf("%,12d %8s %s %s %s %s %s %s %s %s%n", n, bytes(n * 4L), seq,
+					time(keys, null, (k, out) -> {
+						for (int i = 0; i < k.length; i++) {
+							out[i] = Ex02_BinarySearch.search(a, k[i]);
+						}
+					}),
+					time(keys, null, (k, out) -> {
+						for (int i = 0; i < k.length; i++) {
+							out[i] = Arrays.binarySearch(a, k[i]);
+						}
+					}),
+					time(keys, expect, (k, out) -> {
+						for (int i = 0; i < k.length; i++) {
+							out[i] = BinarySearch.lowerBound(a, k[i]);
+						}
+					}),
+					time(keys, expect, (k, out) -> {
+						for (int i = 0; i < k.length; i++) {
+							out[i] = eyt.lowerBound(k[i]);
+						}
+					}),
+					time(keys, expect, (k, out) -> {
+						for (int i = 0; i < k.length; i++) {
+							out[i] = InterpolationSearch.lowerBound(a, k[i]);
+						}
+					}),
+					time(keys, expect, (k, out) -> BatchSearch.lowerBounds(a, k, out)),
+					time(keys, null, (k, out) -> {
+						int[] sorted = k.clone();
+						Arrays.sort(sorted);
+						BatchSearch.lowerBoundsSorted(a, sorted, out);
+					}));
+		}
+		System.out.println("(결과 합 " + sink + ")");
+	}
+
+	private static String bytes(long b) {
+		return b >= 1 << 20 ? (b >> 20) + "MB" : (b >> 10) + "KB";
+	}
+
+	// expect 가 있으면 결과를 비교한다
+	private static String time(int[] keys, int[] expect, Lookup lookup) {
+		int[] out = new int[keys.length];
+		long[] runs = new long[RUNS];
+		for (int r = -WARMUP; r < RUNS; r++) {
+			long start = System.nanoTime();
+			lookup.run(keys, out);
+			long elapsed = System.nanoTime() - start;
+			if (r >= 0) {
+				runs[r] = elapsed;
+			}
+		}
+		if (expect != null && !Arrays.equals(out, expect)) {
+			throw new IllegalStateException("탐색 결과가 다릅니다");
+		}
+		sink += out[out.length - 1];
+		Arrays.sort(runs);
+		return String.format("%8.1f", (double) runs[RUNS / 2] / keys.length);
+	}
+
+	private static int[] values(int n, String dist) {
+		SplittableRandom rd = new SplittableRandom(n);
+		int[] a = new int[n];
+		for (int i = 0; i < n; i++) {
+			if (dist.equals("skew")) {
+				long x = (long) i * i / n; // 앞쪽은 빽빽하고 뒤로 갈수록 듬성듬성
+				a[i] = (int) Math.min(Integer.MAX_VALUE, x * 16 + rd.nextInt(16));
+			} else {
+				a[i] = (int) Math.min(Integer.MAX_VALUE, (long) i * 16 + rd.nextInt(16));
+			}
+		}
+		Arrays.sort(a);
+		return a;
+	}
+
+	private static int[] keys(int[] a, int count) {
+		SplittableRandom rd = new SplittableRandom(7);
+		int lo = a[0];
+		int hi = a[a.length - 1];
+		int[] keys = new int[count];
+		for (int i = 0; i < count; i++) {
+			keys[i] = (int) (lo + (long) (rd.nextDouble() * ((long) hi - lo + 1)));
+		}
+		return keys;
+	}
+
+}
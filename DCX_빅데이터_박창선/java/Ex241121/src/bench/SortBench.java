@@ -0,0 +1,172 @@
+package bench;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+import sort.Ex01_bubblesort;
+import sort.Ex02_selectionSort;
+import sort.IntroSort;
+import sort.ParallelMergeSort;
+import sort.RadixSort;
+
+// 정렬 비교 (JMH 가 없어서 main 으로 잰다)
+// 크기마다 같은 원본을 복사해서 정렬하기를 반복하고, 원소 하나당 시간(ns)의 중앙값을 찍는다
+//   반복 횟수는 한 번 잴 때 약 ELEMENTS 개를 정렬하도록 (작은 배열은 여러 번, 느린 정렬은 약 0.2초까지), 복사하는 시간도 들어간다
+//   처음 WARMUP 번은 JIT 데우기로 버린다. 결과는 Arrays.sort 결과와 비교해서 틀리면 멈춘다
+// 버블 / 선택 정렬은 O(n²) 이라 QUADRATIC_MAX 개까지만 잰다 (선택 정렬은 내림차순)
+// 분포 : random(전체 범위 난수), dup(0~99 만), sorted(이미 정렬됨)
+// 병렬 정렬은 코어 수만큼 빨라지므로 코어 수도 같이 찍는다 (코어가 1개면 ParallelMergeSort 는 IntroSort 와 같다)
+// 실행 : java -Xmx4g bench.SortBench [최대 크기] [분포]   기본 10,000,000 random (100,000,000 은 -Xmx 가 넉넉해야 한다)
+public class SortBench {
+
+	private static final long ELEMENTS = 20_000_000;
+	private static final int QUADRATIC_MAX = 20_000;
+	private static final int WARMUP = 2;
+	private static final int RUNS = 5;
+
+	public static void main(String[] args) {
+		int max = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+		String dist = args.length > 1 ? args[1] : "random";
+		System.out.printf("분포 %s, 코어 %d개, 값은 원소 하나당 ns (중앙값)%n", dist, Runtime.getRuntime().availableProcessors());
+
+		System.out.printf("%n[int]%n%12s %9s %9s %9s %9s %9s %9s %9s%n", "n", "bubble", "select", "Arrays", "parallel",
+				"Intro", "Radix", "PMerge");
+		for (int n = 10; n <= max; n *= 10) {
+			int[] src = ints(n, dist);
+			int[] expect = src.clone();
+			Arrays.sort(expect);
+			int[] desc = reverse(expect);
+			System.out.printf("%,12d %s %s %s %s %s %s %s%n", n,
+					n <= QUADRATIC_MAX ? time(src, expect, Ex01_bubblesort::sort) : skip(),
+					n <= QUADRATIC_MAX ? time(src, desc, Ex02_selectionSort::sort) : skip(),
+					time(src, expect, Arrays::sort), time(src, expect, Arrays::parallelSort),
+					time(src, expect, IntroSort::sort), time(src, expect, RadixSort::sort),
+					time(src, expect, ParallelMergeSort::sort));
+		}
+
+		System.out.printf("%n[long]%n%12s %9s %9s %9s %9s %9s%n", "n", "Arrays", "parallel", "Intro", "Radix", "PMerge");
+		for (int n = 10; n <= max; n *= 10) {
+			long[] src = longs(n, dist);
+			long[] expect = src.clone();
+			Arrays.sort(expect);
+			System.out.printf("%,12d %s %s %s %s %s%n", n, time(src, expect, Arrays::sort),
+					time(src, expect, Arrays::parallelSort), time(src, expect, IntroSort::sort),
+					time(src, expect, RadixSort::sort), time(src, expect, ParallelMergeSort::sort));
+		}
+
+		System.out.printf("%n[double]%n%12s %9s %9s %9s %9s %9s%n", "n", "Arrays", "parallel", "Intro", "Radix",
+				"PMerge");
+		for (int n = 10; n <= max; n *= 10) {
+			double[] src = doubles(n, dist);
+			double[] expect = src.clone();
+			Arrays.sort(expect);
+			System.out.printf("%,12d %s %s %s %s %s%n", n, time(src, expect, Arrays::sort),
+					time(src, expect, Arrays::parallelSort), time(src, expect, IntroSort::sort),
+					time(src, expect, RadixSort::sort), time(src, expect, ParallelMergeSort::sort));
+		}
+	}
+
+	private static String skip() {
+		return String.format("%9s", "-");
+	}
+
+	private static String time(int[] src, int[] expect, Consumer<int[]> sorter) {
+		int[] work = new int[src.length];
+		return time(src.length, () -> System.arraycopy(src, 0, work, 0, src.length), () -> sorter.accept(work),
+				() -> Arrays.equals(work, expect));
+	}
+
+	private static String time(long[] src, long[] expect, Consumer<long[]> sorter) {
+		long[] work = new long[src.length];
+		return time(src.length, () -> System.arraycopy(src, 0, work, 0, src.length), () -> sorter.accept(work),
+				() -> Arrays.equals(work, expect));
+	}
+
+	private static String time(double[] src, double[] expect, Consumer<double[]> sorter) {
+		double[] work = new double[src.length];
+		return time(src.length, () -> System.arraycopy(src, 0, work, 0, src.length), () -> sorter.accept(work),
+				() -> Arrays.equals(work, expect));
+	}
+
+	interface Check {
+		boolean ok();
+	}
+
+	private static String time(int n, Runnable copy, Runnable sort, Check check) {
+		// 한 번 재 보고 반복 횟수를 정한다 (O(n²) 이 너무 오래 걸리지 않게 한 번에 약 0.2초까지)
+		long once = System.nanoTime();
+		copy.run();
+		sort.run();
+		once = System.nanoTime() - once;
+		int reps = (int) Math.max(1, Math.min(ELEMENTS / n, 200_000_000L / Math.max(once, 1)));
+		long[] runs = new long[RUNS];
+		for (int r = -WARMUP; r < RUNS; r++) {
+			long start = System.nanoTime();
+			for (int i = 0; i < reps; i++) {
+				copy.run();
+				sort.run();
+			}
+			long elapsed = System.nanoTime() - start;
+			if (!check.ok()) {
+				throw new IllegalStateException("정렬 결과가 틀립니다 (n=" + n + ")");
+			}
+			if (r >= 0) {
+				runs[r] = elapsed;
+			}
+		}
+		Arrays.sort(runs);
+		return String.format("%9.2f", (double) runs[RUNS / 2] / reps / n);
+	}
+
+	private static int[] reverse(int[] a) {
+		int[] r = new int[a.length];
+		for (int i = 0; i < a.length; i++) {
+			r[i] = a[a.length - 1 - i];
+		}
+		return r;
+	}
+
+	private static int[] ints(int n, String dist) {
+		SplittableRandom rd = new SplittableRandom(n);
+		int[] a = new int[n];
+		for (int i = 0; i < n; i++) {
+			a[i] = dist.equals("dup") ? rd.nextInt(100) : rd.nextInt();
+		}
+		if (dist.equals("sorted")) {
+			Arrays.sort(a);
+		}
+		return a;
+	}
+
+	private static long[] longs(int n, String dist) {
+		SplittableRandom rd = new SplittableRandom(n);
+		long[] a = new long[n];
+		for (int i = 0; i < n; i++) {
+			a[i] = dist.equals("dup") ? rd.nextInt(100) : rd.nextLong();
+		}
+		if (dist.equals("sorted")) {
+			Arrays.sort(a);
+		}
+		return a;
+	}
+
+	// 음수 / 양수 / -0.0 / 0.0 / NaN 이 섞이게
+	private static double[] doubles(int n, String dist) {
+		SplittableRandom rd = new SplittableRandom(n);
+		double[] a = new double[n];
+		for (int i = 0; i < n; i++) {
+			if (dist.equals("dup")) {
+				a[i] = rd.nextInt(100) - 50;
+			} else {
+				int special = rd.nextInt(1000);
+				a[i] = special == 0 ? Double.NaN : special == 1 ? -0.0 : special == 2 ? 0.0 : rd.nextGaussian() * 1e6;
+			}
+		}
+		if (dist.equals("sorted")) {
+			Arrays.sort(a);
+		}
+		return a;
+	}
+
+}
@@ -0,0 +1,81 @@
+package serch;
+
+// 키 여러 개를 한 번에 찾기 (결과는 키마다 lowerBound, 정렬된 배열 기준 위치)
+// 배열이 캐시보다 크면 이진탐색 한 단계마다 메모리를 기다린다 (캐시 미스 ~100ns)
+// 키 하나씩 찾으면 다음 단계 주소가 이번 값에 달려 있어서 미스를 하나씩 기다리지만,
+// 서로 다른 키 GROUP 개를 한 단계씩 같이 진행하면 GROUP 개의 읽기가 서로 기다리지 않으므로 CPU 가 미스를 겹쳐서 처리한다
+//   (자바에는 prefetch 명령이 없으므로 이렇게 독립된 읽기를 한꺼번에 내는 것이 같은 효과를 낸다)
+// 분기 없는 이진탐색(BinarySearch)은 키와 상관없이 반복 횟수가 같아서 한 줄로 맞춰 돌릴 수 있다
+// lowerBounds       : 키 순서 상관없이, GROUP 개씩 나란히
+// lowerBoundsSorted : 키가 오름차순이면 앞 키의 답부터 두 배씩 넓혀 가며(갤럽) 찾는다 -> 배열을 앞에서 뒤로 한 번 훑는 접근
+public class BatchSearch {
+
+	static final int GROUP = 16;
+
+	private BatchSearch() {
+	}
+
+	// out[i] = lowerBound(a, keys[i])
+	public static void lowerBounds(int[] a, int[] keys, int[] out) {
+		lowerBounds(a, keys, 0, keys.length, out);
+	}
+
+	public static void lowerBounds(int[] a, int[] keys, int from, int to, int[] out) {
+		if (out.length < to) {
+			throw new IllegalArgumentException("out 이 작습니다 : " + out.length + " < " + to);
+		}
+		int length = a.length;
+		if (length == 0) {
+			for (int i = from; i < to; i++) {
+				out[i] = 0;
+			}
+			return;
+		}
+		int[] base = new int[GROUP];
+		for (int g = from; g < to; g += GROUP) {
+			int cnt = Math.min(GROUP, to - g);
+			for (int j = 0; j < cnt; j++) {
+				base[j] = 0;
+			}
+			int n = length;
+			while (n > 1) {
+				int half = n >>> 1;
+				for (int j = 0; j < cnt; j++) {
+					int b = base[j];
+					base[j] = a[b + half] < keys[g + j] ? b + half : b;
+				}
+				n -= half;
+			}
+			for (int j = 0; j < cnt; j++) {
+				int b = base[j];
+				out[g + j] = b + (a[b] < keys[g + j] ? 1 : 0);
+			}
+		}
+	}
+
+	// keys 가 오름차순일 때
+	public static void lowerBoundsSorted(int[] a, int[] keys, int[] out) {
+		if (out.length < keys.length) {
+			throw new IllegalArgumentException("out 이 작습니다 : " + out.length + " < " + keys.length);
+		}
+		int pos = 0;
+		for (int i = 0; i < keys.length; i++) {
+			int key = keys[i];
+			if (i > 0 && key < keys[i - 1]) {
+				throw new IllegalArgumentException("keys 가 오름차순이 아닙니다 : " + i + "번째");
+			}
+			// a[pos] 부터 1, 2, 4 ... 칸씩 넘어가며 key 이상인 곳을 찾고 그 안을 이진탐색
+			int step = 1;
+			int lo = pos;
+			int hi = pos;
+			while (hi < a.length && a[hi] < key) {
+				lo = hi + 1;
+				hi = Math.min(a.length, hi + step);
+				step <<= 1;
+			}
+			pos = BinarySearch.lowerBound(a, lo, Math.min(a.length, hi + 1), key);
+			out[i] = pos;
+		}
+	}
+
+}
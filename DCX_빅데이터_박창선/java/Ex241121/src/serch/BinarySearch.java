@@ -0,0 +1,44 @@
+package serch;
+
+// 정렬된 int[] 이진탐색 (분기 없는 버전)
+// 보통 이진탐색은 "작으면 오른쪽, 아니면 왼쪽" 분기를 CPU 가 반쯤 틀리게 예측해서 한 단계마다 파이프라인을 비운다
+// 여기서는 구간 길이 n 을 매번 반씩 줄이고 시작점 base 만 조건부로 옮긴다 (base = 조건 ? base + half : base)
+//   -> JIT 가 조건부 이동(cmov)으로 만들어서 예측 실패가 없고, 반복 횟수가 키와 상관없이 log2(n) 번으로 같다
+//   반복 횟수가 같으므로 BatchSearch 가 여러 키를 한 줄로 맞춰 같이 돌릴 수 있다
+// lowerBound : 처음으로 key 이상인 위치 (모두 작으면 끝 위치)
+// indexOf    : Arrays.binarySearch 와 같은 약속 (있으면 위치, 없으면 -(넣을 위치) - 1)
+public class BinarySearch {
+
+	private BinarySearch() {
+	}
+
+	public static int lowerBound(int[] a, int key) {
+		return lowerBound(a, 0, a.length, key);
+	}
+
+	// [from, to) 에서 처음으로 key 이상인 위치
+	public static int lowerBound(int[] a, int from, int to, int key) {
+		int n = to - from;
+		if (n <= 0) {
+			return from;
+		}
+		int base = from;
+		while (n > 1) {
+			int half = n >>> 1;
+			base = a[base + half] < key ? base + half : base;
+			n -= half;
+		}
+		return base + (a[base] < key ? 1 : 0);
+	}
+
+	public static int indexOf(int[] a, int key) {
+		int i = lowerBound(a, 0, a.length, key);
+		return i < a.length && a[i] == key ? i : -i - 1;
+	}
+
+	public static boolean contains(int[] a, int key) {
+		int i = lowerBound(a, 0, a.length, key);
+		return i < a.length && a[i] == key;
+	}
+
+}
@@ -11,16 +11,21 @@ public class Ex01_sequentialSearch {
 		
 		// 쉬운방법이지만 효율성이 떨어진다
 		// 78은 ? 번 인덱스에 있습니다. 출력
-		for(int i=0; i <10; i++) {
+		num = search(array, search);
+		if(num >= 0) {
+			System.out.print(array[num]+"은 " +num+"번 인덱스에 있습니다." );
+		}
+	
+	}
+	
+	// 순차탐색 : 처음 찾은 인덱스 (없으면 -1), 찾으면 바로 멈춘다
+	public static int search(int[] array, int search) {
+		for(int i=0; i <array.length; i++) {
 			if(array[i]==search) {
-				num+=i;
-				System.out.print(array[i]+"은 " +num+"번 인덱스에 있습니다." );
-			
-			
+				return i;
 			}
-				
 		}
-	
+		return -1;
 	}
 		
 		
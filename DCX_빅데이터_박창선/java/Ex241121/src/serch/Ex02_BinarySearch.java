@@ -8,23 +8,11 @@ public class Ex02_BinarySearch {
 		// 무조건 정렬이 되어있는 상태여야 함
 		int[] array = {1,7,16,25,30,33,41,66,78,90};
 		int search = 78;
-		int lowIndex = 0;
-		int highIndex = array.length-1;
-		
-		while(true) {
-			
-			int midIndex = (lowIndex + highIndex)/2;
-			if(search== array[midIndex]) {
-				System.out.println(search + "은(는)" + midIndex+ "번째!!");
-				break;
-			}else if(search > array[midIndex]) {
-				lowIndex = midIndex + 1;
-			}else {
-				highIndex = midIndex-1;
-			}
-			
-			
-			
+		int midIndex = search(array, search);
+		if(midIndex >= 0) {
+			System.out.println(search + "은(는)" + midIndex+ "번째!!");
+		}else {
+			System.out.println(search + "은(는) 없습니다!!");
 		}
 		
 		
@@ -42,6 +30,24 @@ public class Ex02_BinarySearch {
 		
 		
 		
+	}
+	
+	// 이진탐색 : 찾은 인덱스 (없으면 -1)
+	// 범위가 비면(lowIndex > highIndex) 멈춘다 (while(true) 는 없는 값을 찾으면 끝나지 않았다)
+	public static int search(int[] array, int search) {
+		int lowIndex = 0;
+		int highIndex = array.length-1;
+		while(lowIndex <= highIndex) {
+			int midIndex = (lowIndex + highIndex) >>> 1;
+			if(search== array[midIndex]) {
+				return midIndex;
+			}else if(search > array[midIndex]) {
+				lowIndex = midIndex + 1;
+			}else {
+				highIndex = midIndex-1;
+			}
+		}
+		return -1;
 	}
 
 }
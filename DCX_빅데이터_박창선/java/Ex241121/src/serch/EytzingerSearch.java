@@ -0,0 +1,65 @@
+package serch;
+
+// 아이칭거(Eytzinger) 배치 탐색 : 정렬된 배열을 이진 트리의 너비 우선 순서(힙 순서)로 다시 늘어놓는다
+//   b[1] = 루트(가운데 값), b[k] 의 왼쪽 자식 = b[2k], 오른쪽 = b[2k+1]
+// 정렬된 배열의 이진탐색은 처음 몇 단계가 멀리 떨어진 곳을 읽지만, 여기서는 위쪽 몇 층이 배열 앞쪽에 모여 있어서
+// 늘 캐시에 남고, 한 단계 내려갈 때 다음에 읽을 두 자식(2k, 2k+1)이 붙어 있다 (캐시 크기를 몰라도 되는 배치)
+// 탐색은 k = 2k + (b[k] < key) 만 반복하므로 분기가 없다
+// 만드는 데 O(n), 메모리는 값 n 개 + 원래 위치 n 개 (lowerBound 가 정렬된 배열 기준 위치를 돌려주려고)
+public class EytzingerSearch {
+
+	private final int[] b; // b[0] 은 쓰지 않는다
+	private final int[] index; // index[k] = b[k] 의 정렬된 배열에서의 위치
+	private final int n;
+
+	// sorted : 오름차순으로 정렬된 배열
+	public EytzingerSearch(int[] sorted) {
+		this.n = sorted.length;
+		this.b = new int[n + 1];
+		this.index = new int[n + 1];
+		fill(sorted, 0, 1);
+	}
+
+	// 트리를 중위 순회하면서 정렬된 값을 차례로 채운다 (재귀 깊이는 log2(n))
+	private int fill(int[] sorted, int i, int k) {
+		if (k <= n) {
+			i = fill(sorted, i, 2 * k);
+			b[k] = sorted[i];
+			index[k] = i++;
+			i = fill(sorted, i, 2 * k + 1);
+		}
+		return i;
+	}
+
+	// 처음으로 key 이상인 값의 정렬된 배열 기준 위치 (모두 작으면 n)
+	public int lowerBound(int key) {
+		int k = 1;
+		while (k <= n) {
+			k = 2 * k + (b[k] < key ? 1 : 0);
+		}
+		// 마지막으로 왼쪽으로 내려간 곳이 답 : 끝의 1 비트(오른쪽으로 간 횟수)와 그 위 0 비트 하나를 지운다
+		k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+		return k == 0 ? n : index[k];
+	}
+
+	public int indexOf(int key) {
+		int k = 1;
+		while (k <= n) {
+			k = 2 * k + (b[k] < key ? 1 : 0);
+		}
+		k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+		if (k == 0) {
+			return -n - 1;
+		}
+		return b[k] == key ? index[k] : -index[k] - 1;
+	}
+
+	public boolean contains(int key) {
+		return indexOf(key) >= 0;
+	}
+
+	public int size() {
+		return n;
+	}
+
+}
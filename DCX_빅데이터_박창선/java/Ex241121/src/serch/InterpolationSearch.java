@@ -0,0 +1,47 @@
+package serch;
+
+// 보간 탐색 : 값이 고르게 퍼져 있으면 key 가 있을 자리를 비례식으로 짐작한다
+//   m = lo + (key - a[lo]) / (a[hi] - a[lo]) * (hi - lo)
+// 고른 분포에서는 평균 O(log log n) 번 (10억 개도 대여섯 번) 만에 좁혀진다
+// 분포가 치우치면 짐작이 계속 한쪽 끝만 조금씩 깎을 수 있으므로
+//   - 짐작은 최대 2*log2(n) 번까지만 하고
+//   - 구간이 LINEAR 개 이하로 줄면
+//   나머지는 BinarySearch 로 마무리한다 (최악도 O(log n))
+public class InterpolationSearch {
+
+	private static final int LINEAR = 32;
+
+	private InterpolationSearch() {
+	}
+
+	// 처음으로 key 이상인 위치 (모두 작으면 a.length)
+	public static int lowerBound(int[] a, int key) {
+		int lo = 0;
+		int hi = a.length; // 답은 [lo, hi] 안에 있다
+		int guesses = 2 * (32 - Integer.numberOfLeadingZeros(a.length));
+		while (hi - lo > LINEAR && guesses-- > 0) {
+			int first = a[lo];
+			int last = a[hi - 1];
+			if (key <= first) {
+				return lo;
+			}
+			if (key > last) {
+				return hi;
+			}
+			// first < key <= last 이므로 m 은 [lo, hi - 1] 안에 들어온다
+			int m = lo + (int) ((double) ((long) key - first) / ((long) last - first) * (hi - 1 - lo));
+			if (a[m] < key) {
+				lo = m + 1;
+			} else {
+				hi = m;
+			}
+		}
+		return BinarySearch.lowerBound(a, lo, hi, key);
+	}
+
+	public static int indexOf(int[] a, int key) {
+		int i = lowerBound(a, key);
+		return i < a.length && a[i] == key ? i : -i - 1;
+	}
+
+}
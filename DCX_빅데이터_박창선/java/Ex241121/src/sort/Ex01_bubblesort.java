@@ -10,19 +10,10 @@ public class Ex01_bubblesort {
 		// 버블정렬을 이용해서 오름차순으로 정렬
 		// 비교하기 위해서 내림차순으로 배열 초기화
 		int[] array = {8, 6, 5, 3, 1};
-		int tmp; // 빈 상자 
 		
 		// step1 : 6, 5, 3, 1, 8
-		for(int j = 1; j < 5; j++) {
-		for(int i = 0; i < array.length-j; i++) {
-			if(array[i] > array[i+1]) {
-				tmp = array[i+1];
-				array[i+1] = array[i];
-				array[i] = tmp;	
-			}
-		}
-		}
 		// step2 : 5, 3, 1, 6, 8
+		sort(array);
 		
 		
 		System.out.println(Arrays.toString(array));
@@ -74,6 +65,20 @@ public class Ex01_bubblesort {
 		
 		
 		
+	}
+
+	// 버블정렬 (오름차순), O(n²) : 큰 배열은 sort 패키지의 IntroSort / RadixSort / ParallelMergeSort 를 쓴다
+	public static void sort(int[] array) {
+		int tmp; // 빈 상자 
+		for(int j = 1; j < array.length; j++) {
+		for(int i = 0; i < array.length-j; i++) {
+			if(array[i] > array[i+1]) {
+				tmp = array[i+1];
+				array[i+1] = array[i];
+				array[i] = tmp;	
+			}
+		}
+		}
 	}
 
 }
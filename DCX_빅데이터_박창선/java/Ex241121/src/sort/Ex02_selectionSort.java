@@ -12,18 +12,7 @@ public class Ex02_selectionSort {
 		int[] array = {7,98,13,70,24};
 		
 		// step1 : 98, 7, 13, 70, 24
-		int maxIndex = 0; // 인덱스 값
-		for(int j = 0; j < array.length; j++) {
-		for(int i = j+1; i < array.length; i++) {
-			if(array[maxIndex] < array[i]) {
-				maxIndex = i;
-			}
-			
-		}
-		int tmp = array[j];
-		array[j] = array[maxIndex];
-		array[maxIndex] = tmp;
-		}
+		sort(array);
 		System.out.println(Arrays.toString(array));
 		
 		//step2 : 90,70,13,7,24 
@@ -38,4 +27,21 @@ public class Ex02_selectionSort {
 //		System.out.println(Arrays.toString(array));
 	}
 
+	// 선택정렬 (내림차순), O(n²)
+	// maxIndex 는 단계마다 j 에서 다시 시작한다 (0 에 두면 앞에서 옮긴 큰 값을 다시 골라 순서가 깨진다 : {9, 8, 7})
+	public static void sort(int[] array) {
+		for(int j = 0; j < array.length; j++) {
+		int maxIndex = j; // 인덱스 값
+		for(int i = j+1; i < array.length; i++) {
+			if(array[maxIndex] < array[i]) {
+				maxIndex = i;
+			}
+			
+		}
+		int tmp = array[j];
+		array[j] = array[maxIndex];
+		array[maxIndex] = tmp;
+		}
+	}
+
 }
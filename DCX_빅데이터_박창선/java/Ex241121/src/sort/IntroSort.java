@@ -0,0 +1,402 @@
+package sort;
+
+// 인트로 정렬 (int[], long[], double[]) : Arrays.sort 처럼 제자리에서 오름차순
+// - 퀵 정렬 : 세 값의 중앙값을 피벗으로, 양쪽에서 좁혀 오는 호어 분할 (같은 값이 많아도 반씩 나뉜다)
+// - 작은 쪽만 재귀하고 큰 쪽은 반복 -> 스택 깊이 O(log n)
+// - 재귀가 2*log2(n) 보다 깊어지면 그 구간은 힙 정렬 (최악의 경우도 O(n log n))
+// - INSERTION 개 이하 구간은 삽입 정렬 (캐시 한두 줄 안에서 끝난다)
+// double 은 NaN 을 먼저 뒤로 빼고 < 로 정렬한 뒤 -0.0 을 0.0 앞으로 옮긴다 (Arrays.sort 와 같은 순서)
+public class IntroSort {
+
+	static final int INSERTION = 24;
+
+	private IntroSort() {
+	}
+
+	// Arrays.sort 와 같은 범위 검사
+	static void rangeCheck(int length, int from, int to) {
+		if (from > to) {
+			throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+		}
+		if (from < 0) {
+			throw new ArrayIndexOutOfBoundsException(from);
+		}
+		if (to > length) {
+			throw new ArrayIndexOutOfBoundsException(to);
+		}
+	}
+
+	static int depthLimit(int n) {
+		return 2 * (31 - Integer.numberOfLeadingZeros(Math.max(n, 1)));
+	}
+
+	// ---- int ----
+
+	public static void sort(int[] a) {
+		sort(a, 0, a.length);
+	}
+
+	// [from, to) 를 정렬
+	public static void sort(int[] a, int from, int to) {
+		rangeCheck(a.length, from, to);
+		introsort(a, from, to - 1, depthLimit(to - from));
+	}
+
+	// [lo, hi] 를 정렬 (hi 포함)
+	static void introsort(int[] a, int lo, int hi, int depth) {
+		while (hi - lo >= INSERTION) {
+			if (depth-- == 0) {
+				heapsort(a, lo, hi + 1);
+				return;
+			}
+			int j = partition(a, lo, hi);
+			if (j - lo < hi - j) {
+				introsort(a, lo, j, depth);
+				lo = j + 1;
+			} else {
+				introsort(a, j + 1, hi, depth);
+				hi = j;
+			}
+		}
+		insertion(a, lo, hi);
+	}
+
+	// 호어 분할 : [lo, j] <= 피벗 <= [j+1, hi] 인 j 를 돌려준다 (lo <= j < hi)
+	private static int partition(int[] a, int lo, int hi) {
+		int mid = (lo + hi) >>> 1;
+		if (a[mid] < a[lo]) {
+			swap(a, lo, mid);
+		}
+		if (a[hi] < a[lo]) {
+			swap(a, lo, hi);
+		}
+		if (a[hi] < a[mid]) {
+			swap(a, mid, hi);
+		}
+		int pivot = a[mid];
+		int i = lo - 1;
+		int j = hi + 1;
+		while (true) {
+			do {
+				i++;
+			} while (a[i] < pivot);
+			do {
+				j--;
+			} while (a[j] > pivot);
+			if (i >= j) {
+				return j;
+			}
+			swap(a, i, j);
+		}
+	}
+
+	private static void insertion(int[] a, int lo, int hi) {
+		for (int i = lo + 1; i <= hi; i++) {
+			int v = a[i];
+			int j = i - 1;
+			while (j >= lo && a[j] > v) {
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = v;
+		}
+	}
+
+	// [from, to) 힙 정렬
+	private static void heapsort(int[] a, int from, int to) {
+		int n = to - from;
+		for (int i = n / 2 - 1; i >= 0; i--) {
+			siftDown(a, from, i, n);
+		}
+		for (int end = n - 1; end > 0; end--) {
+			swap(a, from, from + end);
+			siftDown(a, from, 0, end);
+		}
+	}
+
+	private static void siftDown(int[] a, int base, int i, int n) {
+		int v = a[base + i];
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= n) {
+				break;
+			}
+			if (child + 1 < n && a[base + child + 1] > a[base + child]) {
+				child++;
+			}
+			if (a[base + child] <= v) {
+				break;
+			}
+			a[base + i] = a[base + child];
+			i = child;
+		}
+		a[base + i] = v;
+	}
+
+	private static void swap(int[] a, int i, int j) {
+		int t = a[i];
+		a[i] = a[j];
+		a[j] = t;
+	}
+
+	// ---- long ----
+
+	public static void sort(long[] a) {
+		sort(a, 0, a.length);
+	}
+
+	// [from, to) 를 정렬
+	public static void sort(long[] a, int from, int to) {
+		rangeCheck(a.length, from, to);
+		introsort(a, from, to - 1, depthLimit(to - from));
+	}
+
+	// [lo, hi] 를 정렬 (hi 포함)
+	static void introsort(long[] a, int lo, int hi, int depth) {
+		while (hi - lo >= INSERTION) {
+			if (depth-- == 0) {
+				heapsort(a, lo, hi + 1);
+				return;
+			}
+			int j = partition(a, lo, hi);
+			if (j - lo < hi - j) {
+				introsort(a, lo, j, depth);
+				lo = j + 1;
+			} else {
+				introsort(a, j + 1, hi, depth);
+				hi = j;
+			}
+		}
+		insertion(a, lo, hi);
+	}
+
+	// 호어 분할 : [lo, j] <= 피벗 <= [j+1, hi] 인 j 를 돌려준다 (lo <= j < hi)
+	private static int partition(long[] a, int lo, int hi) {
+		int mid = (lo + hi) >>> 1;
+		if (a[mid] < a[lo]) {
+			swap(a, lo, mid);
+		}
+		if (a[hi] < a[lo]) {
+			swap(a, lo, hi);
+		}
+		if (a[hi] < a[mid]) {
+			swap(a, mid, hi);
+		}
+		long pivot = a[mid];
+		int i = lo - 1;
+		int j = hi + 1;
+		while (true) {
+			do {
+				i++;
+			} while (a[i] < pivot);
+			do {
+				j--;
+			} while (a[j] > pivot);
+			if (i >= j) {
+				return j;
+			}
+			swap(a, i, j);
+		}
+	}
+
+	private static void insertion(long[] a, int lo, int hi) {
+		for (int i = lo + 1; i <= hi; i++) {
+			long v = a[i];
+			int j = i - 1;
+			while (j >= lo && a[j] > v) {
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = v;
+		}
+	}
+
+	// [from, to) 힙 정렬
+	private static void heapsort(long[] a, int from, int to) {
+		int n = to - from;
+		for (int i = n / 2 - 1; i >= 0; i--) {
+			siftDown(a, from, i, n);
+		}
+		for (int end = n - 1; end > 0; end--) {
+			swap(a, from, from + end);
+			siftDown(a, from, 0, end);
+		}
+	}
+
+	private static void siftDown(long[] a, int base, int i, int n) {
+		long v = a[base + i];
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= n) {
+				break;
+			}
+			if (child + 1 < n && a[base + child + 1] > a[base + child]) {
+				child++;
+			}
+			if (a[base + child] <= v) {
+				break;
+			}
+			a[base + i] = a[base + child];
+			i = child;
+		}
+		a[base + i] = v;
+	}
+
+	private static void swap(long[] a, int i, int j) {
+		long t = a[i];
+		a[i] = a[j];
+		a[j] = t;
+	}
+
+	// ---- double ----
+
+	public static void sort(double[] a) {
+		sort(a, 0, a.length);
+	}
+
+	// [from, to) 를 정렬
+	public static void sort(double[] a, int from, int to) {
+		rangeCheck(a.length, from, to);
+		int end = moveNaNs(a, from, to);
+		introsort(a, from, end - 1, depthLimit(end - from));
+		fixZeros(a, from, end);
+	}
+
+	// [lo, hi] 를 정렬 (hi 포함)
+	static void introsort(double[] a, int lo, int hi, int depth) {
+		while (hi - lo >= INSERTION) {
+			if (depth-- == 0) {
+				heapsort(a, lo, hi + 1);
+				return;
+			}
+			int j = partition(a, lo, hi);
+			if (j - lo < hi - j) {
+				introsort(a, lo, j, depth);
+				lo = j + 1;
+			} else {
+				introsort(a, j + 1, hi, depth);
+				hi = j;
+			}
+		}
+		insertion(a, lo, hi);
+	}
+
+	// 호어 분할 : [lo, j] <= 피벗 <= [j+1, hi] 인 j 를 돌려준다 (lo <= j < hi)
+	private static int partition(double[] a, int lo, int hi) {
+		int mid = (lo + hi) >>> 1;
+		if (a[mid] < a[lo]) {
+			swap(a, lo, mid);
+		}
+		if (a[hi] < a[lo]) {
+			swap(a, lo, hi);
+		}
+		if (a[hi] < a[mid]) {
+			swap(a, mid, hi);
+		}
+		double pivot = a[mid];
+		int i = lo - 1;
+		int j = hi + 1;
+		while (true) {
+			do {
+				i++;
+			} while (a[i] < pivot);
+			do {
+				j--;
+			} while (a[j] > pivot);
+			if (i >= j) {
+				return j;
+			}
+			swap(a, i, j);
+		}
+	}
+
+	private static void insertion(double[] a, int lo, int hi) {
+		for (int i = lo + 1; i <= hi; i++) {
+			double v = a[i];
+			int j = i - 1;
+			while (j >= lo && a[j] > v) {
+				a[j + 1] = a[j];
+				j--;
+			}
+			a[j + 1] = v;
+		}
+	}
+
+	// [from, to) 힙 정렬
+	private static void heapsort(double[] a, int from, int to) {
+		int n = to - from;
+		for (int i = n / 2 - 1; i >= 0; i--) {
+			siftDown(a, from, i, n);
+		}
+		for (int end = n - 1; end > 0; end--) {
+			swap(a, from, from + end);
+			siftDown(a, from, 0, end);
+		}
+	}
+
+	private static void siftDown(double[] a, int base, int i, int n) {
+		double v = a[base + i];
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= n) {
+				break;
+			}
+			if (child + 1 < n && a[base + child + 1] > a[base + child]) {
+				child++;
+			}
+			if (a[base + child] <= v) {
+				break;
+			}
+			a[base + i] = a[base + child];
+			i = child;
+		}
+		a[base + i] = v;
+	}
+
+	private static void swap(double[] a, int i, int j) {
+		double t = a[i];
+		a[i] = a[j];
+		a[j] = t;
+	}
+
+	// NaN 을 [from, to) 의 맨 뒤로 모으고, NaN 이 아닌 구간의 끝을 돌려준다
+	static int moveNaNs(double[] a, int from, int to) {
+		int end = to;
+		for (int i = to - 1; i >= from; i--) {
+			double v = a[i];
+			if (v != v) {
+				a[i] = a[--end];
+				a[end] = v;
+			}
+		}
+		return end;
+	}
+
+	// < 로 정렬하면 -0.0 과 0.0 이 섞여 있다 : 0 구간에서 -0.0 을 세어 앞으로 모은다
+	static void fixZeros(double[] a, int from, int end) {
+		int lo = from;
+		int hi = end;
+		while (lo < hi) {
+			int m = (lo + hi) >>> 1;
+			if (a[m] < 0.0) {
+				lo = m + 1;
+			} else {
+				hi = m;
+			}
+		}
+		int negative = 0;
+		int i = lo;
+		for (; i < end && a[i] == 0.0; i++) {
+			if (Double.doubleToRawLongBits(a[i]) < 0) {
+				negative++;
+			}
+		}
+		if (negative == 0) {
+			return;
+		}
+		for (int k = lo; k < i; k++) {
+			a[k] = k < lo + negative ? -0.0 : 0.0;
+		}
+	}
+
+}
@@ -0,0 +1,444 @@
+package sort;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// 병렬 합병 정렬 (fork-join) : Arrays.parallelSort 와 같은 구조
+// - 반으로 나눠 양쪽을 동시에 정렬하고 합친다. LEAF 개 이하 구간은 한 스레드에서 IntroSort
+// - 합치는 것도 나눠서 동시에 : 긴 쪽의 가운데 값을 짧은 쪽에서 이진 탐색해 앞/뒤 두 합병으로 나눈다
+// - 배열 a 와 버퍼 b 를 층마다 번갈아 쓴다 (반쪽은 반대쪽 배열에 정렬해 두고 목표 배열로 합친다 -> 되복사 없음)
+// 버퍼로 n 개짜리 배열을 하나 더 쓴다. 코어가 하나뿐이면 그냥 IntroSort
+// double 은 IntroSort 와 같이 NaN 을 먼저 뒤로 빼고 끝나면 -0.0 을 0.0 앞으로 옮긴다
+public class ParallelMergeSort {
+
+	static final int LEAF = 1 << 13;
+	static final int MERGE_LEAF = 1 << 13;
+
+	private ParallelMergeSort() {
+	}
+
+	// ---- int ----
+
+	public static void sort(int[] a) {
+		sort(a, 0, a.length, ForkJoinPool.commonPool());
+	}
+
+	public static void sort(int[] a, int from, int to, ForkJoinPool pool) {
+		IntroSort.rangeCheck(a.length, from, to);
+		int end = to;
+		int n = end - from;
+		if (n <= LEAF || pool.getParallelism() == 1) {
+			IntroSort.introsort(a, from, end - 1, IntroSort.depthLimit(n));
+		} else {
+			pool.invoke(new IntSorter(a, from, new int[n], 0, n, false));
+		}
+	}
+
+	// 구간 [lo, hi) (from 기준 상대 위치) 를 정렬해서 intoB 면 b 에, 아니면 a 에 둔다
+	private static final class IntSorter extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] a;
+		private final int aOff;
+		private final int[] b;
+		private final int lo;
+		private final int hi;
+		private final boolean intoB;
+
+		IntSorter(int[] a, int aOff, int[] b, int lo, int hi, boolean intoB) {
+			this.a = a;
+			this.aOff = aOff;
+			this.b = b;
+			this.lo = lo;
+			this.hi = hi;
+			this.intoB = intoB;
+		}
+
+		@Override
+		protected void compute() {
+			int n = hi - lo;
+			if (n <= LEAF) {
+				IntroSort.introsort(a, aOff + lo, aOff + hi - 1, IntroSort.depthLimit(n));
+				if (intoB) {
+					System.arraycopy(a, aOff + lo, b, lo, n);
+				}
+				return;
+			}
+			int mid = (lo + hi) >>> 1;
+			invokeAll(new IntSorter(a, aOff, b, lo, mid, !intoB), new IntSorter(a, aOff, b, mid, hi, !intoB));
+			// 두 반쪽은 반대쪽 배열에 있다
+			if (intoB) {
+				new IntMerger(a, aOff, lo, mid, mid, hi, b, 0, lo).compute();
+			} else {
+				new IntMerger(b, 0, lo, mid, mid, hi, a, aOff, lo).compute();
+			}
+		}
+	}
+
+	// src 의 [lo1, hi1) 과 [lo2, hi2) 를 dst 의 at 부터 합친다 (위치는 모두 off 를 더하기 전)
+	private static final class IntMerger extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int[] src;
+		private final int sOff;
+		private final int lo1;
+		private final int hi1;
+		private final int lo2;
+		private final int hi2;
+		private final int[] dst;
+		private final int dOff;
+		private final int at;
+
+		IntMerger(int[] src, int sOff, int lo1, int hi1, int lo2, int hi2, int[] dst, int dOff, int at) {
+			this.src = src;
+			this.sOff = sOff;
+			this.lo1 = lo1;
+			this.hi1 = hi1;
+			this.lo2 = lo2;
+			this.hi2 = hi2;
+			this.dst = dst;
+			this.dOff = dOff;
+			this.at = at;
+		}
+
+		@Override
+		protected void compute() {
+			int n1 = hi1 - lo1;
+			int n2 = hi2 - lo2;
+			if (n1 + n2 <= MERGE_LEAF) {
+				merge();
+				return;
+			}
+			// 긴 쪽을 가운데에서 자른다
+			if (n1 < n2) {
+				new IntMerger(src, sOff, lo2, hi2, lo1, hi1, dst, dOff, at).compute();
+				return;
+			}
+			int m1 = (lo1 + hi1) >>> 1;
+			int pivot = src[sOff + m1];
+			int m2 = lowerBound(src, sOff + lo2, sOff + hi2, pivot) - sOff;
+			int pos = at + (m1 - lo1) + (m2 - lo2);
+			dst[dOff + pos] = pivot;
+			invokeAll(new IntMerger(src, sOff, lo1, m1, lo2, m2, dst, dOff, at),
+					new IntMerger(src, sOff, m1 + 1, hi1, m2, hi2, dst, dOff, pos + 1));
+		}
+
+		private void merge() {
+			int i = sOff + lo1;
+			int iEnd = sOff + hi1;
+			int j = sOff + lo2;
+			int jEnd = sOff + hi2;
+			int k = dOff + at;
+			while (i < iEnd && j < jEnd) {
+				int x = src[i];
+				int y = src[j];
+				if (y < x) {
+					dst[k++] = y;
+					j++;
+				} else {
+					dst[k++] = x;
+					i++;
+				}
+			}
+			System.arraycopy(src, i, dst, k, iEnd - i);
+			System.arraycopy(src, j, dst, k + (iEnd - i), jEnd - j);
+		}
+	}
+
+	// [from, to) 에서 처음으로 key 이상인 위치
+	private static int lowerBound(int[] a, int from, int to, int key) {
+		while (from < to) {
+			int m = (from + to) >>> 1;
+			if (a[m] < key) {
+				from = m + 1;
+			} else {
+				to = m;
+			}
+		}
+		return from;
+	}
+
+	// ---- long ----
+
+	public static void sort(long[] a) {
+		sort(a, 0, a.length, ForkJoinPool.commonPool());
+	}
+
+	public static void sort(long[] a, int from, int to, ForkJoinPool pool) {
+		IntroSort.rangeCheck(a.length, from, to);
+		int end = to;
+		int n = end - from;
+		if (n <= LEAF || pool.getParallelism() == 1) {
+			IntroSort.introsort(a, from, end - 1, IntroSort.depthLimit(n));
+		} else {
+			pool.invoke(new LongSorter(a, from, new long[n], 0, n, false));
+		}
+	}
+
+	// 구간 [lo, hi) (from 기준 상대 위치) 를 정렬해서 intoB 면 b 에, 아니면 a 에 둔다
+	private static final class LongSorter extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final long[] a;
+		private final int aOff;
+		private final long[] b;
+		private final int lo;
+		private final int hi;
+		private final boolean intoB;
+
+		LongSorter(long[] a, int aOff, long[] b, int lo, int hi, boolean intoB) {
+			this.a = a;
+			this.aOff = aOff;
+			this.b = b;
+			this.lo = lo;
+			this.hi = hi;
+			this.intoB = intoB;
+		}
+
+		@Override
+		protected void compute() {
+			int n = hi - lo;
+			if (n <= LEAF) {
+				IntroSort.introsort(a, aOff + lo, aOff + hi - 1, IntroSort.depthLimit(n));
+				if (intoB) {
+					System.arraycopy(a, aOff + lo, b, lo, n);
+				}
+				return;
+			}
+			int mid = (lo + hi) >>> 1;
+			invokeAll(new LongSorter(a, aOff, b, lo, mid, !intoB), new LongSorter(a, aOff, b, mid, hi, !intoB));
+			// 두 반쪽은 반대쪽 배열에 있다
+			if (intoB) {
+				new LongMerger(a, aOff, lo, mid, mid, hi, b, 0, lo).compute();
+			} else {
+				new LongMerger(b, 0, lo, mid, mid, hi, a, aOff, lo).compute();
+			}
+		}
+	}
+
+	// src 의 [lo1, hi1) 과 [lo2, hi2) 를 dst 의 at 부터 합친다 (위치는 모두 off 를 더하기 전)
+	private static final class LongMerger extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final long[] src;
+		private final int sOff;
+		private final int lo1;
+		private final int hi1;
+		private final int lo2;
+		private final int hi2;
+		private final long[] dst;
+		private final int dOff;
+		private final int at;
+
+		LongMerger(long[] src, int sOff, int lo1, int hi1, int lo2, int hi2, long[] dst, int dOff, int at) {
+			this.src = src;
+			this.sOff = sOff;
+			this.lo1 = lo1;
+			this.hi1 = hi1;
+			this.lo2 = lo2;
+			this.hi2 = hi2;
+			this.dst = dst;
+			this.dOff = dOff;
+			this.at = at;
+		}
+
+		@Override
+		protected void compute() {
+			int n1 = hi1 - lo1;
+			int n2 = hi2 - lo2;
+			if (n1 + n2 <= MERGE_LEAF) {
+				merge();
+				return;
+			}
+			// 긴 쪽을 가운데에서 자른다
+			if (n1 < n2) {
+				new LongMerger(src, sOff, lo2, hi2, lo1, hi1, dst, dOff, at).compute();
+				return;
+			}
+			int m1 = (lo1 + hi1) >>> 1;
+			long pivot = src[sOff + m1];
+			int m2 = lowerBound(src, sOff + lo2, sOff + hi2, pivot) - sOff;
+			int pos = at + (m1 - lo1) + (m2 - lo2);
+			dst[dOff + pos] = pivot;
+			invokeAll(new LongMerger(src, sOff, lo1, m1, lo2, m2, dst, dOff, at),
+					new LongMerger(src, sOff, m1 + 1, hi1, m2, hi2, dst, dOff, pos + 1));
+		}
+
+		private void merge() {
+			int i = sOff + lo1;
+			int iEnd = sOff + hi1;
+			int j = sOff + lo2;
+			int jEnd = sOff + hi2;
+			int k = dOff + at;
+			while (i < iEnd && j < jEnd) {
+				long x = src[i];
+				long y = src[j];
+				if (y < x) {
+					dst[k++] = y;
+					j++;
+				} else {
+					dst[k++] = x;
+					i++;
+				}
+			}
+			System.arraycopy(src, i, dst, k, iEnd - i);
+			System.arraycopy(src, j, dst, k + (iEnd - i), jEnd - j);
+		}
+	}
+
+	// [from, to) 에서 처음으로 key 이상인 위치
+	private static int lowerBound(long[] a, int from, int to, long key) {
+		while (from < to) {
+			int m = (from + to) >>> 1;
+			if (a[m] < key) {
+				from = m + 1;
+			} else {
+				to = m;
+			}
+		}
+		return from;
+	}
+
+	// ---- double ----
+
+	public static void sort(double[] a) {
+		sort(a, 0, a.length, ForkJoinPool.commonPool());
+	}
+
+	public static void sort(double[] a, int from, int to, ForkJoinPool pool) {
+		IntroSort.rangeCheck(a.length, from, to);
+		int end = IntroSort.moveNaNs(a, from, to);
+		int n = end - from;
+		if (n <= LEAF || pool.getParallelism() == 1) {
+			IntroSort.introsort(a, from, end - 1, IntroSort.depthLimit(n));
+		} else {
+			pool.invoke(new DoubleSorter(a, from, new double[n], 0, n, false));
+		}
+		IntroSort.fixZeros(a, from, end);
+	}
+
+	// 구간 [lo, hi) (from 기준 상대 위치) 를 정렬해서 intoB 면 b 에, 아니면 a 에 둔다
+	private static final class DoubleSorter extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final double[] a;
+		private final int aOff;
+		private final double[] b;
+		private final int lo;
+		private final int hi;
+		private final boolean intoB;
+
+		DoubleSorter(double[] a, int aOff, double[] b, int lo, int hi, boolean intoB) {
+			this.a = a;
+			this.aOff = aOff;
+			this.b = b;
+			this.lo = lo;
+			this.hi = hi;
+			this.intoB = intoB;
+		}
+
+		@Override
+		protected void compute() {
+			int n = hi - lo;
+			if (n <= LEAF) {
+				IntroSort.introsort(a, aOff + lo, aOff + hi - 1, IntroSort.depthLimit(n));
+				if (intoB) {
+					System.arraycopy(a, aOff + lo, b, lo, n);
+				}
+				return;
+			}
+			int mid = (lo + hi) >>> 1;
+			invokeAll(new DoubleSorter(a, aOff, b, lo, mid, !intoB), new DoubleSorter(a, aOff, b, mid, hi, !intoB));
+			// 두 반쪽은 반대쪽 배열에 있다
+			if (intoB) {
+				new DoubleMerger(a, aOff, lo, mid, mid, hi, b, 0, lo).compute();
+			} else {
+				new DoubleMerger(b, 0, lo, mid, mid, hi, a, aOff, lo).compute();
+			}
+		}
+	}
+
+	// src 의 [lo1, hi1) 과 [lo2, hi2) 를 dst 의 at 부터 합친다 (위치는 모두 off 를 더하기 전)
+	private static final class DoubleMerger extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final double[] src;
+		private final int sOff;
+		private final int lo1;
+		private final int hi1;
+		private final int lo2;
+		private final int hi2;
+		private final double[] dst;
+		private final int dOff;
+		private final int at;
+
+		DoubleMerger(double[] src, int sOff, int lo1, int hi1, int lo2, int hi2, double[] dst, int dOff, int at) {
+			this.src = src;
+			this.sOff = sOff;
+			this.lo1 = lo1;
+			this.hi1 = hi1;
+			this.lo2 = lo2;
+			this.hi2 = hi2;
+			this.dst = dst;
+			this.dOff = dOff;
+			this.at = at;
+		}
+
+		@Override
+		protected void compute() {
+			int n1 = hi1 - lo1;
+			int n2 = hi2 - lo2;
+			if (n1 + n2 <= MERGE_LEAF) {
+				merge();
+				return;
+			}
+			// 긴 쪽을 가운데에서 자른다
+			if (n1 < n2) {
+				new DoubleMerger(src, sOff, lo2, hi2, lo1, hi1, dst, dOff, at).compute();
+				return;
+			}
+			int m1 = (lo1 + hi1) >>> 1;
+			double pivot = src[sOff + m1];
+			int m2 = lowerBound(src, sOff + lo2, sOff + hi2, pivot) - sOff;
+			int pos = at + (m1 - lo1) + (m2 - lo2);
+			dst[dOff + pos] = pivot;
+			invokeAll(new DoubleMerger(src, sOff, lo1, m1, lo2, m2, dst, dOff, at),
+					new DoubleMerger(src, sOff, m1 + 1, hi1, m2, hi2, dst, dOff, pos + 1));
+		}
+
+		private void merge() {
+			int i = sOff + lo1;
+			int iEnd = sOff + hi1;
+			int j = sOff + lo2;
+			int jEnd = sOff + hi2;
+			int k = dOff + at;
+			while (i < iEnd && j < jEnd) {
+				double x = src[i];
+				double y = src[j];
+				if (y < x) {
+					dst[k++] = y;
+					j++;
+				} else {
+					dst[k++] = x;
+					i++;
+				}
+			}
+			System.arraycopy(src, i, dst, k, iEnd - i);
+			System.arraycopy(src, j, dst, k + (iEnd - i), jEnd - j);
+		}
+	}
+
+	// [from, to) 에서 처음으로 key 이상인 위치
+	private static int lowerBound(double[] a, int from, int to, double key) {
+		while (from < to) {
+			int m = (from + to) >>> 1;
+			if (a[m] < key) {
+				from = m + 1;
+			} else {
+				to = m;
+			}
+		}
+		return from;
+	}
+
+}
@@ -0,0 +1,227 @@
+package sort;
+
+// LSD 기수 정렬 : 아래 8비트부터 한 자리(256칸)씩 계수 정렬을 자리 수만큼 반복 (비교하지 않는다, O(자리 수 * n))
+// - 모든 자리의 개수를 한 번 훑어서 미리 센다
+// - 모든 값이 같은 자리(예 : 작은 양수의 위쪽 바이트)는 건너뛴다
+// - 한 번은 a -> buf, 다음 번은 buf -> a 로 번갈아 옮기고, 끝에 buf 에 있으면 한 번만 복사한다
+// 정렬 키 : int/long 은 부호 비트를 뒤집고, double 은 음수면 모든 비트를, 양수면 부호 비트만 뒤집는다
+//   (그러면 부호 없는 정수 순서 = 값 순서, -0.0 < 0.0)
+// 버퍼로 n 개짜리 배열을 하나 더 쓴다 : 여러 번 정렬하면 buf 를 넘겨서 다시 쓴다
+// SMALL 개보다 적으면 IntroSort 가 더 빠르다
+public class RadixSort {
+
+	static final int SMALL = 256;
+
+	private RadixSort() {
+	}
+
+	// ---- int ----
+
+	public static void sort(int[] a) {
+		sort(a, 0, a.length);
+	}
+
+	public static void sort(int[] a, int from, int to) {
+		IntroSort.rangeCheck(a.length, from, to);
+		if (to - from < SMALL) {
+			IntroSort.sort(a, from, to);
+			return;
+		}
+		sort(a, from, to, new int[to - from]);
+	}
+
+	// buf 길이는 to - from 이상
+	public static void sort(int[] a, int from, int to, int[] buf) {
+		IntroSort.rangeCheck(a.length, from, to);
+		if (buf.length < to - from) {
+			throw new IllegalArgumentException("buf 가 작습니다 : " + buf.length + " < " + (to - from));
+		}
+		int end = to;
+		int n = end - from;
+		if (n == 0) {
+			return;
+		}
+		int[][] counts = new int[4][256];
+		for (int i = from; i < end; i++) {
+			long k = key(a[i]);
+			for (int d = 0; d < 4; d++) {
+				counts[d][(int) (k >>> (d * 8)) & 0xFF]++;
+			}
+		}
+		int[] src = a;
+		int srcOff = from;
+		int[] dst = buf;
+		int dstOff = 0;
+		for (int d = 0; d < 4; d++) {
+			int[] c = counts[d];
+			if (c[(int) (key(a[from]) >>> (d * 8)) & 0xFF] == n) {
+				continue; // 이 자리는 모두 같다
+			}
+			int sum = 0;
+			for (int b = 0; b < 256; b++) {
+				int cnt = c[b];
+				c[b] = sum;
+				sum += cnt;
+			}
+			int shift = d * 8;
+			for (int i = 0; i < n; i++) {
+				int v = src[srcOff + i];
+				dst[dstOff + c[(int) (key(v) >>> shift) & 0xFF]++] = v;
+			}
+			int[] t = src;
+			src = dst;
+			dst = t;
+			int o = srcOff;
+			srcOff = dstOff;
+			dstOff = o;
+		}
+		if (src != a) {
+			System.arraycopy(src, srcOff, a, from, n);
+		}
+	}
+
+	// ---- long ----
+
+	public static void sort(long[] a) {
+		sort(a, 0, a.length);
+	}
+
+	public static void sort(long[] a, int from, int to) {
+		IntroSort.rangeCheck(a.length, from, to);
+		if (to - from < SMALL) {
+			IntroSort.sort(a, from, to);
+			return;
+		}
+		sort(a, from, to, new long[to - from]);
+	}
+
+	// buf 길이는 to - from 이상
+	public static void sort(long[] a, int from, int to, long[] buf) {
+		IntroSort.rangeCheck(a.length, from, to);
+		if (buf.length < to - from) {
+			throw new IllegalArgumentException("buf 가 작습니다 : " + buf.length + " < " + (to - from));
+		}
+		int end = to;
+		int n = end - from;
+		if (n == 0) {
+			return;
+		}
+		int[][] counts = new int[8][256];
+		for (int i = from; i < end; i++) {
+			long k = key(a[i]);
+			for (int d = 0; d < 8; d++) {
+				counts[d][(int) (k >>> (d * 8)) & 0xFF]++;
+			}
+		}
+		long[] src = a;
+		int srcOff = from;
+		long[] dst = buf;
+		int dstOff = 0;
+		for (int d = 0; d < 8; d++) {
+			int[] c = counts[d];
+			if (c[(int) (key(a[from]) >>> (d * 8)) & 0xFF] == n) {
+				continue; // 이 자리는 모두 같다
+			}
+			int sum = 0;
+			for (int b = 0; b < 256; b++) {
+				int cnt = c[b];
+				c[b] = sum;
+				sum += cnt;
+			}
+			int shift = d * 8;
+			for (int i = 0; i < n; i++) {
+				long v = src[srcOff + i];
+				dst[dstOff + c[(int) (key(v) >>> shift) & 0xFF]++] = v;
+			}
+			long[] t = src;
+			src = dst;
+			dst = t;
+			int o = srcOff;
+			srcOff = dstOff;
+			dstOff = o;
+		}
+		if (src != a) {
+			System.arraycopy(src, srcOff, a, from, n);
+		}
+	}
+
+	// ---- double ----
+
+	public static void sort(double[] a) {
+		sort(a, 0, a.length);
+	}
+
+	public static void sort(double[] a, int from, int to) {
+		IntroSort.rangeCheck(a.length, from, to);
+		if (to - from < SMALL) {
+			IntroSort.sort(a, from, to);
+			return;
+		}
+		sort(a, from, to, new double[to - from]);
+	}
+
+	// buf 길이는 to - from 이상
+	public static void sort(double[] a, int from, int to, double[] buf) {
+		IntroSort.rangeCheck(a.length, from, to);
+		if (buf.length < to - from) {
+			throw new IllegalArgumentException("buf 가 작습니다 : " + buf.length + " < " + (to - from));
+		}
+		// NaN 은 Arrays.sort 처럼 맨 뒤로 (정렬하지 않는다)
+		int end = IntroSort.moveNaNs(a, from, to);
+		int n = end - from;
+		if (n == 0) {
+			return;
+		}
+		int[][] counts = new int[8][256];
+		for (int i = from; i < end; i++) {
+			long k = key(a[i]);
+			for (int d = 0; d < 8; d++) {
+				counts[d][(int) (k >>> (d * 8)) & 0xFF]++;
+			}
+		}
+		double[] src = a;
+		int srcOff = from;
+		double[] dst = buf;
+		int dstOff = 0;
+		for (int d = 0; d < 8; d++) {
+			int[] c = counts[d];
+			if (c[(int) (key(a[from]) >>> (d * 8)) & 0xFF] == n) {
+				continue; // 이 자리는 모두 같다
+			}
+			int sum = 0;
+			for (int b = 0; b < 256; b++) {
+				int cnt = c[b];
+				c[b] = sum;
+				sum += cnt;
+			}
+			int shift = d * 8;
+			for (int i = 0; i < n; i++) {
+				double v = src[srcOff + i];
+				dst[dstOff + c[(int) (key(v) >>> shift) & 0xFF]++] = v;
+			}
+			double[] t = src;
+			src = dst;
+			dst = t;
+			int o = srcOff;
+			srcOff = dstOff;
+			dstOff = o;
+		}
+		if (src != a) {
+			System.arraycopy(src, srcOff, a, from, n);
+		}
+	}
+
+	private static long key(int v) {
+		return (v ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+	}
+
+	private static long key(long v) {
+		return v ^ Long.MIN_VALUE;
+	}
+
+	private static long key(double v) {
+		long bits = Double.doubleToRawLongBits(v);
+		return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+	}
+
+}
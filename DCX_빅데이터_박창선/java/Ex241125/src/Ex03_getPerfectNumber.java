@@ -1,3 +1,5 @@
+import divisor.DivisorSieve;
+
 public class Ex03_getPerfectNumber {
 
     public static void main(String[] args) {
@@ -8,18 +10,13 @@ public class Ex03_getPerfectNumber {
     }
 
     public static void getPerfectNumber(int startValue, int endValue) {
-        
-        for(int j = startValue; j <= endValue; j++) {
-           int sum = 0;
-           for(int i = 1; i < j; i++) {
-              if(j % i == 0) {
-                 // 2의 약수
-                 sum += i;
-              }
-           }
-           if(sum == j) {
-              System.out.print(j + " ");
-           }
+        // 수마다 1 ~ j-1 로 나눠 보면 O(n²) 이라 약수의 합 체로 구간을 한 번에 구한다 (divisor.DivisorSieve)
+        int from = Math.max(1, startValue);
+        if (endValue < from) {
+            return;
         }
+        DivisorSieve.classify(from, endValue)
+                .filter(e -> e.getKind() == DivisorSieve.Kind.PERFECT)
+                .forEachOrdered(e -> System.out.print(e.getN() + " "));
+    }
 }
-}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package bench;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import divisor.DivisorSieve;
+
+// 완전수 찾기 비교 (JMH 가 없어서 main 으로 잰다)
+//   nested : Ex03_getPerfectNumber 의 이중 반복문 그대로 (기본 패키지라 여기서 부를 수 없어서 옮겨 적음), 출력 대신 개수만
+//   single : DivisorSieve.count 를 스레드 하나로
+//   count  : DivisorSieve.count (parallel, 공용 풀)
+//   stream : DivisorSieve.classify 로 Entry 를 흘려 보내며 완전수만 모으기 (parallel)
+// 크기마다 가장 빠른 값 (처음 한 번은 버림), 이중 반복문은 10^5 까지만 (10^5 에서 이미 수 초)
+// 결과(완전수 목록, 세 종류 개수)가 모두 같은지, σ 가 나눠 본 값과 같은지 확인한다
+// 실행 : java bench.DivisorSieveBench [최대 크기]   기본 100,000,000
+public class DivisorSieveBench {
+
+	private static final long NESTED_MAX = 100_000;
+
+	public static void main(String[] args) throws Exception {
+		long max = args.length > 0 ? Long.parseLong(args[0]) : 100_000_000L;
+		int threads = ForkJoinPool.commonPool().getParallelism();
+		System.out.printf("코어 %d, 조각 %,d개 (%,d bytes)%n", Runtime.getRuntime().availableProcessors(),
+				DivisorSieve.SEGMENT, DivisorSieve.SEGMENT * 8L);
+		checkSigma();
+
+		System.out.printf("%14s %12s %12s %12s %12s  %s%n", "n", "nested ms", "single ms", "count ms", "stream ms",
+				"완전수 / 과잉수 / 부족수");
+		for (long n = 1000; n <= max; n *= 10) {
+			long end = n;
+			String nested = "-";
+			long[] nestedCount = null;
+			if (n <= NESTED_MAX) {
+				long[][] r = new long[1][];
+				nested = ms(n <= 10_000 ? 3 : 1, () -> r[0] = nested(2, (int) end));
+				nestedCount = r[0];
+			}
+			long[][] c = new long[2][];
+			ForkJoinPool one = new ForkJoinPool(1);
+			String single = ms(3, () -> c[0] = one.submit(() -> DivisorSieve.count(2, end)).get());
+			one.shutdown();
+			String count = ms(3, () -> c[1] = DivisorSieve.count(2, end));
+			long[][] perfect = new long[1][];
+			String stream = ms(3, () -> perfect[0] = DivisorSieve.classify(2, end)
+					.filter(e -> e.getKind() == DivisorSieve.Kind.PERFECT).mapToLong(DivisorSieve.Entry::getN).toArray());
+
+			if (!Arrays.equals(c[0], c[1]) || c[1][0] != perfect[0].length
+					|| nestedCount != null && nestedCount[0] != c[1][0]) {
+				throw new IllegalStateException("결과가 다릅니다");
+			}
+			System.out.printf("%,14d %12s %12s %12s %12s  %,d / %,d / %,d  %s%n", n, nested, single, count, stream,
+					c[1][0], c[1][1], c[1][2], Arrays.toString(perfect[0]));
+		}
+		System.out.println("(공용 풀 스레드 " + threads + ")");
+	}
+
+	interface Task {
+		void run() throws Exception;
+	}
+
+	private static String ms(int runs, Task task) throws Exception {
+		long best = Long.MAX_VALUE;
+		for (int r = -1; r < runs; r++) {
+			long start = System.nanoTime();
+			task.run();
+			long elapsed = System.nanoTime() - start;
+			if (r >= 0) {
+				best = Math.min(best, elapsed);
+			}
+		}
+		return String.format("%.1f", best / 1e6);
+	}
+
+	// Ex03_getPerfectNumber.getPerfectNumber 의 반복문 (완전수면 출력하던 것을 개수 세기로만 바꿈)
+	private static long[] nested(int startValue, int endValue) {
+		long[] c = new long[3];
+		for (int j = startValue; j <= endValue; j++) {
+			int sum = 0;
+			for (int i = 1; i < j; i++) {
+				if (j % i == 0) {
+					sum += i;
+				}
+			}
+			c[sum == j ? 0 : sum > j ? 1 : 2]++;
+		}
+		return c;
+	}
+
+	// 조각 경계와 큰 수 근처에서 체의 σ 와 나눠 본 σ 비교
+	private static void checkSigma() {
+		long[] starts = { 1, DivisorSieve.SEGMENT - 5, 99_999_000L, 1_000_000_000_000L };
+		long[] s = new long[1000];
+		for (long start : starts) {
+			DivisorSieve.sigma(start, s, s.length);
+			for (int i = 0; i < s.length; i++) {
+				if (s[i] != DivisorSieve.sigma(start + i)) {
+					throw new IllegalStateException("σ(" + (start + i) + ") 이 다릅니다");
+				}
+			}
+		}
+	}
+
+}
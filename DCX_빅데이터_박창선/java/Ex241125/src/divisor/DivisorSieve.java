@@ -0,0 +1,158 @@
+package divisor;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+// 약수의 합 σ(n) 을 구간으로 한꺼번에 구하는 체
+// 수마다 나눠 보는 대신 약수 쪽에서 배수를 찾아간다 : d <= √to 인 d 마다 d*q (q >= d) 에 d 와 q 를 더한다
+//   -> n 의 약수는 √n 보다 작은 d 와 짝 q = n/d 로 빠짐없이 한 번씩 더해진다 (d == q 면 한 번만)
+//   구간 [from, to] 에 드는 일이 (to - from) * ln(√to) + √to 번 정도의 덧셈, 나눗셈은 d 마다 한 번
+// 구간은 SEGMENT 개씩 잘라서 (long 128K 개 = 1MB, L2 정도) 조각마다 따로 체를 친다
+//   -> 10^8 까지도 메모리는 스레드당 조각 하나, 조각들은 parallel 스트림으로 여러 스레드가 나눠 맡는다
+// 약수의 합에서 자기 자신을 뺀 값(진약수의 합)이 n 과 같으면 완전수, 크면 과잉수, 작으면 부족수
+public class DivisorSieve {
+
+	public static final int SEGMENT = 1 << 17;
+
+	public enum Kind {
+		PERFECT, ABUNDANT, DEFICIENT
+	}
+
+	// 수 하나의 결과
+	public static final class Entry {
+		private final long n;
+		private final long sigma;
+
+		public Entry(long n, long sigma) {
+			this.n = n;
+			this.sigma = sigma;
+		}
+
+		public long getN() {
+			return n;
+		}
+
+		public long getSigma() {
+			return sigma;
+		}
+
+		// 진약수의 합
+		public long getAliquot() {
+			return sigma - n;
+		}
+
+		public Kind getKind() {
+			return kind(n, sigma);
+		}
+
+		@Override
+		public String toString() {
+			return n + " (" + getKind() + ", σ=" + sigma + ")";
+		}
+	}
+
+	private DivisorSieve() {
+	}
+
+	public static Kind kind(long n, long sigma) {
+		long aliquot = sigma - n;
+		if (aliquot == n) {
+			return Kind.PERFECT;
+		}
+		return aliquot > n ? Kind.ABUNDANT : Kind.DEFICIENT;
+	}
+
+	// 수 하나만 물어볼 때 : √n 까지 나눠 본다
+	public static long sigma(long n) {
+		if (n < 1) {
+			throw new IllegalArgumentException("1 이상이어야 합니다 : " + n);
+		}
+		long sum = 0;
+		long root = sqrt(n);
+		for (long d = 1; d <= root; d++) {
+			if (n % d == 0) {
+				long q = n / d;
+				sum += q == d ? d : d + q;
+			}
+		}
+		return sum;
+	}
+
+	// out[i] = σ(from + i)  (i < count) : 조각 하나
+	public static void sigma(long from, long[] out, int count) {
+		if (from < 1) {
+			throw new IllegalArgumentException("1 이상이어야 합니다 : " + from);
+		}
+		if (count < 0 || count > out.length) {
+			throw new IllegalArgumentException("count 가 잘못되었습니다 : " + count);
+		}
+		Arrays.fill(out, 0, count, 0);
+		if (count == 0) {
+			return;
+		}
+		long root = sqrt(from + count - 1);
+		for (long d = 1; d <= root; d++) {
+			// 조각 안에서 d 의 첫 배수 d*q (q >= d)
+			long q = Math.max(d, (from + d - 1) / d);
+			int i = (int) (d * q - from);
+			if (q == d && i < count) {
+				out[i] += d;
+				q++;
+				i += (int) d;
+			}
+			for (; i < count; i += (int) d, q++) {
+				out[i] += d + q;
+			}
+		}
+	}
+
+	// [from, to] 의 수를 차례대로 (parallel 스트림, 순서는 유지된다)
+	public static Stream<Entry> classify(long from, long to) {
+		long segments = segments(from, to);
+		return LongStream.range(0, segments).parallel().boxed().flatMap(seg -> {
+			long start = from + seg * SEGMENT;
+			int count = (int) Math.min(SEGMENT, to - start + 1);
+			long[] s = new long[count];
+			sigma(start, s, count);
+			return IntStream.range(0, count).mapToObj(i -> new Entry(start + i, s[i]));
+		});
+	}
+
+	// [from, to] 의 완전수/과잉수/부족수 개수 (Kind 순서대로), 객체를 만들지 않는다
+	public static long[] count(long from, long to) {
+		long segments = segments(from, to);
+		return LongStream.range(0, segments).parallel().mapToObj(seg -> {
+			long start = from + seg * SEGMENT;
+			int count = (int) Math.min(SEGMENT, to - start + 1);
+			long[] s = new long[count];
+			sigma(start, s, count);
+			long[] c = new long[3];
+			for (int i = 0; i < count; i++) {
+				c[kind(start + i, s[i]).ordinal()]++;
+			}
+			return c;
+		}).reduce(new long[3], (x, y) -> new long[] { x[0] + y[0], x[1] + y[1], x[2] + y[2] });
+	}
+
+	private static long segments(long from, long to) {
+		if (from < 1 || to < from) {
+			throw new IllegalArgumentException("구간이 잘못되었습니다 : " + from + " ~ " + to);
+		}
+		return (to - from) / SEGMENT + 1;
+	}
+
+	// floor(√n)
+	static long sqrt(long n) {
+		long r = (long) Math.sqrt((double) n);
+		while (r * r > n) {
+			r--;
+		}
+		while ((r + 1) * (r + 1) <= n) {
+			r++;
+		}
+		return r;
+	}
+
+}
@@ -47,13 +47,20 @@ public class Ex05Select {
 			rs = psmt.executeQuery(); // ResultSet rs;
 			// rs.next(); //커서객체(ResultSet)을 한칸 내리는 역할
 
+			// 컬럼 이름 -> 번호는 반복문 밖에서 한 번만 찾는다
+			// (rs.getString("NAME") 처럼 쓰면 행마다 컬럼 이름을 다시 찾는다)
+			int idCol = rs.findColumn("ID");
+			int pwCol = rs.findColumn("PW");
+			int nameCol = rs.findColumn("NAME");
+			int ageCol = rs.findColumn("AGE");
+
 			while(rs.next()) {
 				
 			
-				String login_id = rs.getString(1);
-				String login_pw = rs.getString(2);
-				String login_name = rs.getString("NAME");
-				int login_age = rs.getInt("AGE");
+				String login_id = rs.getString(idCol);
+				String login_pw = rs.getString(pwCol);
+				String login_name = rs.getString(nameCol);
+				int login_age = rs.getInt(ageCol);
 				
 				System.out.printf("%s\t%s\t%s\t%d\n",login_id, login_pw,login_name, login_age);
 			}
@@ -0,0 +1,61 @@
+package bench;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CompletableFuture;
+
+import db.ConnectionPool;
+import db.DBExecutor;
+import db.DBManager;
+import model.AsyncMemberRepository;
+import model.MeberDAO;
+
+// 비동기 DAO 파사드 측정
+// 한 스레드(콘솔 루프 역할)가 findMember 요청 N 개를 한꺼번에 걸어 놓고 모두 끝날 때까지 기다린다
+// 가짜 DB 쿼리 1회 = 쿼리µs, 커넥션 풀 = 풀크기 -> 이론상 최대 처리량은 풀크기 / 쿼리시간
+// 동기 호출(한 번에 하나)과 비교하고, 걸어 둔 요청 수와 상관없이 스레드 수가 늘지 않는지 확인한다
+// 실행 : java bench.AsyncMemberBench [쿼리µs] [풀크기]
+public class AsyncMemberBench {
+
+	public static void main(String[] args) throws Exception {
+		long queryMicros = args.length > 0 ? Long.parseLong(args[0]) : 2000;
+		int poolSize = args.length > 1 ? Integer.parseInt(args[1]) : DBManager.POOL_MAX;
+
+		StubConnectionFactory factory = new StubConnectionFactory(2000, queryMicros);
+		DBManager.setPool(new ConnectionPool(factory, poolSize));
+		DBExecutor executor = new DBExecutor(poolSize);
+		MeberDAO dao = new MeberDAO();
+		AsyncMemberRepository async = new AsyncMemberRepository(dao, executor);
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+		System.out.printf("쿼리 %dus, 풀 %d, %s%n", queryMicros, poolSize, executor.isVirtual() ? "가상 스레드" : "스레드 풀");
+
+		// 동기 : 한 번에 하나씩
+		int syncCalls = 200;
+		long start = System.nanoTime();
+		for (int i = 0; i < syncCalls; i++) {
+			dao.findMember("user" + i);
+		}
+		double syncRate = syncCalls / ((System.nanoTime() - start) / 1e9);
+		System.out.printf("%-14s %,10.0f ops/sec%n", "sync", syncRate);
+
+		for (int inFlight : new int[] { 100, 1000, 5000, 20000 }) {
+			threads.resetPeakThreadCount();
+			start = System.nanoTime();
+			CompletableFuture<?>[] futures = new CompletableFuture<?>[inFlight];
+			for (int i = 0; i < inFlight; i++) {
+				futures[i] = async.findMember("user" + i);
+			}
+			long submitted = System.nanoTime() - start;
+			CompletableFuture.allOf(futures).join();
+			double sec = (System.nanoTime() - start) / 1e9;
+			System.out.printf("async %-8d %,10.0f ops/sec (sync 의 %.1f배)  제출 %.1fms  최대 스레드 %d%n", inFlight,
+					inFlight / sec, inFlight / sec / syncRate, submitted / 1e6, threads.getPeakThreadCount());
+		}
+		System.out.println(executor.getStats());
+		System.out.println("pool : " + DBManager.getPool().getStats());
+		executor.shutdown();
+		DBManager.getPool().shutdown();
+	}
+
+}
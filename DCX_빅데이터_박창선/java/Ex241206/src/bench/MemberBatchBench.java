@@ -0,0 +1,116 @@
+package bench;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import db.DBManager;
+import model.MeberDAO;
+import model.MemberDTO;
+
+// 일괄 수정/삭제(updateAll / deleteAll)와 한 행씩 처리할 때의 초당 행 수 비교
+// 한 행씩 : update() / delete() 에서 비밀번호 확인을 뺀 부분과 같다 (행마다 커넥션 빌림 + SQL 1회 + 자동 커밋)
+//   (비밀번호 해시 확인까지 넣으면 PBKDF2 비용이 대부분이라 SQL 처리 방식 차이가 안 보인다)
+// 일괄 : 묶음 크기(batchSize)별로 updateAll 을 재고, deleteAll 은 db.batch 크기로 잰다
+// 실행 : java bench.MemberBatchBench [행 수]
+//   -Dbench.stub=true : 오라클 대신 가짜 DB (-Dbench.stub.query=쿼리µs 로 왕복 시간 조절)
+//   오라클이면 아이디가 "bb" 로 시작하는 회원을 넣어 쓰고, 마지막 deleteAll 로 지운다
+public class MemberBatchBench {
+
+	private static final String UPDATE_SQL = "UPDATE MEMBER SET NAME = ?, AGE = ? WHERE ID = ?";
+	private static final String DELETE_SQL = "DELETE FROM MEMBER WHERE ID = ?";
+
+	private static StubConnectionFactory stub;
+	private static long lastTrips;
+
+	public static void main(String[] args) throws Exception {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+
+		stub = StubConnectionFactory.installIfRequested();
+		MeberDAO dao = new MeberDAO();
+
+		List<String> ids = new ArrayList<>();
+		List<MemberDTO> members = new ArrayList<>();
+		for (int i = 0; i < rows; i++) {
+			String id = String.format("bb%06d", i);
+			ids.add(id);
+			members.add(new MemberDTO(id, null, "정정" + i, 20 + i % 50));
+		}
+		insert(ids);
+		markTrips();
+		System.out.printf("회원 %,d명, db.batch=%d%n", rows, DBManager.BATCH_SIZE);
+
+		long start = System.nanoTime();
+		int cnt = 0;
+		for (MemberDTO dto : members) {
+			cnt += perRow(UPDATE_SQL, dto.getName(), dto.getAge(), dto.getId());
+		}
+		double perRowUpdate = report("update (한 행씩)", cnt, rows, start);
+
+		for (int batchSize : new int[] { 10, 100, 500, 5000 }) {
+			start = System.nanoTime();
+			cnt = dao.updateAll(members, batchSize);
+			double rate = report("updateAll " + batchSize, cnt, rows, start);
+			System.out.printf("%26s한 행씩의 %.1f배%n", "", rate / perRowUpdate);
+		}
+
+		start = System.nanoTime();
+		cnt = 0;
+		for (String id : ids) {
+			cnt += perRow(DELETE_SQL, id);
+		}
+		double perRowDelete = report("delete (한 행씩)", cnt, rows, start);
+
+		insert(ids);
+		markTrips();
+		start = System.nanoTime();
+		cnt = dao.deleteAll(ids);
+		double rate = report("deleteAll", cnt, rows, start);
+		System.out.printf("%26s한 행씩의 %.1f배%n", "", rate / perRowDelete);
+
+		System.out.println("pool : " + DBManager.getPool().getStats());
+		DBManager.getPool().shutdown();
+	}
+
+	// 행 하나를 커넥션 하나로 (자동 커밋)
+	private static int perRow(String sql, Object... params) throws SQLException {
+		try (Connection conn = DBManager.getConnection(); PreparedStatement psmt = conn.prepareStatement(sql)) {
+			for (int i = 0; i < params.length; i++) {
+				psmt.setObject(i + 1, params[i]);
+			}
+			return psmt.executeUpdate();
+		}
+	}
+
+	// 벤치용 회원 넣기 (비밀번호는 쓰지 않으므로 해시하지 않는다)
+	private static void insert(List<String> ids) throws SQLException {
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement("INSERT INTO MEMBER(ID, PW, NAME, AGE) VALUES(?, 'x', 'bench', 0)")) {
+			for (int i = 0; i < ids.size(); i++) {
+				psmt.setString(1, ids.get(i));
+				psmt.addBatch();
+				if (i % 1000 == 999) {
+					psmt.executeBatch();
+				}
+			}
+			psmt.executeBatch();
+		}
+	}
+
+	// 가짜 DB 면 지금까지의 왕복 수를 기억해 두고 다음 report 에서 차이를 출력
+	private static void markTrips() {
+		lastTrips = stub == null ? 0 : stub.getRoundTrips();
+	}
+
+	private static double report(String name, int cnt, int rows, long start) {
+		double sec = (System.nanoTime() - start) / 1e9;
+		double rate = rows / sec;
+		String trips = stub == null ? "" : String.format("  DB 왕복 %,d", stub.getRoundTrips() - lastTrips);
+		markTrips();
+		System.out.printf("%-24s %,10.0f rows/sec  처리 %,d / %,d행%s%n", name, rate, cnt, rows, trips);
+		return rate;
+	}
+
+}
@@ -0,0 +1,104 @@
+package bench;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import model.MemberDTO;
+import model.MemberExporter;
+import model.MemberRepository;
+
+// MemberExporter 처리량 / 메모리 측정
+// 회원을 저장하지 않고 forEachMember 에서 바로 만들어 내는 가짜 저장소를 쓰므로
+// 힙보다 큰 테이블도 흉내낼 수 있다 (예 : -Xmx64m 으로 2천만 명)
+// 실행 : java bench.MemberExportBench [회원수] [fetchSize]
+public class MemberExportBench {
+
+	public static void main(String[] args) throws Exception {
+		long rows = args.length > 0 ? Long.parseLong(args[0]) : 2_000_000;
+		int fetchSize = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+		MemberRepository repo = new GeneratedMembers(rows);
+		Path dir = Files.createTempDirectory("member-export");
+		System.out.printf("회원 %,d명, fetchSize=%d, 최대 힙 %,dMB%n", rows, fetchSize,
+				Runtime.getRuntime().maxMemory() >> 20);
+
+		for (String name : new String[] { "member.csv", "member.jsonl", "member.csv.gz", "member.jsonl.gz" }) {
+			Path file = dir.resolve(name);
+			long[] maxHeap = { 0 };
+			MemberExporter.Result r = MemberExporter.forFile(file, fetchSize)
+					.setProgress((n, bytes, rps) -> maxHeap[0] = Math.max(maxHeap[0], usedHeap()), rows / 20 + 1)
+					.export(repo, file);
+			System.out.printf("%-16s %,12.0f rows/sec %8.1f MB/s  파일 %,dKB  사용 힙 최대 %,dMB%n", name,
+					r.getRowsPerSec(), r.getBytes() / r.getSeconds() / (1 << 20), r.getFileBytes() >> 10,
+					maxHeap[0] >> 20);
+			Files.delete(file);
+		}
+		Files.delete(dir);
+	}
+
+	private static long usedHeap() {
+		Runtime rt = Runtime.getRuntime();
+		return rt.totalMemory() - rt.freeMemory();
+	}
+
+	// 내보내기 전용 가짜 저장소 : 회원을 만들어서 넘기기만 한다
+	private static class GeneratedMembers implements MemberRepository {
+		private final long rows;
+
+		GeneratedMembers(long rows) {
+			this.rows = rows;
+		}
+
+		@Override
+		public void forEachMember(int fetchSize, Consumer<MemberDTO> action) {
+			for (long i = 0; i < rows; i++) {
+				action.accept(new MemberDTO("user" + i, "pw", (i % 97 == 0) ? "김, \"철수\"" : "회원" + i,
+						(int) (i % 80) + 10));
+			}
+		}
+
+		@Override
+		public int login(MemberDTO dto) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int join(MemberDTO dto) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int update(MemberDTO dto) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int delete(MemberDTO dto) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int updateAll(Collection<MemberDTO> members) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int deleteAll(Collection<String> ids) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public MemberDTO findMember(String id) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public List<MemberDTO> memberPage(String afterId, int pageSize) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+}
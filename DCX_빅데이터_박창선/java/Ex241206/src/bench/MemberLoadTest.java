@@ -0,0 +1,59 @@
+package bench;
+
+import auth.AuthService;
+import db.DBManager;
+import model.MeberDAO;
+import model.MemberDTO;
+import model.MemberRepository;
+import model.MemoryMemberRepository;
+
+// MeberDAO 하나를 여러 스레드가 같이 쓰면서 login / join 부하 테스트
+// 실행 : java bench.MemberLoadTest [스레드수] [측정초]
+//   -Dbench.stub=true : 오라클 대신 가짜 DB 사용
+//   -Ddb.engine=memory : 메모리 저장소 사용
+// join 으로 넣은 회원은 ID가 "lt" 로 시작한다
+// 끝나면 AuthService 의 로그인 지연시간(세션 캐시 / 해시 검증 / 없는 ID)과 캐시 통계를 출력한다
+//   -Dauth.iterations=1000 처럼 줄이면 join 의 해시 비용이 줄어든다
+public class MemberLoadTest {
+
+	public static void main(String[] args) throws Exception {
+		int threads = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+		int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+		MemberRepository dao;
+		AuthService auth;
+		if (DBManager.isMemoryEngine()) {
+			System.out.println("메모리 저장소 사용");
+			MemoryMemberRepository memory = new MemoryMemberRepository();
+			dao = memory;
+			auth = memory.getAuth();
+		} else {
+			StubConnectionFactory.installIfRequested();
+			dao = new MeberDAO();
+			auth = MeberDAO.getAuth();
+		}
+
+		String run = Long.toString(System.currentTimeMillis(), 36);
+		// 스레드마다 마지막으로 가입한 아이디 (login 대상)
+		String[] lastId = new String[threads];
+
+		new LoadHarness(threads, 2, seconds)
+				.add("login", 8, (t, seq) -> {
+					String id = lastId[t] != null ? lastId[t] : "lt_none";
+					dao.login(new MemberDTO(id, "pw"));
+				})
+				.add("login_unknown", 1, (t, seq) -> {
+					dao.login(new MemberDTO("lt_unknown" + (seq & 63), "pw"));
+				})
+				.add("join", 2, (t, seq) -> {
+					String id = "lt" + run + "_" + t + "_" + seq;
+					if (dao.join(new MemberDTO(id, "pw", "load", 20)) == 1) {
+						lastId[t] = id;
+					}
+				})
+				.run();
+
+		System.out.println(auth.getStats());
+	}
+
+}
@@ -1,15 +1,29 @@
 package controller;
 
-import model.MeberDAO;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import model.MemberDTO;
+import model.MemberExporter;
+import model.MemberRepository;
 
 //Controller
 //사용자(View)가 요청한 값이 있으면 Controller에서 DAO로 연결
 //View를 간단하게, 사용자가 딱 입력과 결과값만 볼 수 있음
 public class MemberCon {
 
-	MeberDAO dao = new MeberDAO();
+	MemberRepository dao;
 	MemberDTO dto = null; 
+	
+	public MemberCon() {
+		this(MemberRepository.open());
+	}
+	
+	// View 가 이미 연 저장소를 같이 쓸 때 (메모리 저장소는 여는 곳마다 따로라서)
+	public MemberCon(MemberRepository dao) {
+		this.dao = dao;
+	}
 	   
 	public void loginCon(String id, String pw) {
 	    dto = new MemberDTO(id, pw);
@@ -48,6 +62,19 @@ public class MemberCon {
 	         dao.memberList();
 	      }
 	      
+	      // 파일 이름이 .csv / .jsonl (+ .gz) 이면 그 형식으로 내보내기
+	      public void exportCon(String fileName) {
+	         Path file = Paths.get(fileName);
+	         try {
+	            MemberExporter.Result result = MemberExporter.forFile(file, 500)
+	                  .setProgress((rows, bytes, rps) -> System.out.printf("%,d명 저장 중... (%,.0f rows/sec)\n", rows, rps), 100000)
+	                  .export(dao, file);
+	            System.out.println("회원 내보내기 완료 : " + file.toAbsolutePath() + " (" + result + ")");
+	         } catch (IOException | IllegalStateException e) {
+	            System.out.println("회원 내보내기 실패 : " + e.getMessage());
+	         }
+	      }
+	      
 	      public void DeleteCon(String id, String pw) {
 	         dto = new MemberDTO(id, pw);
 	         int cnt = dao.delete(dto);
@@ -0,0 +1,63 @@
+package model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import db.DBExecutor;
+
+// MemberRepository 의 비동기 버전
+// 메소드는 바로 CompletableFuture 를 돌려주고, 실제 DB 작업은 DBExecutor 에서 돈다
+// (동시에 도는 작업 수는 커넥션 풀 크기로 제한)
+// 사용법 : async.login(dto).thenAccept(result -> ...);
+public class AsyncMemberRepository {
+
+	private final MemberRepository repo;
+	private final DBExecutor executor;
+
+	public AsyncMemberRepository(MemberRepository repo) {
+		this(repo, DBExecutor.shared());
+	}
+
+	public AsyncMemberRepository(MemberRepository repo, DBExecutor executor) {
+		this.repo = repo;
+		this.executor = executor;
+	}
+
+	public CompletableFuture<Integer> login(MemberDTO dto) {
+		return executor.submit(() -> repo.login(dto));
+	}
+
+	public CompletableFuture<Integer> join(MemberDTO dto) {
+		return executor.submit(() -> repo.join(dto));
+	}
+
+	public CompletableFuture<Integer> update(MemberDTO dto) {
+		return executor.submit(() -> repo.update(dto));
+	}
+
+	public CompletableFuture<Integer> delete(MemberDTO dto) {
+		return executor.submit(() -> repo.delete(dto));
+	}
+
+	public CompletableFuture<Integer> updateAll(Collection<MemberDTO> members) {
+		return executor.submit(() -> repo.updateAll(members));
+	}
+
+	public CompletableFuture<Integer> deleteAll(Collection<String> ids) {
+		return executor.submit(() -> repo.deleteAll(ids));
+	}
+
+	public CompletableFuture<MemberDTO> findMember(String id) {
+		return executor.submit(() -> repo.findMember(id));
+	}
+
+	public CompletableFuture<List<MemberDTO>> memberPage(String afterId, int pageSize) {
+		return executor.submit(() -> repo.memberPage(afterId, pageSize));
+	}
+
+	public MemberRepository getRepository() {
+		return repo;
+	}
+
+}
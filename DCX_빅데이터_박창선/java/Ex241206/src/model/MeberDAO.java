@@ -1,208 +1,321 @@
 package model;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import auth.AuthService;
+import auth.CredentialStore;
+import auth.PasswordHasher;
+import db.DBManager;
+import db.RowMapper;
 
 // DAO : Data Access object
-public class MeberDAO {
+// Connection / PreparedStatement / ResultSet 은 메소드 안에서만 쓰고 닫는다
+// -> 필드에 상태가 없으므로 DAO 하나를 여러 스레드가 같이 써도 된다
+public class MeberDAO implements MemberRepository {
 
-	
-	Connection conn = null;
-	PreparedStatement psmt = null;
-	ResultSet rs = null;
-	
-	public int login(MemberDTO dto) { // dt -> id, pw
-		
-		connect();
-		
-		
-		int result = 0;
-		
-		try {
-			
-			String sql = "SELECT * FROM MEMBER WHERE ID=? AND PW=?";
-			psmt = conn.prepareStatement(sql);
-			
-			psmt.setString(1, dto.getId());
-			psmt.setString(2, dto.getPw());
-			
-			rs = psmt.executeQuery();
-			
-			if(rs.next()) {
-				//로그인 성공
-				result = 1;
-			}else {
-				//로그인 실패
-				result = 0;
+	// MEMBER 행 -> MemberDTO (컬럼 인덱스는 ResultSet 마다 한 번만 찾는다)
+	static final RowMapper<MemberDTO> MEMBER = RowMapper.of(
+			(rs, c) -> new MemberDTO(rs.getString(c[0]), rs.getString(c[1]), rs.getString(c[2]), rs.getInt(c[3])),
+			"ID", "PW", "NAME", "AGE");
+
+	// 비밀번호는 PasswordHasher 로 해시해서 저장하고, 로그인은 AuthService 가 처리한다
+	// (DAO 를 몇 개 만들어도 캐시는 하나를 같이 쓰도록 static)
+	private static final AuthService AUTH = new AuthService(new CredentialStore() {
+		@Override
+		public String findCredential(String id) throws SQLException {
+			try (Connection conn = DBManager.getConnection();
+					PreparedStatement psmt = conn.prepareStatement("SELECT PW FROM MEMBER WHERE ID=?")) {
+				psmt.setString(1, id);
+				try (ResultSet rs = psmt.executeQuery()) {
+					return rs.next() ? rs.getString(1) : null;
+				}
+			}
+		}
+
+		@Override
+		public void updateCredential(String id, String credential) throws SQLException {
+			try (Connection conn = DBManager.getConnection();
+					PreparedStatement psmt = conn.prepareStatement("UPDATE MEMBER SET PW=? WHERE ID=?")) {
+				psmt.setString(1, credential);
+				psmt.setString(2, id);
+				psmt.executeUpdate();
 			}
-			
-		} catch (SQLException e) {
-			System.out.println("SQL 쿼리 검사하기!");
-		}finally {
-			close();
-			
 		}
-		
-		return result; // true or false, 1 or 0
-		
+	});
+
+	public static AuthService getAuth() {
+		return AUTH;
+	}
+
+	// 로그인 기능
+	@Override
+	public int login(MemberDTO dto) { // dt -> id, pw
+		return AUTH.login(dto.getId(), dto.getPw()) ? 1 : 0; // 1 or 0
 	}
 
 	//회원가입 기능
+	@Override
 	public int join(MemberDTO dto) {
-		
-		connect();
-		
+
 		int cnt = 0;
-	
-		try {
-			String sql = "INSERT INTO MEMBER VALUES(?, ?, ?, ?)"; 
-			psmt = conn.prepareStatement(sql);
-			
-			
+		String sql = "INSERT INTO MEMBER VALUES(?, ?, ?, ?)";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
+
 			psmt.setString(1, dto.getId());
-			psmt.setString(2, dto.getPw());
+			psmt.setString(2, PasswordHasher.hash(dto.getPw()));
 			psmt.setString(3, dto.getName());
 			psmt.setInt(4, dto.getAge());
-			
+
+			cnt = psmt.executeUpdate();
+
+		} catch (SQLException e) {
+			e.printStackTrace();
+		}
+
+		// "없는 아이디" 로 캐시돼 있을 수 있다
+		AUTH.invalidateCredential(dto.getId());
+		return cnt;
+
+	}
+
+	// 회원정보 수정 기능
+	@Override
+	public int update(MemberDTO dto) {
+
+		// PW 는 해시로 저장돼 있으므로 SQL 로 비교하지 않고 AuthService 로 확인
+		if (!AUTH.login(dto.getId(), dto.getPw())) {
+			return 0;
+		}
+
+		int cnt = 0;
+		String sql = "UPDATE MEMBER SET NAME = ?, AGE = ? WHERE ID = ?";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
+
+			psmt.setString(1, dto.getName());
+			psmt.setInt(2, dto.getAge());
+			psmt.setString(3, dto.getId());
+
 			cnt = psmt.executeUpdate();
-			
-	
-		} catch (Exception e) {
-			// TODO: handle exception
+
+		} catch (SQLException e) {
 			e.printStackTrace();
 		}
-	
-	return cnt;
 
+		return cnt;
+	}
+
+	// 전체조회 기능
+	@Override
+	public void memberList() {
+
+		String sql = "SELECT " + MEMBER.columns() + " FROM MEMBER";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql);
+				ResultSet rs = psmt.executeQuery()) {
+
+			MEMBER.forEach(rs, dto -> System.out.printf("%s\t%s\t%s\t%d\n", dto.getId(), dto.getPw(), dto.getName(),
+					dto.getAge()));
+
+		} catch (SQLException e) {
+			e.printStackTrace();
+		}
 	}
 
-	private void close() {
-		try {
-			if(rs != null) {
-				rs.close();				
+	// 커서 하나로 전체 회원을 흘려 보낸다 (fetchSize 행씩 받아오므로 테이블이 커도 메모리는 일정)
+	// 순서는 보장하지 않는다 (ORDER BY 정렬 비용을 피하기 위해)
+	// DB 오류는 IllegalStateException 으로 던진다 (내보내기가 중간에 끊긴 걸 모르고 지나가지 않도록)
+	@Override
+	public void forEachMember(int fetchSize, Consumer<MemberDTO> action) {
+
+		String sql = "SELECT " + MEMBER.columns() + " FROM MEMBER";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
+
+			psmt.setFetchSize(fetchSize);
+
+			try (ResultSet rs = psmt.executeQuery()) {
+				MEMBER.forEach(rs, action);
 			}
-			psmt.close();
-			conn.close();
-			
-		}catch (Exception e2) {
-			// TODO: handle exception
+
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
 		}
 	}
 
-	
-	// 로그인 가능
+	// 회원탈퇴 기능 (아이디/비밀번호가 맞을 때만)
+	@Override
+	public int delete(MemberDTO dto) {
+
+		// update 와 같이 비밀번호는 AuthService 로 확인
+		if (!AUTH.login(dto.getId(), dto.getPw())) {
+			return 0;
+		}
+
+		int cnt = 0;
+		String sql = "DELETE FROM MEMBER WHERE ID = ?";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
 
-	private void connect() {
-		try {
-			Class.forName("oracle.jdbc.OracleDriver");
-		
-			String url = "jdbc:oracle:thin:@localhost:1521:xe";
-			String db_id = "hr";
-			String db_pw = "12345";
-			
-			conn = DriverManager.getConnection(url, db_id, db_pw); 
-			
-	}catch (ClassNotFoundException e) {
-		System.out.println("클래스 못찾음..");
-	} catch (SQLException e) {
-		System.out.println("DB연결 실패..");
+			psmt.setString(1, dto.getId());
+
+			cnt = psmt.executeUpdate();
+
+		} catch (SQLException e) {
+			e.printStackTrace();
+		}
+
+		// 탈퇴한 회원의 세션/비밀번호 캐시 제거
+		AUTH.invalidate(dto.getId());
+		return cnt;
+	}
+
+	// 일괄 수정 (야간 이름/나이 정정용) : db.batch 행씩 묶어 보낸다
+	@Override
+	public int updateAll(Collection<MemberDTO> members) {
+		return updateAll(members, DBManager.BATCH_SIZE);
+	}
+
+	public int updateAll(Collection<MemberDTO> members, int batchSize) {
+		return batch("UPDATE MEMBER SET NAME = ?, AGE = ? WHERE ID = ?", members, batchSize, (psmt, dto) -> {
+			psmt.setString(1, dto.getName());
+			psmt.setInt(2, dto.getAge());
+			psmt.setString(3, dto.getId());
+		});
+	}
+
+	// 일괄 삭제 (계정 정리용) : db.batch 행씩 묶어 보낸다
+	@Override
+	public int deleteAll(Collection<String> ids) {
+		return deleteAll(ids, DBManager.BATCH_SIZE);
 	}
+
+	public int deleteAll(Collection<String> ids, int batchSize) {
+		int cnt = batch("DELETE FROM MEMBER WHERE ID = ?", ids, batchSize, (psmt, id) -> psmt.setString(1, id));
+		// 중간에 실패했어도 지워졌을 수 있으므로 전부 비운다
+		for (String id : ids) {
+			AUTH.invalidate(id);
+		}
+		return cnt;
 	}
-	
-	// 정보수정 기능
-	 // 회원정보 수정 기능
-    public int update(MemberDTO dto) {
-        
-    	connect();
 
-        int cnt = 0;
+	// 커넥션 하나, PreparedStatement 하나로 rows 를 batchSize 행씩 addBatch -> executeBatch -> commit
+	// 묶음 하나가 한 트랜잭션이라 언두/락을 오래 잡지 않는다
+	// 묶음이 실패하면 그 묶음만 롤백하고 멈춘다 (앞에서 커밋한 묶음은 남고, 그 행 수를 돌려준다)
+	// autoCommit 은 커넥션을 풀에 돌려줄 때 ConnectionPool 이 되돌린다
+	private static <T> int batch(String sql, Collection<T> rows, int batchSize, Binder<T> binder) {
 
-        try {
-            String sql = "UPDATE MEMBER SET NAME = ?, AGE = ? WHERE ID = ? AND PW = ?";
-            psmt = conn.prepareStatement(sql);
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다");
+		}
 
-            psmt.setString(1, dto.getName());
-            psmt.setInt(2, dto.getAge());
-            psmt.setString(3, dto.getId());
-            psmt.setString(4, dto.getPw());
+		int cnt = 0;
 
-            cnt = psmt.executeUpdate();
+		try (Connection conn = DBManager.getConnection()) {
 
-        } catch (Exception e) {
-            e.printStackTrace();
-        } finally {
-            close();
-        }
+			conn.setAutoCommit(false);
 
-        return cnt;
-    }
+			try (PreparedStatement psmt = conn.prepareStatement(sql)) {
 
-    
+				int pending = 0;
+				for (T row : rows) {
+					binder.bind(psmt, row);
+					psmt.addBatch();
+					if (++pending == batchSize) {
+						cnt += flush(conn, psmt);
+						pending = 0;
+					}
+				}
+				if (pending > 0) {
+					cnt += flush(conn, psmt);
+				}
 
-	// 전체조회 기능
-	public void memberList() {
-		
-		connect();
-		
-		try {
-			
-			String sql = "SELECT * FROM MEMBER";
-			psmt = conn.prepareStatement(sql);
-			
-			rs = psmt.executeQuery();
-			
-			while(rs.next()) {
-				
-				String id = rs.getString(1);
-				String pw = rs.getString(2);
-				String name = rs.getString("name");
-				int age = rs.getInt(4);
-				
-				System.out.printf("%s\t%s\t%s\t%d\n", id, pw ,name, age );
-				
-				
+			} catch (SQLException e) {
+				conn.rollback();
+				throw e;
 			}
-		
-		
-		}catch (Exception e) {
-			// TODO: handle exception
-		}finally {
-			close();
+
+		} catch (SQLException e) {
+			e.printStackTrace();
+		}
+
+		return cnt;
+	}
+
+	private static int flush(Connection conn, PreparedStatement psmt) throws SQLException {
+		int cnt = 0;
+		for (int n : psmt.executeBatch()) {
+			// 드라이버가 행 수 대신 SUCCESS_NO_INFO(-2) 를 주면 1행으로 센다
+			cnt += n == Statement.SUCCESS_NO_INFO ? 1 : n;
 		}
+		conn.commit();
+		return cnt;
 	}
-     
-	// 회원탈퇴 기능
-	
-public int delete(MemberDTO dto) {
-        
-    	connect();
-
-        int cnt = 0;
-
-        try {
-            String sql = "DELETE MEMBER SET PW = ? WHERE PW = ?";
-            psmt = conn.prepareStatement(sql);
-
-            psmt.setString(1, dto.getName());
-            psmt.setInt(2, dto.getAge());
-            psmt.setString(3, dto.getId());
-            psmt.setString(4, dto.getPw());
-
-            cnt = psmt.executeUpdate();
-
-        } catch (Exception e) {
-            e.printStackTrace();
-        } finally {
-            close();
-        }
-
-        return cnt;
-    }
-	
-	
-	
-	
+
+	// 한 행의 값을 ? 에 넣는다
+	private interface Binder<T> {
+		void bind(PreparedStatement psmt, T row) throws SQLException;
+	}
+
+	// 아이디로 회원 조회
+	@Override
+	public MemberDTO findMember(String id) {
+
+		String sql = "SELECT " + MEMBER.columns() + " FROM MEMBER WHERE ID=?";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
+
+			psmt.setString(1, id);
+
+			try (ResultSet rs = psmt.executeQuery()) {
+				return MEMBER.one(rs);
+			}
+
+		} catch (SQLException e) {
+			e.printStackTrace();
+		}
+
+		return null;
+	}
+
+	// 아이디 순 페이지 조회 (OFFSET 대신 마지막 아이디 다음부터 읽는다)
+	@Override
+	public List<MemberDTO> memberPage(String afterId, int pageSize) {
+
+		List<MemberDTO> page = new ArrayList<>();
+		String sql = "SELECT * FROM (SELECT " + MEMBER.columns() + " FROM MEMBER WHERE ID > ? ORDER BY ID) WHERE ROWNUM <= ?";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
+
+			// 오라클은 '' 를 NULL 로 보므로 첫 페이지는 공백 한 칸보다 큰 아이디부터
+			psmt.setString(1, afterId == null || afterId.isEmpty() ? " " : afterId);
+			psmt.setInt(2, pageSize);
+
+			try (ResultSet rs = psmt.executeQuery()) {
+				MEMBER.forEach(rs, page::add);
+			}
+
+		} catch (SQLException e) {
+			e.printStackTrace();
+		}
+
+		return page;
+	}
+
 }
@@ -1,7 +1,7 @@
-package Model;
+package model;
 
 // DTO : Data Transfer Object
-public class GameDTO {
+public class MemberDTO {
 	
 	// 필드 
 	private String id;
@@ -10,7 +10,7 @@ public class GameDTO {
 	private int age;
 
 	// 회원가입 기능을 위한 생성자 메소드
-	public GameDTO(String id, String pw, String name, int age) {
+	public MemberDTO(String id, String pw, String name, int age) {
 		super();
 		this.id = id;
 		this.pw = pw;
@@ -19,7 +19,7 @@ public class GameDTO {
 	}
 
 	//로그인 기능을 위한 생성자 메소드 + 회원정보 수정 기능을 위한 생성자 메소드
-	public GameDTO(String id, String pw) {
+	public MemberDTO(String id, String pw) {
 		super();
 		this.id = id;
 		this.pw = pw;
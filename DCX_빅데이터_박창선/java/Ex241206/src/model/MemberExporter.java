@@ -0,0 +1,278 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+// 전체 회원을 파일로 내보낸다 (CSV 또는 JSON Lines)
+// - MemberRepository.forEachMember 로 fetchSize 명씩 받아서 바로 쓰므로 회원 수와 상관없이 메모리는 일정
+// - 한 줄씩 64KB ByteBuffer 에 UTF-8 로 인코딩하고, 차면 FileChannel 에 한 번에 쓴다
+// - gzip 이면 채널 앞에 GZIPOutputStream 을 끼운다
+// - 임시 파일에 쓰고 끝나면 이름을 바꾸므로, 중간에 실패해도 반쯤 쓴 파일이 남지 않는다
+// 비밀번호(PW)는 내보내지 않는다
+// 사용법 : new MemberExporter(Format.CSV, 500).export(dao, Paths.get("member.csv"))
+public class MemberExporter {
+
+	public enum Format {
+		CSV, JSONL
+	}
+
+	// 진행 상황 알림 (progressEvery 명마다, 그리고 끝날 때 한 번)
+	public interface Progress {
+		void onProgress(long rows, long bytes, double rowsPerSec);
+	}
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Format format;
+	private final int fetchSize;
+	private boolean gzip = false;
+	private Progress progress = null;
+	private long progressEvery = 100000;
+
+	public MemberExporter(Format format, int fetchSize) {
+		if (fetchSize <= 0) {
+			throw new IllegalArgumentException("fetchSize는 1 이상이어야 합니다 : " + fetchSize);
+		}
+		this.format = format;
+		this.fetchSize = fetchSize;
+	}
+
+	// 파일 이름으로 형식 결정 : .jsonl / .json 이면 JSON Lines, 나머지는 CSV, 끝이 .gz 면 gzip
+	public static MemberExporter forFile(Path file, int fetchSize) {
+		String name = file.getFileName().toString().toLowerCase();
+		boolean gz = name.endsWith(".gz");
+		if (gz) {
+			name = name.substring(0, name.length() - 3);
+		}
+		Format format = name.endsWith(".jsonl") || name.endsWith(".json") ? Format.JSONL : Format.CSV;
+		return new MemberExporter(format, fetchSize).setGzip(gz);
+	}
+
+	public MemberExporter setGzip(boolean gzip) {
+		this.gzip = gzip;
+		return this;
+	}
+
+	public MemberExporter setProgress(Progress progress, long every) {
+		if (every <= 0) {
+			throw new IllegalArgumentException("every는 1 이상이어야 합니다 : " + every);
+		}
+		this.progress = progress;
+		this.progressEvery = every;
+		return this;
+	}
+
+	public Result export(MemberRepository repo, Path file) throws IOException {
+		Path dir = file.toAbsolutePath().getParent();
+		Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+		long start = System.nanoTime();
+		Writer writer = null;
+		try {
+			try (FileChannel fc = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				WritableByteChannel out = gzip
+						? Channels.newChannel(new GZIPOutputStream(Channels.newOutputStream(fc), BUFFER_SIZE))
+						: fc;
+				writer = new Writer(out, start);
+				if (format == Format.CSV) {
+					writer.line(new StringBuilder("id,name,age"));
+				}
+				Writer w = writer;
+				repo.forEachMember(fetchSize, dto -> {
+					try {
+						w.member(dto);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				writer.flush();
+				// gzip 이면 여기서 마지막 블록과 트레일러를 쓴다
+				out.close();
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+
+		long nanos = System.nanoTime() - start;
+		Result result = new Result(writer.rows, writer.bytes, Files.size(file), nanos);
+		if (progress != null) {
+			progress.onProgress(result.rows, result.bytes, result.getRowsPerSec());
+		}
+		return result;
+	}
+
+	// 한 줄씩 인코딩해서 버퍼에 모으고, 버퍼가 차면 채널에 쓴다
+	private class Writer {
+		final WritableByteChannel out;
+		final long start;
+		final ByteBuffer buf = ByteBuffer.allocate(BUFFER_SIZE);
+		// 짝이 안 맞는 서로게이트 같은 깨진 문자는 ? 로 바꿔 쓴다
+		final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		final StringBuilder sb = new StringBuilder(128);
+		long rows = 0;
+		long bytes = 0;
+
+		Writer(WritableByteChannel out, long start) {
+			this.out = out;
+			this.start = start;
+		}
+
+		void member(MemberDTO dto) throws IOException {
+			sb.setLength(0);
+			if (format == Format.CSV) {
+				csv(sb, dto.getId()).append(',');
+				csv(sb, dto.getName()).append(',');
+				sb.append(dto.getAge());
+			} else {
+				sb.append("{\"id\":");
+				json(sb, dto.getId()).append(",\"name\":");
+				json(sb, dto.getName()).append(",\"age\":");
+				sb.append(dto.getAge()).append('}');
+			}
+			line(sb);
+			rows++;
+			if (progress != null && rows % progressEvery == 0) {
+				double sec = (System.nanoTime() - start) / 1e9;
+				progress.onProgress(rows, bytes, sec == 0 ? 0 : rows / sec);
+			}
+		}
+
+		void line(StringBuilder text) throws IOException {
+			text.append('\n');
+			CharBuffer cb = CharBuffer.wrap(text);
+			int before = buf.position();
+			while (encoder.encode(cb, buf, true).isOverflow()) {
+				bytes += buf.position() - before;
+				flush();
+				before = 0;
+			}
+			bytes += buf.position() - before;
+			encoder.reset();
+		}
+
+		void flush() throws IOException {
+			buf.flip();
+			while (buf.hasRemaining()) {
+				out.write(buf);
+			}
+			buf.clear();
+		}
+	}
+
+	// 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 안의 큰따옴표는 두 번 쓴다
+	static StringBuilder csv(StringBuilder sb, String value) {
+		if (value == null) {
+			return sb;
+		}
+		boolean quote = false;
+		for (int i = 0; i < value.length() && !quote; i++) {
+			char c = value.charAt(i);
+			quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+		}
+		if (!quote) {
+			return sb.append(value);
+		}
+		sb.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"') {
+				sb.append('"');
+			}
+			sb.append(c);
+		}
+		return sb.append('"');
+	}
+
+	static StringBuilder json(StringBuilder sb, String value) {
+		if (value == null) {
+			return sb.append("null");
+		}
+		sb.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"':
+				sb.append("\\\"");
+				break;
+			case '\\':
+				sb.append("\\\\");
+				break;
+			case '\n':
+				sb.append("\\n");
+				break;
+			case '\r':
+				sb.append("\\r");
+				break;
+			case '\t':
+				sb.append("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					sb.append(String.format("\\u%04x", (int) c));
+				} else {
+					sb.append(c);
+				}
+			}
+		}
+		return sb.append('"');
+	}
+
+	public static class Result {
+		private final long rows;
+		private final long bytes;
+		private final long fileBytes;
+		private final long nanos;
+
+		Result(long rows, long bytes, long fileBytes, long nanos) {
+			this.rows = rows;
+			this.bytes = bytes;
+			this.fileBytes = fileBytes;
+			this.nanos = nanos;
+		}
+
+		public long getRows() {
+			return rows;
+		}
+
+		// 압축 전 크기
+		public long getBytes() {
+			return bytes;
+		}
+
+		// 실제 파일 크기 (gzip 이면 압축 후)
+		public long getFileBytes() {
+			return fileBytes;
+		}
+
+		public double getSeconds() {
+			return nanos / 1e9;
+		}
+
+		public double getRowsPerSec() {
+			return nanos == 0 ? 0 : rows / getSeconds();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%,d명, %,d bytes (파일 %,d bytes), %.2f초, %,.0f rows/sec", rows, bytes, fileBytes,
+					getSeconds(), getRowsPerSec());
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+package model;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import db.DBManager;
+
+// MEMBER 저장소
+// 구현 : MeberDAO(오라클, JDBC), MemoryMemberRepository(메모리)
+// open() 은 -Ddb.engine=memory 이면 메모리, 아니면 오라클 저장소를 돌려준다
+public interface MemberRepository {
+
+	// 로그인 : 아이디/비밀번호가 맞으면 1, 아니면 0
+	int login(MemberDTO dto);
+
+	// 회원가입 : 성공하면 1
+	int join(MemberDTO dto);
+
+	// 아이디/비밀번호가 맞는 회원의 이름, 나이 수정 : 수정된 행 수
+	int update(MemberDTO dto);
+
+	// 회원탈퇴 : 삭제된 행 수
+	int delete(MemberDTO dto);
+
+	// 관리용 일괄 수정 : 아이디로 찾아 이름, 나이를 바꾼다 (비밀번호 확인 없음) : 수정된 행 수
+	int updateAll(Collection<MemberDTO> members);
+
+	// 관리용 일괄 삭제 (비밀번호 확인 없음) : 삭제된 행 수
+	int deleteAll(Collection<String> ids);
+
+	// 아이디로 회원 조회 (없으면 null)
+	MemberDTO findMember(String id);
+
+	// afterId 보다 큰 아이디를 순서대로 최대 pageSize 명 (첫 페이지는 afterId = "")
+	List<MemberDTO> memberPage(String afterId, int pageSize);
+
+	// 전체 회원을 fetchSize 명씩 읽어 하나씩 넘긴다 (메모리는 fetchSize 만큼만 사용)
+	// 기본은 memberPage 로 아이디 순 페이지를 이어 읽는다
+	default void forEachMember(int fetchSize, Consumer<MemberDTO> action) {
+		String after = "";
+		while (true) {
+			List<MemberDTO> page = memberPage(after, fetchSize);
+			page.forEach(action);
+			if (page.size() < fetchSize) {
+				break;
+			}
+			after = page.get(page.size() - 1).getId();
+		}
+	}
+
+	// 전체 회원 출력
+	default void memberList() {
+		String after = "";
+		while (true) {
+			List<MemberDTO> page = memberPage(after, 100);
+			for (MemberDTO dto : page) {
+				System.out.printf("%s\t%s\t%s\t%d\n", dto.getId(), dto.getPw(), dto.getName(), dto.getAge());
+			}
+			if (page.size() < 100) {
+				break;
+			}
+			after = page.get(page.size() - 1).getId();
+		}
+	}
+
+	static MemberRepository open() {
+		if (DBManager.isMemoryEngine()) {
+			MemoryMemberRepository repo = new MemoryMemberRepository(DBManager.getSnapshotDir());
+			if (DBManager.getSnapshotDir() != null) {
+				DBManager.closeOnExit(repo);
+			}
+			return repo;
+		}
+		return new MeberDAO();
+	}
+
+}
@@ -0,0 +1,166 @@
+package model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import auth.AuthService;
+import auth.CredentialStore;
+import auth.PasswordHasher;
+import db.MemTable;
+import db.RowCodec;
+
+// 오라클 없이 쓰는 메모리 저장소 (MEMBER)
+// snapshotDir 을 주면 시작할 때 member.snap 을 읽고 close() 때 저장한다
+// 비밀번호는 MeberDAO 와 같이 해시로 저장하고 AuthService 로 확인한다
+public class MemoryMemberRepository implements MemberRepository, AutoCloseable {
+
+	private static final RowCodec<MemberDTO> CODEC = new RowCodec<MemberDTO>() {
+		@Override
+		public void write(DataOutputStream out, MemberDTO row) throws IOException {
+			out.writeUTF(row.getId());
+			RowCodec.writeString(out, row.getPw());
+			RowCodec.writeString(out, row.getName());
+			out.writeInt(row.getAge());
+		}
+
+		@Override
+		public MemberDTO read(DataInputStream in) throws IOException {
+			return new MemberDTO(in.readUTF(), RowCodec.readString(in), RowCodec.readString(in), in.readInt());
+		}
+	};
+
+	private final MemTable<String, MemberDTO> members = new MemTable<>(MemberDTO::getId);
+	private final Path snapshotDir;
+	private final AuthService auth = new AuthService(new CredentialStore() {
+		@Override
+		public String findCredential(String id) {
+			MemberDTO m = members.get(id);
+			return m == null ? null : m.getPw();
+		}
+
+		@Override
+		public void updateCredential(String id, String credential) {
+			members.update(id, m -> new MemberDTO(m.getId(), credential, m.getName(), m.getAge()));
+		}
+	});
+
+	public MemoryMemberRepository() {
+		this(null);
+	}
+
+	public MemoryMemberRepository(Path snapshotDir) {
+		this.snapshotDir = snapshotDir;
+		if (snapshotDir != null) {
+			try {
+				members.load(snapshotDir.resolve("member.snap"), CODEC);
+			} catch (IOException e) {
+				System.out.println("스냅샷 읽기 실패 : " + e.getMessage());
+			}
+		}
+	}
+
+	@Override
+	public int login(MemberDTO dto) {
+		return auth.login(dto.getId(), dto.getPw()) ? 1 : 0;
+	}
+
+	@Override
+	public int join(MemberDTO dto) {
+		boolean ok = members.insert(new MemberDTO(dto.getId(), PasswordHasher.hash(dto.getPw()), dto.getName(), dto.getAge()));
+		auth.invalidateCredential(dto.getId());
+		return ok ? 1 : 0;
+	}
+
+	@Override
+	public int update(MemberDTO dto) {
+		if (!auth.login(dto.getId(), dto.getPw())) {
+			return 0;
+		}
+		MemberDTO updated = members.update(dto.getId(),
+				m -> new MemberDTO(m.getId(), m.getPw(), dto.getName(), dto.getAge()));
+		return updated != null ? 1 : 0;
+	}
+
+	// 아이디/비밀번호가 맞을 때만 삭제
+	@Override
+	public int delete(MemberDTO dto) {
+		if (!auth.login(dto.getId(), dto.getPw())) {
+			return 0;
+		}
+		MemberDTO deleted = members.delete(dto.getId());
+		auth.invalidate(dto.getId());
+		return deleted != null ? 1 : 0;
+	}
+
+	@Override
+	public int updateAll(Collection<MemberDTO> list) {
+		int cnt = 0;
+		for (MemberDTO dto : list) {
+			if (members.update(dto.getId(), m -> new MemberDTO(m.getId(), m.getPw(), dto.getName(), dto.getAge())) != null) {
+				cnt++;
+			}
+		}
+		return cnt;
+	}
+
+	@Override
+	public int deleteAll(Collection<String> ids) {
+		int cnt = 0;
+		for (String id : ids) {
+			if (members.delete(id) != null) {
+				cnt++;
+			}
+			auth.invalidate(id);
+		}
+		return cnt;
+	}
+
+	@Override
+	public MemberDTO findMember(String id) {
+		MemberDTO m = members.get(id);
+		return m == null ? null : copy(m);
+	}
+
+	@Override
+	public List<MemberDTO> memberPage(String afterId, int pageSize) {
+		List<MemberDTO> page = new ArrayList<>();
+		for (MemberDTO m : members.range(afterId, pageSize)) {
+			page.add(copy(m));
+		}
+		return page;
+	}
+
+	public AuthService getAuth() {
+		return auth;
+	}
+
+	public int size() {
+		return members.size();
+	}
+
+	public void snapshot() throws IOException {
+		if (snapshotDir != null) {
+			members.save(snapshotDir.resolve("member.snap"), CODEC);
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			snapshot();
+		} catch (IOException e) {
+			System.out.println("스냅샷 저장 실패 : " + e.getMessage());
+		}
+	}
+
+	// MemberDTO 는 setter 가 있으므로 저장소 안의 객체를 밖에 그대로 주지 않는다
+	private static MemberDTO copy(MemberDTO m) {
+		return new MemberDTO(m.getId(), m.getPw(), m.getName(), m.getAge());
+	}
+
+}
@@ -2,7 +2,8 @@ package view;
 
 import java.util.Scanner;
 
-import model.MeberDAO;
+import controller.MemberCon;
+import model.MemberRepository;
 import model.MemberDTO;
 
 public class Main {
@@ -16,14 +17,15 @@ public class Main {
 		// while문 사용해서 6번을 선택하면 탈출
 		
 		Scanner sc = new Scanner(System.in);
-		MeberDAO dao = new MeberDAO();
+		MemberRepository dao = MemberRepository.open();
+		MemberCon con = new MemberCon(dao);
 		MemberDTO dto = null; 
 		
 		
 
 		
 		while(true) {
-			System.out.print("[1]로그인 [2]회원가입 [3]정보수정 [4]전체조회 [5]회원탈퇴 [6]종료 >>");
+			System.out.print("[1]로그인 [2]회원가입 [3]정보수정 [4]전체조회 [5]회원탈퇴 [6]종료 [7]파일저장 >>");
 			int menu = sc.nextInt();
 			
 			if(menu==1) {
@@ -121,6 +123,11 @@ public class Main {
 				//종료
 				System.out.println("프로그램 종료!");
 				break;
+			}else if(menu==7) {
+				//전체 회원을 파일로 내보내기 (member.csv, member.jsonl, member.csv.gz ...)
+				System.out.print("파일 이름 : ");
+				String fileName = sc.next();
+				con.exportCon(fileName);
 			}else {
 				System.out.println("번호를 다시 골라주세요!");
 			}
@@ -138,4 +145,4 @@ public class Main {
 		
 		
 		
-	}}
\ No newline at end of file
+	}}
\ No newline at end of file
@@ -1,5 +1,8 @@
+import java.math.BigInteger;
 import java.util.Scanner;
 
+import factorial.Factorial;
+
 public class Ex31 {
 
 	public static void main(String[] args) {
@@ -7,13 +10,15 @@ public class Ex31 {
 		Scanner sc = new Scanner(System.in);
 		int num = sc.nextInt();
 				
-		int result = 1;
-				
-		System.out.print("출력 : ");
-		for(int i =1; i <= num; i++) {
-			result *= i;
+		if (num < 0) {
+			System.out.println("0 이상을 입력하세요");
+			return;
 		}
+		
+		// int 는 13! 부터 넘친다 -> BigInteger 곱 트리 (factorial.Factorial)
+		BigInteger result = Factorial.get().factorial(num);
 				
+		System.out.print("출력 : ");
 		System.out.println(result);
 
 	}
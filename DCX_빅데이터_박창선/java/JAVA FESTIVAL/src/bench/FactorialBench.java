@@ -0,0 +1,105 @@
+package bench;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+
+import factorial.Factorial;
+
+// 팩토리얼 비교 (JMH 가 없어서 main 으로 잰다), 크기마다 가장 빠른 값 ms (처음 한 번은 버림)
+//   naive  : 1 부터 n 까지 BigInteger 에 차례로 곱하기 (Ex31 의 반복문을 BigInteger 로만 바꾼 것)
+//   tree   : 곱 트리, 스레드 하나 (메모 없음)
+//   par    : 곱 트리 + 공용 풀 (메모 없음)
+//   memo   : 같은 n 을 다시 물을 때 / prefix : (n - 1000)! 이 메모에 있을 때 n!
+//   C(2n,n): 소수 지수로 구한 이항계수 vs (2n)! / (n!)² 나눗셈
+// 모든 방법의 결과가 같은지 확인한다
+// 실행 : java bench.FactorialBench [n ...]   기본 1000 10000 100000
+public class FactorialBench {
+
+	public static void main(String[] args) throws Exception {
+		int[] sizes = { 1000, 10_000, 100_000 };
+		if (args.length > 0) {
+			sizes = new int[args.length];
+			for (int i = 0; i < args.length; i++) {
+				sizes[i] = Integer.parseInt(args[i]);
+			}
+		}
+		ForkJoinPool one = new ForkJoinPool(1);
+		Factorial single = new Factorial(0, one);
+		Factorial parallel = new Factorial(0, ForkJoinPool.commonPool());
+		Factorial memo = new Factorial(64L << 20, ForkJoinPool.commonPool());
+		System.out.printf("코어 %d%n", Runtime.getRuntime().availableProcessors());
+		System.out.printf("%9s %10s %10s %10s %10s %10s %10s %12s %12s%n", "n", "bits", "naive", "tree", "par", "memo",
+				"prefix", "C(2n,n)", "C 나눗셈");
+
+		for (int n : sizes) {
+			BigInteger[] r = new BigInteger[8];
+			String naive = ms(n >= 100_000 ? 1 : 3, () -> r[0] = naive(n));
+			String tree = ms(3, () -> r[1] = single.factorial(n));
+			String par = ms(3, () -> r[2] = parallel.factorial(n));
+			memo.clear();
+			memo.factorial(n);
+			String hit = ms(3, () -> r[3] = memo.factorial(n));
+			String prefix = timed(3, () -> {
+				memo.clear();
+				memo.factorial(Math.max(0, n - 1000));
+				long start = System.nanoTime();
+				r[4] = memo.factorial(n);
+				return System.nanoTime() - start;
+			});
+			String binom = ms(3, () -> r[5] = parallel.binomial(2 * n, n));
+			String division = ms(n >= 100_000 ? 1 : 3, () -> {
+				BigInteger f = parallel.factorial(n);
+				r[6] = parallel.factorial(2 * n).divide(f.multiply(f));
+			});
+			for (int i = 1; i <= 4; i++) {
+				if (!r[i].equals(r[0])) {
+					throw new IllegalStateException("팩토리얼 결과가 다릅니다 : " + i);
+				}
+			}
+			if (!r[5].equals(r[6])) {
+				throw new IllegalStateException("이항계수 결과가 다릅니다");
+			}
+			System.out.printf("%,9d %,10d %10s %10s %10s %10s %10s %12s %12s%n", n, r[0].bitLength(), naive, tree, par,
+					hit, prefix, binom, division);
+		}
+		one.shutdown();
+		System.out.println(memo.getStats());
+	}
+
+	interface Task {
+		void run() throws Exception;
+	}
+
+	// 따로 잰 시간을 돌려주는 작업 (준비 시간을 빼려고)
+	interface TimedTask {
+		long run() throws Exception;
+	}
+
+	private static String ms(int runs, Task task) throws Exception {
+		return timed(runs, () -> {
+			long start = System.nanoTime();
+			task.run();
+			return System.nanoTime() - start;
+		});
+	}
+
+	private static String timed(int runs, TimedTask task) throws Exception {
+		long best = Long.MAX_VALUE;
+		for (int r = -1; r < runs; r++) {
+			long elapsed = task.run();
+			if (r >= 0) {
+				best = Math.min(best, elapsed);
+			}
+		}
+		return String.format("%.2f", best / 1e6);
+	}
+
+	private static BigInteger naive(int n) {
+		BigInteger result = BigInteger.ONE;
+		for (int i = 1; i <= n; i++) {
+			result = result.multiply(BigInteger.valueOf(i));
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,226 @@
+package factorial;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongUnaryOperator;
+
+// 큰 수 팩토리얼 / 이항계수 (BigInteger)
+// - 1 * 2 * 3 ... 을 차례로 곱하면 큰 수 * 작은 수를 n 번 하게 되어 O(n²) 에 가깝다
+//   곱할 수들을 반씩 나눠 양쪽 곱을 구한 뒤 곱한다 (곱 트리, binary splitting)
+//   -> 비슷한 크기끼리 곱하므로 BigInteger 의 Karatsuba / Toom-Cook 곱셈이 쓰인다
+// - 잎(LEAF 개)은 long 에 넘치기 직전까지 모아서 곱하고, PARALLEL 개보다 큰 구간은 양쪽을 fork-join 으로 동시에
+// - 구한 n! 은 메모에 넣어 두고 (크기 제한 maxBytes, 가장 오래 안 쓴 것부터 버림)
+//   다음에 m >= n 을 물으면 n! * (n+1 ... m) 만 곱한다
+// - 이항계수 C(n, k) 는 n 이하 소수 p 마다 지수를 세서 (르장드르 공식) p^e 들을 곱 트리로 곱한다 (큰 나눗셈 없음)
+// 시스템 프로퍼티 factorial.memo.bytes : get() 이 쓰는 메모 크기 (기본 16MB, 0 이면 메모 안 함)
+public class Factorial {
+
+	static final int LEAF = 64;
+	static final int PARALLEL = 1 << 11;
+
+	private static class Holder {
+		static final Factorial INSTANCE = new Factorial(Long.getLong("factorial.memo.bytes", 16L << 20),
+				ForkJoinPool.commonPool());
+	}
+
+	public static Factorial get() {
+		return Holder.INSTANCE;
+	}
+
+	private final long maxBytes;
+	private final ForkJoinPool pool;
+	// n -> n!, 접근 순서 (가장 오래 안 쓴 것이 앞)
+	private final LinkedHashMap<Integer, BigInteger> memo = new LinkedHashMap<>(16, 0.75f, true);
+	private long memoBytes;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder prefixHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public Factorial(long maxBytes, ForkJoinPool pool) {
+		if (maxBytes < 0) {
+			throw new IllegalArgumentException("maxBytes는 0 이상이어야 합니다 : " + maxBytes);
+		}
+		this.maxBytes = maxBytes;
+		this.pool = pool;
+	}
+
+	public BigInteger factorial(int n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("0 이상이어야 합니다 : " + n);
+		}
+		if (n <= 1) {
+			return BigInteger.ONE;
+		}
+		// 메모에서 n 이하 중 가장 큰 것
+		int m = 1;
+		BigInteger base = BigInteger.ONE;
+		synchronized (this) {
+			for (Map.Entry<Integer, BigInteger> e : memo.entrySet()) {
+				int key = e.getKey();
+				if (key <= n && key > m) {
+					m = key;
+					base = e.getValue();
+				}
+			}
+			if (m > 1) {
+				memo.get(m); // 최근에 쓴 것으로
+			}
+		}
+		if (m == n) {
+			hits.increment();
+			return base;
+		}
+		if (m > 1) {
+			prefixHits.increment();
+		} else {
+			misses.increment();
+		}
+		BigInteger rest = product(m + 1, n + 1L, i -> i);
+		BigInteger result = m > 1 ? base.multiply(rest) : rest;
+		remember(n, result);
+		return result;
+	}
+
+	// 이항계수 C(n, k) (k 가 범위 밖이면 0)
+	public BigInteger binomial(int n, int k) {
+		if (n < 0) {
+			throw new IllegalArgumentException("0 이상이어야 합니다 : " + n);
+		}
+		if (k < 0 || k > n) {
+			return BigInteger.ZERO;
+		}
+		k = Math.min(k, n - k);
+		if (k == 0) {
+			return BigInteger.ONE;
+		}
+		// n 이하 소수 p 의 지수 e = Σ (n/p^i - k/p^i - (n-k)/p^i), 이때 p^e <= n 이라 long 에 들어간다
+		boolean[] composite = new boolean[n + 1];
+		long[] factors = new long[n / 2 + 2];
+		int count = 0;
+		for (int p = 2; p <= n; p++) {
+			if (composite[p]) {
+				continue;
+			}
+			for (long q = (long) p * p; q <= n; q += p) {
+				composite[(int) q] = true;
+			}
+			int e = 0;
+			for (long q = p; q <= n; q *= p) {
+				e += n / q - k / q - (n - k) / q;
+			}
+			if (e > 0) {
+				long f = 1;
+				for (int i = 0; i < e; i++) {
+					f *= p;
+				}
+				factors[count++] = f;
+			}
+		}
+		return product(0, count, i -> factors[(int) i]);
+	}
+
+	// term(from) * ... * term(to - 1), 크면 pool 에서 나눠서
+	public BigInteger product(long from, long to, LongUnaryOperator term) {
+		if (to - from <= PARALLEL || pool.getParallelism() == 1) {
+			return multiply(from, to, term);
+		}
+		return pool.invoke(new ProductTask(from, to, term));
+	}
+
+	// 곱 트리 (한 스레드)
+	static BigInteger multiply(long from, long to, LongUnaryOperator term) {
+		if (to - from <= LEAF) {
+			return leaf(from, to, term);
+		}
+		long mid = (from + to) >>> 1;
+		return multiply(from, mid, term).multiply(multiply(mid, to, term));
+	}
+
+	// long 에 넘치기 전까지 모아서 곱한다 (term 은 양수)
+	private static BigInteger leaf(long from, long to, LongUnaryOperator term) {
+		BigInteger result = BigInteger.ONE;
+		long acc = 1;
+		for (long i = from; i < to; i++) {
+			long t = term.applyAsLong(i);
+			long low = acc * t;
+			if (Math.multiplyHigh(acc, t) != 0 || low < 0) {
+				result = result.multiply(BigInteger.valueOf(acc));
+				acc = t;
+			} else {
+				acc = low;
+			}
+		}
+		return acc == 1 ? result : result.multiply(BigInteger.valueOf(acc));
+	}
+
+	private static final class ProductTask extends RecursiveTask<BigInteger> {
+		private static final long serialVersionUID = 1L;
+
+		private final long from;
+		private final long to;
+		private final LongUnaryOperator term;
+
+		ProductTask(long from, long to, LongUnaryOperator term) {
+			this.from = from;
+			this.to = to;
+			this.term = term;
+		}
+
+		@Override
+		protected BigInteger compute() {
+			if (to - from <= PARALLEL) {
+				return multiply(from, to, term);
+			}
+			long mid = (from + to) >>> 1;
+			ProductTask left = new ProductTask(from, mid, term);
+			left.fork();
+			BigInteger right = new ProductTask(mid, to, term).compute();
+			return left.join().multiply(right);
+		}
+	}
+
+	private synchronized void remember(int n, BigInteger value) {
+		long bytes = value.bitLength() / 8 + 16;
+		if (bytes > maxBytes) {
+			return;
+		}
+		BigInteger old = memo.put(n, value);
+		if (old != null) {
+			memoBytes -= old.bitLength() / 8 + 16;
+		}
+		memoBytes += bytes;
+		Iterator<BigInteger> it = memo.values().iterator();
+		while (memoBytes > maxBytes && it.hasNext()) {
+			BigInteger eldest = it.next();
+			it.remove();
+			memoBytes -= eldest.bitLength() / 8 + 16;
+			evictions.increment();
+		}
+	}
+
+	public synchronized void clear() {
+		memo.clear();
+		memoBytes = 0;
+	}
+
+	public synchronized int memoSize() {
+		return memo.size();
+	}
+
+	public synchronized long memoBytes() {
+		return memoBytes;
+	}
+
+	public String getStats() {
+		return String.format("memo=%d (%,d/%,d bytes) hit=%d prefix=%d miss=%d evict=%d", memoSize(), memoBytes(),
+				maxBytes, hits.sum(), prefixHits.sum(), misses.sum(), evictions.sum());
+	}
+
+}
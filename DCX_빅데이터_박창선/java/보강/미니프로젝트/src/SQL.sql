@@ -13,10 +13,24 @@ INSERT INTO ROOM(Room_num, room_name) VALUES(2, '미술실');
 INSERT INTO ROOM(Room_num, room_name) VALUES(3, '음악실'); 
 INSERT INTO ROOM(Room_num, room_name) VALUES(4, '컴퓨터실'); 
 
+-- 게임 기록 (model.ScoreDAO) : CATEGORY 는 방(science, art, music, computer) 또는 total(한 판)
+CREATE TABLE SCORE (
+	SEQ NUMBER PRIMARY KEY,
+	ID VARCHAR(50),
+	CATEGORY VARCHAR(20),
+	KEYS NUMBER,
+	MILLIS NUMBER,
+	HARD NUMBER(1),
+	PLAYED_AT NUMBER
+);
+CREATE SEQUENCE SCORE_SEQ;
+CREATE INDEX SCORE_ID_IDX ON SCORE(ID);
+
 drop table player;
 
 SELECT * FROM PLAYER;
 SELECT * FROM ROOM;
+SELECT * FROM SCORE;
 
 
 
@@ -0,0 +1,150 @@
+package bench;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import controller.GameEngine;
+import controller.GameIO;
+import controller.GameSession;
+import db.LatencyHistogram;
+import model.Question;
+import model.Room;
+import model.art;
+import model.computer;
+import model.music;
+import model.science;
+
+// 화면 없이 가짜 플레이어 수천 명을 GameEngine 하나로 동시에 돌리는 부하 테스트
+// - 플레이어마다 과학실 -> 미술실 -> 음악실 -> 컴퓨터실 전체 게임 (대본 시간 그대로, timeScale 배로 줄임)
+// - 가짜 플레이어는 찍은 글자 수 / 효과음 수만 세고, 문제가 나오면 잠깐 생각한 뒤(대본 시간 1~5초) 답을 보낸다
+//   맞힐 확률은 correct 비율, 틀리면 그 자리에서 게임 끝
+// 예전 구조(Thread.sleep 으로 대본 진행)라면 플레이어 한 명에 스레드 하나가 필요했다
+// 여기서는 스케줄러 스레드(CPU 코어 수)만으로 돌리고, 모두 동시에 진행 중이었는지(peak),
+// 예약한 시각보다 얼마나 늦게 실행됐는지(lag), 한 판이 대본 시간보다 얼마나 길어졌는지를 출력한다
+// 실행 : java bench.GameLoadBench [플레이어 수] [timeScale] [맞힐 확률]
+//        기본 10000명, 0.02 (한 판 대본 약 88초 -> 약 1.8초), 0.9
+public class GameLoadBench {
+
+	private static final Room[] ROOMS = { science.ROOM, art.ROOM, music.ROOM, computer.ROOM };
+
+	public static void main(String[] args) {
+		int players = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+		double timeScale = args.length > 1 ? Double.parseDouble(args[1]) : 0.02;
+		double correct = args.length > 2 ? Double.parseDouble(args[2]) : 0.9;
+
+		GameEngine engine = new GameEngine(timeScale);
+		LongAdder chars = new LongAdder();
+		LongAdder sounds = new LongAdder();
+		LongAdder questions = new LongAdder();
+		// 한 판이 대본 시간보다 늘어난 정도(ns)
+		LatencyHistogram stretch = new LatencyHistogram();
+
+		int threadsBefore = Thread.activeCount();
+		long start = System.nanoTime();
+		CompletableFuture<?>[] results = new CompletableFuture<?>[players];
+		for (int i = 0; i < players; i++) {
+			Bot bot = new Bot(engine, timeScale, correct, chars, sounds, questions, stretch);
+			GameSession session = engine.start(bot, i % 2 == 0, new Random(i), ROOMS);
+			results[i] = session.result();
+		}
+		int threads = Thread.activeCount() - threadsBefore;
+		CompletableFuture.allOf(results).join();
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		long clear = engine.getCleared();
+		long fail = engine.getFailed();
+		System.out.printf("플레이어 %,d명, timeScale %.3f (한 판 대본 약 %.0f초 -> %.1f초), 맞힐 확률 %.0f%%%n", players,
+				timeScale, scriptSeconds(), scriptSeconds() * timeScale, correct * 100);
+		System.out.printf("게임 스레드 %d개 (%d코어), 동시에 진행 중이던 게임 최대 %,d%n", threads,
+				Runtime.getRuntime().availableProcessors(), engine.getPeak());
+		System.out.printf("클리어 %,d / 실패 %,d, 문제 %,d개, 효과음 %,d번, 글자 %,d%n", clear, fail, questions.sum(),
+				sounds.sum(), chars.sum());
+		System.out.printf("전체 %.2f초, 예약 지연 p50=%.2fms p99=%.2fms max=%.2fms%n", seconds,
+				engine.getLag().getPercentile(50) / 1e6, engine.getLag().getPercentile(99) / 1e6,
+				engine.getLag().getMax() / 1e6);
+		System.out.printf("클리어한 판이 대본보다 늘어난 시간 p50=%.1fms p99=%.1fms max=%.1fms%n",
+				stretch.getPercentile(50) / 1e6, stretch.getPercentile(99) / 1e6, stretch.getMax() / 1e6);
+		engine.shutdown();
+	}
+
+	// 네 방 대본 시간 합(초), 생각하는 시간은 빼고
+	private static double scriptSeconds() {
+		long ms = 0;
+		for (Room room : ROOMS) {
+			ms += room.getEnter().stream().mapToLong(s -> s.getDelay()).sum();
+			ms += room.getReward().stream().mapToLong(s -> s.getDelay()).sum();
+		}
+		return ms / 1000.0;
+	}
+
+	// 화면 없는 플레이어
+	private static class Bot implements GameIO {
+		private final GameEngine engine;
+		private final long script;
+		private final double correct;
+		private final LongAdder chars;
+		private final LongAdder sounds;
+		private final LongAdder questions;
+		private final LatencyHistogram stretch;
+		private final long start = System.nanoTime();
+		private long thinking; // 생각하는 데 쓴 시간(ns) 합
+
+		Bot(GameEngine engine, double timeScale, double correct, LongAdder chars, LongAdder sounds,
+				LongAdder questions, LatencyHistogram stretch) {
+			this.engine = engine;
+			this.script = (long) (scriptSeconds() * timeScale * 1e9);
+			this.correct = correct;
+			this.chars = chars;
+			this.sounds = sounds;
+			this.questions = questions;
+			this.stretch = stretch;
+		}
+
+		@Override
+		public void print(String text) {
+			chars.add(text.length());
+		}
+
+		@Override
+		public void println(String text) {
+			chars.add(text.length() + 1);
+		}
+
+		@Override
+		public void sound(String file) {
+			sounds.increment();
+		}
+
+		@Override
+		public void music(String file) {
+			if (file != null) {
+				sounds.increment();
+			}
+		}
+
+		@Override
+		public void ask(GameSession session, Question question) {
+			questions.increment();
+			ThreadLocalRandom r = ThreadLocalRandom.current();
+			long think = 1000 + r.nextInt(4000);
+			String answer = r.nextDouble() < correct ? question.getAnswer() : "0";
+			long asked = System.nanoTime();
+			engine.schedule(() -> {
+				synchronized (this) {
+					thinking += System.nanoTime() - asked;
+				}
+				session.answer(answer);
+			}, think);
+		}
+
+		@Override
+		public synchronized void finished(GameSession session, boolean clear) {
+			if (clear) {
+				stretch.record(System.nanoTime() - start - thinking - script);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,244 @@
+package bench;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import controller.GameEngine;
+import controller.GameServer;
+import db.LatencyHistogram;
+import model.AsyncPlayerRepository;
+import model.PlayerRepository;
+import model.Question;
+import model.QuestionBank;
+import model.Room;
+import model.ScoreBoard;
+import model.art;
+import model.computer;
+import model.science;
+
+// 게임 서버 부하 테스트 클라이언트 : 소켓 하나 = 플레이어 한 명
+// 플레이어마다 접속 -> 회원가입 -> 로그인 -> 난이도 -> 문제가 나올 때마다 답 -> 서버가 끊을 때까지 읽기
+// - 받은 글이 문제 은행의 어떤 문제로 끝나면 그 문제가 나온 것으로 보고 답한다 (맞힐 확률 correct, 틀리면 "0")
+// - 응답 시간 : 한 줄 보낸 뒤 첫 바이트가 올 때까지 (게임 중 답, 회원가입, 로그인 따로)
+// - 동시 접속 수만큼 스레드를 두고 스레드마다 플레이어를 차례로 돌린다 (블로킹 소켓)
+// 서버 주소를 주지 않으면 이 프로세스 안에 서버를 띄운다 (메모리 DB, 대본 시간 timeScale 배, 해시 반복 1000번)
+//   같은 프로세스라 클라이언트 스레드와 서버가 CPU 를 나눠 쓴다 : 서버만의 성능은 따로 띄워서 재야 한다
+// 실행 : java bench.GameLoadClient [플레이어 수] [동시 접속] [맞힐 확률] [timeScale] [호스트:포트]
+//        기본 2000명, 200, 0.9, 0
+public class GameLoadClient {
+
+	private static final String MENU = "[1] 회원가입 [2] 로그인 [3] 종료 >> ";
+	private static final String LEVEL = "[1] Easy [2] Hard >> ";
+	private static final Room[] ROOMS = { science.ROOM, art.ROOM, computer.ROOM };
+
+	private static final LatencyHistogram answerLatency = new LatencyHistogram();
+	private static final LatencyHistogram joinLatency = new LatencyHistogram();
+	private static final LatencyHistogram loginLatency = new LatencyHistogram();
+	private static final LatencyHistogram sessionTime = new LatencyHistogram();
+	private static final LongAdder cleared = new LongAdder();
+	private static final LongAdder failed = new LongAdder();
+	private static final LongAdder errors = new LongAdder();
+	private static final LongAdder answers = new LongAdder();
+
+	public static void main(String[] args) throws Exception {
+		int users = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+		double correct = args.length > 2 ? Double.parseDouble(args[2]) : 0.9;
+		double timeScale = args.length > 3 ? Double.parseDouble(args[3]) : 0;
+
+		GameServer embedded = null;
+		GameEngine engine = null;
+		String host = "localhost";
+		int port;
+		if (args.length > 4) {
+			String[] hp = args[4].split(":");
+			host = hp[0];
+			port = Integer.parseInt(hp[1]);
+		} else {
+			// DBManager / PasswordHasher 를 처음 쓰기 전에 설정해야 한다
+			System.setProperty("db.engine", "memory");
+			if (System.getProperty("auth.iterations") == null) {
+				System.setProperty("auth.iterations", "1000");
+			}
+			engine = new GameEngine(timeScale);
+			embedded = new GameServer(0, engine, new AsyncPlayerRepository(PlayerRepository.open()),
+					ScoreBoard.get(), ROOMS).start();
+			port = embedded.getPort();
+		}
+
+		List<Question> all = new ArrayList<>();
+		for (Room room : ROOMS) {
+			all.addAll(QuestionBank.get().questions(room.getCategory(), false));
+			all.addAll(QuestionBank.get().questions(room.getCategory(), true));
+		}
+
+		String run = Long.toString(System.currentTimeMillis() % 100000, 36);
+		AtomicInteger next = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(concurrency);
+		InetSocketAddress address = new InetSocketAddress(host, port);
+		long start = System.nanoTime();
+		for (int t = 0; t < concurrency; t++) {
+			new Thread(() -> {
+				int i;
+				while ((i = next.getAndIncrement()) < users) {
+					try {
+						play(address, "bot" + run + "_" + i, i % 2 == 1, correct, all);
+					} catch (IOException | RuntimeException e) {
+						errors.increment();
+					}
+				}
+				done.countDown();
+			}, "client-" + t).start();
+		}
+		done.await();
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		System.out.printf("플레이어 %,d명, 동시 접속 %d, 맞힐 확률 %.0f%%, 서버 %s%n", users, concurrency, correct * 100,
+				embedded != null ? "같은 프로세스 (timeScale " + timeScale + ")" : host + ":" + port);
+		System.out.printf("전체 %.2f초, 세션 %.0f개/초, 클리어 %,d / 실패 %,d / 오류 %,d, 답 %,d번%n", seconds,
+				(cleared.sum() + failed.sum()) / seconds, cleared.sum(), failed.sum(), errors.sum(), answers.sum());
+		print("답 응답", answerLatency);
+		print("회원가입", joinLatency);
+		print("로그인", loginLatency);
+		print("한 세션", sessionTime);
+		if (embedded != null) {
+			System.out.printf("서버 : 누적 접속 %,d, 남은 접속 %d, 끝난 게임 %,d (클리어 %,d), 동시 게임 최대 %,d%n",
+					embedded.getAccepted(), embedded.getConnected(), embedded.getGames(), embedded.getCleared(),
+					engine.getPeak());
+			System.out.println(ScoreBoard.get());
+			embedded.close();
+			engine.shutdown();
+			System.exit(0);
+		}
+	}
+
+	private static void print(String label, LatencyHistogram h) {
+		System.out.printf("%-6s p50=%8.2fms p99=%8.2fms max=%8.2fms%n", label, h.getPercentile(50) / 1e6,
+				h.getPercentile(99) / 1e6, h.getMax() / 1e6);
+	}
+
+	// 플레이어 한 명
+	private static void play(InetSocketAddress address, String id, boolean hard, double correct, List<Question> all)
+			throws IOException {
+		long begin = System.nanoTime();
+		try (Socket socket = new Socket()) {
+			socket.setTcpNoDelay(true);
+			socket.connect(address, 5000);
+			socket.setSoTimeout(30_000);
+			Conn c = new Conn(socket);
+
+			c.until(MENU);
+			c.send("1", null);
+			c.until("ID : ");
+			c.send(id, null);
+			c.until("PW : ");
+			c.send("pw", null);
+			c.until("NAME : ");
+			c.send("봇", joinLatency);
+			c.until(MENU);
+			c.send("2", null);
+			c.until("ID : ");
+			c.send(id, null);
+			c.until("PW : ");
+			c.send("pw", loginLatency);
+			c.until(LEVEL);
+			c.send(hard ? "2" : "1", null);
+
+			ThreadLocalRandom r = ThreadLocalRandom.current();
+			while (true) {
+				Question q = c.question(all);
+				if (q == null) {
+					break; // 서버가 끊었다
+				}
+				answers.increment();
+				c.send(r.nextDouble() < correct ? q.getAnswer() : "0", answerLatency);
+			}
+			if (c.text.indexOf("축하합니다") >= 0) {
+				cleared.increment();
+			} else if (c.text.indexOf("구출하지 못했습니다") >= 0) {
+				failed.increment();
+			} else {
+				errors.increment();
+			}
+		}
+		sessionTime.record(System.nanoTime() - begin);
+	}
+
+	// 접속 하나 : 받은 글을 모아 두고 보낸 뒤 첫 글자가 올 때까지 잰다
+	private static class Conn {
+		private final Reader in;
+		private final OutputStream out;
+		private final char[] buf = new char[4096];
+		final StringBuilder text = new StringBuilder();
+		private long sent;
+		private LatencyHistogram latency;
+
+		Conn(Socket socket) throws IOException {
+			this.in = new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8);
+			this.out = socket.getOutputStream();
+		}
+
+		// 한 줄 보내기 (measure 가 있으면 답의 첫 글자가 올 때까지 잰다)
+		void send(String line, LatencyHistogram measure) throws IOException {
+			text.setLength(0);
+			latency = measure;
+			sent = System.nanoTime();
+			out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+			out.flush();
+		}
+
+		// 더 읽기 : 끊겼으면 false
+		private boolean read() throws IOException {
+			int n = in.read(buf);
+			if (n < 0) {
+				return false;
+			}
+			if (latency != null) {
+				latency.record(System.nanoTime() - sent);
+				latency = null;
+			}
+			text.append(buf, 0, n);
+			return true;
+		}
+
+		// 받은 글이 suffix 로 끝날 때까지
+		void until(String suffix) throws IOException {
+			while (!endsWith(suffix)) {
+				if (!read()) {
+					throw new IOException("서버가 끊었습니다 : " + suffix + " 를 기다리는 중");
+				}
+			}
+		}
+
+		// 받은 글이 문제로 끝날 때까지 읽고 그 문제를 돌려준다 (끊기면 null)
+		Question question(List<Question> all) throws IOException {
+			while (true) {
+				for (Question q : all) {
+					if (endsWith(q.getText())) {
+						return q;
+					}
+				}
+				if (!read()) {
+					return null;
+				}
+			}
+		}
+
+		private boolean endsWith(String suffix) {
+			int from = text.length() - suffix.length();
+			return from >= 0 && text.indexOf(suffix, from) == from;
+		}
+	}
+
+}
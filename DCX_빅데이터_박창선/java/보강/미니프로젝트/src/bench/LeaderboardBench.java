@@ -0,0 +1,175 @@
+package bench;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import db.LatencyHistogram;
+import model.Leaderboard;
+import model.ScoreBoard;
+import model.ScoreDTO;
+import model.ScoreRepository;
+
+// 기록 저장 / 순위표 부하 테스트
+// 쓰는 스레드 여러 개가 쉬지 않고 기록을 올리는 동안, 읽는 스레드 하나가 계속 "전체 TOP 100" 을 묻는다
+//   바로 저장 : submit 할 때마다 saveAll(한 건) 을 기다린다 (INSERT 한 번 = DB 왕복 한 번)
+//   write-behind : ScoreBoard.submit (순위표만 고치고 큐에 넣는다, 쓰는 스레드가 batch 개씩 묶어 저장)
+//   TOP 100 : 스킵 리스트 앞에서 100 개 읽기 vs 플레이어 최고 기록 전체를 모아 정렬 (예전처럼 DB 에서 ORDER BY 하는 것과 비슷)
+// DB 는 가짜 저장소 : saveAll 한 번에 왕복 roundTrip, 한 행마다 rowMicros 를 parkNanos 로 흉내낸다
+// 플레이어는 players 명 중에서 고르고, 기록은 방 4개 + total 카테고리에 나눠 올린다
+// TOP 100 의 max 는 GC 나 스레드 전환(코어가 적을 때)에 걸린 한 번이 들어가므로 p99 를 본다
+// 실행 : java bench.LeaderboardBench [기록 수] [쓰는 스레드] [플레이어 수]   기본 1,000,000 / 4 / 100,000
+public class LeaderboardBench {
+
+	private static final String[] CATEGORIES = { "science", "art", "music", "computer", ScoreDTO.TOTAL };
+	private static final long ROUND_TRIP_MICROS = 1000;
+	private static final long ROW_MICROS = 2;
+
+	public static void main(String[] args) throws Exception {
+		int records = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		int writers = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+		int players = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+
+		System.out.printf("기록 %,d개, 쓰는 스레드 %d개, 플레이어 %,d명, DB 왕복 %dus + 행마다 %dus (%d코어)%n", records,
+				writers, players, ROUND_TRIP_MICROS, ROW_MICROS, Runtime.getRuntime().availableProcessors());
+
+		// 바로 저장 : 오래 걸리므로 기록 수를 줄여서
+		int direct = Math.min(records, 5_000);
+		StubScores directRepo = new StubScores();
+		LatencyHistogram directLatency = new LatencyHistogram();
+		double directSeconds = run(direct, writers, players, s -> {
+			directRepo.saveAll(List.of(s));
+			return true;
+		}, directLatency);
+		System.out.printf("바로 저장     : %,9d개 %6.2f초 %,10.0f개/초, DB 왕복 %,d번, submit p50=%8.2fus p99=%9.2fus%n", direct,
+				directSeconds, direct / directSeconds, directRepo.calls.sum(), directLatency.getPercentile(50) / 1e3,
+				directLatency.getPercentile(99) / 1e3);
+
+		// write-behind + 순위표, 그동안 TOP 100 을 계속 묻는다
+		StubScores repo = new StubScores();
+		ScoreBoard board = new ScoreBoard(repo, 500, 100, 65536);
+		LatencyHistogram submitLatency = new LatencyHistogram();
+		LatencyHistogram topLatency = new LatencyHistogram();
+		LongAdder reads = new LongAdder();
+		Thread reader = new Thread(() -> {
+			while (!Thread.currentThread().isInterrupted()) {
+				long start = System.nanoTime();
+				List<ScoreDTO> top = board.top(ScoreDTO.TOTAL, 100);
+				topLatency.record(System.nanoTime() - start);
+				if (top.size() > 100) {
+					throw new IllegalStateException("TOP 100 이 100 개보다 많습니다");
+				}
+				reads.increment();
+			}
+		}, "reader");
+		reader.start();
+		double seconds = run(records, writers, players, board::submit, submitLatency);
+		long flushStart = System.nanoTime();
+		board.flush(60_000);
+		double flushSeconds = (System.nanoTime() - flushStart) / 1e9;
+		reader.interrupt();
+		reader.join();
+		System.out.printf("write-behind  : %,9d개 %6.2f초 %,10.0f개/초, DB 왕복 %,d번 (묶음 평균 %.0f개), submit p50=%8.2fus p99=%9.2fus%n",
+				records, seconds, records / seconds, repo.calls.sum(), (double) repo.rows.sum() / repo.calls.sum(),
+				submitLatency.getPercentile(50) / 1e3, submitLatency.getPercentile(99) / 1e3);
+		System.out.printf("                남은 기록 저장(flush) %.2f초, %s%n", flushSeconds, board);
+		System.out.printf("TOP 100 (쓰는 중) : %,d번 p50=%7.2fus p99=%8.2fus max=%9.2fus%n", reads.sum(),
+				topLatency.getPercentile(50) / 1e3, topLatency.getPercentile(99) / 1e3, topLatency.getMax() / 1e3);
+
+		// 같은 순위표를 정렬로 구하면
+		Leaderboard total = board.board(ScoreDTO.TOTAL);
+		LatencyHistogram sortLatency = new LatencyHistogram();
+		for (int i = 0; i < 30; i++) {
+			long start = System.nanoTime();
+			List<ScoreDTO> all = new ArrayList<>(total.size());
+			for (int p = 0; p < players; p++) {
+				ScoreDTO s = total.best(player(p));
+				if (s != null) {
+					all.add(s);
+				}
+			}
+			ScoreDTO[] arr = all.toArray(new ScoreDTO[0]);
+			Arrays.sort(arr, ScoreDTO.RANKING);
+			List<ScoreDTO> top = Arrays.asList(arr).subList(0, Math.min(100, arr.length));
+			sortLatency.record(System.nanoTime() - start);
+			if (!top.equals(total.top(100))) {
+				throw new IllegalStateException("정렬한 TOP 100 과 순위표가 다릅니다");
+			}
+		}
+		System.out.printf("TOP 100 (전체 정렬, %,d명) : p50=%9.2fus p99=%9.2fus%n", total.size(),
+				sortLatency.getPercentile(50) / 1e3, sortLatency.getPercentile(99) / 1e3);
+		board.close();
+	}
+
+	interface Submit {
+		boolean submit(ScoreDTO score) throws Exception;
+	}
+
+	private static String player(int p) {
+		return "p" + p;
+	}
+
+	// writers 개 스레드가 records 개를 나눠서 올린다 (걸린 초)
+	private static double run(int records, int writers, int players, Submit submit, LatencyHistogram latency)
+			throws InterruptedException {
+		// 아이디 문자열은 미리 만들어 둔다 (재는 것은 submit 만)
+		String[] ids = new String[players];
+		for (int p = 0; p < players; p++) {
+			ids[p] = player(p);
+		}
+		CountDownLatch done = new CountDownLatch(writers);
+		long start = System.nanoTime();
+		for (int t = 0; t < writers; t++) {
+			int from = t;
+			new Thread(() -> {
+				ThreadLocalRandom r = ThreadLocalRandom.current();
+				try {
+					for (int i = from; i < records; i += writers) {
+						String category = CATEGORIES[r.nextInt(CATEGORIES.length)];
+						int keys = ScoreDTO.TOTAL.equals(category) ? r.nextInt(5) : 1;
+						ScoreDTO s = new ScoreDTO(ids[r.nextInt(players)], category, keys, 1000 + r.nextInt(60_000),
+								r.nextBoolean());
+						long begin = System.nanoTime();
+						submit.submit(s);
+						latency.record(System.nanoTime() - begin);
+					}
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+				done.countDown();
+			}, "writer-" + t).start();
+		}
+		done.await();
+		return (System.nanoTime() - start) / 1e9;
+	}
+
+	// DB 대신 : 저장한 척하고 시간만 쓴다
+	private static class StubScores implements ScoreRepository {
+		final LongAdder calls = new LongAdder();
+		final LongAdder rows = new LongAdder();
+
+		@Override
+		public int saveAll(List<ScoreDTO> list) {
+			LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(ROUND_TRIP_MICROS + ROW_MICROS * list.size()));
+			calls.increment();
+			rows.add(list.size());
+			return list.size();
+		}
+
+		@Override
+		public List<ScoreDTO> findAll() {
+			return new ArrayList<>();
+		}
+
+		@Override
+		public List<ScoreDTO> findByPlayer(String id) {
+			return new ArrayList<>();
+		}
+	}
+
+}
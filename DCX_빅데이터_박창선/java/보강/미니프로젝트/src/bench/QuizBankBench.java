@@ -0,0 +1,133 @@
+package bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+
+import model.Question;
+import model.QuestionBank;
+
+// 방 한 판(문제 고르기 + 채점)에 드는 할당 바이트 / 시간 비교
+//   예전 : Hard()/Easy() 마다 String[3] 을 새로 만들고 (음악실은 pathmusic + 파일 이름 3개를 이어 붙임)
+//          if (num == 0) if (answer == 3) ... 로 채점
+//   지금 : QuestionBank 에서 하나 고르고 q.isCorrect() (음악실은 고른 노래 하나만 경로를 붙임)
+// 예전 코드의 "..." + "..." 는 상수라 컴파일할 때 하나로 합쳐지므로 그림 문자열 자체는 판마다 만들어지지 않았다
+// 판마다 새로 생기던 것은 배열과 음악 경로 문자열이고, 그 차이가 아래 숫자로 나온다
+// 문제 파일을 처음 읽는 비용(한 번)도 따로 출력한다
+// 사운드 / 입력은 빼고 문제를 고르고 채점하는 부분만 잰다
+// (JMH 가 없는 프로젝트라 main 으로 돌리는 측정이다)
+// 실행 : java bench.QuizBankBench [판 수]   (작업 폴더가 미니프로젝트 이거나 클래스패스에 model/quiz.txt 가 있어야 한다)
+public class QuizBankBench {
+
+	private static final String PATHMUSIC = "./src/음악문제/";
+	private static final String[] ROOMS = { "art", "science", "computer", "music" };
+
+	// 고른 문제를 여기에 넣어 둔다 (밖으로 나가야 JIT 가 배열 생성을 지우지 못한다)
+	private static final Object[] SINK = new Object[64];
+
+	public static void main(String[] args) {
+		int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+
+		long alloc0 = allocatedBytes();
+		long start = System.nanoTime();
+		QuestionBank bank = QuestionBank.get();
+		System.out.printf("문제 파일 읽기 : 문제 %d개, %.1f ms, %,d bytes (한 번만)%n", bank.size(),
+				(System.nanoTime() - start) / 1e6, allocatedBytes() - alloc0);
+
+		System.out.printf("방마다 %,d판, 3번 중 가장 빠른 값%n", rounds);
+		System.out.printf("%-10s %-5s %14s %14s %14s %14s%n", "방", "난이도", "예전 ns/판", "예전 bytes/판", "지금 ns/판",
+				"지금 bytes/판");
+		for (String room : ROOMS) {
+			for (boolean hard : new boolean[] { true, false }) {
+				Legacy legacy = new Legacy(bank, room, hard);
+				// 데우기
+				runLegacy(legacy, rounds / 10);
+				runBank(bank, room, hard, rounds / 10);
+
+				double[] old = { Double.MAX_VALUE, 0 };
+				double[] now = { Double.MAX_VALUE, 0 };
+				for (int r = 0; r < 3; r++) {
+					measure(old, () -> runLegacy(legacy, rounds), rounds);
+					measure(now, () -> runBank(bank, room, hard, rounds), rounds);
+				}
+				System.out.printf("%-10s %-5s %14.1f %14.1f %14.1f %14.1f%n", room, hard ? "hard" : "easy", old[0],
+						old[1], now[0], now[1]);
+			}
+		}
+	}
+
+	// result[0] = 가장 빠른 ns/판, result[1] = bytes/판
+	private static void measure(double[] result, Runnable run, int rounds) {
+		long alloc0 = allocatedBytes();
+		long start = System.nanoTime();
+		run.run();
+		result[0] = Math.min(result[0], (System.nanoTime() - start) / (double) rounds);
+		result[1] = (allocatedBytes() - alloc0) / (double) rounds;
+	}
+
+	// 예전 방 클래스가 한 판에 하던 일 : 배열을 만들고, 번호를 뽑고, 번호마다 정답 비교
+	private static void runLegacy(Legacy legacy, int rounds) {
+		Random rd = new Random(1);
+		int correct = 0;
+		for (int i = 0; i < rounds; i++) {
+			String[] array = new String[legacy.texts.length];
+			for (int j = 0; j < array.length; j++) {
+				array[j] = legacy.music ? PATHMUSIC + legacy.texts[j] : legacy.texts[j];
+			}
+			int num = rd.nextInt(array.length);
+			SINK[i & (SINK.length - 1)] = array[num];
+			String answer = legacy.answers[i % legacy.answers.length];
+			for (int j = 0; j < array.length; j++) {
+				if (num == j) {
+					if (answer.equals(legacy.answers[j])) {
+						correct++;
+					}
+				}
+			}
+		}
+		SINK[0] = correct;
+	}
+
+	private static void runBank(QuestionBank bank, String room, boolean hard, int rounds) {
+		Random rd = new Random(1);
+		boolean music = room.equals("music");
+		String[] inputs = new Legacy(bank, room, hard).answers;
+		int correct = 0;
+		for (int i = 0; i < rounds; i++) {
+			Question q = bank.random(room, hard, rd);
+			SINK[i & (SINK.length - 1)] = music ? PATHMUSIC + q.getText() : q.getText();
+			if (q.isCorrect(inputs[i % inputs.length])) {
+				correct++;
+			}
+		}
+		SINK[0] = correct;
+	}
+
+	// 예전 코드에 박혀 있던 문제/정답 (상수 문자열처럼 한 번 만든 것을 계속 쓴다)
+	private static class Legacy {
+		final boolean music;
+		final String[] texts;
+		final String[] answers;
+
+		Legacy(QuestionBank bank, String room, boolean hard) {
+			music = room.equals("music");
+			List<Question> list = bank.questions(room, hard);
+			texts = new String[list.size()];
+			answers = new String[list.size()];
+			for (int i = 0; i < texts.length; i++) {
+				texts[i] = list.get(i).getText();
+				answers[i] = list.get(i).getAnswer();
+			}
+		}
+	}
+
+	// 현재 스레드가 지금까지 할당한 바이트 (지원 안 하면 0)
+	private static long allocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+		return 0;
+	}
+
+}
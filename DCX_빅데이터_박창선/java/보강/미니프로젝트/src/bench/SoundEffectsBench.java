@@ -0,0 +1,214 @@
+package bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sound.sampled.AudioFormat;
+
+import controller.SoundEffects;
+import db.LatencyHistogram;
+import model.Room;
+import model.Step;
+import model.art;
+import model.computer;
+import model.music;
+import model.science;
+
+// 효과음 관리자 헤드리스 테스트 : 소리를 내지 않고 mp3 를 푼 횟수와 play() 호출 시간을 센다
+// 게임 한 판에 나오는 효과음(GameMain 인트로 + 네 방 대본)을 여러 스레드가 여러 판 튼다
+//   예전 : mp3.play(patheffect + 이름) 처럼 틀 때마다 파일을 열고 처음부터 푼다 (호출한 스레드에서 잰다)
+//   캐시 : SoundEffects.play(이름), 효과음마다 한 번만 풀고 재생은 플레이어 풀 큐에 넣는다
+//   작은 캐시 : 캐시를 효과음 몇 개 크기로 줄였을 때 (LRU 로 밀려나서 다시 푸는 횟수)
+// 푸는 일은 진짜 파일을 읽고 mp3 처럼 약 11배 크기의 PCM 을 만드는 가짜 코덱이 한다 (JLayer 없이도 돌도록)
+// 저장소에 없는 효과음 파일은 임시 폴더에 같은 이름의 더미 파일로 만든다
+// 캐시 쪽은 재생이 끝난 만큼만 새로 넣는다 (동시에 걸려 있는 효과음은 IN_FLIGHT 개, 플레이어 큐 크기보다 작게)
+//   -> 쉬지 않고 쏟아부으면 큐가 넘쳐 대부분 버려지고 (버린 효과음의 play() 도 빨라 보인다)
+//      재생된 효과음끼리 비교가 안 되므로 버림이 0 인지 확인한다
+// 호출 시간과 함께 모든 효과음이 끝날 때까지의 시간(예전 : 다 풀 때까지)과 초당 효과음 수를 적는다
+// 실행 : java bench.SoundEffectsBench [판 수] [스레드 수]   (작업 폴더 : 미니프로젝트)
+public class SoundEffectsBench {
+
+	private static final String[] INTRO = { "게임버튼.mp3", "키보드.mp3", "키보드.mp3", "키보드.mp3", "천둥효과음.mp3", "키보드.mp3",
+			"키보드.mp3", "키보드.mp3", "교문들어갈때.mp3", "키보드.mp3", "덜컹거리는소리.mp3", "키보드.mp3", "키보드.mp3" };
+
+	private static final int PLAYERS = 4;
+	// 플레이어 큐(PLAYERS * 8)보다 작게
+	private static final int IN_FLIGHT = PLAYERS * 4;
+
+	public static void main(String[] args) throws Exception {
+		int games = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+
+		List<String> script = script();
+		Set<String> distinct = new LinkedHashSet<>(script);
+		Path dir = effectDir(distinct);
+		System.out.printf("한 판 효과음 %d번 (서로 다른 파일 %d개), %,d판, 스레드 %d개%n", script.size(), distinct.size(), games,
+				threads);
+
+		// 예전 방식
+		LongAdder oldDecodes = new LongAdder();
+		ExpandingCodec oldCodec = new ExpandingCodec(oldDecodes);
+		long calls = games * (long) script.size();
+		LatencyHistogram oldLatency = new LatencyHistogram();
+		long oldNanos = run(games, threads, script, oldLatency, null, name -> {
+			try {
+				oldCodec.decode(dir.resolve(name));
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		print("예전", oldDecodes.sum(), calls, calls, oldLatency, oldNanos, null);
+
+		// 캐시 (넉넉하게)
+		PacedOutput output = new PacedOutput();
+		SoundEffects effects = new SoundEffects(dir, new ExpandingCodec(new LongAdder()), output, PLAYERS, 64L << 20);
+		LatencyHistogram latency = new LatencyHistogram();
+		long nanos = run(games, threads, script, latency, output, effects::play);
+		print("캐시", effects.getDecodes(), calls, output.getCount(), latency, nanos, effects);
+
+		// 작은 캐시 : 전체 PCM 의 1/3 만 들어가게
+		long small = effects.getCachedBytes() / 3;
+		PacedOutput tinyOutput = new PacedOutput();
+		SoundEffects tiny = new SoundEffects(dir, new ExpandingCodec(new LongAdder()), tinyOutput, PLAYERS, small);
+		LatencyHistogram tinyLatency = new LatencyHistogram();
+		long tinyNanos = run(games, threads, script, tinyLatency, tinyOutput, tiny::play);
+		print("작은캐시", tiny.getDecodes(), calls, tinyOutput.getCount(), tinyLatency, tinyNanos, tiny);
+
+		if (effects.getDropped() != 0 || tiny.getDropped() != 0 || output.getCount() != calls
+				|| tinyOutput.getCount() != calls) {
+			throw new IllegalStateException("버려진 효과음이 있습니다 : 재생된 것끼리 비교가 아닙니다");
+		}
+	}
+
+	// 센 다음 자리를 하나 돌려준다 (재생이 끝나야 다음 효과음을 넣을 수 있다)
+	private static class PacedOutput extends SoundEffects.CountingOutput {
+		final Semaphore slots = new Semaphore(IN_FLIGHT);
+
+		@Override
+		public void play(SoundEffects.Pcm pcm) {
+			super.play(pcm);
+			slots.release();
+		}
+	}
+
+	interface Play {
+		void play(String name);
+	}
+
+	// 모든 효과음이 끝날 때까지 걸린 시간(ns), paced 가 있으면 자리가 날 때까지 기다렸다 넣는다 (기다린 시간은 호출 시간에서 뺀다)
+	private static long run(int games, int threads, List<String> script, LatencyHistogram latency, PacedOutput paced,
+			Play play) throws InterruptedException {
+		CountDownLatch done = new CountDownLatch(threads);
+		long begin = System.nanoTime();
+		for (int t = 0; t < threads; t++) {
+			int from = t;
+			new Thread(() -> {
+				try {
+					for (int g = from; g < games; g += threads) {
+						for (String name : script) {
+							if (paced != null) {
+								paced.slots.acquire();
+							}
+							long start = System.nanoTime();
+							play.play(name);
+							latency.record(System.nanoTime() - start);
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				done.countDown();
+			}).start();
+		}
+		done.await();
+		if (paced != null) {
+			// 남은 효과음이 다 재생될 때까지
+			paced.slots.acquire(IN_FLIGHT);
+			paced.slots.release(IN_FLIGHT);
+		}
+		return System.nanoTime() - begin;
+	}
+
+	private static void print(String label, long decodes, long calls, long played, LatencyHistogram latency, long nanos,
+			SoundEffects effects) {
+		System.out.printf("%-6s 풀기 %,7d번 / 호출 %,7d번 / 재생 %,7d번  호출 p50=%6.1fus p99=%8.1fus max=%9.1fus  전체 %,7.0fms (%,.0f개/초)%n",
+				label, decodes, calls, played, latency.getPercentile(50) / 1000.0, latency.getPercentile(99) / 1000.0,
+				latency.getMax() / 1000.0, nanos / 1e6, played / (nanos / 1e9));
+		if (effects != null) {
+			System.out.println("       " + effects);
+		}
+	}
+
+	// GameMain 인트로 + 네 방 대본 (모두 맞힌 판)
+	private static List<String> script() {
+		List<String> list = new ArrayList<>(List.of(INTRO));
+		for (Room room : new Room[] { science.ROOM, art.ROOM, music.ROOM, computer.ROOM }) {
+			for (Step s : room.getEnter()) {
+				if (s.getSound() != null) {
+					list.add(s.getSound());
+				}
+			}
+			for (Step s : room.getReward()) {
+				if (s.getSound() != null) {
+					list.add(s.getSound());
+				}
+			}
+		}
+		list.add("여자웃음소리.mp3");
+		return list;
+	}
+
+	// 실제 효과음 폴더를 임시 폴더로 복사하고, 없는 파일은 더미로 채운다
+	private static Path effectDir(Set<String> names) throws IOException {
+		Path src = Paths.get("./src/효과음/");
+		Path dir = Files.createTempDirectory("effects");
+		dir.toFile().deleteOnExit();
+		Random rd = new Random(1);
+		for (String name : names) {
+			Path target = dir.resolve(name);
+			if (Files.exists(src.resolve(name))) {
+				Files.copy(src.resolve(name), target);
+			} else {
+				byte[] dummy = new byte[20_000 + rd.nextInt(40_000)];
+				rd.nextBytes(dummy);
+				Files.write(target, dummy);
+			}
+			target.toFile().deleteOnExit();
+		}
+		return dir;
+	}
+
+	// 파일을 읽어 RATIO 배 크기의 PCM 을 만드는 가짜 코덱 (mp3 128kbps -> 44.1kHz 16bit 스테레오 ≒ 11배)
+	private static class ExpandingCodec implements SoundEffects.Codec {
+		static final int RATIO = 11;
+		private final LongAdder decodes;
+
+		ExpandingCodec(LongAdder decodes) {
+			this.decodes = decodes;
+		}
+
+		@Override
+		public SoundEffects.Pcm decode(Path file) throws IOException {
+			byte[] mp3 = Files.readAllBytes(file);
+			byte[] pcm = new byte[mp3.length * RATIO];
+			int x = 0;
+			for (int i = 0; i < pcm.length; i++) {
+				x = x * 31 + mp3[i / RATIO];
+				pcm[i] = (byte) x;
+			}
+			decodes.increment();
+			return new SoundEffects.Pcm(pcm, new AudioFormat(44100, 16, 2, true, false));
+		}
+	}
+
+}
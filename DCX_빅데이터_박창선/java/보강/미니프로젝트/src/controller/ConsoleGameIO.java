@@ -0,0 +1,105 @@
+package controller;
+
+import java.io.FileInputStream;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javazoom.jl.player.advanced.AdvancedPlayer;
+import model.Question;
+import model.Room;
+
+// 콘솔 한 명용 GameIO : System.out 에 찍고, 효과음은 SoundEffects, 음악실 노래는 AdvancedPlayer 스레드
+// 답은 입력 전용 스레드에서 sc.next() 로 읽어서 넘긴다 (게임 스레드는 입력을 기다리지 않는다)
+public class ConsoleGameIO implements GameIO {
+
+	private final String pathmusic = "./src/음악문제/";
+
+	private final Scanner sc;
+	private final GameRecord record; // null 이면 기록하지 않는다
+	private final ExecutorService input = Executors.newSingleThreadExecutor(r -> {
+		Thread t = new Thread(r, "console-input");
+		t.setDaemon(true);
+		return t;
+	});
+
+	private AdvancedPlayer player;
+	private Thread musicThread;
+	private boolean playing;
+
+	public ConsoleGameIO(Scanner sc) {
+		this(sc, null);
+	}
+
+	public ConsoleGameIO(Scanner sc, GameRecord record) {
+		this.sc = sc;
+		this.record = record;
+	}
+
+	@Override
+	public void print(String text) {
+		System.out.print(text);
+	}
+
+	@Override
+	public void println(String text) {
+		System.out.println(text);
+	}
+
+	@Override
+	public void sound(String file) {
+		SoundEffects.get().play(file);
+	}
+
+	@Override
+	public synchronized void music(String file) {
+		playing = file != null;
+		if (file == null) {
+			if (player != null) {
+				player.close();
+				player = null;
+			}
+			if (musicThread != null && musicThread.isAlive()) {
+				musicThread.interrupt(); // 스레드 종료 요청
+			}
+			return;
+		}
+		musicThread = new Thread(() -> {
+			try (FileInputStream fileInputStream = new FileInputStream(pathmusic + file)) {
+				AdvancedPlayer p = new AdvancedPlayer(fileInputStream);
+				synchronized (this) {
+					// 노래를 여는 사이에 이미 답을 했으면 틀지 않는다
+					if (!playing) {
+						p.close();
+						return;
+					}
+					player = p;
+				}
+				p.play();
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		});
+		musicThread.start(); // 음악 스레드 시작
+	}
+
+	@Override
+	public void ask(GameSession session, Question question) {
+		input.execute(() -> session.answer(sc.next()));
+	}
+
+	@Override
+	public void cleared(GameSession session, Room room) {
+		if (record != null) {
+			record.cleared(session, room);
+		}
+	}
+
+	@Override
+	public void finished(GameSession session, boolean clear) {
+		if (record != null) {
+			record.finished();
+		}
+	}
+
+}
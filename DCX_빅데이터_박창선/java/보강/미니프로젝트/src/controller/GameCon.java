@@ -2,21 +2,18 @@ package controller;
 
 import java.util.Scanner;
 
-import javazoom.jl.player.MP3Player;
-import model.UserDAO;
+import model.PlayerRepository;
 import model.UserDTO;
 import model.music;
 import model.science;
 
 public class GameCon {
 
-	UserDAO dao = new UserDAO();
+	PlayerRepository dao = PlayerRepository.open();
 	UserDTO dto = null;
 	Scanner sc = new Scanner(System.in);
 	science science = new science();
 	music musicRoom = new music();
-	MP3Player mp3 = new MP3Player();
-	String patheffect = "./src/효과음/";
 
 	// 회원가입
 	public void joinCon(String id, String pw, String name) {
@@ -83,7 +80,7 @@ public class GameCon {
 
 	public void fail() {
 		try {
-			mp3.play(patheffect + "문제 틀렸을때.mp3");
+			SoundEffects.get().play("문제 틀렸을때.mp3");
 			for (int i = 0; i < 20; i++) {
 				System.out.println(ghost);
 				Thread.sleep(50);
@@ -0,0 +1,127 @@
+package controller;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import db.LatencyHistogram;
+import model.Room;
+
+// 게임 진행 엔진 : 모든 플레이어의 GameSession 을 ScheduledExecutorService 하나로 진행한다
+// 대본의 "2초 기다림" 은 Thread.sleep 이 아니라 2초 뒤 예약이라서 기다리는 동안 스레드를 쓰지 않는다
+// -> 스레드 수(기본 CPU 코어 수)와 상관없이 플레이어 수천 명이 한 JVM 에서 같이 돈다
+// timeScale : 대본 시간 배율 (1 = 원래 속도, 0.01 = 100배 빠르게, 0 = 기다리지 않음), 부하 테스트용
+//             콘솔 게임은 -Dgame.speed=0.5 처럼 바꿀 수 있다 (기본 1)
+// 지표 : 진행 중 / 클리어 / 실패 수, 예약한 시각보다 늦게 실행된 정도(lag) 히스토그램
+public class GameEngine {
+
+	private static final double SPEED = Double.parseDouble(System.getProperty("game.speed", "1"));
+
+	// 콘솔 게임용 (스레드 하나, 데몬)
+	private static class Holder {
+		static final GameEngine CONSOLE = new GameEngine(1, SPEED);
+	}
+
+	private final ScheduledExecutorService scheduler;
+	private final double timeScale;
+	private final AtomicInteger active = new AtomicInteger();
+	private final AtomicInteger peak = new AtomicInteger();
+	private final LongAdder cleared = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LatencyHistogram lag = new LatencyHistogram();
+
+	public GameEngine(int threads, double timeScale) {
+		AtomicInteger seq = new AtomicInteger();
+		this.scheduler = Executors.newScheduledThreadPool(threads, r -> {
+			Thread t = new Thread(r, "game-" + seq.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+		this.timeScale = timeScale;
+	}
+
+	public GameEngine(double timeScale) {
+		this(Runtime.getRuntime().availableProcessors(), timeScale);
+	}
+
+	public static GameEngine console() {
+		return Holder.CONSOLE;
+	}
+
+	// 게임 시작 : 방들을 순서대로 진행한다 (바로 돌아오고, 끝은 session.result() 로 받는다)
+	public GameSession start(GameIO io, boolean hard, Random rd, Room... rooms) {
+		if (rooms.length == 0) {
+			throw new IllegalArgumentException("방이 없습니다");
+		}
+		GameSession session = new GameSession(this, io, List.of(rooms), hard, rd);
+		int now = active.incrementAndGet();
+		peak.accumulateAndGet(now, Math::max);
+		schedule(session::advance, 0);
+		return session;
+	}
+
+	// 끝날 때까지 기다리는 버전 (콘솔 게임 : 플레이어가 한 명뿐일 때)
+	public boolean play(GameIO io, boolean hard, Room... rooms) {
+		return start(io, hard, new Random(), rooms).result().join();
+	}
+
+	// delayMillis(대본 시간, timeScale 을 곱한다) 뒤에 실행
+	public void schedule(Runnable task, long delayMillis) {
+		long delayNanos = (long) (TimeUnit.MILLISECONDS.toNanos(delayMillis) * timeScale);
+		long due = System.nanoTime() + delayNanos;
+		Runnable timed = () -> {
+			lag.record(System.nanoTime() - due);
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				// 스케줄러는 예외를 삼키므로 여기서 찍는다
+				e.printStackTrace();
+			}
+		};
+		if (delayNanos <= 0) {
+			scheduler.execute(timed);
+		} else {
+			scheduler.schedule(timed, delayNanos, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	void finished(GameSession session, boolean clear) {
+		active.decrementAndGet();
+		if (clear) {
+			cleared.increment();
+		} else {
+			failed.increment();
+		}
+	}
+
+	// 진행 중인 게임 수
+	public int getActive() {
+		return active.get();
+	}
+
+	public int getPeak() {
+		return peak.get();
+	}
+
+	public long getCleared() {
+		return cleared.sum();
+	}
+
+	public long getFailed() {
+		return failed.sum();
+	}
+
+	// 예약한 시각보다 늦게 실행된 시간(ns) : 스레드가 모자라면 커진다
+	public LatencyHistogram getLag() {
+		return lag;
+	}
+
+	public void shutdown() {
+		scheduler.shutdownNow();
+	}
+
+}
@@ -0,0 +1,32 @@
+package controller;
+
+import model.Question;
+import model.Room;
+
+// 플레이어 한 명의 화면 / 소리 / 입력
+// GameSession 이 스케줄러 스레드에서 부르므로 어느 메소드도 오래 붙잡고 있으면 안 된다
+// 구현 : ConsoleGameIO(콘솔 + mp3), 부하 테스트의 가짜 플레이어(bench.GameLoadBench)
+public interface GameIO {
+
+	void print(String text);
+
+	void println(String text);
+
+	// 효과음 (효과음 폴더 안의 파일 이름)
+	void sound(String file);
+
+	// 음악실 노래 켜기 (음악문제 폴더 안의 파일 이름), null 이면 끄기
+	void music(String file);
+
+	// 문제를 냈다 : 답을 받으면 session.answer(답) 을 부른다 (여기서 기다리지 않는다)
+	void ask(GameSession session, Question question);
+
+	// 방 하나를 맞혔다 (열쇠를 얻기 전)
+	default void cleared(GameSession session, Room room) {
+	}
+
+	// 게임이 끝났다 (clear : 모든 방을 통과)
+	default void finished(GameSession session, boolean clear) {
+	}
+
+}
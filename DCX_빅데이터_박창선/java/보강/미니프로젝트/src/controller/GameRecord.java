@@ -0,0 +1,58 @@
+package controller;
+
+import java.util.List;
+
+import model.Room;
+import model.ScoreBoard;
+import model.ScoreDTO;
+
+// 한 판의 기록 : 방을 맞힐 때마다 그 방 기록(문제를 맞히는 데 걸린 시간)을,
+// 끝나면 한 판 기록(열쇠 수, 문제를 푸는 데 쓴 시간 합)을 ScoreBoard 에 올린다
+// GameIO 의 cleared / finished 에서 부른다 (ConsoleGameIO, ServerSession)
+public class GameRecord {
+
+	private final ScoreBoard scores;
+	private final String user;
+	private final boolean hard;
+	private int keys;
+	private long millis;
+
+	public GameRecord(ScoreBoard scores, String user, boolean hard) {
+		this.scores = scores;
+		this.user = user;
+		this.hard = hard;
+	}
+
+	public synchronized void cleared(GameSession session, Room room) {
+		long ms = session.getAnswerMillis();
+		keys++;
+		millis += ms;
+		scores.submit(new ScoreDTO(user, room.getCategory(), 1, ms, hard));
+	}
+
+	public synchronized ScoreDTO finished() {
+		ScoreDTO total = new ScoreDTO(user, ScoreDTO.TOTAL, keys, millis, hard);
+		scores.submit(total);
+		return total;
+	}
+
+	public synchronized int getKeys() {
+		return keys;
+	}
+
+	// 전체 순위 n 등까지 + 내 등수
+	public String ranking(int n) {
+		StringBuilder sb = new StringBuilder("==================== 랭킹 TOP " + n + " ====================\n");
+		List<ScoreDTO> top = scores.top(ScoreDTO.TOTAL, n);
+		for (int i = 0; i < top.size(); i++) {
+			sb.append(i + 1).append(". ").append(top.get(i)).append('\n');
+		}
+		ScoreDTO best = scores.best(ScoreDTO.TOTAL, user);
+		if (best != null) {
+			sb.append("내 최고 기록 : ").append(scores.rank(ScoreDTO.TOTAL, user)).append("등 (").append(best)
+					.append(")\n");
+		}
+		return sb.toString();
+	}
+
+}
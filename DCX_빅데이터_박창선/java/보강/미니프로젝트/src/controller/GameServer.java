@@ -0,0 +1,189 @@
+package controller;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import model.AsyncPlayerRepository;
+import model.Room;
+import model.ScoreBoard;
+
+// 방탈출 퀴즈 서버 (TCP, 한 줄 = 한 입력, UTF-8)
+// 셀렉터 스레드 하나가 모든 접속의 읽기/쓰기를 맡고, 접속마다 ServerSession(유저, 열쇠, 방, 난이도)을 하나씩 둔다
+// 공유하는 것 : 문제 은행(QuestionBank), 플레이어 저장소(AsyncPlayerRepository), 기록/순위표(ScoreBoard), 게임 엔진(GameEngine)
+// - 로그인 / 회원가입은 DB 스레드에서 돌고 끝나면 답장을 큐에 넣는다 (셀렉터는 기다리지 않는다)
+// - 게임 진행은 GameEngine 스케줄러가 하고, 화면 출력은 ServerSession 의 보낼 큐에 쌓인다
+// - 소켓에 쓰는 것은 셀렉터 스레드만 한다 : 다른 스레드는 큐에 넣고 wakeup()
+// 접속 방법 : nc 호스트 포트 (또는 telnet), 실행은 view.ServerMain
+public class GameServer implements AutoCloseable {
+
+	private final GameEngine engine;
+	private final AsyncPlayerRepository players;
+	private final ScoreBoard scores;
+	private final Room[] rooms;
+	private final Selector selector;
+	private final ServerSocketChannel server;
+	private final Thread loop;
+	// 다른 스레드가 셀렉터 스레드에 맡기는 일 (쓰기 관심 켜기 등)
+	private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+	private volatile boolean running = true;
+
+	private final LongAdder accepted = new LongAdder();
+	private final AtomicInteger connected = new AtomicInteger();
+	private final LongAdder games = new LongAdder();
+	private final LongAdder cleared = new LongAdder();
+
+	public GameServer(int port, GameEngine engine, AsyncPlayerRepository players, ScoreBoard scores, Room... rooms)
+			throws IOException {
+		this.engine = engine;
+		this.players = players;
+		this.scores = scores;
+		this.rooms = rooms.clone();
+		this.selector = Selector.open();
+		this.server = ServerSocketChannel.open();
+		server.bind(new InetSocketAddress(port), 1024);
+		server.configureBlocking(false);
+		server.register(selector, SelectionKey.OP_ACCEPT);
+		this.loop = new Thread(this::run, "game-server");
+	}
+
+	public GameServer start() {
+		loop.start();
+		return this;
+	}
+
+	// 실제로 연 포트 (0 으로 열었을 때)
+	public int getPort() {
+		return server.socket().getLocalPort();
+	}
+
+	private void run() {
+		while (running) {
+			try {
+				selector.select();
+				Runnable task;
+				while ((task = pending.poll()) != null) {
+					task.run();
+				}
+				Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+				while (it.hasNext()) {
+					SelectionKey key = it.next();
+					it.remove();
+					if (!key.isValid()) {
+						continue;
+					}
+					if (key.isAcceptable()) {
+						accept();
+						continue;
+					}
+					ServerSession session = (ServerSession) key.attachment();
+					try {
+						if (key.isReadable()) {
+							session.read();
+						}
+						if (key.isValid() && key.isWritable()) {
+							session.flush();
+						}
+					} catch (IOException | CancelledKeyException e) {
+						// 끊긴 접속 (다른 스레드가 먼저 닫은 경우 포함)
+						session.close();
+					}
+				}
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private void accept() throws IOException {
+		SocketChannel channel;
+		while ((channel = server.accept()) != null) {
+			channel.configureBlocking(false);
+			channel.socket().setTcpNoDelay(true);
+			SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+			ServerSession session = new ServerSession(this, key);
+			key.attach(session);
+			accepted.increment();
+			connected.incrementAndGet();
+			session.welcome();
+		}
+	}
+
+	// 셀렉터 스레드에서 돌릴 일 (다른 스레드에서 부른다)
+	void later(Runnable task) {
+		pending.add(task);
+		selector.wakeup();
+	}
+
+	void closed(ServerSession session) {
+		connected.decrementAndGet();
+	}
+
+	void gameOver(boolean clear) {
+		games.increment();
+		if (clear) {
+			cleared.increment();
+		}
+	}
+
+	GameEngine getEngine() {
+		return engine;
+	}
+
+	AsyncPlayerRepository getPlayers() {
+		return players;
+	}
+
+	ScoreBoard getScores() {
+		return scores;
+	}
+
+	Room[] getRooms() {
+		return rooms;
+	}
+
+	public long getAccepted() {
+		return accepted.sum();
+	}
+
+	// 지금 붙어 있는 접속 수
+	public int getConnected() {
+		return connected.get();
+	}
+
+	public long getGames() {
+		return games.sum();
+	}
+
+	public long getCleared() {
+		return cleared.sum();
+	}
+
+	@Override
+	public void close() throws IOException {
+		running = false;
+		selector.wakeup();
+		try {
+			loop.join(1000);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		for (SelectionKey key : selector.keys()) {
+			if (key.attachment() instanceof ServerSession) {
+				((ServerSession) key.attachment()).close();
+			}
+		}
+		server.close();
+		selector.close();
+	}
+
+}
@@ -0,0 +1,152 @@
+package controller;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import model.Question;
+import model.QuestionBank;
+import model.Room;
+import model.Step;
+
+// 플레이어 한 명의 게임 진행 (상태 기계)
+//   ENTER  : 방 대본을 한 토막씩 진행 (토막 사이의 기다림은 GameEngine 스케줄러에 맡긴다)
+//   ASKING : 문제를 내고 답을 기다림 (스레드를 잡고 있지 않다)
+//   REWARD : 맞힘 -> 열쇠 장면 후 다음 방, 마지막 방이면 CLEAR
+//   FAIL   : 틀림
+// 예전처럼 Thread.sleep 으로 기다리지 않으므로 스레드 몇 개로 플레이어 수천 명을 돌린다
+// 진행(advance)과 답(answer)이 다른 스레드에서 올 수 있어서 둘 다 synchronized 로 막는다
+public class GameSession {
+
+	public enum State {
+		ENTER, ASKING, REWARD, CLEAR, FAIL
+	}
+
+	private final GameEngine engine;
+	private final GameIO io;
+	private final List<Room> rooms;
+	private final boolean hard;
+	private final Random rd;
+	private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+	private State state = State.ENTER;
+	private int room;
+	private int step;
+	private Question question;
+	private long asked; // 문제를 낸 시각 (nanoTime)
+
+	GameSession(GameEngine engine, GameIO io, List<Room> rooms, boolean hard, Random rd) {
+		this.engine = engine;
+		this.io = io;
+		this.rooms = rooms;
+		this.hard = hard;
+		this.rd = rd;
+	}
+
+	// 다음 토막 진행 (스케줄러가 부른다)
+	synchronized void advance() {
+		while (true) {
+			if (state != State.ENTER && state != State.REWARD) {
+				return;
+			}
+			Room current = rooms.get(room);
+			List<Step> steps = state == State.ENTER ? current.getEnter() : current.getReward();
+			if (step < steps.size()) {
+				Step s = steps.get(step++);
+				if (s.getSound() != null) {
+					io.sound(s.getSound());
+				}
+				if (s.getText() != null) {
+					io.println(s.getText());
+				}
+				if (s.getDelay() > 0) {
+					engine.schedule(this::advance, s.getDelay());
+					return;
+				}
+				continue;
+			}
+			step = 0;
+			if (state == State.ENTER) {
+				ask(current);
+				return;
+			}
+			// 열쇠 장면이 끝났다 -> 다음 방
+			room++;
+			if (room == rooms.size()) {
+				finish(State.CLEAR);
+				return;
+			}
+			state = State.ENTER;
+		}
+	}
+
+	private void ask(Room current) {
+		question = QuestionBank.get().random(current.getCategory(), hard, rd);
+		state = State.ASKING;
+		asked = System.nanoTime();
+		if (current.isMusic()) {
+			io.music(question.getText());
+			io.print("정답 : ");
+		} else {
+			io.print(question.getText());
+		}
+		io.ask(this, question);
+	}
+
+	// 플레이어의 답 (어느 스레드에서 불러도 된다). 답을 기다리는 중이 아니면 false
+	public synchronized boolean answer(String input) {
+		if (state != State.ASKING) {
+			return false;
+		}
+		if (rooms.get(room).isMusic()) {
+			io.music(null);
+		}
+		if (question.isCorrect(input)) {
+			state = State.REWARD;
+			io.cleared(this, rooms.get(room));
+			engine.schedule(this::advance, 0);
+		} else {
+			finish(State.FAIL);
+		}
+		return true;
+	}
+
+	// 그만두기 (답을 기다리던 중이어도 끝낸다)
+	public synchronized void cancel() {
+		if (state != State.CLEAR && state != State.FAIL) {
+			finish(State.FAIL);
+		}
+	}
+
+	private void finish(State end) {
+		state = end;
+		question = null;
+		engine.finished(this, end == State.CLEAR);
+		io.finished(this, end == State.CLEAR);
+		result.complete(end == State.CLEAR);
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	// 지금 방 번호 (0 부터)
+	public synchronized int getRoom() {
+		return room;
+	}
+
+	// 지금 문제를 낸 뒤 지난 시간(ms) : cleared() 안에서 부르면 그 방 문제를 맞히는 데 걸린 시간
+	public synchronized long getAnswerMillis() {
+		return (System.nanoTime() - asked) / 1_000_000;
+	}
+
+	public boolean isHard() {
+		return hard;
+	}
+
+	// 끝나면 true(클리어) / false(실패)
+	public CompletableFuture<Boolean> result() {
+		return result;
+	}
+
+}
@@ -0,0 +1,324 @@
+package controller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import model.Question;
+import model.Room;
+import model.UserDTO;
+
+// 서버 접속 하나 = 플레이어 한 명의 상태 (유저, 난이도, 지금 방, 모은 열쇠) + GameIO
+// 입력 한 줄마다 state 에 따라 메뉴 -> 회원가입/로그인 -> 난이도 -> 게임 순으로 넘어간다 (GameMain 과 같은 순서)
+// 잠금 순서 : GameSession 은 자기 잠금을 쥔 채 print 를 부르므로,
+//   여기서는 this 를 쥔 채 GameSession 을 부르지 않는다 (answer 는 잠금 밖에서)
+//   보낼 큐는 out 으로 따로 잠근다
+public class ServerSession implements GameIO {
+
+	enum State {
+		MENU, JOIN_ID, JOIN_PW, JOIN_NAME, LOGIN_ID, LOGIN_PW, WAIT, LEVEL, PLAYING, DONE
+	}
+
+	private static final String MENU = "[1] 회원가입 [2] 로그인 [3] 종료 >> ";
+	private static final int MAX_LINE = 1024;
+
+	private final GameServer server;
+	private final SelectionKey key;
+	private final SocketChannel channel;
+	private final ByteBuffer in = ByteBuffer.allocate(4096);
+	private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+	private final ArrayDeque<ByteBuffer> out = new ArrayDeque<>();
+	private boolean writeRequested; // out 으로 잠근다
+	private boolean closeAfterFlush; // out 으로 잠근다
+
+	// 플레이어 상태 (this 로 잠근다)
+	private State state = State.MENU;
+	private String id;
+	private String pw;
+	private String user; // 로그인한 아이디
+	private boolean hard;
+	private long startNanos;
+	private GameSession game;
+	private GameRecord record;
+
+	ServerSession(GameServer server, SelectionKey key) {
+		this.server = server;
+		this.key = key;
+		this.channel = (SocketChannel) key.channel();
+	}
+
+	void welcome() {
+		send("방탈출 퀴즈 서버에 오신 것을 환영합니다\n" + MENU);
+	}
+
+	// 셀렉터 스레드 : 읽을 수 있는 만큼 읽고 줄마다 처리
+	void read() throws IOException {
+		int n = channel.read(in);
+		if (n < 0) {
+			close();
+			return;
+		}
+		in.flip();
+		while (in.hasRemaining()) {
+			byte b = in.get();
+			if (b == '\n') {
+				String text = new String(line.toByteArray(), StandardCharsets.UTF_8).replace("\r", "");
+				line.reset();
+				handle(text);
+			} else if (line.size() < MAX_LINE) {
+				line.write(b);
+			} else {
+				send("입력이 너무 깁니다\n");
+				closeAfterFlush();
+				break;
+			}
+		}
+		in.clear();
+	}
+
+	private void handle(String input) {
+		GameSession playing = null;
+		synchronized (this) {
+			switch (state) {
+			case MENU:
+				if (input.equals("1")) {
+					state = State.JOIN_ID;
+					send("ID : ");
+				} else if (input.equals("2")) {
+					state = State.LOGIN_ID;
+					send("ID : ");
+				} else if (input.equals("3")) {
+					state = State.DONE;
+					send("종료합니다\n");
+					closeAfterFlush();
+				} else {
+					send("잘못입력하셨습니다.. 다시 입력해주세요!\n" + MENU);
+				}
+				break;
+			case JOIN_ID:
+			case LOGIN_ID:
+				id = input.trim();
+				state = state == State.JOIN_ID ? State.JOIN_PW : State.LOGIN_PW;
+				send("PW : ");
+				break;
+			case JOIN_PW:
+				pw = input;
+				state = State.JOIN_NAME;
+				send("NAME : ");
+				break;
+			case JOIN_NAME:
+				join(input.trim());
+				break;
+			case LOGIN_PW:
+				login(input);
+				break;
+			case LEVEL:
+				hard = input.trim().equals("2");
+				send((hard ? "Hard" : "Easy") + " 난이도를 선택하셨습니다.\n");
+				state = State.PLAYING;
+				record = new GameRecord(server.getScores(), user, hard);
+				startNanos = System.nanoTime();
+				game = server.getEngine().start(this, hard, new Random(), server.getRooms());
+				break;
+			case PLAYING:
+				playing = game;
+				break;
+			default:
+				// WAIT(DB 답 기다리는 중), DONE : 입력은 버린다
+				break;
+			}
+		}
+		if (playing != null) {
+			playing.answer(input);
+		}
+	}
+
+	private void join(String name) {
+		state = State.WAIT;
+		server.getPlayers().join(new UserDTO(id, pw, name)).whenComplete((cnt, e) -> {
+			synchronized (this) {
+				boolean ok = e == null && cnt != null && cnt == 1;
+				send(ok ? name + "님 환영합니다!\n" + MENU : "다시 입력해주세요\n" + MENU);
+				pw = null;
+				state = State.MENU;
+			}
+		});
+	}
+
+	private void login(String password) {
+		state = State.WAIT;
+		String loginId = id;
+		server.getPlayers().login(new UserDTO(loginId, password)).whenComplete((ok, e) -> {
+			synchronized (this) {
+				if (e == null && Boolean.TRUE.equals(ok)) {
+					user = loginId;
+					state = State.LEVEL;
+					send("로그인 성공!\n😱난이도 설정 : [1] Easy [2] Hard >> ");
+				} else {
+					state = State.MENU;
+					send("로그인 실패.. 다시 입력해주세요!\n" + MENU);
+				}
+			}
+		});
+	}
+
+	// ---- GameIO (GameEngine 스레드에서 부른다) ----
+
+	@Override
+	public void print(String text) {
+		send(text);
+	}
+
+	@Override
+	public void println(String text) {
+		send(text + "\n");
+	}
+
+	@Override
+	public void sound(String file) {
+		// 서버에서는 소리를 보내지 않는다
+	}
+
+	@Override
+	public void music(String file) {
+	}
+
+	@Override
+	public void ask(GameSession session, Question question) {
+		// 답은 다음 입력 줄로 온다 (handle 의 PLAYING)
+	}
+
+	@Override
+	public void cleared(GameSession session, Room room) {
+		GameRecord r;
+		synchronized (this) {
+			r = record;
+		}
+		r.cleared(session, room);
+	}
+
+	@Override
+	public void finished(GameSession session, boolean clear) {
+		GameRecord r;
+		synchronized (this) {
+			state = State.DONE;
+			r = record;
+		}
+		// 기록 큐가 꽉 차면 여기서 기다릴 수 있으므로 this 를 쥐지 않는다
+		r.finished();
+		double seconds = (System.nanoTime() - startNanos) / 1e9;
+		if (clear) {
+			send(String.format("%n축하합니다!! 게임을 클리어하셨습니다!!! (열쇠 %d개, %.1f초)%n", r.getKeys(), seconds));
+		} else {
+			send(String.format("%n미미를 구출하지 못했습니다. (열쇠 %d개, %.1f초)%n", r.getKeys(), seconds));
+		}
+		send(r.ranking(5));
+		server.gameOver(clear);
+		closeAfterFlush();
+	}
+
+	// ---- 보내기 ----
+
+	// 어느 스레드에서든 : 큐에 넣고 셀렉터에게 쓰기를 부탁한다
+	void send(String text) {
+		ByteBuffer buf = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+		synchronized (out) {
+			out.add(buf);
+			if (writeRequested) {
+				return;
+			}
+			writeRequested = true;
+		}
+		server.later(this::enableWrite);
+	}
+
+	private void closeAfterFlush() {
+		synchronized (out) {
+			closeAfterFlush = true;
+			if (writeRequested) {
+				return;
+			}
+			writeRequested = true;
+		}
+		server.later(this::enableWrite);
+	}
+
+	private void enableWrite() {
+		if (key.isValid()) {
+			key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+		}
+	}
+
+	// 셀렉터 스레드 : 큐에 쌓인 것을 소켓이 받는 만큼 쓴다
+	void flush() throws IOException {
+		boolean close;
+		synchronized (out) {
+			while (!out.isEmpty()) {
+				ByteBuffer head = out.peek();
+				channel.write(head);
+				if (head.hasRemaining()) {
+					return; // 소켓 버퍼가 찼다 : 다음 OP_WRITE 때 이어서
+				}
+				out.poll();
+			}
+			writeRequested = false;
+			close = closeAfterFlush;
+		}
+		key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+		if (close) {
+			close();
+		}
+	}
+
+	void close() {
+		GameSession running;
+		synchronized (this) {
+			running = state == State.PLAYING ? game : null;
+			state = State.DONE;
+		}
+		// 게임 도중에 끊겼으면 게임도 끝낸다
+		if (running != null) {
+			running.cancel();
+		}
+		if (channel.isOpen()) {
+			key.cancel();
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// 이미 끊긴 접속
+			}
+			server.closed(this);
+		}
+	}
+
+	public synchronized String getUser() {
+		return user;
+	}
+
+	public synchronized boolean isHard() {
+		return hard;
+	}
+
+	public int getKeys() {
+		GameRecord r;
+		synchronized (this) {
+			r = record;
+		}
+		return r == null ? 0 : r.getKeys();
+	}
+
+	// 지금 방 번호 (게임 전이면 -1)
+	public int getRoom() {
+		GameSession g;
+		synchronized (this) {
+			g = game;
+		}
+		return g == null ? -1 : g.getRoom();
+	}
+
+}
@@ -0,0 +1,336 @@
+package controller;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+import javazoom.jl.decoder.Bitstream;
+import javazoom.jl.decoder.Decoder;
+import javazoom.jl.decoder.Header;
+import javazoom.jl.decoder.JavaLayerException;
+import javazoom.jl.decoder.SampleBuffer;
+
+// 효과음 관리자
+// 예전에는 mp3.play(patheffect + "키보드.mp3") 를 부를 때마다 파일을 다시 열고 mp3 를 처음부터 다시 풀었다
+// 지금은
+// - 효과음마다 한 번만 풀어서(decode) PCM 으로 메모리에 둔다 (preload 로 시작할 때 미리, 아니면 처음 틀 때)
+//   캐시는 바이트 합이 sound.cache.mb 를 넘으면 가장 오래 안 쓴 것부터 버리는 LRU
+//   같은 파일을 여러 스레드가 동시에 처음 틀어도 푸는 건 한 번
+// - 재생은 플레이어 스레드 몇 개(sound.players)가 큐에서 꺼내 틀고, 스레드마다 오디오 라인을 열어 둔 채 다시 쓴다
+//   -> play() 는 큐에 넣고 바로 돌아오고, 트는 동안 파일을 읽지 않는다
+//   큐가 꽉 차면 가장 오래 기다린 효과음을 버린다 (효과음은 늦게 나느니 안 나는 게 낫다)
+// - -Dsound.headless=true 이면 소리를 내지 않고 센다 (테스트 / 서버 / 부하 테스트용)
+// 설정 : -Dsound.dir=./src/효과음/  -Dsound.cache.mb=32  -Dsound.players=4  -Dsound.headless=false
+// 배경음처럼 긴 음악은 캐시에 넣지 말고 MP3Player 로 튼다
+public class SoundEffects {
+
+	// mp3 -> PCM
+	public interface Codec {
+		Pcm decode(Path file) throws IOException;
+	}
+
+	// PCM 을 실제로 내보내는 곳 (플레이어 스레드에서 부른다)
+	public interface Output {
+		void play(Pcm pcm);
+	}
+
+	// 풀어 둔 효과음 (16bit little-endian)
+	public static class Pcm {
+		private final byte[] data;
+		private final AudioFormat format;
+
+		public Pcm(byte[] data, AudioFormat format) {
+			this.data = data;
+			this.format = format;
+		}
+
+		public byte[] getData() {
+			return data;
+		}
+
+		public AudioFormat getFormat() {
+			return format;
+		}
+
+		// 재생 시간(ms)
+		public long getMillis() {
+			return (long) (data.length * 1000.0 / (format.getFrameRate() * format.getFrameSize()));
+		}
+	}
+
+	private static final String DIR = System.getProperty("sound.dir", "./src/효과음/");
+	private static final long CACHE_BYTES = Long.getLong("sound.cache.mb", 32) * 1024 * 1024;
+	private static final int PLAYERS = Integer.getInteger("sound.players", 4);
+	private static final boolean HEADLESS = Boolean.getBoolean("sound.headless");
+
+	private static class Holder {
+		static final SoundEffects SHARED = new SoundEffects(Paths.get(DIR), new Mp3Codec(),
+				HEADLESS ? new CountingOutput() : new LineOutput(), PLAYERS, CACHE_BYTES);
+	}
+
+	private final Path dir;
+	private final Codec codec;
+	private final Output output;
+	private final long maxBytes;
+	private final ThreadPoolExecutor players;
+
+	// 이름 -> PCM (접근 순서, this 로 잠근다)
+	private final LinkedHashMap<String, Pcm> cache = new LinkedHashMap<>(16, 0.75f, true);
+	// 지금 풀고 있는 이름 (같은 파일을 두 번 풀지 않게)
+	private final Map<String, CompletableFuture<Pcm>> loading = new HashMap<>();
+	private long cachedBytes;
+
+	private final LongAdder decodes = new LongAdder();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder plays = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+
+	public SoundEffects(Path dir, Codec codec, Output output, int players, long maxBytes) {
+		this.dir = dir;
+		this.codec = codec;
+		this.output = output;
+		this.maxBytes = maxBytes;
+		AtomicInteger seq = new AtomicInteger();
+		this.players = new ThreadPoolExecutor(players, players, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(players * 8), r -> {
+					Thread t = new Thread(r, "sound-" + seq.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				}, (task, pool) -> {
+					// 큐가 꽉 찼다 : 가장 오래된 것을 버리고 넣는다
+					if (pool.getQueue().poll() != null) {
+						dropped.increment();
+					}
+					if (!pool.getQueue().offer(task)) {
+						dropped.increment();
+					}
+				});
+	}
+
+	// 설정(-Dsound.*)대로 만든 공용 관리자
+	public static SoundEffects get() {
+		return Holder.SHARED;
+	}
+
+	// 시작할 때 미리 풀어 두기 (없는 파일은 건너뛴다)
+	public void preload(String... names) {
+		for (String name : names) {
+			try {
+				pcm(name);
+			} catch (IOException e) {
+				System.out.println("효과음을 읽지 못했습니다 : " + name + " (" + e.getMessage() + ")");
+			}
+		}
+	}
+
+	// 효과음 틀기 : 큐에 넣고 바로 돌아온다 (처음 트는 효과음이면 여기서 한 번 푼다)
+	public void play(String name) {
+		Pcm pcm;
+		try {
+			pcm = pcm(name);
+		} catch (IOException e) {
+			errors.increment();
+			return;
+		}
+		players.execute(() -> {
+			try {
+				output.play(pcm);
+				plays.increment();
+			} catch (RuntimeException e) {
+				errors.increment();
+			}
+		});
+	}
+
+	// 캐시에서 꺼내고, 없으면 푼다
+	Pcm pcm(String name) throws IOException {
+		CompletableFuture<Pcm> future;
+		boolean mine = false;
+		synchronized (this) {
+			Pcm pcm = cache.get(name);
+			if (pcm != null) {
+				hits.increment();
+				return pcm;
+			}
+			future = loading.get(name);
+			if (future == null) {
+				future = new CompletableFuture<>();
+				loading.put(name, future);
+				mine = true;
+			}
+		}
+		if (mine) {
+			try {
+				Pcm pcm = codec.decode(dir.resolve(name));
+				decodes.increment();
+				synchronized (this) {
+					loading.remove(name);
+					put(name, pcm);
+				}
+				future.complete(pcm);
+			} catch (IOException | RuntimeException e) {
+				synchronized (this) {
+					loading.remove(name);
+				}
+				future.completeExceptionally(e);
+				throw e;
+			}
+		}
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+		}
+	}
+
+	private void put(String name, Pcm pcm) {
+		cache.put(name, pcm);
+		cachedBytes += pcm.getData().length;
+		// 방금 넣은 것 하나는 넘쳐도 남긴다
+		Iterator<Map.Entry<String, Pcm>> it = cache.entrySet().iterator();
+		while (cachedBytes > maxBytes && cache.size() > 1) {
+			Map.Entry<String, Pcm> eldest = it.next();
+			cachedBytes -= eldest.getValue().getData().length;
+			it.remove();
+			evictions.increment();
+		}
+	}
+
+	// 지금까지 mp3 를 푼 횟수
+	public long getDecodes() {
+		return decodes.sum();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getPlays() {
+		return plays.sum();
+	}
+
+	public long getDropped() {
+		return dropped.sum();
+	}
+
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	public long getErrors() {
+		return errors.sum();
+	}
+
+	public synchronized long getCachedBytes() {
+		return cachedBytes;
+	}
+
+	public synchronized int getCachedCount() {
+		return cache.size();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("효과음 캐시 %d개 %,d bytes, 풀기 %d, 캐시 적중 %d, 재생 %d, 버림 %d, 밀려남 %d, 오류 %d",
+				getCachedCount(), getCachedBytes(), getDecodes(), getHits(), getPlays(), getDropped(),
+				getEvictions(), getErrors());
+	}
+
+	// JLayer 로 프레임을 하나씩 풀어 16bit PCM 으로 모은다
+	public static class Mp3Codec implements Codec {
+		@Override
+		public Pcm decode(Path file) throws IOException {
+			try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+				Bitstream bitstream = new Bitstream(in);
+				Decoder decoder = new Decoder();
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				int rate = 44100;
+				int channels = 2;
+				Header header;
+				while ((header = bitstream.readFrame()) != null) {
+					SampleBuffer buffer = (SampleBuffer) decoder.decodeFrame(header, bitstream);
+					rate = buffer.getSampleFrequency();
+					channels = buffer.getChannelCount();
+					short[] samples = buffer.getBuffer();
+					for (int i = 0, n = buffer.getBufferLength(); i < n; i++) {
+						out.write(samples[i]);
+						out.write(samples[i] >> 8);
+					}
+					bitstream.closeFrame();
+				}
+				bitstream.close();
+				return new Pcm(out.toByteArray(), new AudioFormat(rate, 16, channels, true, false));
+			} catch (JavaLayerException e) {
+				throw new IOException(file + " : " + e.getMessage(), e);
+			}
+		}
+	}
+
+	// 스피커로 : 플레이어 스레드마다 라인 하나를 열어 두고 형식이 같으면 계속 쓴다
+	public static class LineOutput implements Output {
+		private final ThreadLocal<SourceDataLine> lines = new ThreadLocal<>();
+
+		@Override
+		public void play(Pcm pcm) {
+			try {
+				SourceDataLine line = lines.get();
+				if (line == null || !line.getFormat().matches(pcm.getFormat())) {
+					if (line != null) {
+						line.close();
+					}
+					line = AudioSystem.getSourceDataLine(pcm.getFormat());
+					line.open(pcm.getFormat());
+					line.start();
+					lines.set(line);
+				}
+				line.write(pcm.getData(), 0, pcm.getData().length);
+				line.drain();
+			} catch (LineUnavailableException | IllegalArgumentException e) {
+				throw new IllegalStateException("오디오 라인을 열 수 없습니다 : " + e.getMessage(), e);
+			}
+		}
+	}
+
+	// 소리 없이 세기만 (-Dsound.headless=true)
+	public static class CountingOutput implements Output {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder bytes = new LongAdder();
+
+		@Override
+		public void play(Pcm pcm) {
+			count.increment();
+			bytes.add(pcm.getData().length);
+		}
+
+		public long getCount() {
+			return count.sum();
+		}
+
+		public long getBytes() {
+			return bytes.sum();
+		}
+	}
+
+}
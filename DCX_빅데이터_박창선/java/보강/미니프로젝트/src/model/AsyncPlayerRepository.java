@@ -0,0 +1,41 @@
+package model;
+
+import java.util.concurrent.CompletableFuture;
+
+import db.DBExecutor;
+
+// PlayerRepository 의 비동기 버전
+// 메소드는 바로 CompletableFuture 를 돌려주고, 실제 DB 작업은 DBExecutor 에서 돈다
+// (동시에 도는 작업 수는 커넥션 풀 크기로 제한)
+// 사용법 : async.login(dto).thenAccept(ok -> ...);
+public class AsyncPlayerRepository {
+
+	private final PlayerRepository repo;
+	private final DBExecutor executor;
+
+	public AsyncPlayerRepository(PlayerRepository repo) {
+		this(repo, DBExecutor.shared());
+	}
+
+	public AsyncPlayerRepository(PlayerRepository repo, DBExecutor executor) {
+		this.repo = repo;
+		this.executor = executor;
+	}
+
+	public CompletableFuture<Integer> join(UserDTO dto) {
+		return executor.submit(() -> repo.join(dto));
+	}
+
+	public CompletableFuture<Boolean> login(UserDTO dto) {
+		return executor.submit(() -> repo.login(dto));
+	}
+
+	public CompletableFuture<UserDTO> findPlayer(String id) {
+		return executor.submit(() -> repo.findPlayer(id));
+	}
+
+	public PlayerRepository getRepository() {
+		return repo;
+	}
+
+}
@@ -0,0 +1,83 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// 카테고리 하나의 순위표 (플레이어마다 가장 좋은 기록 하나만)
+// - ranking : 순위 순서로 정렬된 스킵 리스트, 넣기/빼기 O(log n), 락 없이 여러 스레드가 같이 쓴다
+// - best    : 아이디 -> 그 플레이어의 최고 기록
+// 기록을 바꿀 때는 새 기록을 먼저 넣고 옛 기록을 뺀다 (잠깐 두 개가 보일 수 있지만 빠지는 순간은 없다)
+// top(k) 는 앞에서부터 k 개만 읽고, best 와 다른 옛 기록은 건너뛴다 -> 쓰는 중에도 k 에 비례하는 시간
+public class Leaderboard {
+
+	private final String category;
+	private final ConcurrentSkipListSet<ScoreDTO> ranking = new ConcurrentSkipListSet<>(ScoreDTO.RANKING);
+	private final ConcurrentHashMap<String, ScoreDTO> best = new ConcurrentHashMap<>();
+
+	public Leaderboard(String category) {
+		this.category = category;
+	}
+
+	// 기록 올리기 : 그 플레이어의 최고 기록이 바뀌었으면 true
+	public boolean submit(ScoreDTO score) {
+		boolean[] improved = new boolean[1];
+		best.compute(score.getId(), (id, old) -> {
+			if (old != null && !score.beats(old)) {
+				return old;
+			}
+			ranking.add(score);
+			if (old != null) {
+				ranking.remove(old);
+			}
+			improved[0] = true;
+			return score;
+		});
+		return improved[0];
+	}
+
+	// 1등부터 k 명
+	public List<ScoreDTO> top(int k) {
+		List<ScoreDTO> list = new ArrayList<>(Math.min(k, 1024));
+		for (ScoreDTO s : ranking) {
+			if (list.size() >= k) {
+				break;
+			}
+			if (best.get(s.getId()) == s) {
+				list.add(s);
+			}
+		}
+		return list;
+	}
+
+	// 플레이어의 최고 기록 (없으면 null)
+	public ScoreDTO best(String id) {
+		return best.get(id);
+	}
+
+	// 몇 등인지 (1 부터, 기록이 없으면 0) : 앞에 있는 기록을 세므로 O(등수)
+	public int rank(String id) {
+		ScoreDTO mine = best.get(id);
+		if (mine == null) {
+			return 0;
+		}
+		int rank = 1;
+		for (ScoreDTO s : ranking.headSet(mine)) {
+			if (best.get(s.getId()) == s) {
+				rank++;
+			}
+		}
+		return rank;
+	}
+
+	public String getCategory() {
+		return category;
+	}
+
+	// 순위표에 있는 플레이어 수
+	public int size() {
+		return best.size();
+	}
+
+}
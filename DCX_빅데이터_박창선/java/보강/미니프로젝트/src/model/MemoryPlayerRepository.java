@@ -0,0 +1,105 @@
+package model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import auth.AuthService;
+import auth.CredentialStore;
+import auth.PasswordHasher;
+import db.MemTable;
+import db.RowCodec;
+
+// 오라클 없이 쓰는 메모리 저장소 (PLAYER)
+// snapshotDir 을 주면 시작할 때 player.snap 을 읽고 close() 때 저장한다
+// 비밀번호는 UserDAO 와 같이 해시로 저장하고 AuthService 로 확인한다
+public class MemoryPlayerRepository implements PlayerRepository, AutoCloseable {
+
+	private static final RowCodec<UserDTO> CODEC = new RowCodec<UserDTO>() {
+		@Override
+		public void write(DataOutputStream out, UserDTO row) throws IOException {
+			out.writeUTF(row.getId());
+			RowCodec.writeString(out, row.getPw());
+			RowCodec.writeString(out, row.getName());
+		}
+
+		@Override
+		public UserDTO read(DataInputStream in) throws IOException {
+			return new UserDTO(in.readUTF(), RowCodec.readString(in), RowCodec.readString(in));
+		}
+	};
+
+	private final MemTable<String, UserDTO> players = new MemTable<>(UserDTO::getId);
+	private final Path snapshotDir;
+	private final AuthService auth = new AuthService(new CredentialStore() {
+		@Override
+		public String findCredential(String id) {
+			UserDTO p = players.get(id);
+			return p == null ? null : p.getPw();
+		}
+
+		@Override
+		public void updateCredential(String id, String credential) {
+			players.update(id, p -> new UserDTO(p.getId(), credential, p.getName()));
+		}
+	});
+
+	public MemoryPlayerRepository() {
+		this(null);
+	}
+
+	public MemoryPlayerRepository(Path snapshotDir) {
+		this.snapshotDir = snapshotDir;
+		if (snapshotDir != null) {
+			try {
+				players.load(snapshotDir.resolve("player.snap"), CODEC);
+			} catch (IOException e) {
+				System.out.println("스냅샷 읽기 실패 : " + e.getMessage());
+			}
+		}
+	}
+
+	@Override
+	public int join(UserDTO dto) {
+		boolean ok = players.insert(new UserDTO(dto.getId(), PasswordHasher.hash(dto.getPw()), dto.getName()));
+		auth.invalidateCredential(dto.getId());
+		return ok ? 1 : 0;
+	}
+
+	@Override
+	public boolean login(UserDTO dto) {
+		return auth.login(dto.getId(), dto.getPw());
+	}
+
+	@Override
+	public UserDTO findPlayer(String id) {
+		UserDTO p = players.get(id);
+		return p == null ? null : copy(p);
+	}
+
+	public AuthService getAuth() {
+		return auth;
+	}
+
+	public void snapshot() throws IOException {
+		if (snapshotDir != null) {
+			players.save(snapshotDir.resolve("player.snap"), CODEC);
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			snapshot();
+		} catch (IOException e) {
+			System.out.println("스냅샷 저장 실패 : " + e.getMessage());
+		}
+	}
+
+	// UserDTO 는 setter 가 있으므로 저장소 안의 객체를 밖에 그대로 주지 않는다
+	private static UserDTO copy(UserDTO p) {
+		return new UserDTO(p.getId(), p.getPw(), p.getName());
+	}
+
+}
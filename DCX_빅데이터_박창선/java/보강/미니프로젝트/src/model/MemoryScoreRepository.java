@@ -0,0 +1,103 @@
+package model;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import db.MemTable;
+import db.RowCodec;
+
+// 오라클 없이 쓰는 메모리 저장소 (SCORE)
+// PK 는 저장할 때 붙이는 번호(seq) 라서 values() 가 곧 저장한 순서
+// snapshotDir 을 주면 시작할 때 score.snap 을 읽고 close() 때 저장한다
+public class MemoryScoreRepository implements ScoreRepository, AutoCloseable {
+
+	private static final RowCodec<ScoreDTO> CODEC = new RowCodec<ScoreDTO>() {
+		@Override
+		public void write(DataOutputStream out, ScoreDTO row) throws IOException {
+			out.writeLong(row.getSeq());
+			out.writeUTF(row.getId());
+			out.writeUTF(row.getCategory());
+			out.writeInt(row.getKeys());
+			out.writeLong(row.getMillis());
+			out.writeBoolean(row.isHard());
+			out.writeLong(row.getPlayedAt());
+		}
+
+		@Override
+		public ScoreDTO read(DataInputStream in) throws IOException {
+			return new ScoreDTO(in.readLong(), in.readUTF(), in.readUTF(), in.readInt(), in.readLong(),
+					in.readBoolean(), in.readLong());
+		}
+	};
+
+	private final MemTable<Long, ScoreDTO> scores = new MemTable<>(ScoreDTO::getSeq);
+	private final AtomicLong seq = new AtomicLong();
+	private final Path snapshotDir;
+
+	public MemoryScoreRepository() {
+		this(null);
+	}
+
+	public MemoryScoreRepository(Path snapshotDir) {
+		this.snapshotDir = snapshotDir;
+		if (snapshotDir != null) {
+			try {
+				scores.load(snapshotDir.resolve("score.snap"), CODEC);
+				for (ScoreDTO s : scores.values()) {
+					seq.accumulateAndGet(s.getSeq(), Math::max);
+				}
+			} catch (IOException e) {
+				System.out.println("스냅샷 읽기 실패 : " + e.getMessage());
+			}
+		}
+	}
+
+	@Override
+	public int saveAll(List<ScoreDTO> rows) {
+		for (ScoreDTO row : rows) {
+			scores.insert(row.withSeq(seq.incrementAndGet()));
+		}
+		return rows.size();
+	}
+
+	@Override
+	public List<ScoreDTO> findAll() {
+		return new ArrayList<>(scores.values());
+	}
+
+	@Override
+	public List<ScoreDTO> findByPlayer(String id) {
+		List<ScoreDTO> list = new ArrayList<>();
+		for (ScoreDTO s : scores.values()) {
+			if (s.getId().equals(id)) {
+				list.add(s);
+			}
+		}
+		return list;
+	}
+
+	public int size() {
+		return scores.size();
+	}
+
+	public void snapshot() throws IOException {
+		if (snapshotDir != null) {
+			scores.save(snapshotDir.resolve("score.snap"), CODEC);
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			snapshot();
+		} catch (IOException e) {
+			System.out.println("스냅샷 저장 실패 : " + e.getMessage());
+		}
+	}
+
+}
@@ -0,0 +1,30 @@
+package model;
+
+import db.DBManager;
+
+// PLAYER 저장소
+// 구현 : UserDAO(오라클, JDBC), MemoryPlayerRepository(메모리)
+// open() 은 -Ddb.engine=memory 이면 메모리, 아니면 오라클 저장소를 돌려준다
+public interface PlayerRepository {
+
+	// 회원가입 : 성공하면 1
+	int join(UserDTO dto);
+
+	// 로그인 : 아이디/비밀번호가 맞으면 true
+	boolean login(UserDTO dto);
+
+	// 아이디로 플레이어 조회 (없으면 null)
+	UserDTO findPlayer(String id);
+
+	static PlayerRepository open() {
+		if (DBManager.isMemoryEngine()) {
+			MemoryPlayerRepository repo = new MemoryPlayerRepository(DBManager.getSnapshotDir());
+			if (DBManager.getSnapshotDir() != null) {
+				DBManager.closeOnExit(repo);
+			}
+			return repo;
+		}
+		return new UserDAO();
+	}
+
+}
@@ -0,0 +1,46 @@
+package model;
+
+// 문제 하나 (QuestionBank 가 quiz.txt 를 읽을 때 한 번 만들고 계속 같은 객체를 쓴다)
+// text   : 화면에 찍을 문제 (그림, 보기, " 답 : " 까지), 음악실은 노래 파일 이름
+// answer : 정답 (보기 번호 "3" 또는 띄어쓰기 없는 노래 제목)
+public class Question {
+
+	private final String category;
+	private final boolean hard;
+	private final String text;
+	private final String answer;
+
+	public Question(String category, boolean hard, String text, String answer) {
+		this.category = category;
+		this.hard = hard;
+		this.text = text;
+		this.answer = answer;
+	}
+
+	public String getCategory() {
+		return category;
+	}
+
+	public boolean isHard() {
+		return hard;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	public String getAnswer() {
+		return answer;
+	}
+
+	// 입력한 답이 맞는지 (앞뒤 공백은 무시)
+	public boolean isCorrect(String input) {
+		return input != null && answer.equals(input.trim());
+	}
+
+	@Override
+	public String toString() {
+		return category + (hard ? " hard " : " easy ") + answer;
+	}
+
+}
@@ -0,0 +1,164 @@
+package model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// 방마다 문제 은행 (미술실 그림, 과학실/컴퓨터실 문제, 음악실 노래 + 정답)
+// 예전에는 Hard()/Easy() 를 부를 때마다 점자 그림 문자열을 이어 붙여 배열을 새로 만들었다
+// 지금은 quiz.txt 를 처음 쓸 때 한 번만 읽어서 문제 객체를 만들어 두고, 한 판에는 배열에서 하나 고르기만 한다
+// - 같은 문제/정답 문자열은 읽을 때 하나로 합쳐서 같은 객체를 쓴다
+// - 방 + 난이도 -> 배열 이라서 고르는 데 O(1)
+// 파일은 클래스패스(model/quiz.txt)에서 찾고, 없으면 ./src/model/quiz.txt 를 읽는다
+// 사용법 :
+//   Question q = QuestionBank.get().random("art", true, rd);
+//   System.out.print(q.getText());
+//   if (q.isCorrect(sc.next())) { ... }
+public class QuestionBank {
+
+	private static final String RESOURCE = "quiz.txt";
+	private static final String FILE = "./src/model/quiz.txt";
+
+	private static final int HARD = 0;
+	private static final int EASY = 1;
+
+	// 처음 get() 할 때 한 번만 읽는다
+	private static class Holder {
+		static final QuestionBank BANK = load();
+	}
+
+	// 방 -> [HARD / EASY] -> 문제들
+	private final Map<String, Question[][]> rooms;
+	private final int size;
+
+	private QuestionBank(Map<String, Question[][]> rooms, int size) {
+		this.rooms = rooms;
+		this.size = size;
+	}
+
+	public static QuestionBank get() {
+		return Holder.BANK;
+	}
+
+	// 방/난이도의 문제 하나를 무작위로
+	public Question random(String category, boolean hard, Random rd) {
+		Question[] list = array(category, hard);
+		return list[rd.nextInt(list.length)];
+	}
+
+	// 방/난이도의 문제 전부 (읽기 전용)
+	public List<Question> questions(String category, boolean hard) {
+		return List.of(array(category, hard));
+	}
+
+	// 전체 문제 수
+	public int size() {
+		return size;
+	}
+
+	private Question[] array(String category, boolean hard) {
+		Question[][] room = rooms.get(category);
+		if (room == null || room[hard ? HARD : EASY].length == 0) {
+			throw new IllegalArgumentException("문제가 없습니다 : " + category + (hard ? " hard" : " easy"));
+		}
+		return room[hard ? HARD : EASY];
+	}
+
+	private static QuestionBank load() {
+		try (BufferedReader br = open()) {
+			return parse(br);
+		} catch (IOException e) {
+			throw new IllegalStateException("문제 파일을 읽지 못했습니다 : " + e.getMessage(), e);
+		}
+	}
+
+	private static BufferedReader open() throws IOException {
+		InputStream in = QuestionBank.class.getResourceAsStream(RESOURCE);
+		if (in == null) {
+			Path file = Paths.get(FILE);
+			if (!Files.exists(file)) {
+				throw new IOException(RESOURCE + " 가 클래스패스에도 " + FILE + " 에도 없습니다");
+			}
+			in = Files.newInputStream(file);
+		}
+		return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+	}
+
+	// 형식 : "# ..." 은 설명, "@ 방 난이도 정답" 다음 줄부터 다음 @ 전까지가 문제 (줄 끝은 \n 으로 붙인다)
+	static QuestionBank parse(BufferedReader br) throws IOException {
+		Map<String, List<List<Question>>> lists = new HashMap<>();
+		Map<String, String> pool = new HashMap<>();
+		String[] head = null;
+		StringBuilder text = new StringBuilder();
+		boolean first = true;
+		int lineNo = 0;
+		int size = 0;
+		String line;
+		while (true) {
+			line = br.readLine();
+			lineNo++;
+			if (line != null && line.startsWith("#")) {
+				continue;
+			}
+			if (line == null || line.startsWith("@")) {
+				if (head != null) {
+					String category = pool(pool, head[1]);
+					boolean hard = head[2].equals("hard");
+					Question q = new Question(category, hard, pool(pool, text.toString()), pool(pool, head[3]));
+					lists.computeIfAbsent(category, k -> {
+						List<List<Question>> room = new ArrayList<>();
+						room.add(new ArrayList<>());
+						room.add(new ArrayList<>());
+						return room;
+					}).get(hard ? HARD : EASY).add(q);
+					size++;
+				}
+				if (line == null) {
+					break;
+				}
+				head = line.trim().split("\\s+");
+				if (head.length != 4 || !(head[2].equals("hard") || head[2].equals("easy"))) {
+					throw new IOException(lineNo + "번째 줄 형식 오류 (@ 방 hard|easy 정답) : " + line);
+				}
+				text.setLength(0);
+				first = true;
+				continue;
+			}
+			if (head == null) {
+				if (line.isBlank()) {
+					continue;
+				}
+				throw new IOException(lineNo + "번째 줄 : @ 줄보다 문제가 먼저 나왔습니다");
+			}
+			if (!first) {
+				text.append('\n');
+			}
+			text.append(line);
+			first = false;
+		}
+
+		Map<String, Question[][]> rooms = new HashMap<>();
+		for (Map.Entry<String, List<List<Question>>> e : lists.entrySet()) {
+			rooms.put(e.getKey(), new Question[][] { e.getValue().get(HARD).toArray(new Question[0]),
+					e.getValue().get(EASY).toArray(new Question[0]) });
+		}
+		return new QuestionBank(rooms, size);
+	}
+
+	// 같은 문자열은 먼저 만든 객체 하나로
+	private static String pool(Map<String, String> pool, String s) {
+		String prev = pool.putIfAbsent(s, s);
+		return prev != null ? prev : s;
+	}
+
+}
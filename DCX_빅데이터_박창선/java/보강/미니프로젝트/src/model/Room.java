@@ -0,0 +1,51 @@
+package model;
+
+import java.util.List;
+
+// 방 하나의 대본 (controller.GameSession 이 순서대로 진행한다)
+// enter  : 방에 들어가서 문제가 나오기 전까지
+// 문제    : QuestionBank 의 category 에서 하나 (music 이면 노래를 틀고 "정답 : " 만 찍는다)
+// reward : 맞혔을 때 열쇠를 얻는 장면
+// 틀리면 그 자리에서 게임이 끝난다
+public class Room {
+
+	private final String category;
+	private final boolean music;
+	private final List<Step> enter;
+	private final List<Step> reward;
+
+	public Room(String category, boolean music, List<Step> enter, List<Step> reward) {
+		this.category = category;
+		this.music = music;
+		this.enter = List.copyOf(enter);
+		this.reward = List.copyOf(reward);
+	}
+
+	public String getCategory() {
+		return category;
+	}
+
+	public boolean isMusic() {
+		return music;
+	}
+
+	public List<Step> getEnter() {
+		return enter;
+	}
+
+	public List<Step> getReward() {
+		return reward;
+	}
+
+	// 열쇠를 얻는 장면 (방마다 마지막 글만 다르다)
+	static List<Step> reward(String text) {
+		return List.of(Step.of("상자.mp3", null, 2000), Step.of("열쇠 얻는소리.mp3", null, 2000),
+				Step.of("키보드.mp3", text, 3000));
+	}
+
+	@Override
+	public String toString() {
+		return category;
+	}
+
+}
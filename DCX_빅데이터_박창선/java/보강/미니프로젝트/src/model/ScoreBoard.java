@@ -0,0 +1,267 @@
+package model;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import db.DBManager;
+
+// 게임 기록 저장 + 카테고리별 순위표
+// - submit() 은 메모리 순위표(Leaderboard)를 바로 고치고, 기록은 큐에 넣고 돌아온다 (DB 를 기다리지 않는다)
+// - 쓰는 스레드 하나(score-writer)가 큐에서 batch 개씩, 또는 flushMillis 마다 모아서 saveAll (write-behind)
+//   저장에 실패한 묶음은 잠깐 쉬었다가 다시 시도하고, RETRIES 번 실패하면 버리고 센다
+//   큐가 꽉 차면 submit 이 기다린다 (DB 가 따라오지 못할 때 기록을 버리지 않고 속도를 늦춘다)
+// - 만들 때 저장소의 기록으로 순위표를 채운다
+// 설정 : -Dscore.batch=500(db.batch)  -Dscore.flush.ms=1000  -Dscore.queue=65536
+public class ScoreBoard implements AutoCloseable {
+
+	private static final int BATCH = Integer.getInteger("score.batch", DBManager.BATCH_SIZE);
+	private static final long FLUSH_MILLIS = Long.getLong("score.flush.ms", 1000);
+	private static final int QUEUE = Integer.getInteger("score.queue", 65536);
+	private static final int RETRIES = 3;
+
+	private static class Holder {
+		static final ScoreBoard SHARED = open();
+
+		private static ScoreBoard open() {
+			ScoreBoard board = new ScoreBoard(ScoreRepository.open(), BATCH, FLUSH_MILLIS, QUEUE);
+			DBManager.closeOnExit(board);
+			return board;
+		}
+	}
+
+	private final ScoreRepository repo;
+	private final int batch;
+	private final long flushMillis;
+	private final BlockingQueue<ScoreDTO> queue;
+	private final ConcurrentHashMap<String, Leaderboard> boards = new ConcurrentHashMap<>();
+	private final Thread writer;
+	private volatile boolean running = true;
+	private volatile boolean flushing;
+
+	// 큐에 있거나 쓰는 중인 기록 수 (flush 가 기다린다)
+	private final AtomicLong pending = new AtomicLong();
+	private final LongAdder submitted = new LongAdder();
+	private final LongAdder saved = new LongAdder();
+	private final LongAdder batches = new LongAdder();
+	private final LongAdder retries = new LongAdder();
+	private final LongAdder lost = new LongAdder();
+	private final LongAdder stalls = new LongAdder();
+
+	public ScoreBoard(ScoreRepository repo, int batch, long flushMillis, int queueSize) {
+		if (batch <= 0 || queueSize <= 0) {
+			throw new IllegalArgumentException("batch, queueSize는 1 이상이어야 합니다");
+		}
+		this.repo = repo;
+		this.batch = batch;
+		this.flushMillis = flushMillis;
+		this.queue = new ArrayBlockingQueue<>(queueSize);
+		try {
+			for (ScoreDTO s : repo.findAll()) {
+				board(s.getCategory()).submit(s);
+			}
+		} catch (SQLException e) {
+			// 순위표가 비어 있어도 게임은 된다
+			e.printStackTrace();
+		}
+		this.writer = new Thread(this::write, "score-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	// 설정(-Dscore.*, -Ddb.engine)대로 만든 공용 기록 저장소
+	public static ScoreBoard get() {
+		return Holder.SHARED;
+	}
+
+	// 기록 올리기 : 순위표는 바로 바뀌고 DB 에는 나중에 묶어서 들어간다
+	public boolean submit(ScoreDTO score) {
+		if (!running) {
+			throw new IllegalStateException("닫힌 기록 저장소입니다");
+		}
+		boolean improved = board(score.getCategory()).submit(score);
+		pending.incrementAndGet();
+		submitted.increment();
+		if (!queue.offer(score)) {
+			stalls.increment();
+			try {
+				queue.put(score);
+			} catch (InterruptedException e) {
+				pending.decrementAndGet();
+				lost.increment();
+				Thread.currentThread().interrupt();
+			}
+		}
+		return improved;
+	}
+
+	// 카테고리의 1등부터 k 명
+	public List<ScoreDTO> top(String category, int k) {
+		Leaderboard board = boards.get(category);
+		return board == null ? Collections.emptyList() : board.top(k);
+	}
+
+	// 플레이어의 카테고리 최고 기록 (없으면 null)
+	public ScoreDTO best(String category, String id) {
+		Leaderboard board = boards.get(category);
+		return board == null ? null : board.best(id);
+	}
+
+	// 플레이어의 카테고리 등수 (1 부터, 없으면 0)
+	public int rank(String category, String id) {
+		Leaderboard board = boards.get(category);
+		return board == null ? 0 : board.rank(id);
+	}
+
+	public Leaderboard board(String category) {
+		return boards.computeIfAbsent(category, Leaderboard::new);
+	}
+
+	// 플레이어의 지난 기록 (아직 DB 에 안 들어간 것까지 보려면 먼저 flush)
+	public List<ScoreDTO> history(String id) throws SQLException {
+		return repo.findByPlayer(id);
+	}
+
+	// 지금까지 올린 기록이 모두 저장(또는 포기)될 때까지 기다린다
+	// (모으는 중인 묶음은 flushMillis 를 기다리지 않고 바로 쓴다)
+	public void flush(long timeoutMillis) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		flushing = true;
+		try {
+			synchronized (this) {
+				while (pending.get() > 0) {
+					long left = deadline - System.currentTimeMillis();
+					if (left <= 0) {
+						return;
+					}
+					wait(left);
+				}
+			}
+		} finally {
+			flushing = false;
+		}
+	}
+
+	private void write() {
+		List<ScoreDTO> rows = new ArrayList<>(batch);
+		while (running || !queue.isEmpty()) {
+			try {
+				collect(rows);
+			} catch (InterruptedException e) {
+				// close() 가 깨웠다 : 모은 것은 쓰고 남은 것도 마저 쓴다
+			}
+			if (!rows.isEmpty()) {
+				save(rows);
+				rows.clear();
+			}
+		}
+	}
+
+	// 첫 기록이 오면 batch 개가 차거나 flushMillis 가 지날 때까지 모은다 (flush() 를 부르면 바로 끝)
+	private void collect(List<ScoreDTO> rows) throws InterruptedException {
+		ScoreDTO first = queue.poll(flushMillis, TimeUnit.MILLISECONDS);
+		if (first == null) {
+			return;
+		}
+		rows.add(first);
+		long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushMillis);
+		while (true) {
+			queue.drainTo(rows, batch - rows.size());
+			long left = until - System.nanoTime();
+			if (rows.size() >= batch || left <= 0 || !running || flushing) {
+				return;
+			}
+			ScoreDTO next = queue.poll(Math.min(left, TimeUnit.MILLISECONDS.toNanos(10)), TimeUnit.NANOSECONDS);
+			if (next != null) {
+				rows.add(next);
+			}
+		}
+	}
+
+	private void save(List<ScoreDTO> rows) {
+		for (int attempt = 0;; attempt++) {
+			try {
+				repo.saveAll(rows);
+				saved.add(rows.size());
+				batches.increment();
+				break;
+			} catch (SQLException | RuntimeException e) {
+				if (attempt + 1 >= RETRIES) {
+					System.out.println("기록 저장 실패(" + rows.size() + "개, 버림) : " + e.getMessage());
+					lost.add(rows.size());
+					break;
+				}
+				retries.increment();
+				try {
+					Thread.sleep(100L << attempt);
+				} catch (InterruptedException ie) {
+					// 닫는 중이면 쉬지 않고 바로 다시 시도한다
+				}
+			}
+		}
+		pending.addAndGet(-rows.size());
+		synchronized (this) {
+			notifyAll();
+		}
+	}
+
+	// 남은 기록을 모두 쓰고 쓰는 스레드를 끝낸다
+	@Override
+	public void close() {
+		if (!running) {
+			return;
+		}
+		running = false;
+		writer.interrupt();
+		try {
+			writer.join(30_000);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	public long getSubmitted() {
+		return submitted.sum();
+	}
+
+	public long getSaved() {
+		return saved.sum();
+	}
+
+	// saveAll 을 부른 횟수 (성공한 것만)
+	public long getBatches() {
+		return batches.sum();
+	}
+
+	public long getRetries() {
+		return retries.sum();
+	}
+
+	public long getLost() {
+		return lost.sum();
+	}
+
+	// 큐가 꽉 차서 submit 이 기다린 횟수
+	public long getStalls() {
+		return stalls.sum();
+	}
+
+	public long getPending() {
+		return pending.get();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("기록 %,d개 (저장 %,d, 묶음 %,d, 재시도 %d, 버림 %d, 큐 대기 %d, 남음 %d), 카테고리 %d개",
+				getSubmitted(), getSaved(), getBatches(), getRetries(), getLost(), getStalls(), getPending(),
+				boards.size());
+	}
+
+}
@@ -0,0 +1,76 @@
+package model;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import db.DBManager;
+
+// SCORE 테이블 (SQL.sql 참고)
+// saveAll 은 한 커넥션에서 addBatch / executeBatch 후 한 번 커밋한다 (실패하면 롤백하고 예외를 그대로 던진다)
+public class ScoreDAO implements ScoreRepository {
+
+	private static final String COLUMNS = "ID, CATEGORY, KEYS, MILLIS, HARD, PLAYED_AT";
+
+	@Override
+	public int saveAll(List<ScoreDTO> rows) throws SQLException {
+
+		String sql = "INSERT INTO SCORE(SEQ, " + COLUMNS + ") VALUES(SCORE_SEQ.NEXTVAL, ?, ?, ?, ?, ?, ?)";
+
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
+			conn.setAutoCommit(false);
+			try {
+				for (ScoreDTO dto : rows) {
+					psmt.setString(1, dto.getId());
+					psmt.setString(2, dto.getCategory());
+					psmt.setInt(3, dto.getKeys());
+					psmt.setLong(4, dto.getMillis());
+					psmt.setInt(5, dto.isHard() ? 1 : 0);
+					psmt.setLong(6, dto.getPlayedAt());
+					psmt.addBatch();
+				}
+				psmt.executeBatch();
+				conn.commit();
+				return rows.size();
+			} catch (SQLException e) {
+				conn.rollback();
+				throw e;
+			} finally {
+				conn.setAutoCommit(true);
+			}
+		}
+	}
+
+	@Override
+	public List<ScoreDTO> findAll() throws SQLException {
+		return query("SELECT SEQ, " + COLUMNS + " FROM SCORE ORDER BY SEQ", null);
+	}
+
+	@Override
+	public List<ScoreDTO> findByPlayer(String id) throws SQLException {
+		return query("SELECT SEQ, " + COLUMNS + " FROM SCORE WHERE ID = ? ORDER BY SEQ", id);
+	}
+
+	private List<ScoreDTO> query(String sql, String id) throws SQLException {
+		List<ScoreDTO> list = new ArrayList<>();
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
+			if (id != null) {
+				psmt.setString(1, id);
+			}
+			psmt.setFetchSize(500);
+			try (ResultSet rs = psmt.executeQuery()) {
+				while (rs.next()) {
+					list.add(new ScoreDTO(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getInt(4), rs.getLong(5),
+							rs.getInt(6) == 1, rs.getLong(7)));
+				}
+			}
+		}
+		return list;
+	}
+
+}
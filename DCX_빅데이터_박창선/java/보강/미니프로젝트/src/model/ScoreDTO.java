@@ -0,0 +1,84 @@
+package model;
+
+import java.util.Comparator;
+
+// 게임 기록 한 줄 (SCORE 테이블)
+// category : 방 카테고리(science, art, music, computer) 이면 그 방 문제를 맞히는 데 걸린 시간,
+//            TOTAL 이면 한 판 전체 (모은 열쇠 수, 문제를 푸는 데 쓴 시간 합)
+// 순위 : 열쇠가 많을수록, 같으면 시간이 짧을수록, 같으면 먼저 세운 기록이 위
+public class ScoreDTO {
+
+	public static final String TOTAL = "total";
+
+	// 1등이 맨 앞
+	public static final Comparator<ScoreDTO> RANKING = Comparator.comparingInt(ScoreDTO::getKeys).reversed()
+			.thenComparingLong(ScoreDTO::getMillis).thenComparingLong(ScoreDTO::getPlayedAt)
+			.thenComparing(ScoreDTO::getId);
+
+	private final long seq;
+	private final String id;
+	private final String category;
+	private final int keys;
+	private final long millis;
+	private final boolean hard;
+	private final long playedAt;
+
+	public ScoreDTO(String id, String category, int keys, long millis, boolean hard) {
+		this(0, id, category, keys, millis, hard, System.currentTimeMillis());
+	}
+
+	public ScoreDTO(long seq, String id, String category, int keys, long millis, boolean hard, long playedAt) {
+		this.seq = seq;
+		this.id = id;
+		this.category = category;
+		this.keys = keys;
+		this.millis = millis;
+		this.hard = hard;
+		this.playedAt = playedAt;
+	}
+
+	// 저장소가 붙이는 번호 (저장 전이면 0)
+	public long getSeq() {
+		return seq;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getCategory() {
+		return category;
+	}
+
+	public int getKeys() {
+		return keys;
+	}
+
+	public long getMillis() {
+		return millis;
+	}
+
+	public boolean isHard() {
+		return hard;
+	}
+
+	// 기록한 시각 (epoch ms)
+	public long getPlayedAt() {
+		return playedAt;
+	}
+
+	public ScoreDTO withSeq(long seq) {
+		return new ScoreDTO(seq, id, category, keys, millis, hard, playedAt);
+	}
+
+	// 이 기록이 other 보다 순위가 위인가
+	public boolean beats(ScoreDTO other) {
+		return RANKING.compare(this, other) < 0;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s 열쇠 %d개 %.1f초 %s", id, keys, millis / 1000.0, hard ? "Hard" : "Easy");
+	}
+
+}
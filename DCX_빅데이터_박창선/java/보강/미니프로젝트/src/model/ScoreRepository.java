@@ -0,0 +1,33 @@
+package model;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import db.DBManager;
+
+// SCORE 저장소 (게임 기록은 지우거나 고치지 않고 쌓기만 한다)
+// 구현 : ScoreDAO(오라클, JDBC), MemoryScoreRepository(메모리)
+// open() 은 -Ddb.engine=memory 이면 메모리, 아니면 오라클 저장소를 돌려준다
+public interface ScoreRepository {
+
+	// 한꺼번에 저장 (한 트랜잭션) : 실패하면 하나도 저장하지 않고 SQLException
+	int saveAll(List<ScoreDTO> rows) throws SQLException;
+
+	// 전체 기록 (시작할 때 순위표를 채우는 데 쓴다)
+	List<ScoreDTO> findAll() throws SQLException;
+
+	// 플레이어 한 명의 기록 (오래된 것부터)
+	List<ScoreDTO> findByPlayer(String id) throws SQLException;
+
+	static ScoreRepository open() {
+		if (DBManager.isMemoryEngine()) {
+			MemoryScoreRepository repo = new MemoryScoreRepository(DBManager.getSnapshotDir());
+			if (DBManager.getSnapshotDir() != null) {
+				DBManager.closeOnExit(repo);
+			}
+			return repo;
+		}
+		return new ScoreDAO();
+	}
+
+}
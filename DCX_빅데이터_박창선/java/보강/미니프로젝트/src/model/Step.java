@@ -0,0 +1,33 @@
+package model;
+
+// 이야기 한 토막 : 효과음을 틀고, 글을 찍고, delay(ms) 뒤에 다음 토막으로
+// 예전 방 클래스의 mp3.play(...) + System.out.println(...) + Thread.sleep(...) 한 묶음과 같다
+public class Step {
+
+	private final String sound; // 효과음 파일 이름 (없으면 null)
+	private final String text; // 찍을 글 (없으면 null)
+	private final long delay;
+
+	public Step(String sound, String text, long delay) {
+		this.sound = sound;
+		this.text = text;
+		this.delay = delay;
+	}
+
+	public static Step of(String sound, String text, long delay) {
+		return new Step(sound, text, delay);
+	}
+
+	public String getSound() {
+		return sound;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+	public long getDelay() {
+		return delay;
+	}
+
+}
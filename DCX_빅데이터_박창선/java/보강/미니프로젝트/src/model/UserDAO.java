@@ -1,98 +1,98 @@
 package model;
 
 import java.sql.Connection;
-
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Scanner;
 
-public class UserDAO {
+import auth.AuthService;
+import auth.CredentialStore;
+import auth.PasswordHasher;
+import db.DBManager;
+
+// Connection / PreparedStatement / ResultSet 은 메소드 안에서만 쓰고 닫는다
+// -> 필드에 상태가 없으므로 DAO 하나를 여러 스레드가 같이 써도 된다
+public class UserDAO implements PlayerRepository {
+
+	// 비밀번호는 PasswordHasher 로 해시해서 저장하고, 로그인은 AuthService 가 처리한다
+	private static final AuthService AUTH = new AuthService(new CredentialStore() {
+		@Override
+		public String findCredential(String id) throws SQLException {
+			try (Connection conn = DBManager.getConnection();
+					PreparedStatement psmt = conn.prepareStatement("SELECT PW FROM PLAYER WHERE ID = ?")) {
+				psmt.setString(1, id);
+				try (ResultSet rs = psmt.executeQuery()) {
+					return rs.next() ? rs.getString(1) : null;
+				}
+			}
+		}
+
+		@Override
+		public void updateCredential(String id, String credential) throws SQLException {
+			try (Connection conn = DBManager.getConnection();
+					PreparedStatement psmt = conn.prepareStatement("UPDATE PLAYER SET PW = ? WHERE ID = ?")) {
+				psmt.setString(1, credential);
+				psmt.setString(2, id);
+				psmt.executeUpdate();
+			}
+		}
+	});
 
-	Connection conn = null;
-	PreparedStatement psmt = null;
-	ResultSet rs = null;
-	Scanner sc = new Scanner(System.in);
+	public static AuthService getAuth() {
+		return AUTH;
+	}
 
 	// 회원가입
+	@Override
 	public int join(UserDTO dto) {
 
-		connect();
 		int cnt = 0;
+		String sql = "INSERT INTO PLAYER VALUES(?, ?, ?)";
 
-		try {
-			String sql = "INSERT INTO PLAYER VALUES(?, ?, ?)";
-			psmt = conn.prepareStatement(sql);
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
 
 			psmt.setString(1, dto.getId());
-			psmt.setString(2, dto.getPw());
+			psmt.setString(2, PasswordHasher.hash(dto.getPw()));
 			psmt.setString(3, dto.getName());
 
 			cnt = psmt.executeUpdate();
 
-		} catch (Exception e) {
+		} catch (SQLException e) {
 			e.printStackTrace();
-		} finally {
-			close();
 		}
+		// "없는 아이디" 로 캐시돼 있을 수 있다
+		AUTH.invalidateCredential(dto.getId());
 		return cnt;
 	}
 
 	// 로그인
+	@Override
 	public boolean login(UserDTO dto) {
-		connect();
-		boolean result = false;
-
-		try {
-			String sql = "SELECT * FROM PLAYER WHERE ID = ? AND PW = ?";
-			psmt = conn.prepareStatement(sql);
-			psmt.setString(1, dto.getId());
-			psmt.setString(2, dto.getPw());
-
-			rs = psmt.executeQuery();
-
-			if (rs.next()) {
-				result = true;
-			}
-
-		} catch (SQLException e) {
-			e.printStackTrace();
-		}
-		return result;
+		return AUTH.login(dto.getId(), dto.getPw());
 	}
 
-	private void connect() {
-		try {
-			Class.forName("oracle.jdbc.OracleDriver");
+	// 아이디로 플레이어 조회 (없으면 null)
+	@Override
+	public UserDTO findPlayer(String id) {
 
-			String url = "jdbc:oracle:thin:@127.0.0.1:1521:xe";
-			String db_id = "hr";
-			String db_pw = "12345";
+		String sql = "SELECT ID, PW, NAME FROM PLAYER WHERE ID = ?";
 
-			conn = DriverManager.getConnection(url, db_id, db_pw);
+		try (Connection conn = DBManager.getConnection();
+				PreparedStatement psmt = conn.prepareStatement(sql)) {
 
-		} catch (ClassNotFoundException e) {
-			System.out.println("클래스 못 찾음ㅠㅠ");
-		} catch (SQLException e) {
-			System.out.println("DB연결 실패ㅠㅠ");
-		} finally {
-			close();
-		}
-	}
+			psmt.setString(1, id);
 
-	private void close() {
-		try {
-			if (rs != null) {
-				rs.close();
+			try (ResultSet rs = psmt.executeQuery()) {
+				if (rs.next()) {
+					return new UserDTO(rs.getString(1), rs.getString(2), rs.getString(3));
+				}
 			}
 
-			rs.close();
-			psmt.close();
-			conn.close();
-		} catch (Exception e2) {
-
+		} catch (SQLException e) {
+			e.printStackTrace();
 		}
+		return null;
 	}
 
 }
@@ -2,8 +2,13 @@ package view;
 
 import java.util.Scanner;
 
+import controller.ConsoleGameIO;
 import controller.GameCon;
+import controller.GameEngine;
+import controller.GameRecord;
+import controller.SoundEffects;
 import javazoom.jl.player.MP3Player;
+import model.ScoreBoard;
 import model.UserDAO;
 import model.art;
 import model.computer;
@@ -17,11 +22,12 @@ public class GameMain {
 		Scanner sc = new Scanner(System.in);
 		GameCon gc = new GameCon();
 		UserDAO dao = new UserDAO();
-		science science = new science();
-		computer computer = new computer();
-		music music = new music();
-		art art = new art();
 		String patheffect = "./src/효과음/";
+		// 효과음은 시작할 때 한 번 풀어 두고 계속 쓴다 (배경음은 길어서 MP3Player 로 튼다)
+		SoundEffects effects = SoundEffects.get();
+		String user = null; // 로그인한 아이디 (기록 저장용)
+		effects.preload("키보드.mp3", "게임버튼.mp3", "천둥효과음.mp3", "교문들어갈때.mp3", "덜컹거리는소리.mp3", "자물쇠2.mp3",
+				"문여는소리.mp3", "상자.mp3", "열쇠 얻는소리.mp3", "여자웃음소리.mp3", "문제 틀렸을때.mp3");
 
 		while (true) {
 			System.out.print("[1] 회원가입 [2] 로그인 [3] 종료 >> ");
@@ -46,7 +52,8 @@ public class GameMain {
 				String pw = sc.next();
 
 				if (gc.loginCon(id, pw)) {
-					mp3.play(patheffect + "게임버튼.mp3");
+					user = id;
+					effects.play("게임버튼.mp3");
 					System.out.println("로그인 성공!");
 					break;
 				} else {
@@ -63,17 +70,17 @@ public class GameMain {
 		}
 		try {
 			Thread.sleep(3000);
-			mp3.play(patheffect + "키보드.mp3");
+			effects.play("키보드.mp3");
 			System.out.println("===========================지난 이야기===========================\n"
 					+ "학원을 마치고 집에 돌아온 강씨는 여자친구 미미를 학교에 두고온 걸 뒤늦게 깨닳았다");
 			Thread.sleep(2000);
-			mp3.play(patheffect + "키보드.mp3");
+			effects.play("키보드.mp3");
 			System.out.println("지금은 새벽 1시.... 하지만 미미를 학교에 쓸쓸히 두고 잠에 들 순 없다.....");
 			Thread.sleep(2000);
-			mp3.play(patheffect + "키보드.mp3");
+			effects.play("키보드.mp3");
 			System.out.println("부랴부랴 겉옷을 챙겨입고 집을 나선다.....");
 			Thread.sleep(4000);
-			mp3.play(patheffect + "천둥효과음.mp3");
+			effects.play("천둥효과음.mp3");
 			mp3.play(patheffect + "배경음.mp3");
 			gc.start();
 			Thread.sleep(2000);
@@ -85,10 +92,10 @@ public class GameMain {
 
 		// 난이도 설정
 		try {
-			mp3.play(patheffect + "키보드.mp3");
+			effects.play("키보드.mp3");
 			System.out.print("😱난이도 설정 : [1] Easy [2] Hard >> ");
 			int level = sc.nextInt();
-			mp3.play(patheffect + "키보드.mp3");
+			effects.play("키보드.mp3");
 			if (level == 1) {
 				System.out.println("Easy 난이도를 선택하셨습니다.");
 				Thread.sleep(2000);
@@ -96,77 +103,38 @@ public class GameMain {
 				System.out.println("Hard 난이도를 선택하셨습니다.");
 				Thread.sleep(2000);
 			}
-			mp3.play(patheffect + "키보드.mp3");
+			effects.play("키보드.mp3");
 			System.out.println("학교에 들어갑니다....");
 			Thread.sleep(3000);
 
-			mp3.play(patheffect + "교문들어갈때.mp3");
+			effects.play("교문들어갈때.mp3");
 			Thread.sleep(16000);
 
-			mp3.play(patheffect + "키보드.mp3");
+			effects.play("키보드.mp3");
 			System.out.println("학교에 들어온 강씨는 교실로 곧장 뛰어가서 문을 열었다.");
 			Thread.sleep(2000);
 
-			mp3.play(patheffect + "덜컹거리는소리.mp3");
+			effects.play("덜컹거리는소리.mp3");
 			Thread.sleep(4000);
 
-			mp3.play(patheffect + "키보드.mp3");
+			effects.play("키보드.mp3");
 			System.out.println("하지만 교실문은 잠겨있다.....");
 			Thread.sleep(2000);
 
-			mp3.play(patheffect + "키보드.mp3");
+			effects.play("키보드.mp3");
 			System.out.println("주변을 둘러보니 열려있는 곳은 과학실뿐이다. 들어가보자");
 			Thread.sleep(3000);
 
-			while (true) {
-				if (level == 1) {
-					if (science.Easy()) {
-						if (art.Easy()) {
-							if (music.Easy()) {
-								if (computer.Easy()) {
-									break;
-								} else {
-									gc.fail();
-									break;
-								}
-							} else {
-								gc.fail();
-								break;
-							}
-						} else {
-							gc.fail();
-							break;
-						}
-					} else {
-						gc.fail();
-						break;
-					}
-
-				} else if (level == 2) {
-
-					if (science.Hard()) {
-						if (art.Hard()) {
-							if (music.Hard()) {
-								if (computer.Hard()) {
-									break;
-								} else {
-									gc.fail();
-									break;
-								}
-							} else {
-								gc.fail();
-								break;
-							}
-						} else {
-							gc.fail();
-							break;
-						}
-					} else {
-						gc.fail();
-						break;
-					}
-				}
-
+			// 과학실 -> 미술실 -> 음악실 -> 컴퓨터실 (GameEngine 이 대본을 진행하고 끝나면 돌아온다)
+			// 로그인했으면 방마다 / 한 판 기록을 순위표에 올린다
+			GameRecord record = user == null ? null : new GameRecord(ScoreBoard.get(), user, level == 2);
+			boolean clear = GameEngine.console().play(new ConsoleGameIO(sc, record), level == 2, science.ROOM,
+					art.ROOM, music.ROOM, computer.ROOM);
+			if (!clear) {
+				gc.fail();
+			}
+			if (record != null) {
+				System.out.print(record.ranking(5));
 			}
 
 		} catch (Exception e) {
@@ -177,21 +145,21 @@ public class GameMain {
 		// 엔딩
 		try {
 			 System.out.println("==================== 교실 ====================");
-			mp3.play(patheffect + "자물쇠2.mp3");
+			effects.play("자물쇠2.mp3");
 			Thread.sleep(2000);
 
-			mp3.play(patheffect + "문여는소리.mp3");
+			effects.play("문여는소리.mp3");
 			Thread.sleep(6000);
 
-			mp3.play(patheffect + "키보드.mp3");
+			effects.play("키보드.mp3");
 			System.out.println("서둘러 교실에 들어와서 미미를 찾았다. 다행히 미미는 서랍속에 잘 있었다.");
 			Thread.sleep(2000);
 
-			mp3.play(patheffect + "키보드.mp3");
+			effects.play("키보드.mp3");
 			System.out.println("보고싶었어 미미짱....빨리 집에 들어가자!!");
 
 			Thread.sleep(4000);
-			mp3.play(patheffect + "여자웃음소리.mp3");
+			effects.play("여자웃음소리.mp3");
 			gc.ending();
 
 			Thread.sleep(3000);
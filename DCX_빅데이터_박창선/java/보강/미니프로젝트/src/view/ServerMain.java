@@ -0,0 +1,36 @@
+package view;
+
+import controller.GameEngine;
+import controller.GameServer;
+import model.AsyncPlayerRepository;
+import model.PlayerRepository;
+import model.ScoreBoard;
+import model.art;
+import model.computer;
+import model.science;
+
+// 방탈출 퀴즈 서버 실행 (여러 명이 동시에 접속해서 플레이)
+// 실행 : java view.ServerMain [포트]   (기본 9090, 접속은 nc 호스트 포트)
+//   -Dgame.speed=1 : 대본 시간 배율,  -Ddb.engine=memory : 오라클 없이
+// 음악실은 노래를 보낼 수 없어서 서버에서는 과학실 -> 미술실 -> 컴퓨터실만 한다
+public class ServerMain {
+
+	public static void main(String[] args) throws Exception {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 9090;
+		double speed = Double.parseDouble(System.getProperty("game.speed", "1"));
+
+		GameEngine engine = new GameEngine(speed);
+		AsyncPlayerRepository players = new AsyncPlayerRepository(PlayerRepository.open());
+		GameServer server = new GameServer(port, engine, players, ScoreBoard.get(), science.ROOM, art.ROOM, computer.ROOM).start();
+		System.out.println("게임 서버 시작 : " + server.getPort() + "번 포트");
+
+		// 1분마다 상태 출력
+		while (true) {
+			Thread.sleep(60_000);
+			System.out.printf("접속 %d명, 누적 접속 %d, 끝난 게임 %d (클리어 %d)%n", server.getConnected(),
+					server.getAccepted(), server.getGames(), server.getCleared());
+			System.out.println(ScoreBoard.get());
+		}
+	}
+
+}